@@ -17,6 +17,7 @@
 
 package org.ballerinalang.natives.annotation.processor;
 
+import org.ballerinalang.bre.Context;
 import org.ballerinalang.natives.annotation.processor.holders.ActionHolder;
 import org.ballerinalang.natives.annotation.processor.holders.ConnectorHolder;
 import org.ballerinalang.natives.annotation.processor.holders.FunctionHolder;
@@ -31,6 +32,7 @@ import org.ballerinalang.util.exceptions.BallerinaException;
 
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import javax.annotation.processing.AbstractProcessor;
@@ -41,7 +43,13 @@ import javax.annotation.processing.SupportedOptions;
 import javax.annotation.processing.SupportedSourceVersion;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
 
 /**
  * Read all class annotations of native functions, connectors, actions, type mappers.
@@ -61,6 +69,7 @@ public class BallerinaAnnotationProcessor extends AbstractProcessor {
     private static final String SOURCE_DIR = "srcDir";
     private static final String TARGET_DIR = "targetDir";
     private static final String IGNORE = "ignore";
+    private static final String INVOKE_METHOD = "invoke";
     private Map<String, PackageHolder> nativePackages;
     
     public BallerinaAnnotationProcessor() throws IOException {
@@ -103,7 +112,7 @@ public class BallerinaAnnotationProcessor extends AbstractProcessor {
         // Generate the native ballerina files
         generateNativeBalFiles(options, srcDir);
         
-        // Generate the construct provider class. This should be invoked after 
+        // Generate the construct provider class and the native symbol index. This should be invoked after
         // generating the native ballerina files
         generateConstructProviderClass(options, srcDir);
         
@@ -111,7 +120,7 @@ public class BallerinaAnnotationProcessor extends AbstractProcessor {
     }
     
     /**
-     * Generate the construct provider class.
+     * Generate the construct provider class, and the native symbol index which refers to it.
      * 
      * @param options Annotation processor options
      * @param srcDir Path to the ballerina source directory
@@ -130,9 +139,14 @@ public class BallerinaAnnotationProcessor extends AbstractProcessor {
         }
         
         ConstructProviderClassBuilder constructProviderClassBuilder =
-                new ConstructProviderClassBuilder(filer, packageName, classClassName, srcDir);
+                new ConstructProviderClassBuilder(filer, packageName, classClassName);
         constructProviderClassBuilder.addNativePackages(nativePackages);
         constructProviderClassBuilder.build();
+
+        NativeSymbolIndexBuilder nativeSymbolIndexBuilder =
+                new NativeSymbolIndexBuilder(filer, packageName + "." + classClassName, srcDir);
+        nativeSymbolIndexBuilder.addNativePackages(nativePackages);
+        nativeSymbolIndexBuilder.build();
     }
     
     /**
@@ -162,10 +176,47 @@ public class BallerinaAnnotationProcessor extends AbstractProcessor {
             String packageName = balFunction.packageName();
             String className = Utils.getClassName(element);
             FunctionHolder function = new FunctionHolder(balFunction, className, annot);
+            function.setInvokeParamTypes(getInvokeParamTypes(element, balFunction));
             getPackage(packageName).addFunction(function);
         }
     }
 
+    /**
+     * Get the parameter types of the typed invoke method of a native function, which is called by the generated
+     * invoker of the function. The method takes the context, followed by the arguments of the function, and returns
+     * the return value of the function, or nothing if the function does not return a value.
+     * 
+     * @param element Element annotated with {@link BallerinaFunction}
+     * @param balFunction Ballerina function annotation
+     * @return Parameter types after the context, or null if the function does not have a typed invoke method
+     */
+    private String[] getInvokeParamTypes(Element element, BallerinaFunction balFunction) {
+        Types types = processingEnv.getTypeUtils();
+        for (ExecutableElement method : ElementFilter.methodsIn(element.getEnclosedElements())) {
+            List<? extends VariableElement> params = method.getParameters();
+            if (!INVOKE_METHOD.equals(method.getSimpleName().toString())
+                    || !method.getModifiers().contains(Modifier.PUBLIC)
+                    || method.getModifiers().contains(Modifier.STATIC) || params.isEmpty()
+                    || !Context.class.getCanonicalName().equals(types.erasure(params.get(0).asType()).toString())) {
+                continue;
+            }
+            
+            boolean returnsVoid = method.getReturnType().getKind() == TypeKind.VOID;
+            if (params.size() != balFunction.args().length + 1 || balFunction.returnType().length > 1
+                    || returnsVoid != (balFunction.returnType().length == 0)) {
+                throw new BallerinaException("invoke method of '" + Utils.getClassName(element) + 
+                        "' does not match the arguments and the return type of the native function");
+            }
+            String[] paramTypes = new String[params.size() - 1];
+            for (int i = 1; i < params.size(); i++) {
+                // Arguments are cast to the erased types, as generic types cannot be checked at runtime
+                paramTypes[i - 1] = types.erasure(params.get(i).asType()).toString();
+            }
+            return paramTypes;
+        }
+        return null;
+    }
+
     private BallerinaAnnotation[] getBallerinaAnnotations(Element element) {
         BallerinaAnnotation[] annot = new BallerinaAnnotation[0];
         if (element.getAnnotationsByType(BallerinaAnnotation.class).length > 0) {
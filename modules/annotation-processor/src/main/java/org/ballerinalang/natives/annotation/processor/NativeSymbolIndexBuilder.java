@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.natives.annotation.processor;
+
+import org.ballerinalang.model.types.TypeEnum;
+import org.ballerinalang.natives.NativeSymbolIndex;
+import org.ballerinalang.natives.annotation.processor.holders.ActionHolder;
+import org.ballerinalang.natives.annotation.processor.holders.ConnectorHolder;
+import org.ballerinalang.natives.annotation.processor.holders.FunctionHolder;
+import org.ballerinalang.natives.annotation.processor.holders.PackageHolder;
+import org.ballerinalang.natives.annotation.processor.holders.TypeMapperHolder;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaAction;
+import org.ballerinalang.natives.annotations.BallerinaConnector;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.BallerinaTypeMapper;
+import org.ballerinalang.natives.annotations.ReturnType;
+import org.ballerinalang.util.exceptions.BallerinaException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import javax.annotation.processing.Filer;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Builder class to generate the {@link NativeSymbolIndex} of the native constructs, which lets the runtime resolve
+ * the built-in packages and their constructs lazily, instead of loading all of them at startup.
+ */
+public class NativeSymbolIndexBuilder {
+
+    private Filer filer;
+    private String providerClassName;
+    private String balSourceDir;
+    private Map<String, PackageHolder> nativePackages;
+
+    /**
+     * Create a native symbol index builder.
+     *
+     * @param filer {@link Filer} of the current processing environment
+     * @param providerClassName Qualified name of the generated construct provider class
+     * @param srcDir Source directory of ballerina files
+     */
+    public NativeSymbolIndexBuilder(Filer filer, String providerClassName, String srcDir) {
+        this.filer = filer;
+        this.providerClassName = providerClassName;
+        this.balSourceDir = srcDir;
+    }
+
+    /**
+     * Add the package map to the builder.
+     *
+     * @param nativePackages Packages map
+     */
+    public void addNativePackages(Map<String, PackageHolder> nativePackages) {
+        this.nativePackages = nativePackages;
+    }
+
+    /**
+     * Build the index and write it to the class output.
+     */
+    public void build() {
+        SortedSet<String> packageNames = new TreeSet<>(nativePackages.keySet());
+        packageNames.addAll(getBuiltInBalPackages());
+
+        ByteArrayOutputStream entriesStream = new ByteArrayOutputStream();
+        DataOutputStream entries = new DataOutputStream(entriesStream);
+        SortedMap<String, Integer> packageOffsets = new TreeMap<>();
+        SortedMap<String, TypeMapperHolder> typeMappers = new TreeMap<>();
+        SortedMap<String, Integer> typeMapperOffsets = new TreeMap<>();
+        try {
+            for (String packageName : packageNames) {
+                packageOffsets.put(packageName, entries.size());
+                PackageHolder pkgHolder = nativePackages.get(packageName);
+                if (pkgHolder == null) {
+                    // Non-native packages are only loaded from their ballerina files
+                    entries.writeShort(0);
+                    continue;
+                }
+                writePackage(entries, pkgHolder);
+                for (TypeMapperHolder typeMapperHolder : pkgHolder.getTypeMapper()) {
+                    typeMappers.put(Utils.getTypeConverterQualifiedName(typeMapperHolder.getBalTypeMapper()),
+                            typeMapperHolder);
+                }
+            }
+
+            for (Map.Entry<String, TypeMapperHolder> typeMapper : typeMappers.entrySet()) {
+                typeMapperOffsets.put(typeMapper.getKey(), entries.size());
+                BallerinaTypeMapper balTypeMapper = typeMapper.getValue().getBalTypeMapper();
+                writeEntry(entries, NativeSymbolIndex.TYPE_MAPPER, typeMapper.getKey(), balTypeMapper.typeMapperName(),
+                        balTypeMapper.packageName(), typeMapper.getValue().getClassName(), false, balTypeMapper.args(),
+                        balTypeMapper.returnType(), null, null);
+            }
+            entries.flush();
+        } catch (IOException e) {
+            throw new BallerinaException("error while building the native symbol index: " + e.getMessage());
+        }
+
+        OutputStream indexStream = null;
+        try {
+            FileObject indexFile = filer.createResource(StandardLocation.CLASS_OUTPUT, "",
+                    NativeSymbolIndex.INDEX_FILE);
+            indexStream = indexFile.openOutputStream();
+            DataOutputStream index = new DataOutputStream(indexStream);
+            index.writeInt(NativeSymbolIndex.MAGIC);
+            index.writeShort(NativeSymbolIndex.VERSION);
+            index.writeUTF(providerClassName);
+            writeOffsets(index, packageOffsets);
+            writeOffsets(index, typeMapperOffsets);
+            entriesStream.writeTo(index);
+            index.flush();
+        } catch (IOException e) {
+            throw new BallerinaException("error while writing the native symbol index: " + e.getMessage());
+        } finally {
+            if (indexStream != null) {
+                try {
+                    indexStream.close();
+                } catch (IOException ignore) {
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the built-in packages, which have ballerina files in the ballerina source directory.
+     *
+     * @return Names of the built-in packages
+     */
+    private List<String> getBuiltInBalPackages() {
+        Path source = Paths.get(balSourceDir);
+        File srcDir = new File(source.toUri());
+        List<String> builtInPackages = new ArrayList<String>();
+        if (!srcDir.exists()) {
+            return builtInPackages;
+        }
+
+        if (!srcDir.isDirectory() && srcDir.canRead()) {
+            throw new BallerinaException("error while reading built-in packages. ballerina source path '" +
+                srcDir.getPath() + "' is not a directory, or may not have read permissions");
+        }
+
+        // Traverse through built-in ballerina files and identify the packages
+        try {
+            Files.walkFileTree(source, new PackageFinder(source, builtInPackages));
+        } catch (IOException e) {
+            throw new BallerinaException("error while reading built-in packages: " + e.getMessage());
+        }
+        return builtInPackages;
+    }
+
+    private void writeOffsets(DataOutputStream index, SortedMap<String, Integer> offsets) throws IOException {
+        index.writeInt(offsets.size());
+        for (Map.Entry<String, Integer> offset : offsets.entrySet()) {
+            index.writeUTF(offset.getKey());
+            index.writeInt(offset.getValue());
+        }
+    }
+
+    /**
+     * Write the functions and connectors of a package, sorted by their symbol names.
+     *
+     * @param entries Entries of the index
+     * @param pkgHolder Package holder
+     * @throws IOException if the entries cannot be written
+     */
+    private void writePackage(DataOutputStream entries, PackageHolder pkgHolder) throws IOException {
+        SortedMap<String, FunctionHolder> functions = new TreeMap<>();
+        for (FunctionHolder functionHolder : pkgHolder.getFunctions()) {
+            functions.put(Utils.getFunctionQualifiedName(functionHolder.getBalFunction()), functionHolder);
+        }
+        SortedMap<String, ConnectorHolder> connectors = new TreeMap<>();
+        for (ConnectorHolder connectorHolder : pkgHolder.getConnectors()) {
+            connectors.put(connectorHolder.getBalConnector().connectorName(), connectorHolder);
+        }
+
+        entries.writeShort(functions.size() + connectors.size());
+        for (Map.Entry<String, FunctionHolder> function : functions.entrySet()) {
+            BallerinaFunction balFunction = function.getValue().getBalFunction();
+            writeEntry(entries, NativeSymbolIndex.FUNCTION, function.getKey(), balFunction.functionName(),
+                    balFunction.packageName(), function.getValue().getClassName(),
+                    function.getValue().getInvokeParamTypes() != null, balFunction.args(), balFunction.returnType(),
+                    null, null);
+        }
+        for (ConnectorHolder connectorHolder : connectors.values()) {
+            BallerinaConnector balConnector = connectorHolder.getBalConnector();
+            writeEntry(entries, NativeSymbolIndex.CONNECTOR, balConnector.connectorName(),
+                    balConnector.connectorName(), balConnector.packageName(), connectorHolder.getClassName(), false,
+                    balConnector.args(), null, null, null);
+            writeActions(entries, connectorHolder);
+        }
+    }
+
+    private void writeActions(DataOutputStream entries, ConnectorHolder connectorHolder) throws IOException {
+        BallerinaConnector balConnector = connectorHolder.getBalConnector();
+        String connectorName = balConnector.connectorName();
+        String connectorPkgName = balConnector.packageName();
+        SortedMap<String, ActionHolder> actions = new TreeMap<>();
+        for (ActionHolder actionHolder : connectorHolder.getActions()) {
+            actions.put(Utils.getActionQualifiedName(actionHolder.getBalAction(), connectorName, connectorPkgName),
+                    actionHolder);
+        }
+
+        entries.writeShort(actions.size());
+        for (Map.Entry<String, ActionHolder> action : actions.entrySet()) {
+            BallerinaAction balAction = action.getValue().getBalAction();
+            writeEntry(entries, NativeSymbolIndex.ACTION, action.getKey(), balAction.actionName(),
+                    balAction.packageName(), action.getValue().getClassName(), false, balAction.args(),
+                    balAction.returnType(), connectorName, connectorPkgName);
+        }
+    }
+
+    /**
+     * Write a native construct to the entries of the index. The actions of a connector are written after it.
+     *
+     * @param entries Entries of the index
+     * @param kind Kind of the construct
+     * @param symbolName Symbol name of the construct
+     * @param name Simple name of the construct
+     * @param pkgName Package name of the construct
+     * @param className Name of the construct implementation class
+     * @param hasInvoker Whether the construct has a generated invoker
+     * @param arguments Input parameters of the construct
+     * @param returnTypes Return types of the construct
+     * @param enclosingScopeName Name of the connector of an action
+     * @param enclosingScopePkg Package name of the connector of an action
+     * @throws IOException if the entry cannot be written
+     */
+    private void writeEntry(DataOutputStream entries, byte kind, String symbolName, String name, String pkgName,
+            String className, boolean hasInvoker, Argument[] arguments, ReturnType[] returnTypes,
+            String enclosingScopeName, String enclosingScopePkg) throws IOException {
+        entries.writeByte(kind);
+        entries.writeUTF(symbolName);
+        entries.writeUTF(name);
+        entries.writeUTF(pkgName);
+        entries.writeUTF(className);
+        entries.writeBoolean(hasInvoker);
+
+        entries.writeShort(arguments.length);
+        for (Argument argument : arguments) {
+            entries.writeUTF(argument.name());
+            boolean isArray = argument.type().equals(TypeEnum.ARRAY);
+            TypeEnum bType = isArray ? argument.elementType() : argument.type();
+            int arrayDimensions = isArray ? argument.arrayDimensions() : 1;
+            // If the argument is a connector, the type name is the connector name and package
+            if (bType == TypeEnum.CONNECTOR) {
+                writeTypeName(entries, enclosingScopeName, enclosingScopePkg, isArray, arrayDimensions);
+            } else if (bType == TypeEnum.STRUCT) {
+                writeTypeName(entries, argument.structType(), enclosingScopePkg, isArray, arrayDimensions);
+            } else {
+                writeTypeName(entries, bType.getName(), null, isArray, arrayDimensions);
+            }
+        }
+
+        if (returnTypes == null) {
+            entries.writeShort(0);
+        } else {
+            entries.writeShort(returnTypes.length);
+            for (ReturnType returnType : returnTypes) {
+                boolean isArray = returnType.type().equals(TypeEnum.ARRAY);
+                writeTypeName(entries, isArray ? returnType.elementType().getName() : returnType.type().getName(),
+                        null, isArray, isArray ? returnType.arrayDimensions() : 1);
+            }
+        }
+    }
+
+    private void writeTypeName(DataOutputStream entries, String name, String pkgPath, boolean isArray,
+            int arrayDimensions) throws IOException {
+        entries.writeUTF(name);
+        entries.writeBoolean(pkgPath != null);
+        if (pkgPath != null) {
+            entries.writeUTF(pkgPath);
+        }
+        entries.writeBoolean(isArray);
+        entries.writeByte(arrayDimensions);
+    }
+}
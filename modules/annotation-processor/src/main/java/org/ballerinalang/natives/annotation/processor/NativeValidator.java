@@ -22,7 +22,7 @@ import org.ballerinalang.model.GlobalScope;
 import org.ballerinalang.model.SymbolName;
 import org.ballerinalang.model.symbols.BLangSymbol;
 import org.ballerinalang.model.types.BTypes;
-import org.ballerinalang.natives.NativeConstructLoader;
+import org.ballerinalang.natives.BuiltInNativeConstructLoader;
 import org.ballerinalang.natives.NativePackageProxy;
 import org.ballerinalang.util.exceptions.BallerinaException;
 import org.ballerinalang.util.exceptions.NativeException;
@@ -34,9 +34,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
-import java.util.ServiceLoader;
 
 /**
  * Class to process built-in ballerina sources and validate them.
@@ -83,17 +81,12 @@ public class NativeValidator {
 
     private static void loadConstructs(GlobalScope globalScope) {
         BTypes.loadBuiltInTypes(globalScope);
-        Iterator<NativeConstructLoader> nativeConstructLoaders =
-            ServiceLoader.load(NativeConstructLoader.class).iterator();
-        while (nativeConstructLoaders.hasNext()) {
-            NativeConstructLoader constructLoader = nativeConstructLoaders.next();
-            try {
-                constructLoader.load(globalScope);
-            } catch (NativeException e) {
-                throw e;
-            } catch (Throwable t) {
-                throw new NativeException("internal error occured", t);
-            }
+        try {
+            BuiltInNativeConstructLoader.loadConstructs(globalScope);
+        } catch (NativeException e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new NativeException("internal error occured", t);
         }
     }
     
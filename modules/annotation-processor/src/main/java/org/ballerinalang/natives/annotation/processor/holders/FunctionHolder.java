@@ -30,6 +30,7 @@ public class FunctionHolder {
     BallerinaFunction function;
     private String functionClassName;
     private List<AnnotationHolder> annotations;
+    private String[] invokeParamTypes;
     
     public FunctionHolder(BallerinaFunction function, String className, BallerinaAnnotation[] annotations) {
         this.function = function;
@@ -45,6 +46,19 @@ public class FunctionHolder {
         return function;
     }
     
+    /**
+     * Get the parameter types of the typed invoke method of the function, after the context parameter.
+     * 
+     * @return Parameter types, or null if the function does not have a typed invoke method
+     */
+    public String[] getInvokeParamTypes() {
+        return invokeParamTypes;
+    }
+    
+    public void setInvokeParamTypes(String[] invokeParamTypes) {
+        this.invokeParamTypes = invokeParamTypes;
+    }
+    
     public String toString() {
         StringBuilder sb = new StringBuilder();
         Utils.appendAnnotationStrings(sb, annotations);
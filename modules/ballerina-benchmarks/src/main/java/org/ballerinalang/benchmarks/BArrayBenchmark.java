@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks;
+
+import org.ballerinalang.model.values.BArray;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link BArray} operations, on the primitive storage of int arrays and on the reference storage of
+ * string arrays.
+ *
+ * @since 0.87
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BArrayBenchmark {
+
+    @Param({"16", "1024"})
+    public int size;
+
+    private BString[] strings;
+    private BArray<BInteger> intArray;
+    private BArray<BString> stringArray;
+
+    @Setup
+    public void setup() {
+        strings = new BString[size];
+        intArray = new BArray<>(BInteger.class);
+        stringArray = new BArray<>(BString.class);
+        for (int i = 0; i < size; i++) {
+            strings[i] = new BString("value" + i);
+            intArray.addInt(i, i);
+            stringArray.add(i, strings[i]);
+        }
+    }
+
+    @Benchmark
+    public BArray<BInteger> addInt() {
+        BArray<BInteger> array = new BArray<>(BInteger.class);
+        for (int i = 0; i < size; i++) {
+            array.addInt(i, i);
+        }
+        return array;
+    }
+
+    @Benchmark
+    public long getInt() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += intArray.getInt(i);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public BArray<BString> addString() {
+        BArray<BString> array = new BArray<>(BString.class);
+        for (int i = 0; i < size; i++) {
+            array.add(i, strings[i]);
+        }
+        return array;
+    }
+
+    @Benchmark
+    public void getString(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(stringArray.get(i));
+        }
+    }
+
+    @Benchmark
+    public BArray<BString> copyOfRange() {
+        return stringArray.copyOfRange(0, size / 2);
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks;
+
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link BMap} operations. The same operations on a {@link LinkedHashMap}, the insertion-ordered map
+ * of the JDK, are measured as the baseline.
+ *
+ * @since 0.87
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BMapBenchmark {
+
+    @Param({"16", "1024"})
+    public int size;
+
+    private BString[] keys;
+    private BInteger[] values;
+    private BMap<BString, BValue> map;
+    private Map<BString, BValue> baselineMap;
+
+    @Setup
+    public void setup() {
+        keys = new BString[size];
+        values = new BInteger[size];
+        map = new BMap<>();
+        baselineMap = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            keys[i] = new BString("key" + i);
+            values[i] = new BInteger(i);
+            map.put(keys[i], values[i]);
+            baselineMap.put(keys[i], values[i]);
+        }
+    }
+
+    @Benchmark
+    public BMap<BString, BValue> put() {
+        BMap<BString, BValue> newMap = new BMap<>();
+        for (int i = 0; i < size; i++) {
+            newMap.put(keys[i], values[i]);
+        }
+        return newMap;
+    }
+
+    @Benchmark
+    public void get(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(map.get(keys[i]));
+        }
+    }
+
+    @Benchmark
+    public void iterate(Blackhole blackhole) {
+        for (BString key : map.keySet()) {
+            blackhole.consume(map.get(key));
+        }
+    }
+
+    @Benchmark
+    public BMap<BString, BValue> putAndRemove() {
+        BMap<BString, BValue> newMap = new BMap<>();
+        for (int i = 0; i < size; i++) {
+            newMap.put(keys[i], values[i]);
+        }
+        for (int i = 0; i < size; i += 2) {
+            newMap.remove(keys[i]);
+        }
+        return newMap;
+    }
+
+    @Benchmark
+    public Map<BString, BValue> baselinePut() {
+        Map<BString, BValue> newMap = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            newMap.put(keys[i], values[i]);
+        }
+        return newMap;
+    }
+
+    @Benchmark
+    public void baselineGet(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(baselineMap.get(keys[i]));
+        }
+    }
+
+    @Benchmark
+    public void baselineIterate(Blackhole blackhole) {
+        for (BString key : baselineMap.keySet()) {
+            blackhole.consume(baselineMap.get(key));
+        }
+    }
+
+    @Benchmark
+    public Map<BString, BValue> baselinePutAndRemove() {
+        Map<BString, BValue> newMap = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            newMap.put(keys[i], values[i]);
+        }
+        for (int i = 0; i < size; i += 2) {
+            newMap.remove(keys[i]);
+        }
+        return newMap;
+    }
+}
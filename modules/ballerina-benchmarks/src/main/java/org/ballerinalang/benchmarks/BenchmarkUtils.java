@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks;
+
+import org.ballerinalang.BLangProgramLoader;
+import org.ballerinalang.model.BLangProgram;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Utility methods to load the Ballerina programs of the benchmarks.
+ * <p>
+ * The programs are bundled in the benchmarks jar, hence they are copied to a temporary program directory before
+ * they are loaded.
+ *
+ * @since 0.87
+ */
+public class BenchmarkUtils {
+
+    private static final String BENCHMARK_SOURCES = "/benchmarks/";
+
+    private BenchmarkUtils() {
+    }
+
+    /**
+     * Load a bundled Ballerina program.
+     *
+     * @param sourceFileName name of the source file under the benchmarks resource directory
+     * @return loaded program
+     */
+    public static BLangProgram loadProgram(String sourceFileName) {
+        try (InputStream inputStream = BenchmarkUtils.class.getResourceAsStream(BENCHMARK_SOURCES + sourceFileName)) {
+            if (inputStream == null) {
+                throw new IllegalArgumentException("benchmark source not found: " + sourceFileName);
+            }
+            Path programDir = Files.createTempDirectory("ballerina-benchmarks");
+            Files.copy(inputStream, programDir.resolve(sourceFileName));
+            return loadProgram(programDir, sourceFileName);
+        } catch (IOException e) {
+            throw new IllegalStateException("error while loading benchmark source: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Load a Ballerina program generated by a benchmark.
+     *
+     * @param sourceFileName name of the source file
+     * @param source         Ballerina source
+     * @return loaded program
+     */
+    public static BLangProgram loadProgram(String sourceFileName, String source) {
+        try {
+            Path programDir = Files.createTempDirectory("ballerina-benchmarks");
+            Files.write(programDir.resolve(sourceFileName), source.getBytes(StandardCharsets.UTF_8));
+            return loadProgram(programDir, sourceFileName);
+        } catch (IOException e) {
+            throw new IllegalStateException("error while writing benchmark source: " + e.getMessage(), e);
+        }
+    }
+
+    private static BLangProgram loadProgram(Path programDir, String sourceFileName) {
+        return new BLangProgramLoader().loadLibrary(programDir, Paths.get(sourceFileName));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks;
+
+import org.ballerinalang.bre.nonblocking.ModeResolver;
+import org.ballerinalang.model.BLangProgram;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.program.BLangFunctions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks comparing the blocking tree walking executor with the register based instruction interpreter, over
+ * the scope of the language which is lowered to instructions.
+ * <p>
+ * Float arithmetic and calls of native functions with typed invokers are lowered. Array access is not, hence the
+ * {@code arrayAccess} function runs on the tree walking executor in both modes, and shows the cost of a function
+ * which is not compiled. Resources and actions are never lowered, and are not measured here.
+ *
+ * @since 0.87
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompiledModeBenchmark {
+
+    private static final BValue[] ARGS = {new BInteger(1000)};
+
+    @Param({"interpreted", "compiled"})
+    public String mode;
+
+    private BLangProgram bLangProgram;
+
+    @Setup
+    public void setup() {
+        // Functions are compiled to instructions when the program is loaded, hence the mode is set before that
+        ModeResolver.getInstance().setNonblockingEnabled(false);
+        ModeResolver.getInstance().setCompiledModeEnabled("compiled".equals(mode));
+        bLangProgram = BenchmarkUtils.loadProgram("compiled.bal");
+    }
+
+    @Benchmark
+    public BValue[] floatArithmetic() {
+        return BLangFunctions.invoke(bLangProgram, "floatArithmetic", ARGS);
+    }
+
+    @Benchmark
+    public BValue[] nativeCalls() {
+        return BLangFunctions.invoke(bLangProgram, "nativeCalls", ARGS);
+    }
+
+    @Benchmark
+    public BValue[] arrayAccess() {
+        return BLangFunctions.invoke(bLangProgram, "arrayAccess", ARGS);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks;
+
+import org.ballerinalang.bre.nonblocking.ModeResolver;
+import org.ballerinalang.model.BLangProgram;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.program.BLangFunctions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of Ballerina functions run by the blocking executor ({@code BLangExecutor}), the non-blocking executor
+ * ({@code BLangNonBlockingExecutor}) and the register based instruction interpreter.
+ *
+ * @since 0.87
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FunctionInvocationBenchmark {
+
+    private static final BValue[] LOOP_ARGS = {new BInteger(1000)};
+    private static final BValue[] FIBONACCI_ARGS = {new BInteger(15)};
+
+    @Param({"blocking", "nonblocking", "compiled"})
+    public String mode;
+
+    private BLangProgram bLangProgram;
+
+    @Setup
+    public void setup() {
+        // Functions are compiled to instructions when the program is loaded, hence the mode is set before that
+        ModeResolver.getInstance().setNonblockingEnabled("nonblocking".equals(mode));
+        ModeResolver.getInstance().setCompiledModeEnabled("compiled".equals(mode));
+        bLangProgram = BenchmarkUtils.loadProgram("functions.bal");
+    }
+
+    @Benchmark
+    public BValue[] loop() {
+        return BLangFunctions.invoke(bLangProgram, "sumUpTo", LOOP_ARGS);
+    }
+
+    @Benchmark
+    public BValue[] arithmetic() {
+        return BLangFunctions.invoke(bLangProgram, "arithmetic", LOOP_ARGS);
+    }
+
+    @Benchmark
+    public BValue[] stringConcat() {
+        return BLangFunctions.invoke(bLangProgram, "concat", LOOP_ARGS);
+    }
+
+    @Benchmark
+    public BValue[] structAccess() {
+        return BLangFunctions.invoke(bLangProgram, "structAccess", LOOP_ARGS);
+    }
+
+    @Benchmark
+    public BValue[] functionCalls() {
+        return BLangFunctions.invoke(bLangProgram, "fibonacci", FIBONACCI_ARGS);
+    }
+}
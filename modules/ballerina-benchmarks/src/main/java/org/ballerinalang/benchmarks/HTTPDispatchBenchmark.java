@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks;
+
+import org.ballerinalang.model.AnnotationAttachment;
+import org.ballerinalang.model.BLangProgram;
+import org.ballerinalang.model.Resource;
+import org.ballerinalang.model.Service;
+import org.ballerinalang.services.dispatchers.http.Constants;
+import org.ballerinalang.services.dispatchers.http.HTTPResourceDispatcher;
+import org.ballerinalang.services.dispatchers.uri.URITemplateException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.messaging.CarbonMessage;
+import org.wso2.carbon.messaging.DefaultCarbonMessage;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link HTTPResourceDispatcher#findResource} over a service with many resources. The request matches
+ * the last declared resource, which is the worst case of a linear scan. The linear scan, which parses the template
+ * of every resource with {@link HTTPResourceDispatcher#matches}, is measured as the baseline.
+ *
+ * @since 0.87
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HTTPDispatchBenchmark {
+
+    @Param({"10", "100"})
+    public int resourceCount;
+
+    private Service service;
+    private String subPath;
+    private HTTPResourceDispatcher dispatcher;
+
+    @Setup
+    public void setup() {
+        StringBuilder source = new StringBuilder();
+        source.append("import ballerina.net.http;\n\n");
+        source.append("@http:BasePath {value:\"/products\"}\n");
+        source.append("service Products {\n");
+        for (int i = 0; i < resourceCount; i++) {
+            source.append("    @http:GET {}\n");
+            source.append("    @http:Path {value:\"/category").append(i).append("/{productId}\"}\n");
+            source.append("    resource product").append(i)
+                    .append(" (message m, @http:PathParam {value:\"productId\"} string productId) {\n");
+            source.append("        reply m;\n");
+            source.append("    }\n");
+        }
+        source.append("}\n");
+
+        BLangProgram bLangProgram = BenchmarkUtils.loadProgram("products.bal", source.toString());
+        service = bLangProgram.getLibraryPackages()[0].getServices()[0];
+        subPath = "/category" + (resourceCount - 1) + "/p1234";
+        dispatcher = new HTTPResourceDispatcher();
+    }
+
+    @Benchmark
+    public Resource findResource() {
+        CarbonMessage cMsg = new DefaultCarbonMessage();
+        cMsg.setProperty(Constants.HTTP_METHOD, Constants.HTTP_METHOD_GET);
+        cMsg.setProperty(Constants.SUB_PATH, subPath);
+        return dispatcher.findResource(service, cMsg, null, null);
+    }
+
+    @Benchmark
+    public Resource linearScan() throws URITemplateException {
+        for (Resource resource : service.getResources()) {
+            if (resource.getAnnotation(Constants.PROTOCOL_HTTP, Constants.ANNOTATION_METHOD_GET) == null) {
+                continue;
+            }
+            AnnotationAttachment path = resource.getAnnotation(Constants.PROTOCOL_HTTP,
+                    Constants.ANNOTATION_NAME_PATH);
+            Map<String, String> variables = new HashMap<>();
+            if (HTTPResourceDispatcher.matches(path.getValue(), subPath, variables)) {
+                return resource;
+            }
+        }
+        return null;
+    }
+}
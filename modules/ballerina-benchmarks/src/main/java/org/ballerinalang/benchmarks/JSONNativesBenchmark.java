@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks;
+
+import org.ballerinalang.model.BLangProgram;
+import org.ballerinalang.model.values.BJSON;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.program.BLangFunctions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the ballerina.lang.jsons native functions, invoked from Ballerina functions.
+ *
+ * @since 0.87
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JSONNativesBenchmark {
+
+    private static final String JSON = "{\"name\":{\"fname\":\"Jack\",\"lname\":\"Taylor\"},\"age\":25," +
+            "\"address\":{\"city\":\"Colombo\",\"zip\":\"00300\"},\"phones\":[\"0112\",\"0777\",\"0718\"]}";
+
+    private BLangProgram bLangProgram;
+    private BJSON json;
+
+    @Setup
+    public void setup() {
+        bLangProgram = BenchmarkUtils.loadProgram("jsons.bal");
+        json = new BJSON(JSON);
+    }
+
+    @Benchmark
+    public BValue[] getSimplePath() {
+        return BLangFunctions.invoke(bLangProgram, "getString",
+                new BValue[]{json, new BString("$.name.fname")});
+    }
+
+    @Benchmark
+    public BValue[] getArrayElement() {
+        return BLangFunctions.invoke(bLangProgram, "getString",
+                new BValue[]{json, new BString("$.phones[1]")});
+    }
+
+    @Benchmark
+    public BValue[] getFilterPath() {
+        return BLangFunctions.invoke(bLangProgram, "getInt", new BValue[]{json, new BString("$..age")});
+    }
+
+    @Benchmark
+    public BValue[] set() {
+        return BLangFunctions.invoke(bLangProgram, "setString",
+                new BValue[]{json, new BString("$.address.city"), new BString("Colombo")});
+    }
+
+    @Benchmark
+    public BValue[] serialize() {
+        return BLangFunctions.invoke(bLangProgram, "toString", new BValue[]{json});
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks;
+
+import org.ballerinalang.model.util.MessageUtils;
+import org.ballerinalang.model.values.BJSON;
+import org.ballerinalang.model.values.BMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.messaging.CarbonMessage;
+import org.wso2.carbon.messaging.DefaultCarbonMessage;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of building the payload of a {@link BMessage}, from a carbon message received in chunks and from a
+ * payload set within Ballerina.
+ *
+ * @since 0.87
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessagePayloadBenchmark {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    @Param({"1024", "65536"})
+    public int payloadSize;
+
+    private String payload;
+    private byte[] payloadBytes;
+
+    @Setup
+    public void setup() {
+        StringBuilder builder = new StringBuilder("{\"items\":[");
+        for (int i = 0; builder.length() < payloadSize - 32; i++) {
+            builder.append(i == 0 ? "" : ",").append("{\"id\":").append(i).append(",\"name\":\"item\"}");
+        }
+        payload = builder.append("]}").toString();
+        payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String readStringPayload() {
+        return new BMessage(createCarbonMessage()).stringValue();
+    }
+
+    @Benchmark
+    public BJSON readJsonPayload() {
+        BJSON json = new BJSON(MessageUtils.getPayloadStream(createCarbonMessage()));
+        // Make sure the payload is actually parsed
+        json.value();
+        return json;
+    }
+
+    @Benchmark
+    public String buildJsonPayload() {
+        BMessage message = new BMessage();
+        message.setMessageDataSource(new BJSON(payload));
+        return message.stringValue();
+    }
+
+    private CarbonMessage createCarbonMessage() {
+        CarbonMessage cMsg = new DefaultCarbonMessage();
+        cMsg.setHeader("Content-Type", "application/json; charset=UTF-8");
+        cMsg.setHeader("Content-Length", String.valueOf(payloadBytes.length));
+        for (int offset = 0; offset < payloadBytes.length; offset += CHUNK_SIZE) {
+            cMsg.addMessageBody(ByteBuffer.wrap(payloadBytes, offset,
+                    Math.min(CHUNK_SIZE, payloadBytes.length - offset)));
+        }
+        cMsg.setEndOfMsgAdded(true);
+        return cMsg;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks;
+
+import org.ballerinalang.model.BLangProgram;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.model.values.BXML;
+import org.ballerinalang.util.program.BLangFunctions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the ballerina.lang.xmls native functions, invoked from Ballerina functions.
+ *
+ * @since 0.87
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class XMLNativesBenchmark {
+
+    private static final String XML = "<persons><person><name>Jack</name><age>25</age>" +
+            "<address><city>Colombo</city><zip>00300</zip></address></person>" +
+            "<person><name>Jill</name><age>24</age>" +
+            "<address><city>Kandy</city><zip>20000</zip></address></person></persons>";
+
+    private BLangProgram bLangProgram;
+    private BXML xml;
+
+    @Setup
+    public void setup() {
+        bLangProgram = BenchmarkUtils.loadProgram("xmls.bal");
+        xml = new BXML(XML);
+    }
+
+    @Benchmark
+    public BValue[] getString() {
+        return BLangFunctions.invoke(bLangProgram, "getString",
+                new BValue[]{xml, new BString("/persons/person[2]/name/text()")});
+    }
+
+    @Benchmark
+    public BValue[] getXml() {
+        return BLangFunctions.invoke(bLangProgram, "getXml",
+                new BValue[]{xml, new BString("/persons/person[1]/address")});
+    }
+
+    @Benchmark
+    public BValue[] setAndGet() {
+        // A modification invalidates the cached tree of the value, which is rebuilt by the next read
+        BLangFunctions.invoke(bLangProgram, "setString",
+                new BValue[]{xml, new BString("/persons/person[1]/age/text()"), new BString("26")});
+        return BLangFunctions.invoke(bLangProgram, "getString",
+                new BValue[]{xml, new BString("/persons/person[1]/age/text()")});
+    }
+
+    @Benchmark
+    public BValue[] serialize() {
+        return BLangFunctions.invoke(bLangProgram, "toString", new BValue[]{xml});
+    }
+}
@@ -0,0 +1,33 @@
+import ballerina.lang.strings;
+
+function floatArithmetic(int n) (float) {
+    int i = 0;
+    float result = 1.0;
+    while (i < n) {
+        result = result * 0.5 + 1.5;
+        i = i + 1;
+    }
+    return result;
+}
+
+function nativeCalls(int n) (int) {
+    int i = 0;
+    int total = 0;
+    while (i < n) {
+        total = total + strings:length("ballerina");
+        i = i + 1;
+    }
+    return total;
+}
+
+function arrayAccess(int n) (int) {
+    int[] values = [];
+    int i = 0;
+    int total = 0;
+    while (i < n) {
+        values[i] = i;
+        total = total + values[i];
+        i = i + 1;
+    }
+    return total;
+}
@@ -0,0 +1,53 @@
+struct Person {
+    string name;
+    int age;
+}
+
+function sumUpTo(int n) (int) {
+    int i = 0;
+    int total;
+    while (i < n) {
+        total = total + i;
+        i = i + 1;
+    }
+    return total;
+}
+
+function arithmetic(int n) (int) {
+    int i = 0;
+    int result = 1;
+    while (i < n) {
+        result = (result * 31 + i) % 1000003;
+        i = i + 1;
+    }
+    return result;
+}
+
+function concat(int n) (string) {
+    int i = 0;
+    string result = "";
+    while (i < n) {
+        result = result + "a";
+        i = i + 1;
+    }
+    return result;
+}
+
+function structAccess(int n) (int) {
+    Person person = {name:"Jack", age:25};
+    int i = 0;
+    int total;
+    while (i < n) {
+        person.age = person.age + 1;
+        total = total + person.age;
+        i = i + 1;
+    }
+    return total;
+}
+
+function fibonacci(int n) (int) {
+    if (n < 2) {
+        return n;
+    }
+    return fibonacci(n - 1) + fibonacci(n - 2);
+}
@@ -0,0 +1,17 @@
+import ballerina.lang.jsons;
+
+function getString(json msg, string jsonPath) (string) {
+    return jsons:getString(msg, jsonPath);
+}
+
+function getInt(json msg, string jsonPath) (int) {
+    return jsons:getInt(msg, jsonPath);
+}
+
+function setString(json msg, string jsonPath, string value) {
+    jsons:set(msg, jsonPath, value);
+}
+
+function toString(json msg) (string) {
+    return jsons:toString(msg);
+}
@@ -0,0 +1,17 @@
+import ballerina.lang.xmls;
+
+function getString(xml msg, string xPath) (string) {
+    return xmls:getString(msg, xPath);
+}
+
+function getXml(xml msg, string xPath) (xml) {
+    return xmls:getXml(msg, xPath);
+}
+
+function setString(xml msg, string xPath, string value) {
+    xmls:set(msg, xPath, value);
+}
+
+function toString(xml msg) (string) {
+    return xmls:toString(msg);
+}
@@ -17,6 +17,8 @@
 */
 package org.ballerinalang;
 
+import org.ballerinalang.bre.nonblocking.ModeResolver;
+import org.ballerinalang.bre.vm.InstructionGenerator;
 import org.ballerinalang.model.BLangPackage;
 import org.ballerinalang.model.BLangProgram;
 import org.ballerinalang.model.GlobalScope;
@@ -68,6 +70,10 @@ public class BLangProgramLoader {
         if (!disableSemanticAnalyzer) {
             SemanticAnalyzer semanticAnalyzer = new SemanticAnalyzer(bLangProgram);
             bLangProgram.accept(semanticAnalyzer);
+
+            if (ModeResolver.getInstance().isCompiledModeEnabled()) {
+                InstructionGenerator.generate(bLangProgram);
+            }
         }
 
         return bLangProgram;
@@ -94,6 +100,10 @@ public class BLangProgramLoader {
         if (!disableSemanticAnalyzer) {
             SemanticAnalyzer semanticAnalyzer = new SemanticAnalyzer(bLangProgram);
             bLangProgram.accept(semanticAnalyzer);
+
+            if (ModeResolver.getInstance().isCompiledModeEnabled()) {
+                InstructionGenerator.generate(bLangProgram);
+            }
         }
 
         return bLangProgram;
@@ -121,6 +131,10 @@ public class BLangProgramLoader {
         if (!disableSemanticAnalyzer) {
             SemanticAnalyzer semanticAnalyzer = new SemanticAnalyzer(bLangProgram);
             bLangProgram.accept(semanticAnalyzer);
+
+            if (ModeResolver.getInstance().isCompiledModeEnabled()) {
+                InstructionGenerator.generate(bLangProgram);
+            }
         }
 
         return bLangProgram;
@@ -36,10 +36,18 @@ import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.services.ErrorHandlerUtils;
 import org.ballerinalang.services.dispatchers.DispatcherRegistry;
+import org.ballerinalang.services.dispatchers.ServiceDispatcher;
 import org.ballerinalang.util.debugger.DebugManager;
 import org.ballerinalang.util.exceptions.BLangRuntimeException;
 
 import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * {@code BLangProgramRunner} runs main and service programs.
@@ -81,6 +89,94 @@ public class BLangProgramRunner {
         bLangProgram.setRuntimeEnvironment(runtimeEnv);
     }
 
+    /**
+     * Redeploy the services of a program, which is loaded again after its sources are changed.
+     * <p>
+     * The new program is initialized before any of its services is registered, hence the old services keep serving
+     * the requests if the initialization fails. Then each service is replaced by the new version of it in the
+     * dispatchers, services which are not in the new program are unregistered, and new services are registered.
+     * If a dispatcher fails to take a new service, the changes already made are rolled back and the runtime environment
+     * of the new program is retired, hence the old services keep serving. Otherwise, the runtime environment of the old
+     * program is retired, and the requests which are in flight on the old services are drained.
+     *
+     * @param oldProgram   program which is currently deployed
+     * @param newProgram   program which replaces the old program
+     * @param drainTimeout maximum time to wait for the requests on the old services, in milliseconds
+     * @return true if the requests on the old services are drained within the timeout
+     */
+    public boolean redeployServices(BLangProgram oldProgram, BLangProgram newProgram, long drainTimeout) {
+        List<Service> newServices = new ArrayList<>();
+        BLangExecutionFlowBuilder flowBuilder = new BLangExecutionFlowBuilder();
+        for (BLangPackage servicePackage : newProgram.getServicePackages()) {
+            for (Service service : servicePackage.getServices()) {
+                service.setBLangProgram(newProgram);
+                // Build Flow for Non-Blocking execution.
+                service.accept(flowBuilder);
+                newServices.add(service);
+            }
+        }
+
+        if (newServices.isEmpty()) {
+            throw new RuntimeException("no service(s) found in '" + newProgram.getProgramFilePath() + "'");
+        }
+
+        RuntimeEnvironment runtimeEnv = RuntimeEnvironment.get(newProgram);
+        newProgram.setRuntimeEnvironment(runtimeEnv);
+
+        Map<String, Service> oldServices = new LinkedHashMap<>();
+        for (BLangPackage servicePackage : oldProgram.getServicePackages()) {
+            for (Service service : servicePackage.getServices()) {
+                oldServices.put(service.getPackagePath() + ":" + service.getName(), service);
+            }
+        }
+
+        // Each change made to a dispatcher is recorded with the change which reverts it, hence the old services are
+        // restored if a dispatcher fails to take a new service
+        Deque<Runnable> rollbacks = new ArrayDeque<>();
+        try {
+            for (Service service : newServices) {
+                Service oldService = oldServices.remove(service.getPackagePath() + ":" + service.getName());
+                for (ServiceDispatcher dispatcher : DispatcherRegistry.getInstance().getServiceDispatchers().values()) {
+                    if (oldService != null) {
+                        dispatcher.serviceReplaced(oldService, service);
+                        rollbacks.push(() -> dispatcher.serviceReplaced(service, oldService));
+                    } else {
+                        dispatcher.serviceRegistered(service);
+                        rollbacks.push(() -> dispatcher.serviceUnregistered(service));
+                    }
+                }
+            }
+            for (Service oldService : oldServices.values()) {
+                for (ServiceDispatcher dispatcher : DispatcherRegistry.getInstance().getServiceDispatchers().values()) {
+                    dispatcher.serviceUnregistered(oldService);
+                    rollbacks.push(() -> dispatcher.serviceRegistered(oldService));
+                }
+            }
+        } catch (RuntimeException e) {
+            while (!rollbacks.isEmpty()) {
+                try {
+                    rollbacks.pop().run();
+                } catch (RuntimeException rollbackError) {
+                    e.addSuppressed(rollbackError);
+                }
+            }
+            // Requests which reached the new services before the rollback are dispatched again to the old services
+            runtimeEnv.retire();
+            throw e;
+        }
+
+        RuntimeEnvironment oldRuntimeEnv = oldProgram.getRuntimeEnvironment();
+        if (oldRuntimeEnv == null) {
+            return true;
+        }
+        try {
+            return oldRuntimeEnv.drain(drainTimeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
     public void runMain(BLangProgram bLangProgram, String[] args) {
         Context bContext = new Context();
         BallerinaFunction mainFunction = bLangProgram.getMainFunction();
@@ -107,7 +203,7 @@ public class BLangProgramRunner {
             // Invoke main function
             RuntimeEnvironment runtimeEnv = RuntimeEnvironment.get(bLangProgram);
             if (ModeResolver.getInstance().isDebugEnabled()) {
-                stackFrame.variables.put(new SymbolName("args"), new AbstractMap.SimpleEntry<>(0, "Arg"));
+                stackFrame.getVariables().put(new SymbolName("args"), new AbstractMap.SimpleEntry<>(0, "Arg"));
                 DebugManager debugManager = DebugManager.getInstance();
                 // This will start the websocket server.
                 debugManager.init();
@@ -17,6 +17,7 @@
 */
 package org.ballerinalang.bre;
 
+import org.ballerinalang.bre.vm.BLangVM;
 import org.ballerinalang.model.Action;
 import org.ballerinalang.model.BTypeMapper;
 import org.ballerinalang.model.BallerinaAction;
@@ -36,6 +37,7 @@ import org.ballerinalang.model.expressions.ArrayInitExpr;
 import org.ballerinalang.model.expressions.ArrayMapAccessExpr;
 import org.ballerinalang.model.expressions.BacktickExpr;
 import org.ballerinalang.model.expressions.BasicLiteral;
+import org.ballerinalang.model.expressions.BinaryArithmeticExpression;
 import org.ballerinalang.model.expressions.BinaryEqualityExpression;
 import org.ballerinalang.model.expressions.BinaryExpression;
 import org.ballerinalang.model.expressions.CallableUnitInvocationExpr;
@@ -77,6 +79,7 @@ import org.ballerinalang.model.values.BArray;
 import org.ballerinalang.model.values.BBoolean;
 import org.ballerinalang.model.values.BConnector;
 import org.ballerinalang.model.values.BException;
+import org.ballerinalang.model.values.BFloat;
 import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BJSON;
 import org.ballerinalang.model.values.BMap;
@@ -90,8 +93,11 @@ import org.ballerinalang.natives.AbstractNativeFunction;
 import org.ballerinalang.natives.AbstractNativeTypeMapper;
 import org.ballerinalang.natives.connectors.AbstractNativeAction;
 import org.ballerinalang.natives.connectors.AbstractNativeConnector;
-import org.ballerinalang.runtime.threadpool.BLangThreadFactory;
+import org.ballerinalang.natives.connectors.ConnectorRegistry;
+import org.ballerinalang.runtime.metrics.ErrorCategory;
+import org.ballerinalang.runtime.metrics.Metrics;
 import org.ballerinalang.runtime.worker.WorkerCallback;
+import org.ballerinalang.runtime.worker.WorkerExecutor;
 import org.ballerinalang.services.ErrorHandlerUtils;
 import org.ballerinalang.util.exceptions.BallerinaException;
 
@@ -101,8 +107,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -121,7 +125,7 @@ public class BLangExecutor implements NodeExecutor {
     private boolean returnedOrReplied;
     private boolean isForkJoinTimedOut;
     private boolean isBreakCalled;
-    private ExecutorService executor;
+    private BLangVM vm;
 
     public BLangExecutor(RuntimeEnvironment runtimeEnv, Context bContext) {
         this.runtimeEnv = runtimeEnv;
@@ -133,7 +137,7 @@ public class BLangExecutor implements NodeExecutor {
     public void visit(BlockStmt blockStmt) {
         Statement[] stmts = blockStmt.getStatements();
         for (Statement stmt : stmts) {
-            if (returnedOrReplied || isBreakCalled) {
+            if (returnedOrReplied || isBreakCalled || bContext.isCancelled()) {
                 break;
             }
             stmt.execute(this);
@@ -224,7 +228,7 @@ public class BLangExecutor implements NodeExecutor {
         while (condition.booleanValue()) {
             // Interpret the statements in the while body.
             whileStmt.getBody().execute(this);
-            if (returnedOrReplied || isBreakCalled) {
+            if (returnedOrReplied || isBreakCalled || bContext.isCancelled()) {
                 break;
             }
             // Now evaluate the condition again to decide whether to continue the loop or not.
@@ -254,13 +258,14 @@ public class BLangExecutor implements NodeExecutor {
             }
             exception.value().setStackTrace(ErrorHandlerUtils.getMainFuncStackTrace(bContext, null));
             while (bContext.getControlStack().getCurrentFrame() != current) {
-                if (controlStack.getStack().size() > 0) {
+                if (controlStack.size() > 0) {
                     controlStack.popFrame();
                 } else {
                     // Throw this to handle at root error handler.
                     throw new BallerinaException(be);
                 }
             }
+            controlStack.releaseValues();
             MemoryLocation memoryLocation = tryCatchStmt.getCatchBlock().getParameterDef().getMemoryLocation();
             if (memoryLocation instanceof StackVarLocation) {
                 int stackFrameOffset = ((StackVarLocation) memoryLocation).getStackFrameOffset();
@@ -331,15 +336,14 @@ public class BLangExecutor implements NodeExecutor {
                 workerInvocationStmt.getNodeLocation());
 
         StackFrame stackFrame = new StackFrame(localVals, returnVals, functionInfo);
-        Context workerContext = new Context();
+        Context workerContext = WorkerExecutor.getContext();
         workerContext.getControlStack().pushFrame(stackFrame);
         WorkerCallback workerCallback = new WorkerCallback(workerContext);
         workerContext.setBalCallback(workerCallback);
         BLangExecutor workerExecutor = new BLangExecutor(runtimeEnv, workerContext);
 
-        executor = Executors.newSingleThreadExecutor(new BLangThreadFactory(worker.getName()));
         WorkerRunner workerRunner = new WorkerRunner(workerExecutor, workerContext, worker);
-        Future<BMessage> future = executor.submit(workerRunner);
+        Future<BMessage> future = WorkerExecutor.submit(workerRunner);
         worker.setResultFuture(future);
 
 
@@ -355,18 +359,13 @@ public class BLangExecutor implements NodeExecutor {
             BMessage result = future.get(60, TimeUnit.SECONDS);
             VariableRefExpr variableRefExpr = workerReplyStmt.getReceiveExpr();
             assignValueToVarRefExpr(result, variableRefExpr);
-            executor.shutdown();
-            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
-                executor.shutdownNow();
-            }
         } catch (Exception e) {
+            // Stop the worker, if it is still running
+            future.cancel(false);
             // If there is an exception in the worker, set an empty value to the return variable
             BMessage result = BTypes.typeMessage.getEmptyValue();
             VariableRefExpr variableRefExpr = workerReplyStmt.getReceiveExpr();
             assignValueToVarRefExpr(result, variableRefExpr);
-        } finally {
-            // Finally, try again to shutdown if not done already
-            executor.shutdownNow();
         }
     }
 
@@ -442,7 +441,7 @@ public class BLangExecutor implements NodeExecutor {
                     functionSymbolName.getPkgPath(), worker.getNodeLocation());
 
             StackFrame stackFrame = new StackFrame(localVals, returnVals, functionInfo);
-            Context workerContext = new Context();
+            Context workerContext = WorkerExecutor.getContext();
             workerContext.getControlStack().pushFrame(stackFrame);
             WorkerCallback workerCallback = new WorkerCallback(workerContext);
             workerContext.setBalCallback(workerCallback);
@@ -517,10 +516,9 @@ public class BLangExecutor implements NodeExecutor {
     }
 
     private BMessage invokeAnyWorker(List<WorkerRunner> workerRunnerList, long timeout) {
-        ExecutorService anyExecutor = Executors.newWorkStealingPool();
         BMessage result;
         try {
-            result = anyExecutor.invokeAny(workerRunnerList, timeout, TimeUnit.SECONDS);
+            result = WorkerExecutor.invokeAny(workerRunnerList, timeout, TimeUnit.SECONDS);
         } catch (InterruptedException | ExecutionException e) {
             return null;
         } catch (TimeoutException e) {
@@ -531,10 +529,9 @@ public class BLangExecutor implements NodeExecutor {
     }
 
     private List<BMessage> invokeAllWorkers(List<WorkerRunner> workerRunnerList, long timeout) {
-        ExecutorService allExecutor = Executors.newWorkStealingPool();
         List<BMessage> result = new ArrayList<>();
         try {
-            allExecutor.invokeAll(workerRunnerList, timeout, TimeUnit.SECONDS).stream().map(bMessageFuture -> {
+            WorkerExecutor.invokeAll(workerRunnerList, timeout, TimeUnit.SECONDS).stream().map(bMessageFuture -> {
                 try {
                     return bMessageFuture.get();
                 } catch (CancellationException e) {
@@ -559,9 +556,13 @@ public class BLangExecutor implements NodeExecutor {
 
         // Create the Stack frame
         Function function = funcIExpr.getCallableUnit();
+        if (function instanceof AbstractNativeFunction && ((AbstractNativeFunction) function).getInvoker() != null
+                && function.getReturnParamTypes().length <= 1) {
+            return invokeNative((AbstractNativeFunction) function, funcIExpr);
+        }
 
         int sizeOfValueArray = function.getStackFrameSize();
-        BValue[] localVals = new BValue[sizeOfValueArray];
+        BValue[] localVals = controlStack.allocateValues(sizeOfValueArray);
 
         // Get values for all the function arguments
         int valueCounter = populateArgumentValues(funcIExpr.getArgExprs(), localVals);
@@ -582,16 +583,17 @@ public class BLangExecutor implements NodeExecutor {
 
         // Create a new stack frame with memory locations to hold parameters, local values, temp expression value,
         // return values and function invocation location;
-        CallableUnitInfo functionInfo = new CallableUnitInfo(function.getName(), function.getPackagePath(),
-                funcIExpr.getNodeLocation());
-
-        StackFrame stackFrame = new StackFrame(localVals, returnVals, functionInfo);
+        StackFrame stackFrame = new StackFrame(localVals, returnVals, funcIExpr.getCallableUnitInfo());
         controlStack.pushFrame(stackFrame);
 
         // Check whether we are invoking a native function or not.
         if (function instanceof BallerinaFunction) {
             BallerinaFunction bFunction = (BallerinaFunction) function;
-            bFunction.getCallableUnitBody().execute(this);
+            if (bFunction.getCompiledUnit() != null) {
+                getVM().execute(bFunction, localVals, returnVals);
+            } else {
+                bFunction.getCallableUnitBody().execute(this);
+            }
         } else {
             AbstractNativeFunction nativeFunction = (AbstractNativeFunction) function;
             nativeFunction.executeNative(bContext);
@@ -604,6 +606,31 @@ public class BLangExecutor implements NodeExecutor {
         return returnVals;
     }
 
+    /**
+     * Call a native function through its invoker, with the values of its arguments. A stack frame is pushed only if
+     * the function throws, so that the stack trace of the error has the native function.
+     */
+    private BValue[] invokeNative(AbstractNativeFunction nativeFunction, FunctionInvocationExpr funcIExpr) {
+        BValue[] args = controlStack.allocateValues(nativeFunction.getStackFrameSize());
+        populateArgumentValues(funcIExpr.getArgExprs(), args);
+
+        BValue[] returnVals = new BValue[nativeFunction.getReturnParamTypes().length];
+        BValue retVal;
+        try {
+            retVal = nativeFunction.invokeNative(bContext, args);
+        } catch (RuntimeException e) {
+            controlStack.pushFrame(new StackFrame(args, returnVals, funcIExpr.getCallableUnitInfo()));
+            throw e;
+        }
+        controlStack.freeValues(args);
+
+        if (returnVals.length == 1) {
+            returnVals[0] = retVal;
+        }
+        returnedOrReplied = false;
+        return returnVals;
+    }
+
     @Override
     public BValue[] visit(ActionInvocationExpr actionIExpr) {
         // Create the Stack frame
@@ -630,9 +657,7 @@ public class BLangExecutor implements NodeExecutor {
 
         // Create a new stack frame with memory locations to hold parameters, local values, temp expression values and
         // return values;
-        CallableUnitInfo actionInfo = new CallableUnitInfo(action.getName(), action.getPackagePath(),
-                actionIExpr.getNodeLocation());
-        StackFrame stackFrame = new StackFrame(localVals, returnVals, actionInfo);
+        StackFrame stackFrame = new StackFrame(localVals, returnVals, actionIExpr.getCallableUnitInfo());
         controlStack.pushFrame(stackFrame);
 
         // Check whether we are invoking a native action or not.
@@ -641,7 +666,19 @@ public class BLangExecutor implements NodeExecutor {
             bAction.getCallableUnitBody().execute(this);
         } else {
             AbstractNativeAction nativeAction = (AbstractNativeAction) action;
-            nativeAction.execute(bContext);
+            long startTime = Metrics.ENABLED ? System.nanoTime() : 0;
+            try {
+                nativeAction.execute(bContext);
+            } catch (RuntimeException e) {
+                if (Metrics.ENABLED) {
+                    Metrics.errorOccurred(ErrorCategory.ACTION);
+                }
+                throw e;
+            } finally {
+                if (Metrics.ENABLED) {
+                    Metrics.actionInvoked(nativeAction.getPackagePath(), nativeAction.getName(), startTime);
+                }
+            }
         }
 
         controlStack.popFrame();
@@ -673,9 +710,7 @@ public class BLangExecutor implements NodeExecutor {
 
         BValue[] ret = new BValue[1];
 
-        CallableUnitInfo resourceInfo = new CallableUnitInfo(resource.getName(), resource.getPackagePath(),
-                resource.getNodeLocation());
-        StackFrame stackFrame = new StackFrame(valueParams, ret, resourceInfo);
+        StackFrame stackFrame = new StackFrame(valueParams, ret, resource.getCallableUnitInfo());
         controlStack.pushFrame(stackFrame);
 
         resource.getResourceBody().execute(this);
@@ -707,6 +742,18 @@ public class BLangExecutor implements NodeExecutor {
         return binaryExpr.getEvalFunc().apply(lValue, rValue);
     }
 
+    @Override
+    public BValue visit(BinaryArithmeticExpression arithmeticExpr) {
+        // Nested int and float arithmetic is evaluated on primitives, and only the result of this expression is boxed
+        if (arithmeticExpr.getIntEvalFunc() != null) {
+            return BInteger.valueOf(evalInt(arithmeticExpr));
+        } else if (arithmeticExpr.getFloatEvalFunc() != null) {
+            return new BFloat(evalFloat(arithmeticExpr));
+        }
+
+        return visit((BinaryExpression) arithmeticExpr);
+    }
+
     @Override
     public BValue visit(BinaryEqualityExpression binaryEqualityExpr) {
         Expression rExpr = binaryEqualityExpr.getRExpr();
@@ -725,12 +772,7 @@ public class BLangExecutor implements NodeExecutor {
     
     @Override
     public BValue visit(ArrayMapAccessExpr arrayMapAccessExpr) {
-        VariableRefExpr arrayVarRefExpr = (VariableRefExpr) arrayMapAccessExpr.getRExpr();
-        BValue collectionValue = arrayVarRefExpr.execute(this);
-
-        if (collectionValue == null) {
-            throw new BallerinaException("variable '" + arrayVarRefExpr.getVarName() + "' is null");
-        }
+        BValue collectionValue = evalCollection(arrayMapAccessExpr);
 
         Expression[] indexExprs = arrayMapAccessExpr.getIndexExprs();
 
@@ -743,7 +785,7 @@ public class BLangExecutor implements NodeExecutor {
                 if (collectionValue instanceof BArray) {
                     BArray bArray = (BArray) collectionValue;
                     bArray = retrieveArray(bArray, indexExprs);
-                    return bArray.get(((BInteger) indexExprs[0].execute(this)).intValue());
+                    return bArray.get(evalIntOperand(indexExprs[0]));
                 } else {
                     return collectionValue;
                 }
@@ -808,14 +850,14 @@ public class BLangExecutor implements NodeExecutor {
 
         if (connector instanceof AbstractNativeConnector) {
 
-            AbstractNativeConnector nativeConnector = ((AbstractNativeConnector) connector).getInstance();
             Expression[] argExpressions = connectorInitExpr.getArgExprs();
             connectorMemBlock = new BValue[argExpressions.length];
             for (int j = 0; j < argExpressions.length; j++) {
                 connectorMemBlock[j] = argExpressions[j].execute(this);
             }
 
-            nativeConnector.init(connectorMemBlock);
+            AbstractNativeConnector nativeConnector = ConnectorRegistry.getInstance()
+                    .getConnector((AbstractNativeConnector) connector, connectorMemBlock);
             bConnector = new BConnector(nativeConnector, connectorMemBlock);
 
 //            //TODO Fix Issue#320
@@ -979,6 +1021,13 @@ public class BLangExecutor implements NodeExecutor {
 
     // Private methods
 
+    private BLangVM getVM() {
+        if (vm == null) {
+            vm = new BLangVM(runtimeEnv, bContext);
+        }
+        return vm;
+    }
+
     private int populateArgumentValues(Expression[] expressions, BValue[] localVals) {
         int i = 0;
         for (Expression arg : expressions) {
@@ -1311,7 +1360,7 @@ public class BLangExecutor implements NodeExecutor {
 
     private void invokeConnectorInitFunction(BallerinaConnectorDef connectorDef, BConnector bConnector) {
         // Create the Stack frame
-        Function initFunction = connectorDef.getInitFunction();
+        BallerinaFunction initFunction = connectorDef.getInitFunction();
         BValue[] localVals = new BValue[1];
         localVals[0] = bConnector;
 
@@ -1320,10 +1369,7 @@ public class BLangExecutor implements NodeExecutor {
 
         // Create a new stack frame with memory locations to hold parameters, local values, temp expression value,
         // return values and function invocation location;
-        CallableUnitInfo functionInfo = new CallableUnitInfo(initFunction.getName(), initFunction.getPackagePath(),
-                initFunction.getNodeLocation());
-
-        StackFrame stackFrame = new StackFrame(localVals, returnVals, functionInfo);
+        StackFrame stackFrame = new StackFrame(localVals, returnVals, initFunction.getCallableUnitInfo());
         controlStack.pushFrame(stackFrame);
         initFunction.getCallableUnitBody().execute(this);
         controlStack.popFrame();
@@ -1358,12 +1404,76 @@ public class BLangExecutor implements NodeExecutor {
      * @param structMemBlock Memory block to be assigned for the new struct instance
      */
     private void invokeStructInitFunction(StructDef structDef, BValue[] structMemBlock) {
-        Function initFunction = structDef.getInitFunction();
-        CallableUnitInfo functionInfo = new CallableUnitInfo(initFunction.getName(), initFunction.getPackagePath(),
-            initFunction.getNodeLocation());
-        StackFrame stackFrame = new StackFrame(structMemBlock, null, functionInfo);
+        BallerinaFunction initFunction = structDef.getInitFunction();
+        StackFrame stackFrame = new StackFrame(structMemBlock, null, initFunction.getCallableUnitInfo());
         controlStack.pushFrame(stackFrame);
         initFunction.getCallableUnitBody().execute(this);
         controlStack.popFrame();
     }
+
+    private long evalInt(BinaryArithmeticExpression arithmeticExpr) {
+        long rValue = evalIntOperand(arithmeticExpr.getRExpr());
+        long lValue = evalIntOperand(arithmeticExpr.getLExpr());
+        return arithmeticExpr.getIntEvalFunc().applyAsLong(lValue, rValue);
+    }
+
+    private long evalIntOperand(Expression expr) {
+        if (expr instanceof BinaryArithmeticExpression
+                && ((BinaryArithmeticExpression) expr).getIntEvalFunc() != null) {
+            return evalInt((BinaryArithmeticExpression) expr);
+        } else if (isArrayElementRead(expr)) {
+            ArrayMapAccessExpr accessExpr = (ArrayMapAccessExpr) expr;
+            BValue collectionValue = evalCollection(accessExpr);
+            if (collectionValue instanceof BArray) {
+                BArray bArray = retrieveArray((BArray) collectionValue, accessExpr.getIndexExprs());
+                return bArray.getInt(evalIntOperand(accessExpr.getIndexExprs()[0]));
+            }
+            return ((BValueType) collectionValue).intValue();
+        }
+        return ((BValueType) expr.execute(this)).intValue();
+    }
+
+    private double evalFloat(BinaryArithmeticExpression arithmeticExpr) {
+        double rValue = evalFloatOperand(arithmeticExpr.getRExpr());
+        double lValue = evalFloatOperand(arithmeticExpr.getLExpr());
+        return arithmeticExpr.getFloatEvalFunc().applyAsDouble(lValue, rValue);
+    }
+
+    private double evalFloatOperand(Expression expr) {
+        if (expr instanceof BinaryArithmeticExpression
+                && ((BinaryArithmeticExpression) expr).getFloatEvalFunc() != null) {
+            return evalFloat((BinaryArithmeticExpression) expr);
+        } else if (isArrayElementRead(expr)) {
+            ArrayMapAccessExpr accessExpr = (ArrayMapAccessExpr) expr;
+            BValue collectionValue = evalCollection(accessExpr);
+            if (collectionValue instanceof BArray) {
+                BArray bArray = retrieveArray((BArray) collectionValue, accessExpr.getIndexExprs());
+                return bArray.getFloat(evalIntOperand(accessExpr.getIndexExprs()[0]));
+            }
+            return ((BValueType) collectionValue).floatValue();
+        }
+        return ((BValueType) expr.execute(this)).floatValue();
+    }
+
+    /**
+     * Check whether the given expression reads an element of an array. Such reads of int and float operands use the
+     * primitive accessors of the array, so the element is not boxed.
+     *
+     * @param expr expression to check
+     * @return true if the expression reads an array element
+     */
+    private boolean isArrayElementRead(Expression expr) {
+        return expr instanceof ArrayMapAccessExpr && !((ArrayMapAccessExpr) expr).isLHSExpr()
+                && ((ArrayMapAccessExpr) expr).getRExpr().getType() != BTypes.typeMap;
+    }
+
+    private BValue evalCollection(ArrayMapAccessExpr arrayMapAccessExpr) {
+        VariableRefExpr arrayVarRefExpr = (VariableRefExpr) arrayMapAccessExpr.getRExpr();
+        BValue collectionValue = arrayVarRefExpr.execute(this);
+
+        if (collectionValue == null) {
+            throw new BallerinaException("variable '" + arrayVarRefExpr.getVarName() + "' is null");
+        }
+        return collectionValue;
+    }
 }
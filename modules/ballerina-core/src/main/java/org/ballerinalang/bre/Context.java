@@ -39,6 +39,8 @@ public class Context {
     private CallableUnitInfo serviceInfo;
     private BLangExecutionVisitor executor;
     private Object serverConnectorProtocol;
+    private volatile boolean cancelled;
+    private Runnable resourceCompletionHandler;
 
     public Context() {
         this.controlStack = new ControlStack();
@@ -100,4 +102,43 @@ public class Context {
     public void setServerConnectorProtocol(Object serverConnectorProtocol) {
         this.serverConnectorProtocol = serverConnectorProtocol;
     }
+
+    /**
+     * Request the execution of this context to stop. The executor stops at the next statement.
+     */
+    public void cancel() {
+        this.cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public void setResourceCompletionHandler(Runnable resourceCompletionHandler) {
+        this.resourceCompletionHandler = resourceCompletionHandler;
+    }
+
+    /**
+     * Notify that the execution of the resource of this context has ended, either normally or with an error.
+     */
+    public void resourceCompleted() {
+        if (resourceCompletionHandler != null) {
+            resourceCompletionHandler.run();
+        }
+    }
+
+    /**
+     * Clear the state of this context, so that it can be reused for another execution.
+     */
+    public void reset() {
+        controlStack.reset();
+        this.cMsg = null;
+        this.balCallback = null;
+        this.properties.clear();
+        this.serviceInfo = null;
+        this.executor = null;
+        this.serverConnectorProtocol = null;
+        this.cancelled = false;
+        this.resourceCompletionHandler = null;
+    }
 }
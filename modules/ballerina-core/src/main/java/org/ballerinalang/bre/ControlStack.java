@@ -19,31 +19,67 @@ package org.ballerinalang.bre;
 
 import org.ballerinalang.model.values.BValue;
 
+import java.util.Arrays;
 import java.util.Iterator;
-import java.util.Stack;
+import java.util.NoSuchElementException;
 
 /**
  * {@code ControlStack} represents function call stack.
+ * <p>
+ * The stack is not synchronized, a control stack is only used by the thread executing its {@link Context}.
+ * Value arrays of function frames can be taken from a slab owned by the stack with {@link #allocateValues(int)}.
+ * They are handed out again once the frame which uses them is popped.
  *
  * @since 0.8.0
  */
-public class ControlStack {
+public class ControlStack implements Iterable<StackFrame> {
 
-    private Stack<StackFrame> stack;
+    private static final int DEFAULT_STACK_SIZE = 16;
+
+    private StackFrame[] frames;
+    private int size;
     private StackFrame currentFrame;
 
+    private BValue[][] slab;
+    private int slabTop;
+    // Number of slab arrays which have been handed out since the stack was created or reset
+    private int slabUsed;
+
     public ControlStack() {
-        stack = new Stack<>();
+        frames = new StackFrame[DEFAULT_STACK_SIZE];
+        slab = new BValue[DEFAULT_STACK_SIZE][];
     }
 
     public StackFrame pushFrame(StackFrame frame) {
-        currentFrame = stack.push(frame);
+        if (size == frames.length) {
+            frames = Arrays.copyOf(frames, size * 2);
+        }
+
+        // Value arrays allocated for this frame are at the top of the slab
+        int slabStart = slabTop;
+        while (slabStart > 0 && (slab[slabStart - 1] == frame.values || slab[slabStart - 1] == frame.tempValues)) {
+            slabStart--;
+        }
+        frame.slabStart = slabStart;
+        frame.slabEnd = slabTop;
+
+        frames[size++] = frame;
+        currentFrame = frame;
         return currentFrame;
     }
 
     public StackFrame popFrame() {
-        StackFrame poppedFrame = stack.pop();
-        currentFrame = (stack.isEmpty()) ? null : stack.peek();
+        if (size == 0) {
+            throw new IllegalStateException("control stack is empty");
+        }
+
+        StackFrame poppedFrame = frames[--size];
+        frames[size] = null;
+        currentFrame = (size == 0) ? null : frames[size - 1];
+
+        if (poppedFrame.slabStart < slabTop) {
+            slabTop = poppedFrame.slabStart;
+        }
         return poppedFrame;
     }
 
@@ -62,12 +98,109 @@ public class ControlStack {
     public void setReturnValue(int offset, BValue bValue) {
         currentFrame.returnValues[offset] = bValue;
     }
-    
-    public Iterator<StackFrame> iterator() {
-        return this.stack.iterator();
+
+    /**
+     * Returns a cleared value array of at least the given size, for a frame which is about to be pushed.
+     * The array may be longer than requested, and it must not be used after the frame is popped.
+     *
+     * @param size number of values required
+     * @return value array
+     */
+    public BValue[] allocateValues(int size) {
+        if (slabTop == slab.length) {
+            slab = Arrays.copyOf(slab, slabTop * 2);
+        }
+
+        BValue[] values = slab[slabTop];
+        if (values == null || values.length < size) {
+            values = new BValue[size];
+            slab[slabTop] = values;
+        } else {
+            Arrays.fill(values, 0, size, null);
+        }
+        slabTop++;
+        if (slabTop > slabUsed) {
+            slabUsed = slabTop;
+        }
+        return values;
     }
-    
-    public Stack<StackFrame> getStack() {
-        return this.stack;
+
+    /**
+     * Hands back a value array taken with {@link #allocateValues(int)} for an invocation which did not push a frame,
+     * such as a native function called through its invoker. Only the most recently allocated array is released.
+     *
+     * @param values value array to release
+     */
+    public void freeValues(BValue[] values) {
+        if (slabTop > 0 && slab[slabTop - 1] == values) {
+            slabTop--;
+        }
+    }
+
+    /**
+     * Release value arrays allocated after the current frame was pushed, for invocations which never pushed
+     * their frames because an exception was thrown while evaluating the arguments.
+     */
+    public void releaseValues() {
+        if (currentFrame != null && currentFrame.slabEnd < slabTop) {
+            slabTop = currentFrame.slabEnd;
+        }
+    }
+
+    /**
+     * Pop all the frames, and clear the value arrays of the slab, so that a stack which is reused does not keep the
+     * values of its previous execution reachable.
+     */
+    public void reset() {
+        Arrays.fill(frames, 0, size, null);
+        size = 0;
+        currentFrame = null;
+        for (int i = 0; i < slabUsed; i++) {
+            Arrays.fill(slab[i], null);
+        }
+        slabTop = 0;
+        slabUsed = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the frame at the given depth, 0 being the bottom of the stack.
+     *
+     * @param index depth of the frame
+     * @return stack frame
+     */
+    public StackFrame getFrame(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return frames[index];
+    }
+
+    /**
+     * Returns an iterator over the frames, from the bottom to the top of the stack.
+     *
+     * @return frame iterator
+     */
+    @Override
+    public Iterator<StackFrame> iterator() {
+        return new Iterator<StackFrame>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public StackFrame next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                return frames[index++];
+            }
+        };
     }
 }
@@ -25,13 +25,24 @@ import org.ballerinalang.model.Function;
 import org.ballerinalang.model.Service;
 import org.ballerinalang.model.values.BValue;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * {@code RuntimeEnvironment} represents the runtime environment of a Ballerina application.
+ * <p>
+ * The environment counts the requests which are being served by the services of the application. When the services
+ * are redeployed, the environment of the old version is retired, hence it does not accept new requests, and the
+ * requests which are in flight are drained before the old version is discarded.
  *
  * @since 0.8.0
  */
 public class RuntimeEnvironment {
+    private static final long DRAIN_POLL_INTERVAL = 50;
+
     private StaticMemory staticMemory;
+    private final AtomicInteger inFlightRequests = new AtomicInteger();
+    private volatile boolean retired;
 
     private RuntimeEnvironment(StaticMemory staticMemory) {
         this.staticMemory = staticMemory;
@@ -41,6 +52,60 @@ public class RuntimeEnvironment {
         return staticMemory;
     }
 
+    /**
+     * Start serving a request in this environment.
+     *
+     * @return true if the request is started, or false if the environment is retired, in which case the request
+     * should be dispatched to the services which replaced the services of this environment
+     */
+    public boolean requestStarted() {
+        inFlightRequests.incrementAndGet();
+        if (retired) {
+            inFlightRequests.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    public void requestCompleted() {
+        inFlightRequests.decrementAndGet();
+    }
+
+    public int getInFlightRequests() {
+        return inFlightRequests.get();
+    }
+
+    public boolean isRetired() {
+        return retired;
+    }
+
+    /**
+     * Retire this environment, hence the requests which reach its services are dispatched again.
+     */
+    public void retire() {
+        retired = true;
+    }
+
+    /**
+     * Retire this environment, and wait until the requests which are in flight are completed.
+     *
+     * @param timeout maximum time to wait
+     * @param unit    unit of the timeout
+     * @return true if all the requests are completed, or false if the timeout elapsed
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    public boolean drain(long timeout, TimeUnit unit) throws InterruptedException {
+        retire();
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (inFlightRequests.get() > 0) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            Thread.sleep(DRAIN_POLL_INTERVAL);
+        }
+        return true;
+    }
+
     public static RuntimeEnvironment get(BLangProgram bLangProgram) {
         StaticMemory staticMemory = new StaticMemory(bLangProgram.getSizeOfStaticMem());
         RuntimeEnvironment runtimeEnvironment = new RuntimeEnvironment(staticMemory);
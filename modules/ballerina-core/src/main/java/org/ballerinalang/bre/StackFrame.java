@@ -35,9 +35,13 @@ public class StackFrame {
     private CallableUnitInfo callableUnitInfo;
     // Field for Non-Blocking Implementation.
     public BValue[] tempValues;
-    // Use only in debugger. Added when variables are accessed.
+    // Use only in debugger. Added when variables are accessed, see getVariables
     public HashMap<SymbolName, AbstractMap.SimpleEntry<Integer, String>> variables;
 
+    // Slab region of the control stack released when this frame is popped, see ControlStack#allocateValues
+    int slabStart;
+    int slabEnd;
+
     public StackFrame(BValue[] values, BValue[] returnValues) {
         this.values = values;
         this.returnValues = returnValues;
@@ -61,7 +65,19 @@ public class StackFrame {
         this.returnValues = returnValues;
         this.tempValues = tempValues;
         this.callableUnitInfo = callableUnitInfo;
-        variables = new HashMap<>();
+    }
+
+    /**
+     * Get the variables of this frame which have been accessed while debugging. The map is created on first use, so
+     * that frames which are not debugged do not allocate it.
+     *
+     * @return variables of this frame, mapped to their offsets and kinds
+     */
+    public HashMap<SymbolName, AbstractMap.SimpleEntry<Integer, String>> getVariables() {
+        if (variables == null) {
+            variables = new HashMap<>();
+        }
+        return variables;
     }
 
     /**
@@ -19,6 +19,7 @@ package org.ballerinalang.bre;
 
 import org.ballerinalang.model.Worker;
 import org.ballerinalang.model.values.BMessage;
+import org.ballerinalang.runtime.worker.WorkerExecutor;
 import org.ballerinalang.services.ErrorHandlerUtils;
 import org.ballerinalang.util.exceptions.BallerinaException;
 import org.slf4j.Logger;
@@ -27,10 +28,13 @@ import org.wso2.carbon.messaging.DefaultCarbonMessage;
 
 import java.io.PrintStream;
 import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A {@code WorkerRunner} Callable class which is running in a separate worker thread when worker is invoked.
  * <p>
+ * A worker runner can be cancelled, which stops the worker at its next statement. The context of a worker which
+ * completes without being cancelled is handed back to the {@link WorkerExecutor} to be reused.
  *
  * @since 0.8.0
  */
@@ -39,9 +43,16 @@ public class WorkerRunner implements Callable<BMessage> {
     private static final Logger log = LoggerFactory.getLogger(WorkerRunner.class);
     private static PrintStream outStream = System.err;
 
+    private static final int NEW = 0;
+    private static final int RUNNING = 1;
+    private static final int DONE = 2;
+    private static final int CANCELLED = 3;
+
     private BLangExecutor executor;
     private Context bContext;
     private Worker worker;
+    private final AtomicInteger state = new AtomicInteger(NEW);
+    private volatile boolean failed;
 
     public WorkerRunner(BLangExecutor executor, Context bContext, Worker worker) {
         this.executor = executor;
@@ -52,6 +63,10 @@ public class WorkerRunner implements Callable<BMessage> {
 
     @Override
     public BMessage call() throws BallerinaException {
+        if (!state.compareAndSet(NEW, RUNNING)) {
+            // Cancelled before it is started
+            return null;
+        }
         try {
             worker.getCallableUnitBody().execute(executor);
             return (BMessage) bContext.getControlStack().getCurrentFrame().returnValues[0];
@@ -61,7 +76,32 @@ public class WorkerRunner implements Callable<BMessage> {
             String errorWithTrace = "exception in worker" + worker.getName() + " : " + errorMsg + "\n" + stacktrace;
             log.error(errorWithTrace);
             outStream.println(errorWithTrace);
+            failed = true;
             return new BMessage(new DefaultCarbonMessage());
+        } finally {
+            // The context of a cancelled worker is not reused, as it may still be cancelled concurrently
+            if (state.compareAndSet(RUNNING, DONE)) {
+                WorkerExecutor.releaseContext(bContext);
+            }
+        }
+    }
+
+    /**
+     * Indicate whether this worker failed with an error. A failed worker replies with an empty message.
+     *
+     * @return true if the worker failed
+     */
+    public boolean isFailed() {
+        return failed;
+    }
+
+    /**
+     * Cancel this worker. A worker which is not started is not run, and a running worker stops at its next
+     * statement of a block, or at the end of the current iteration of a while loop.
+     */
+    public void cancel() {
+        if (state.compareAndSet(NEW, CANCELLED) || state.compareAndSet(RUNNING, CANCELLED)) {
+            bContext.cancel();
         }
     }
 }
@@ -31,8 +31,10 @@ import org.ballerinalang.bre.StackVarLocation;
 import org.ballerinalang.bre.StructVarLocation;
 import org.ballerinalang.bre.WorkerRunner;
 import org.ballerinalang.bre.WorkerVarLocation;
+import org.ballerinalang.bre.vm.BLangVM;
 import org.ballerinalang.model.Action;
 import org.ballerinalang.model.BallerinaConnectorDef;
+import org.ballerinalang.model.BallerinaFunction;
 import org.ballerinalang.model.Connector;
 import org.ballerinalang.model.Function;
 import org.ballerinalang.model.LinkedNode;
@@ -128,11 +130,16 @@ import org.ballerinalang.model.values.BStruct;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.model.values.BValueType;
 import org.ballerinalang.model.values.BXML;
+import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.natives.connectors.AbstractNativeAction;
 import org.ballerinalang.natives.connectors.AbstractNativeConnector;
 import org.ballerinalang.natives.connectors.BalConnectorCallback;
+import org.ballerinalang.natives.connectors.ConnectorRegistry;
 import org.ballerinalang.runtime.Constants;
-import org.ballerinalang.runtime.threadpool.BLangThreadFactory;
+import org.ballerinalang.runtime.metrics.ErrorCategory;
+import org.ballerinalang.runtime.metrics.Metrics;
 import org.ballerinalang.runtime.worker.WorkerCallback;
+import org.ballerinalang.runtime.worker.WorkerExecutor;
 import org.ballerinalang.services.ErrorHandlerUtils;
 import org.ballerinalang.util.exceptions.BallerinaException;
 import org.ballerinalang.util.exceptions.FlowBuilderException;
@@ -146,8 +153,6 @@ import java.util.Map;
 import java.util.Stack;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -166,10 +171,10 @@ public abstract class BLangAbstractExecutionVisitor extends BLangExecutionVisito
     private ControlStack controlStack;
     private Stack<TryCatchStackRef> tryCatchStackRefs;
     protected LinkedNode next;
-    private ExecutorService executor;
     private ForkJoinInvocationStatus forkJoinInvocationStatus;
     private boolean completed;
     private BValue[] structMemBlock;
+    private BLangVM vm;
 
     public BLangAbstractExecutionVisitor(RuntimeEnvironment runtimeEnv, Context bContext) {
         this.runtimeEnv = runtimeEnv;
@@ -339,15 +344,14 @@ public abstract class BLangAbstractExecutionVisitor extends BLangExecutionVisito
                 workerInvocationStmt.getNodeLocation());
 
         StackFrame stackFrame = new StackFrame(localVals, returnVals, functionInfo);
-        Context workerContext = new Context();
+        Context workerContext = WorkerExecutor.getContext();
         workerContext.getControlStack().pushFrame(stackFrame);
         WorkerCallback workerCallback = new WorkerCallback(workerContext);
         workerContext.setBalCallback(workerCallback);
         BLangExecutor workerExecutor = new BLangExecutor(runtimeEnv, workerContext);
 
-        executor = Executors.newSingleThreadExecutor(new BLangThreadFactory(worker.getName()));
         WorkerRunner workerRunner = new WorkerRunner(workerExecutor, workerContext, worker);
-        Future<BMessage> future = executor.submit(workerRunner);
+        Future<BMessage> future = WorkerExecutor.submit(workerRunner);
         worker.setResultFuture(future);
     }
 
@@ -363,18 +367,13 @@ public abstract class BLangAbstractExecutionVisitor extends BLangExecutionVisito
             BMessage result = future.get(60, TimeUnit.SECONDS);
             VariableRefExpr variableRefExpr = workerReplyStmt.getReceiveExpr();
             assignValueToVarRefExpr(result, variableRefExpr);
-            executor.shutdown();
-            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
-                executor.shutdownNow();
-            }
         } catch (Exception e) {
+            // Stop the worker, if it is still running
+            future.cancel(false);
             // If there is an exception in the worker, set an empty value to the return variable
             BMessage result = BTypes.typeMessage.getEmptyValue();
             VariableRefExpr variableRefExpr = workerReplyStmt.getReceiveExpr();
             assignValueToVarRefExpr(result, variableRefExpr);
-        } finally {
-            // Finally, try again to shutdown if not done already
-            executor.shutdownNow();
         }
     }
 
@@ -524,11 +523,8 @@ public abstract class BLangAbstractExecutionVisitor extends BLangExecutionVisito
             i++;
         }
         BValue[] ret = new BValue[1];
-        CallableUnitInfo resourceInfo = new CallableUnitInfo(resource.getName(), resource.getPackagePath(),
-                resource.getNodeLocation());
-
         BValue[] cacheValues = new BValue[resource.getTempStackFrameSize() + 1];
-        StackFrame stackFrame = new StackFrame(valueParams, ret, cacheValues, resourceInfo);
+        StackFrame stackFrame = new StackFrame(valueParams, ret, cacheValues, resource.getCallableUnitInfo());
         controlStack.pushFrame(stackFrame);
         next = resourceIExpr.getResource().getResourceBody();
     }
@@ -651,6 +647,7 @@ public abstract class BLangAbstractExecutionVisitor extends BLangExecutionVisito
         }
         completed = true;
         next = null;
+        bContext.resourceCompleted();
     }
 
     @Override
@@ -750,7 +747,7 @@ public abstract class BLangAbstractExecutionVisitor extends BLangExecutionVisito
                     functionSymbolName.getPkgPath(), worker.getNodeLocation());
 
             StackFrame stackFrame = new StackFrame(localVals, returnVals, functionInfo);
-            Context workerContext = new Context();
+            Context workerContext = WorkerExecutor.getContext();
             workerContext.getControlStack().pushFrame(stackFrame);
             WorkerCallback workerCallback = new WorkerCallback(workerContext);
             workerContext.setBalCallback(workerCallback);
@@ -824,10 +821,9 @@ public abstract class BLangAbstractExecutionVisitor extends BLangExecutionVisito
     }
 
     private BMessage invokeAnyWorker(List<WorkerRunner> workerRunnerList, long timeout) {
-        ExecutorService anyExecutor = Executors.newWorkStealingPool();
         BMessage result;
         try {
-            result = anyExecutor.invokeAny(workerRunnerList, timeout, TimeUnit.SECONDS);
+            result = WorkerExecutor.invokeAny(workerRunnerList, timeout, TimeUnit.SECONDS);
         } catch (InterruptedException | ExecutionException e) {
             return null;
         } catch (TimeoutException e) {
@@ -839,10 +835,9 @@ public abstract class BLangAbstractExecutionVisitor extends BLangExecutionVisito
     }
 
     private List<BMessage> invokeAllWorkers(List<WorkerRunner> workerRunnerList, long timeout) {
-        ExecutorService allExecutor = Executors.newWorkStealingPool();
         List<BMessage> result = new ArrayList<>();
         try {
-            allExecutor.invokeAll(workerRunnerList, timeout, TimeUnit.SECONDS).stream().map(bMessageFuture -> {
+            WorkerExecutor.invokeAll(workerRunnerList, timeout, TimeUnit.SECONDS).stream().map(bMessageFuture -> {
                 try {
                     return bMessageFuture.get();
                 } catch (CancellationException e) {
@@ -968,11 +963,8 @@ public abstract class BLangAbstractExecutionVisitor extends BLangExecutionVisito
 
         // Create a new stack frame with memory locations to hold parameters, local values, temp expression values and
         // return values;
-        CallableUnitInfo actionInfo = new CallableUnitInfo(action.getName(), action.getPackagePath(),
-                actionIExpr.getNodeLocation());
-
         BValue[] cacheValues = new BValue[actionIExpr.getCallableUnit().getTempStackFrameSize() + 1];
-        StackFrame stackFrame = new StackFrame(localVals, returnVals, cacheValues, actionInfo);
+        StackFrame stackFrame = new StackFrame(localVals, returnVals, cacheValues, actionIExpr.getCallableUnitInfo());
         controlStack.pushFrame(stackFrame);
         if (actionIExpr.hasGotoBranchID()) {
             branchIDStack.push(actionIExpr.getGotoBranchID());
@@ -1114,7 +1106,7 @@ public abstract class BLangAbstractExecutionVisitor extends BLangExecutionVisito
         Function function = funcIExpr.getCallableUnit();
 
         int sizeOfValueArray = function.getStackFrameSize();
-        BValue[] localVals = new BValue[sizeOfValueArray];
+        BValue[] localVals = controlStack.allocateValues(sizeOfValueArray);
 
         // Get values for all the function arguments
         int valueCounter = populateArgumentValues(funcIExpr.getArgExprs(), localVals);
@@ -1135,12 +1127,21 @@ public abstract class BLangAbstractExecutionVisitor extends BLangExecutionVisito
 
         // Create a new stack frame with memory locations to hold parameters, local values, temp expression value,
         // return values and function invocation location;
-        CallableUnitInfo functionInfo = new CallableUnitInfo(function.getName(), function.getPackagePath(),
-                funcIExpr.getNodeLocation());
-
-        BValue[] cacheValue = new BValue[funcIExpr.getCallableUnit().getTempStackFrameSize() + 1];
-        StackFrame stackFrame = new StackFrame(localVals, returnVals, cacheValue, functionInfo);
+        BValue[] cacheValue = controlStack.allocateValues(function.getTempStackFrameSize() + 1);
+        StackFrame stackFrame = new StackFrame(localVals, returnVals, cacheValue, funcIExpr.getCallableUnitInfo());
         controlStack.pushFrame(stackFrame);
+
+        if (function instanceof BallerinaFunction && ((BallerinaFunction) function).getCompiledUnit() != null) {
+            // Run the compiled instructions and continue from the end of the function invocation.
+            try {
+                getVM().execute((BallerinaFunction) function, localVals, returnVals);
+                next = functionInvocationExprStartNode.getCallableUnitEndNode();
+            } catch (RuntimeException e) {
+                handleBException(new BException(e.getMessage()));
+            }
+            return;
+        }
+
         if (funcIExpr.hasGotoBranchID()) {
             branchIDStack.push(funcIExpr.getGotoBranchID());
         }
@@ -1169,12 +1170,11 @@ public abstract class BLangAbstractExecutionVisitor extends BLangExecutionVisito
         structMemBlock = new BValue[structDef.getStructMemorySize()];
 
         // Invoke the <init> function
-        Function initFunction = structDef.getInitFunction();
-        CallableUnitInfo functionInfo = new CallableUnitInfo(initFunction.getName(), initFunction.getPackagePath(),
-            initFunction.getNodeLocation());
+        BallerinaFunction initFunction = structDef.getInitFunction();
         BValue[] returnValues = new BValue[0];
         BValue[] cacheValues = new BValue[initFunction.getTempStackFrameSize() + 1];
-        StackFrame stackFrame = new StackFrame(structMemBlock, returnValues, cacheValues, functionInfo);
+        StackFrame stackFrame = new StackFrame(structMemBlock, returnValues, cacheValues,
+                initFunction.getCallableUnitInfo());
         controlStack.pushFrame(stackFrame);
         
         if (structInitExprStartNode.hasGotoBranchID()) {
@@ -1305,14 +1305,14 @@ public abstract class BLangAbstractExecutionVisitor extends BLangExecutionVisito
 
         if (connector instanceof AbstractNativeConnector) {
 
-            AbstractNativeConnector nativeConnector = ((AbstractNativeConnector) connector).getInstance();
             Expression[] argExpressions = connectorInitExpr.getArgExprs();
             connectorMemBlock = new BValue[argExpressions.length];
             for (int j = 0; j < argExpressions.length; j++) {
                 connectorMemBlock[j] = getTempValue(argExpressions[j]);
             }
 
-            nativeConnector.init(connectorMemBlock);
+            AbstractNativeConnector nativeConnector = ConnectorRegistry.getInstance()
+                    .getConnector((AbstractNativeConnector) connector, connectorMemBlock);
             bConnector = new BConnector(nativeConnector, connectorMemBlock);
 
 //            //TODO Fix Issue#320
@@ -1341,7 +1341,7 @@ public abstract class BLangAbstractExecutionVisitor extends BLangExecutionVisito
             bConnector = new BConnector(connector, connectorMemBlock);
             setTempValue(connectorInitExpr.getTempOffset(), bConnector);
             // Create the Stack frame
-            Function initFunction = connectorDef.getInitFunction();
+            BallerinaFunction initFunction = connectorDef.getInitFunction();
             BValue[] localVals = new BValue[1];
             localVals[0] = bConnector;
 
@@ -1350,11 +1350,9 @@ public abstract class BLangAbstractExecutionVisitor extends BLangExecutionVisito
 
             // Create a new stack frame with memory locations to hold parameters, local values, temp expression value,
             // return values and function invocation location;
-            CallableUnitInfo functionInfo = new CallableUnitInfo(initFunction.getName(), initFunction.getPackagePath(),
-                    initFunction.getNodeLocation());
-
             BValue[] cacheValue = new BValue[initFunction.getTempStackFrameSize() + 1];
-            StackFrame stackFrame = new StackFrame(localVals, returnVals, cacheValue, functionInfo);
+            StackFrame stackFrame = new StackFrame(localVals, returnVals, cacheValue,
+                    initFunction.getCallableUnitInfo());
             controlStack.pushFrame(stackFrame);
             if (connectorInitExprEndNode.hasGotoBranchID()) {
                 branchIDStack.push(connectorInitExprEndNode.getGotoBranchID());
@@ -1368,17 +1366,30 @@ public abstract class BLangAbstractExecutionVisitor extends BLangExecutionVisito
         if (logger.isDebugEnabled()) {
             logger.debug("Executing Native Action - " + invokeNativeActionNode.getCallableUnit().getName());
         }
+        AbstractNativeAction nativeAction = invokeNativeActionNode.getCallableUnit();
         try {
-            if (invokeNativeActionNode.getCallableUnit().isNonBlockingAction()) {
+            if (nativeAction.isNonBlockingAction()) {
+                // The latency of a non-blocking action is recorded by the callback, when the response arrives
                 BalConnectorCallback connectorCallback = new BalConnectorCallback(bContext, invokeNativeActionNode);
-                invokeNativeActionNode.getCallableUnit().execute(bContext, connectorCallback);
+                nativeAction.execute(bContext, connectorCallback);
                 // Release current thread.
                 next = null;
             } else {
-                invokeNativeActionNode.getCallableUnit().execute(bContext);
+                long startTime = Metrics.ENABLED ? System.nanoTime() : 0;
+                try {
+                    nativeAction.execute(bContext);
+                } finally {
+                    // The latency of a failed or timed out action is recorded as well
+                    if (Metrics.ENABLED) {
+                        Metrics.actionInvoked(nativeAction.getPackagePath(), nativeAction.getName(), startTime);
+                    }
+                }
                 next = invokeNativeActionNode.next;
             }
         } catch (RuntimeException e) {
+            if (Metrics.ENABLED) {
+                Metrics.errorOccurred(ErrorCategory.ACTION);
+            }
             BException bException = new BException(e.getMessage());
             handleBException(bException);
         }
@@ -1390,7 +1401,21 @@ public abstract class BLangAbstractExecutionVisitor extends BLangExecutionVisito
             logger.debug("Executing Native Function - " + invokeNativeFunctionNode.getCallableUnit().getName());
         }
         next = invokeNativeFunctionNode.next;
-        invokeNativeFunctionNode.getCallableUnit().executeNative(bContext);
+        AbstractNativeFunction nativeFunction = invokeNativeFunctionNode.getCallableUnit();
+        StackFrame currentFrame = controlStack.getCurrentFrame();
+        if (nativeFunction.getInvoker() == null || currentFrame.returnValues.length > 1) {
+            nativeFunction.executeNative(bContext);
+            return;
+        }
+        // The arguments are already in the frame pushed at the start of the invocation
+        try {
+            BValue retVal = nativeFunction.invokeNative(bContext, currentFrame.values);
+            if (currentFrame.returnValues.length == 1) {
+                currentFrame.returnValues[0] = retVal;
+            }
+        } catch (RuntimeException e) {
+            handleBException(new BException(e.getMessage()));
+        }
     }
 
     @Override
@@ -1438,13 +1463,14 @@ public abstract class BLangAbstractExecutionVisitor extends BLangExecutionVisito
         TryCatchStackRef ref = tryCatchStackRefs.pop();
         // unwind stack till we found the current frame.
         while (controlStack.getCurrentFrame() != ref.stackFrame) {
-            if (controlStack.getStack().size() > 0) {
+            if (controlStack.size() > 0) {
                 controlStack.popFrame();
             } else {
                 // Something has gone wrong. No StackFrame to pop ? this shouldn't be executed.
                 throw new FlowBuilderException("Not handle catch statement in execution builder phase");
             }
         }
+        controlStack.releaseValues();
         MemoryLocation memoryLocation = ref.getCatchBlock().getParameterDef().getMemoryLocation();
         if (memoryLocation instanceof StackVarLocation) {
             int stackFrameOffset = ((StackVarLocation) memoryLocation).getStackFrameOffset();
@@ -1456,6 +1482,13 @@ public abstract class BLangAbstractExecutionVisitor extends BLangExecutionVisito
 
     // Private methods
 
+    private BLangVM getVM() {
+        if (vm == null) {
+            vm = new BLangVM(runtimeEnv, bContext);
+        }
+        return vm;
+    }
+
     private int populateArgumentValues(Expression[] expressions, BValue[] localVals) {
         int i = 0;
         for (Expression arg : expressions) {
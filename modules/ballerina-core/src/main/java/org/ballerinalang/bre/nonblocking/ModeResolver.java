@@ -29,6 +29,7 @@ public class ModeResolver {
     private static final ModeResolver instance = new ModeResolver();
     private boolean nonblockingEnabled = false;
     private boolean debugEnabled = false;
+    private boolean compiledModeEnabled = false;
 
     private ModeResolver() {
         String property = System.getProperty(Constants.SYS_PROP_ENABLE_NONBLOCKING);
@@ -39,6 +40,10 @@ public class ModeResolver {
         if (debug != null && !debug.isEmpty()) {
             debugEnabled = true;
         }
+        String compiledMode = System.getProperty(Constants.SYS_PROP_ENABLE_COMPILED_MODE);
+        if (compiledMode != null && compiledMode.equalsIgnoreCase("true")) {
+            compiledModeEnabled = true;
+        }
     }
 
     public static ModeResolver getInstance() {
@@ -58,4 +63,14 @@ public class ModeResolver {
         return this.debugEnabled;
     }
 
+    public boolean isCompiledModeEnabled() {
+        // Debugger needs the tree walking interpreter to step through statements.
+        return compiledModeEnabled && !debugEnabled;
+    }
+
+    public void setCompiledModeEnabled(boolean enabled) {
+        // Testing purpose only.
+        this.compiledModeEnabled = enabled;
+    }
+
 }
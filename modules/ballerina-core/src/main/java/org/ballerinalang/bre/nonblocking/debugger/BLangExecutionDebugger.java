@@ -240,7 +240,7 @@ public class BLangExecutionDebugger extends BLangAbstractExecutionVisitor {
             current = new NodeLocation("unknown", -1);
         }
         BreakPointInfo breakPointInfo = new BreakPointInfo(current);
-        for (StackFrame stackFrame : bContext.getControlStack().getStack()) {
+        for (StackFrame stackFrame : bContext.getControlStack()) {
             String pck =
                     (stackFrame.getNodeInfo().getPackage() == null ? "default" : stackFrame.getNodeInfo().getPackage());
             String functionName = stackFrame.getNodeInfo().getName();
@@ -380,7 +380,7 @@ public class BLangExecutionDebugger extends BLangAbstractExecutionVisitor {
                     offset = ((StructVarLocation) variableRefExpr.getMemoryLocation())
                             .getStructMemAddrOffset();
                 }
-                bContext.getControlStack().getCurrentFrame().variables.put(
+                bContext.getControlStack().getCurrentFrame().getVariables().put(
                         variableRefExpr.getSymbolName(), new AbstractMap.SimpleEntry<>(offset, scope));
             }
         }
@@ -412,7 +412,7 @@ public class BLangExecutionDebugger extends BLangAbstractExecutionVisitor {
                 offset = ((StructVarLocation) variableRefExpr.getMemoryLocation())
                         .getStructMemAddrOffset();
             }
-            bContext.getControlStack().getCurrentFrame().variables.put(
+            bContext.getControlStack().getCurrentFrame().getVariables().put(
                     variableRefExpr.getSymbolName(), new AbstractMap.SimpleEntry<>(offset, scope));
         }
     }
@@ -435,7 +435,7 @@ public class BLangExecutionDebugger extends BLangAbstractExecutionVisitor {
         if (resourceIExpr.getResource().getParameterDefs() != null) {
             int i = 0;
             for (ParameterDef parameter : resourceIExpr.getResource().getParameterDefs()) {
-                bContext.getControlStack().getCurrentFrame().variables.put(
+                bContext.getControlStack().getCurrentFrame().getVariables().put(
                         parameter.getSymbolName(), new AbstractMap.SimpleEntry<>(i, "Arg"));
                 i++;
             }
@@ -448,7 +448,7 @@ public class BLangExecutionDebugger extends BLangAbstractExecutionVisitor {
         if (startNode.getExpression().getCallableUnit() != null) {
             int i = 0;
             for (ParameterDef parameter : startNode.getExpression().getCallableUnit().getParameterDefs()) {
-                bContext.getControlStack().getCurrentFrame().variables.put(
+                bContext.getControlStack().getCurrentFrame().getVariables().put(
                         parameter.getSymbolName(), new AbstractMap.SimpleEntry<>(i, "Arg"));
                 i++;
             }
@@ -461,7 +461,7 @@ public class BLangExecutionDebugger extends BLangAbstractExecutionVisitor {
         int i = 0;
         if (startNode.getExpression().getCallableUnit() != null) {
             for (ParameterDef parameter : startNode.getExpression().getCallableUnit().getParameterDefs()) {
-                bContext.getControlStack().getCurrentFrame().variables.put(
+                bContext.getControlStack().getCurrentFrame().getVariables().put(
                         parameter.getSymbolName(), new AbstractMap.SimpleEntry<>(i, "Arg"));
                 i++;
             }
@@ -474,7 +474,7 @@ public class BLangExecutionDebugger extends BLangAbstractExecutionVisitor {
         if (endNode.getExpression().getCallableUnit() != null) {
             int i = 0;
             for (ParameterDef parameter : endNode.getExpression().getCallableUnit().getParameterDefs()) {
-                bContext.getControlStack().getCurrentFrame().variables.put(
+                bContext.getControlStack().getCurrentFrame().getVariables().put(
                         parameter.getSymbolName(), new AbstractMap.SimpleEntry<>(i, "Arg"));
                 i++;
             }
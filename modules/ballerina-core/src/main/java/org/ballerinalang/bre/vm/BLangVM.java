@@ -0,0 +1,471 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.bre.vm;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.ControlStack;
+import org.ballerinalang.bre.RuntimeEnvironment;
+import org.ballerinalang.bre.StackFrame;
+import org.ballerinalang.model.BallerinaFunction;
+import org.ballerinalang.model.types.BType;
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BFloat;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.model.values.BValueType;
+import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.runtime.metrics.Metrics;
+import org.ballerinalang.util.exceptions.BallerinaException;
+
+import java.util.function.Function;
+
+import static org.ballerinalang.bre.vm.CompiledCallableUnit.KIND_BOOLEAN;
+import static org.ballerinalang.bre.vm.CompiledCallableUnit.KIND_FLOAT;
+import static org.ballerinalang.bre.vm.CompiledCallableUnit.KIND_INT;
+
+/**
+ * {@code BLangVM} executes {@link CompiledCallableUnit}s produced by the {@link InstructionGenerator}.
+ * <p>
+ * int, float and boolean values live unboxed in the int and float register files of a frame. Values are only
+ * boxed into {@link BValue}s when they cross into code which is not compiled, i.e. when a native function is
+ * invoked or when the compiled function returns to the tree walking executor.
+ * <p>
+ * The VM runs Ballerina functions only, see {@link InstructionGenerator} for the lowered subset. A compiled
+ * function runs to completion on the calling thread: it never invokes an action, hence it is never suspended.
+ *
+ * @since 0.87
+ */
+public class BLangVM {
+
+    private static final BValue[] EMPTY_VALUES = new BValue[0];
+
+    private final RuntimeEnvironment runtimeEnv;
+    private final Context bContext;
+
+    public BLangVM(RuntimeEnvironment runtimeEnv, Context bContext) {
+        this.runtimeEnv = runtimeEnv;
+        this.bContext = bContext;
+    }
+
+    /**
+     * Execute the compiled code of the given function.
+     *
+     * @param function     function with attached compiled code
+     * @param args         argument values, the first values of the function's stack frame
+     * @param returnValues array to which the return values are written
+     */
+    public void execute(BallerinaFunction function, BValue[] args, BValue[] returnValues) {
+        CompiledCallableUnit unit = function.getCompiledUnit();
+        long[] intRegs = new long[unit.getIntRegCount()];
+        double[] floatRegs = new double[unit.getFloatRegCount()];
+        BValue[] refRegs = new BValue[unit.getRefRegCount()];
+
+        int[] paramRegs = unit.getParamRegs();
+        int[] paramKinds = unit.getParamKinds();
+        for (int i = 0; i < paramRegs.length; i++) {
+            unbox(args[i], paramKinds[i], paramRegs[i], intRegs, floatRegs, refRegs);
+        }
+
+        int retPc = run(unit, intRegs, floatRegs, refRegs);
+
+        int[] code = unit.getCode();
+        int[] returnKinds = unit.getReturnKinds();
+        for (int i = 0; i < code[retPc + 1]; i++) {
+            returnValues[i] = box(code[retPc + 2 + i], returnKinds[i], intRegs, floatRegs, refRegs);
+        }
+    }
+
+    /**
+     * Run the instructions of a compiled unit until a {@link Opcodes#RET} is reached.
+     *
+     * @return position of the RET instruction, which holds the registers of the return values
+     */
+    private int run(CompiledCallableUnit unit, long[] intRegs, double[] floatRegs, BValue[] refRegs) {
+        int[] code = unit.getCode();
+        long[] intConstants = unit.getIntConstants();
+        double[] floatConstants = unit.getFloatConstants();
+        Object[] refConstants = unit.getRefConstants();
+
+        int pc = 0;
+        while (true) {
+            int opcode = code[pc];
+            switch (opcode) {
+                case Opcodes.ICONST:
+                    intRegs[code[pc + 1]] = intConstants[code[pc + 2]];
+                    pc += 3;
+                    break;
+                case Opcodes.FCONST:
+                    floatRegs[code[pc + 1]] = floatConstants[code[pc + 2]];
+                    pc += 3;
+                    break;
+                case Opcodes.RCONST:
+                    refRegs[code[pc + 1]] = (BValue) refConstants[code[pc + 2]];
+                    pc += 3;
+                    break;
+                case Opcodes.RNULL:
+                    refRegs[code[pc + 1]] = null;
+                    pc += 2;
+                    break;
+                case Opcodes.RZERO:
+                    refRegs[code[pc + 1]] = ((BType) refConstants[code[pc + 2]]).getZeroValue();
+                    pc += 3;
+                    break;
+                case Opcodes.IMOVE:
+                    intRegs[code[pc + 1]] = intRegs[code[pc + 2]];
+                    pc += 3;
+                    break;
+                case Opcodes.FMOVE:
+                    floatRegs[code[pc + 1]] = floatRegs[code[pc + 2]];
+                    pc += 3;
+                    break;
+                case Opcodes.RMOVE:
+                    refRegs[code[pc + 1]] = refRegs[code[pc + 2]];
+                    pc += 3;
+                    break;
+                case Opcodes.GLOAD:
+                    BValue constValue = runtimeEnv.getStaticMemory().getValue(code[pc + 3]);
+                    unbox(constValue, code[pc + 2], code[pc + 1], intRegs, floatRegs, refRegs);
+                    pc += 4;
+                    break;
+
+                case Opcodes.IADD:
+                    intRegs[code[pc + 1]] = intRegs[code[pc + 2]] + intRegs[code[pc + 3]];
+                    pc += 4;
+                    break;
+                case Opcodes.ISUB:
+                    intRegs[code[pc + 1]] = intRegs[code[pc + 2]] - intRegs[code[pc + 3]];
+                    pc += 4;
+                    break;
+                case Opcodes.IMUL:
+                    intRegs[code[pc + 1]] = intRegs[code[pc + 2]] * intRegs[code[pc + 3]];
+                    pc += 4;
+                    break;
+                case Opcodes.IDIV:
+                    if (intRegs[code[pc + 3]] == 0) {
+                        throw new BallerinaException(" / by zero");
+                    }
+                    intRegs[code[pc + 1]] = intRegs[code[pc + 2]] / intRegs[code[pc + 3]];
+                    pc += 4;
+                    break;
+                case Opcodes.IMOD:
+                    intRegs[code[pc + 1]] = intRegs[code[pc + 2]] % intRegs[code[pc + 3]];
+                    pc += 4;
+                    break;
+                case Opcodes.INEG:
+                    intRegs[code[pc + 1]] = -intRegs[code[pc + 2]];
+                    pc += 3;
+                    break;
+
+                case Opcodes.FADD:
+                    floatRegs[code[pc + 1]] = floatRegs[code[pc + 2]] + floatRegs[code[pc + 3]];
+                    pc += 4;
+                    break;
+                case Opcodes.FSUB:
+                    floatRegs[code[pc + 1]] = floatRegs[code[pc + 2]] - floatRegs[code[pc + 3]];
+                    pc += 4;
+                    break;
+                case Opcodes.FMUL:
+                    floatRegs[code[pc + 1]] = floatRegs[code[pc + 2]] * floatRegs[code[pc + 3]];
+                    pc += 4;
+                    break;
+                case Opcodes.FDIV:
+                    if (floatRegs[code[pc + 3]] == 0) {
+                        throw new BallerinaException(" / by zero");
+                    }
+                    floatRegs[code[pc + 1]] = floatRegs[code[pc + 2]] / floatRegs[code[pc + 3]];
+                    pc += 4;
+                    break;
+                case Opcodes.FMOD:
+                    floatRegs[code[pc + 1]] = floatRegs[code[pc + 2]] % floatRegs[code[pc + 3]];
+                    pc += 4;
+                    break;
+                case Opcodes.FNEG:
+                    floatRegs[code[pc + 1]] = -floatRegs[code[pc + 2]];
+                    pc += 3;
+                    break;
+
+                case Opcodes.SADD:
+                    refRegs[code[pc + 1]] = new BString(refRegs[code[pc + 2]].stringValue() +
+                            refRegs[code[pc + 3]].stringValue());
+                    pc += 4;
+                    break;
+
+                case Opcodes.IEQ:
+                    intRegs[code[pc + 1]] = intRegs[code[pc + 2]] == intRegs[code[pc + 3]] ? 1 : 0;
+                    pc += 4;
+                    break;
+                case Opcodes.INE:
+                    intRegs[code[pc + 1]] = intRegs[code[pc + 2]] != intRegs[code[pc + 3]] ? 1 : 0;
+                    pc += 4;
+                    break;
+                case Opcodes.ILT:
+                    intRegs[code[pc + 1]] = intRegs[code[pc + 2]] < intRegs[code[pc + 3]] ? 1 : 0;
+                    pc += 4;
+                    break;
+                case Opcodes.ILE:
+                    intRegs[code[pc + 1]] = intRegs[code[pc + 2]] <= intRegs[code[pc + 3]] ? 1 : 0;
+                    pc += 4;
+                    break;
+                case Opcodes.IGT:
+                    intRegs[code[pc + 1]] = intRegs[code[pc + 2]] > intRegs[code[pc + 3]] ? 1 : 0;
+                    pc += 4;
+                    break;
+                case Opcodes.IGE:
+                    intRegs[code[pc + 1]] = intRegs[code[pc + 2]] >= intRegs[code[pc + 3]] ? 1 : 0;
+                    pc += 4;
+                    break;
+                case Opcodes.FEQ:
+                    intRegs[code[pc + 1]] = floatRegs[code[pc + 2]] == floatRegs[code[pc + 3]] ? 1 : 0;
+                    pc += 4;
+                    break;
+                case Opcodes.FNE:
+                    intRegs[code[pc + 1]] = floatRegs[code[pc + 2]] != floatRegs[code[pc + 3]] ? 1 : 0;
+                    pc += 4;
+                    break;
+                case Opcodes.FLT:
+                    intRegs[code[pc + 1]] = floatRegs[code[pc + 2]] < floatRegs[code[pc + 3]] ? 1 : 0;
+                    pc += 4;
+                    break;
+                case Opcodes.FLE:
+                    intRegs[code[pc + 1]] = floatRegs[code[pc + 2]] <= floatRegs[code[pc + 3]] ? 1 : 0;
+                    pc += 4;
+                    break;
+                case Opcodes.FGT:
+                    intRegs[code[pc + 1]] = floatRegs[code[pc + 2]] > floatRegs[code[pc + 3]] ? 1 : 0;
+                    pc += 4;
+                    break;
+                case Opcodes.FGE:
+                    intRegs[code[pc + 1]] = floatRegs[code[pc + 2]] >= floatRegs[code[pc + 3]] ? 1 : 0;
+                    pc += 4;
+                    break;
+                case Opcodes.SEQ:
+                    intRegs[code[pc + 1]] = refRegs[code[pc + 2]].stringValue()
+                            .equals(refRegs[code[pc + 3]].stringValue()) ? 1 : 0;
+                    pc += 4;
+                    break;
+                case Opcodes.SNE:
+                    intRegs[code[pc + 1]] = refRegs[code[pc + 2]].stringValue()
+                            .equals(refRegs[code[pc + 3]].stringValue()) ? 0 : 1;
+                    pc += 4;
+                    break;
+                case Opcodes.REQ:
+                    intRegs[code[pc + 1]] = refRegs[code[pc + 2]] == refRegs[code[pc + 3]] ? 1 : 0;
+                    pc += 4;
+                    break;
+                case Opcodes.RNE:
+                    intRegs[code[pc + 1]] = refRegs[code[pc + 2]] != refRegs[code[pc + 3]] ? 1 : 0;
+                    pc += 4;
+                    break;
+
+                case Opcodes.BAND:
+                    intRegs[code[pc + 1]] = intRegs[code[pc + 2]] & intRegs[code[pc + 3]];
+                    pc += 4;
+                    break;
+                case Opcodes.BOR:
+                    intRegs[code[pc + 1]] = intRegs[code[pc + 2]] | intRegs[code[pc + 3]];
+                    pc += 4;
+                    break;
+                case Opcodes.BNOT:
+                    intRegs[code[pc + 1]] = intRegs[code[pc + 2]] == 0 ? 1 : 0;
+                    pc += 3;
+                    break;
+
+                case Opcodes.CAST:
+                    cast(code[pc + 1], code[pc + 2], code[pc + 3], code[pc + 4], refConstants[code[pc + 5]],
+                            intRegs, floatRegs, refRegs);
+                    pc += 6;
+                    break;
+
+                case Opcodes.GOTO:
+                    pc = code[pc + 1];
+                    break;
+                case Opcodes.IF_FALSE:
+                    pc = intRegs[code[pc + 1]] == 0 ? code[pc + 2] : pc + 3;
+                    break;
+                case Opcodes.CALL:
+                    call((CallSite) refConstants[code[pc + 1]], intRegs, floatRegs, refRegs);
+                    pc += 2;
+                    break;
+                case Opcodes.NCALL:
+                    callNative((CallSite) refConstants[code[pc + 1]], intRegs, floatRegs, refRegs);
+                    pc += 2;
+                    break;
+                case Opcodes.RET:
+                    return pc;
+
+                default:
+                    throw new BallerinaException("invalid opcode: " + opcode);
+            }
+        }
+    }
+
+    private void call(CallSite callSite, long[] intRegs, double[] floatRegs, BValue[] refRegs) {
+        CompiledCallableUnit callee = ((BallerinaFunction) callSite.function).getCompiledUnit();
+        long[] calleeIntRegs = new long[callee.getIntRegCount()];
+        double[] calleeFloatRegs = new double[callee.getFloatRegCount()];
+        BValue[] calleeRefRegs = new BValue[callee.getRefRegCount()];
+
+        int[] paramRegs = callee.getParamRegs();
+        int[] argRegs = callSite.argRegs;
+        int[] argKinds = callSite.argKinds;
+        for (int i = 0; i < argRegs.length; i++) {
+            switch (argKinds[i]) {
+                case KIND_INT:
+                case KIND_BOOLEAN:
+                    calleeIntRegs[paramRegs[i]] = intRegs[argRegs[i]];
+                    break;
+                case KIND_FLOAT:
+                    calleeFloatRegs[paramRegs[i]] = floatRegs[argRegs[i]];
+                    break;
+                default:
+                    calleeRefRegs[paramRegs[i]] = refRegs[argRegs[i]];
+            }
+        }
+
+        // The frame only carries the invocation info, so that runtime errors report a complete stack trace
+        ControlStack controlStack = bContext.getControlStack();
+        controlStack.pushFrame(new StackFrame(EMPTY_VALUES, EMPTY_VALUES, callSite.callableUnitInfo));
+        int retPc = run(callee, calleeIntRegs, calleeFloatRegs, calleeRefRegs);
+        controlStack.popFrame();
+
+        int[] calleeCode = callee.getCode();
+        int[] returnRegs = callSite.returnRegs;
+        int[] returnKinds = callSite.returnKinds;
+        int returnCount = calleeCode[retPc + 1];
+        for (int i = 0; i < returnCount; i++) {
+            int src = calleeCode[retPc + 2 + i];
+            switch (returnKinds[i]) {
+                case KIND_INT:
+                case KIND_BOOLEAN:
+                    intRegs[returnRegs[i]] = calleeIntRegs[src];
+                    break;
+                case KIND_FLOAT:
+                    floatRegs[returnRegs[i]] = calleeFloatRegs[src];
+                    break;
+                default:
+                    refRegs[returnRegs[i]] = calleeRefRegs[src];
+            }
+        }
+    }
+
+    private void callNative(CallSite callSite, long[] intRegs, double[] floatRegs, BValue[] refRegs) {
+        AbstractNativeFunction nativeFunction = (AbstractNativeFunction) callSite.function;
+        int[] argRegs = callSite.argRegs;
+        int[] argKinds = callSite.argKinds;
+
+        if (nativeFunction.getInvoker() != null && callSite.returnRegs.length <= 1) {
+            invokeNative(nativeFunction, callSite, intRegs, floatRegs, refRegs);
+            return;
+        }
+
+        ControlStack controlStack = bContext.getControlStack();
+        BValue[] localVals = controlStack.allocateValues(
+                Math.max(nativeFunction.getStackFrameSize(), argRegs.length));
+        for (int i = 0; i < argRegs.length; i++) {
+            localVals[i] = box(argRegs[i], argKinds[i], intRegs, floatRegs, refRegs);
+        }
+
+        int[] returnRegs = callSite.returnRegs;
+        BValue[] returnVals = new BValue[returnRegs.length];
+
+        controlStack.pushFrame(new StackFrame(localVals, returnVals, callSite.callableUnitInfo));
+        long startTime = Metrics.ENABLED ? System.nanoTime() : 0;
+        BValue[] retVals = nativeFunction.execute(bContext);
+        if (Metrics.ENABLED) {
+            Metrics.nativeFunctionInvoked(nativeFunction.getPackagePath(), nativeFunction.getName(), startTime);
+        }
+        controlStack.popFrame();
+
+        int[] returnKinds = callSite.returnKinds;
+        for (int i = 0; i < returnRegs.length && retVals != null && i < retVals.length; i++) {
+            unbox(retVals[i], returnKinds[i], returnRegs[i], intRegs, floatRegs, refRegs);
+        }
+    }
+
+    /**
+     * Call a native function through its invoker, which takes the argument values and returns the return value
+     * without a stack frame.
+     */
+    private void invokeNative(AbstractNativeFunction nativeFunction, CallSite callSite, long[] intRegs,
+                              double[] floatRegs, BValue[] refRegs) {
+        int[] argRegs = callSite.argRegs;
+        int[] argKinds = callSite.argKinds;
+        ControlStack controlStack = bContext.getControlStack();
+        BValue[] args = controlStack.allocateValues(argRegs.length);
+        for (int i = 0; i < argRegs.length; i++) {
+            args[i] = box(argRegs[i], argKinds[i], intRegs, floatRegs, refRegs);
+        }
+
+        BValue retVal;
+        try {
+            retVal = nativeFunction.invokeNative(bContext, args);
+        } catch (RuntimeException e) {
+            // The stack trace of the error is taken from the control stack, which has the frame of the native
+            // function when it is executed with a stack frame
+            controlStack.pushFrame(new StackFrame(args, EMPTY_VALUES, callSite.callableUnitInfo));
+            throw e;
+        }
+        controlStack.freeValues(args);
+
+        int[] returnRegs = callSite.returnRegs;
+        if (returnRegs.length == 1) {
+            unbox(retVal, callSite.returnKinds[0], returnRegs[0], intRegs, floatRegs, refRegs);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void cast(int dest, int destKind, int src, int srcKind, Object evalFunc,
+                      long[] intRegs, double[] floatRegs, BValue[] refRegs) {
+        BValue value = box(src, srcKind, intRegs, floatRegs, refRegs);
+        if (evalFunc != null) {
+            value = ((Function<BValue, BValue>) evalFunc).apply(value);
+        }
+        unbox(value, destKind, dest, intRegs, floatRegs, refRegs);
+    }
+
+    private static BValue box(int reg, int kind, long[] intRegs, double[] floatRegs, BValue[] refRegs) {
+        switch (kind) {
+            case KIND_INT:
+                return BInteger.valueOf(intRegs[reg]);
+            case KIND_BOOLEAN:
+                return BBoolean.valueOf(intRegs[reg] != 0);
+            case KIND_FLOAT:
+                return new BFloat(floatRegs[reg]);
+            default:
+                return refRegs[reg];
+        }
+    }
+
+    private static void unbox(BValue value, int kind, int reg, long[] intRegs, double[] floatRegs,
+                              BValue[] refRegs) {
+        switch (kind) {
+            case KIND_INT:
+                intRegs[reg] = value == null ? 0 : ((BValueType) value).intValue();
+                break;
+            case KIND_BOOLEAN:
+                intRegs[reg] = value != null && ((BValueType) value).booleanValue() ? 1 : 0;
+                break;
+            case KIND_FLOAT:
+                floatRegs[reg] = value == null ? 0 : ((BValueType) value).floatValue();
+                break;
+            default:
+                refRegs[reg] = value;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.bre.vm;
+
+import org.ballerinalang.bre.CallableUnitInfo;
+import org.ballerinalang.model.Function;
+
+/**
+ * {@code CallSite} describes a function invocation in a {@link CompiledCallableUnit}: the callee, and the caller
+ * registers holding the arguments and receiving the return values.
+ *
+ * @since 0.87
+ */
+class CallSite {
+
+    final Function function;
+    final int[] argRegs;
+    final int[] argKinds;
+    final int[] returnRegs;
+    final int[] returnKinds;
+    final CallableUnitInfo callableUnitInfo;
+
+    CallSite(Function function, int[] argRegs, int[] argKinds, int[] returnRegs, int[] returnKinds,
+             CallableUnitInfo callableUnitInfo) {
+        this.function = function;
+        this.argRegs = argRegs;
+        this.argKinds = argKinds;
+        this.returnRegs = returnRegs;
+        this.returnKinds = returnKinds;
+        this.callableUnitInfo = callableUnitInfo;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.bre.vm;
+
+import org.ballerinalang.model.types.BType;
+import org.ballerinalang.model.types.BTypes;
+
+/**
+ * {@code CompiledCallableUnit} is the linear instruction stream of a callable unit together with its constant
+ * pools and register file sizes.
+ *
+ * @since 0.87
+ */
+public class CompiledCallableUnit {
+
+    // Register kinds
+    public static final int KIND_INT = 0;
+    public static final int KIND_FLOAT = 1;
+    public static final int KIND_BOOLEAN = 2;
+    public static final int KIND_REF = 3;
+
+    private final String name;
+    private final int[] code;
+    private final long[] intConstants;
+    private final double[] floatConstants;
+    private final Object[] refConstants;
+
+    private final int intRegCount;
+    private final int floatRegCount;
+    private final int refRegCount;
+
+    private final int[] paramRegs;
+    private final int[] paramKinds;
+    private final int[] returnKinds;
+
+    CompiledCallableUnit(String name, int[] code, long[] intConstants, double[] floatConstants,
+                         Object[] refConstants, int intRegCount, int floatRegCount, int refRegCount,
+                         int[] paramRegs, int[] paramKinds, int[] returnKinds) {
+        this.name = name;
+        this.code = code;
+        this.intConstants = intConstants;
+        this.floatConstants = floatConstants;
+        this.refConstants = refConstants;
+        this.intRegCount = intRegCount;
+        this.floatRegCount = floatRegCount;
+        this.refRegCount = refRegCount;
+        this.paramRegs = paramRegs;
+        this.paramKinds = paramKinds;
+        this.returnKinds = returnKinds;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int[] getCode() {
+        return code;
+    }
+
+    long[] getIntConstants() {
+        return intConstants;
+    }
+
+    double[] getFloatConstants() {
+        return floatConstants;
+    }
+
+    Object[] getRefConstants() {
+        return refConstants;
+    }
+
+    int getIntRegCount() {
+        return intRegCount;
+    }
+
+    int getFloatRegCount() {
+        return floatRegCount;
+    }
+
+    int getRefRegCount() {
+        return refRegCount;
+    }
+
+    int[] getParamRegs() {
+        return paramRegs;
+    }
+
+    int[] getParamKinds() {
+        return paramKinds;
+    }
+
+    int[] getReturnKinds() {
+        return returnKinds;
+    }
+
+    /**
+     * Returns the register kind used to hold values of the given type.
+     *
+     * @param type Ballerina type
+     * @return register kind
+     */
+    public static int getKind(BType type) {
+        if (type == BTypes.typeInt) {
+            return KIND_INT;
+        } else if (type == BTypes.typeFloat) {
+            return KIND_FLOAT;
+        } else if (type == BTypes.typeBoolean) {
+            return KIND_BOOLEAN;
+        }
+        return KIND_REF;
+    }
+}
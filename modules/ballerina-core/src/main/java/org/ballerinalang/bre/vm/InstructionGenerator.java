@@ -0,0 +1,1176 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.bre.vm;
+
+import org.ballerinalang.bre.CallableUnitInfo;
+import org.ballerinalang.bre.ConnectorVarLocation;
+import org.ballerinalang.bre.ConstantLocation;
+import org.ballerinalang.bre.MemoryLocation;
+import org.ballerinalang.bre.ServiceVarLocation;
+import org.ballerinalang.bre.StackVarLocation;
+import org.ballerinalang.bre.StructVarLocation;
+import org.ballerinalang.bre.WorkerVarLocation;
+import org.ballerinalang.model.AnnotationAttachment;
+import org.ballerinalang.model.AnnotationAttributeDef;
+import org.ballerinalang.model.AnnotationDef;
+import org.ballerinalang.model.BLangPackage;
+import org.ballerinalang.model.BLangProgram;
+import org.ballerinalang.model.BTypeMapper;
+import org.ballerinalang.model.BallerinaAction;
+import org.ballerinalang.model.BallerinaConnectorDef;
+import org.ballerinalang.model.BallerinaFile;
+import org.ballerinalang.model.BallerinaFunction;
+import org.ballerinalang.model.ConstDef;
+import org.ballerinalang.model.Function;
+import org.ballerinalang.model.ImportPackage;
+import org.ballerinalang.model.NodeVisitor;
+import org.ballerinalang.model.ParameterDef;
+import org.ballerinalang.model.Resource;
+import org.ballerinalang.model.Service;
+import org.ballerinalang.model.StructDef;
+import org.ballerinalang.model.VariableDef;
+import org.ballerinalang.model.Worker;
+import org.ballerinalang.model.expressions.ActionInvocationExpr;
+import org.ballerinalang.model.expressions.AddExpression;
+import org.ballerinalang.model.expressions.AndExpression;
+import org.ballerinalang.model.expressions.ArrayInitExpr;
+import org.ballerinalang.model.expressions.ArrayMapAccessExpr;
+import org.ballerinalang.model.expressions.BacktickExpr;
+import org.ballerinalang.model.expressions.BasicLiteral;
+import org.ballerinalang.model.expressions.BinaryEqualityExpression;
+import org.ballerinalang.model.expressions.BinaryExpression;
+import org.ballerinalang.model.expressions.ConnectorInitExpr;
+import org.ballerinalang.model.expressions.DivideExpr;
+import org.ballerinalang.model.expressions.EqualExpression;
+import org.ballerinalang.model.expressions.Expression;
+import org.ballerinalang.model.expressions.FunctionInvocationExpr;
+import org.ballerinalang.model.expressions.GreaterEqualExpression;
+import org.ballerinalang.model.expressions.GreaterThanExpression;
+import org.ballerinalang.model.expressions.InstanceCreationExpr;
+import org.ballerinalang.model.expressions.LessEqualExpression;
+import org.ballerinalang.model.expressions.LessThanExpression;
+import org.ballerinalang.model.expressions.MapInitExpr;
+import org.ballerinalang.model.expressions.MapStructInitKeyValueExpr;
+import org.ballerinalang.model.expressions.ModExpression;
+import org.ballerinalang.model.expressions.MultExpression;
+import org.ballerinalang.model.expressions.NotEqualExpression;
+import org.ballerinalang.model.expressions.NullLiteral;
+import org.ballerinalang.model.expressions.OrExpression;
+import org.ballerinalang.model.expressions.RefTypeInitExpr;
+import org.ballerinalang.model.expressions.ResourceInvocationExpr;
+import org.ballerinalang.model.expressions.StructFieldAccessExpr;
+import org.ballerinalang.model.expressions.StructInitExpr;
+import org.ballerinalang.model.expressions.SubtractExpression;
+import org.ballerinalang.model.expressions.TypeCastExpression;
+import org.ballerinalang.model.expressions.UnaryExpression;
+import org.ballerinalang.model.expressions.VariableRefExpr;
+import org.ballerinalang.model.invokers.MainInvoker;
+import org.ballerinalang.model.statements.ActionInvocationStmt;
+import org.ballerinalang.model.statements.AssignStmt;
+import org.ballerinalang.model.statements.BlockStmt;
+import org.ballerinalang.model.statements.BreakStmt;
+import org.ballerinalang.model.statements.CommentStmt;
+import org.ballerinalang.model.statements.ForkJoinStmt;
+import org.ballerinalang.model.statements.FunctionInvocationStmt;
+import org.ballerinalang.model.statements.IfElseStmt;
+import org.ballerinalang.model.statements.ReplyStmt;
+import org.ballerinalang.model.statements.ReturnStmt;
+import org.ballerinalang.model.statements.Statement;
+import org.ballerinalang.model.statements.ThrowStmt;
+import org.ballerinalang.model.statements.TryCatchStmt;
+import org.ballerinalang.model.statements.VariableDefStmt;
+import org.ballerinalang.model.statements.WhileStmt;
+import org.ballerinalang.model.statements.WorkerInvocationStmt;
+import org.ballerinalang.model.statements.WorkerReplyStmt;
+import org.ballerinalang.model.types.BType;
+import org.ballerinalang.model.types.BTypes;
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BFloat;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValueType;
+import org.ballerinalang.natives.AbstractNativeFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+import static org.ballerinalang.bre.vm.CompiledCallableUnit.KIND_BOOLEAN;
+import static org.ballerinalang.bre.vm.CompiledCallableUnit.KIND_FLOAT;
+import static org.ballerinalang.bre.vm.CompiledCallableUnit.KIND_INT;
+import static org.ballerinalang.bre.vm.CompiledCallableUnit.KIND_REF;
+
+/**
+ * {@code InstructionGenerator} lowers analyzed Ballerina functions into the linear instruction stream executed by
+ * the {@link BLangVM}.
+ * <p>
+ * Each stack frame slot assigned by the semantic analyzer maps to the register with the same index in the int,
+ * float or ref register file, depending on the type of the variable. Expression temporaries are allocated above
+ * the stack frame slots and are released at the end of every statement.
+ * <p>
+ * Only a subset of the language is lowered: value type arithmetic, comparisons, local variables, constants,
+ * if/else, while, break, return and function invocations. A function which uses anything else, or which calls a
+ * Ballerina function that could not be lowered, keeps running on the tree walking executors.
+ * <p>
+ * Only {@link BallerinaFunction}s are lowered. Resources, actions and workers always run on the tree walking
+ * executors, and so does any function which invokes an action. As the {@link BLangVM} never waits for an action,
+ * a non-blocking execution is suspended only by the tree walking executor, at the invocation of an action.
+ *
+ * @since 0.87
+ */
+public class InstructionGenerator implements NodeVisitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(InstructionGenerator.class);
+
+    private final BallerinaFunction function;
+    private final int slotCount;
+
+    private int[] code = new int[64];
+    private int codeSize = 0;
+
+    private final List<Long> intConstants = new ArrayList<>();
+    private final List<Double> floatConstants = new ArrayList<>();
+    private final List<Object> refConstants = new ArrayList<>();
+
+    // Next free temporary register and the high water mark of each register file
+    private final int[] nextTemp = new int[4];
+    private final int[] maxRegs = new int[4];
+
+    // Result of the last lowered expression
+    private int resultReg;
+    private int resultKind;
+    private int[] resultRegs;
+    private int[] resultKinds;
+
+    // Destination operand of the last emitted instruction, if it wrote a fresh temporary register
+    private int lastInstructionPos = -1;
+    private int lastDestOperandPos = -1;
+
+    private final Deque<List<Integer>> breakJumps = new ArrayDeque<>();
+    private final Set<BallerinaFunction> callees = new HashSet<>();
+
+    InstructionGenerator(BallerinaFunction function) {
+        this.function = function;
+        this.slotCount = function.getStackFrameSize();
+        Arrays.fill(nextTemp, slotCount);
+        Arrays.fill(maxRegs, slotCount);
+    }
+
+    /**
+     * Lower all the Ballerina functions of the given program and attach the generated code to them.
+     * <p>
+     * A function is only attached its code when every Ballerina function it invokes was lowered as well.
+     *
+     * @param bLangProgram parsed, analyzed and linked program
+     */
+    public static void generate(BLangProgram bLangProgram) {
+        Map<BallerinaFunction, InstructionGenerator> generators = new HashMap<>();
+        Map<BallerinaFunction, CompiledCallableUnit> compiledUnits = new HashMap<>();
+
+        for (BLangPackage bLangPackage : bLangProgram.getPackages()) {
+            for (Function function : bLangPackage.getFunctions()) {
+                if (!(function instanceof BallerinaFunction)) {
+                    continue;
+                }
+
+                BallerinaFunction bFunction = (BallerinaFunction) function;
+                InstructionGenerator generator = new InstructionGenerator(bFunction);
+                CompiledCallableUnit compiledUnit = generator.generate();
+                if (compiledUnit != null) {
+                    generators.put(bFunction, generator);
+                    compiledUnits.put(bFunction, compiledUnit);
+                }
+            }
+        }
+
+        // Drop functions which call functions that could not be lowered, until nothing changes
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (Map.Entry<BallerinaFunction, InstructionGenerator> entry : generators.entrySet()) {
+                if (!compiledUnits.containsKey(entry.getKey())) {
+                    continue;
+                }
+
+                for (BallerinaFunction callee : entry.getValue().callees) {
+                    if (!compiledUnits.containsKey(callee)) {
+                        compiledUnits.remove(entry.getKey());
+                        changed = true;
+                        break;
+                    }
+                }
+            }
+        }
+
+        compiledUnits.forEach(BallerinaFunction::setCompiledUnit);
+        if (logger.isDebugEnabled()) {
+            logger.debug("compiled {} of {} functions to instructions", compiledUnits.size(), generators.size());
+        }
+    }
+
+    /**
+     * Lower the function handled by this generator.
+     *
+     * @return the compiled unit, or null if the function contains constructs which are not supported
+     */
+    CompiledCallableUnit generate() {
+        if (function.getWorkers() != null && function.getWorkers().length > 0) {
+            return null;
+        }
+
+        try {
+            ParameterDef[] parameterDefs = function.getParameterDefs();
+            int[] paramRegs = new int[parameterDefs.length];
+            int[] paramKinds = new int[parameterDefs.length];
+            for (int i = 0; i < parameterDefs.length; i++) {
+                paramRegs[i] = i;
+                paramKinds[i] = CompiledCallableUnit.getKind(parameterDefs[i].getType());
+            }
+
+            // Initialize named return parameters, which are placed right after the parameters in the stack frame
+            ParameterDef[] returnParams = function.getReturnParameters();
+            for (int i = 0; i < returnParams.length; i++) {
+                if (returnParams[i].getName() == null) {
+                    break;
+                }
+                emitZeroValue(parameterDefs.length + i, returnParams[i].getType());
+            }
+
+            function.getCallableUnitBody().accept(this);
+            emit(Opcodes.RET, 0);
+
+            BType[] returnTypes = function.getReturnParamTypes();
+            int[] returnKinds = new int[returnTypes.length];
+            for (int i = 0; i < returnTypes.length; i++) {
+                returnKinds[i] = CompiledCallableUnit.getKind(returnTypes[i]);
+            }
+
+            return new CompiledCallableUnit(function.getName(), Arrays.copyOf(code, codeSize),
+                    intConstants.stream().mapToLong(Long::longValue).toArray(),
+                    floatConstants.stream().mapToDouble(Double::doubleValue).toArray(),
+                    refConstants.toArray(), maxRegs[KIND_INT], maxRegs[KIND_FLOAT], maxRegs[KIND_REF],
+                    paramRegs, paramKinds, returnKinds);
+        } catch (UnsupportedNodeException e) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("function '{}' is not compiled: {}", function.getName(), e.getMessage());
+            }
+            return null;
+        }
+    }
+
+
+    // Statements
+
+    @Override
+    public void visit(BlockStmt blockStmt) {
+        for (Statement stmt : blockStmt.getStatements()) {
+            stmt.accept(this);
+        }
+    }
+
+    @Override
+    public void visit(VariableDefStmt varDefStmt) {
+        startStatement();
+        if (!(varDefStmt.getLExpr() instanceof VariableRefExpr)) {
+            throw new UnsupportedNodeException(varDefStmt);
+        }
+
+        VariableRefExpr lExpr = (VariableRefExpr) varDefStmt.getLExpr();
+        int slot = getStackSlot(lExpr);
+        Expression rExpr = varDefStmt.getRExpr();
+        if (rExpr == null) {
+            emitZeroValue(slot, lExpr.getType());
+        } else {
+            lowerExpr(rExpr);
+            store(slot, storageKind(lExpr.getType()), resultReg, resultKind);
+        }
+    }
+
+    @Override
+    public void visit(AssignStmt assignStmt) {
+        startStatement();
+        Expression[] lExprs = assignStmt.getLExprs();
+        for (Expression lExpr : lExprs) {
+            if (!(lExpr instanceof VariableRefExpr)) {
+                throw new UnsupportedNodeException(assignStmt);
+            }
+        }
+
+        lowerExpr(assignStmt.getRExpr());
+        if (lExprs.length == 1) {
+            store(getStackSlot((VariableRefExpr) lExprs[0]), storageKind(lExprs[0].getType()), resultReg, resultKind);
+            return;
+        }
+
+        int[] regs = resultRegs;
+        int[] kinds = resultKinds;
+        for (int i = 0; i < lExprs.length; i++) {
+            store(getStackSlot((VariableRefExpr) lExprs[i]), storageKind(lExprs[i].getType()), regs[i], kinds[i]);
+        }
+    }
+
+    @Override
+    public void visit(IfElseStmt ifElseStmt) {
+        List<Integer> endJumps = new ArrayList<>();
+
+        startStatement();
+        int nextBranch = emitConditionalJump(ifElseStmt.getCondition());
+        ifElseStmt.getThenBody().accept(this);
+        endJumps.add(emitJump());
+
+        for (IfElseStmt.ElseIfBlock elseIfBlock : ifElseStmt.getElseIfBlocks()) {
+            patchJump(nextBranch);
+            startStatement();
+            nextBranch = emitConditionalJump(elseIfBlock.getElseIfCondition());
+            elseIfBlock.getElseIfBody().accept(this);
+            endJumps.add(emitJump());
+        }
+
+        patchJump(nextBranch);
+        if (ifElseStmt.getElseBody() != null) {
+            ifElseStmt.getElseBody().accept(this);
+        }
+
+        endJumps.forEach(this::patchJump);
+    }
+
+    @Override
+    public void visit(WhileStmt whileStmt) {
+        int loopStart = codeSize;
+        startStatement();
+        int exitJump = emitConditionalJump(whileStmt.getCondition());
+
+        breakJumps.push(new ArrayList<>());
+        whileStmt.getBody().accept(this);
+        emit(Opcodes.GOTO, loopStart);
+
+        patchJump(exitJump);
+        breakJumps.pop().forEach(this::patchJump);
+    }
+
+    @Override
+    public void visit(BreakStmt breakStmt) {
+        if (breakJumps.isEmpty()) {
+            throw new UnsupportedNodeException(breakStmt);
+        }
+        breakJumps.peek().add(emitJump());
+    }
+
+    @Override
+    public void visit(ReturnStmt returnStmt) {
+        startStatement();
+        Expression[] exprs = returnStmt.getExprs();
+        BType[] returnTypes = function.getReturnParamTypes();
+
+        int[] regs;
+        int[] kinds;
+        if (exprs.length == 1 && exprs[0] instanceof FunctionInvocationExpr &&
+                ((FunctionInvocationExpr) exprs[0]).getTypes().length > 1) {
+            lowerExpr(exprs[0]);
+            regs = resultRegs;
+            kinds = resultKinds;
+        } else {
+            regs = new int[exprs.length];
+            kinds = new int[exprs.length];
+            for (int i = 0; i < exprs.length; i++) {
+                lowerExpr(exprs[i]);
+                regs[i] = resultReg;
+                kinds[i] = resultKind;
+            }
+        }
+
+        if (regs.length != returnTypes.length) {
+            throw new UnsupportedNodeException(returnStmt);
+        }
+
+        int[] instruction = new int[regs.length + 2];
+        instruction[0] = Opcodes.RET;
+        instruction[1] = regs.length;
+        for (int i = 0; i < regs.length; i++) {
+            instruction[i + 2] = convert(regs[i], kinds[i], CompiledCallableUnit.getKind(returnTypes[i]));
+        }
+        emit(instruction);
+    }
+
+    @Override
+    public void visit(FunctionInvocationStmt functionInvocationStmt) {
+        startStatement();
+        functionInvocationStmt.getFunctionInvocationExpr().accept(this);
+    }
+
+    @Override
+    public void visit(CommentStmt commentStmt) {
+        // Nothing to generate
+    }
+
+
+    // Expressions
+
+    @Override
+    public void visit(BasicLiteral basicLiteral) {
+        BValueType value = basicLiteral.getBValue();
+        if (value instanceof BInteger) {
+            resultReg = emitIntConstant(value.intValue());
+            resultKind = KIND_INT;
+        } else if (value instanceof BBoolean) {
+            resultReg = emitIntConstant(value.booleanValue() ? 1 : 0);
+            resultKind = KIND_BOOLEAN;
+        } else if (value instanceof BFloat) {
+            resultReg = newTemp(KIND_FLOAT);
+            emit(Opcodes.FCONST, resultReg, addFloatConstant(value.floatValue()));
+            resultKind = KIND_FLOAT;
+        } else if (value instanceof BString) {
+            resultReg = newTemp(KIND_REF);
+            emit(Opcodes.RCONST, resultReg, addRefConstant(value));
+            resultKind = KIND_REF;
+        } else {
+            throw new UnsupportedNodeException(basicLiteral);
+        }
+    }
+
+    @Override
+    public void visit(NullLiteral nullLiteral) {
+        resultReg = newTemp(KIND_REF);
+        resultKind = KIND_REF;
+        emit(Opcodes.RNULL, resultReg);
+    }
+
+    @Override
+    public void visit(VariableRefExpr variableRefExpr) {
+        MemoryLocation memoryLocation = variableRefExpr.getMemoryLocation();
+        resultKind = CompiledCallableUnit.getKind(variableRefExpr.getType());
+        if (memoryLocation instanceof StackVarLocation) {
+            resultReg = getStackSlot(variableRefExpr);
+        } else if (memoryLocation instanceof ConstantLocation) {
+            resultReg = newTemp(resultKind);
+            emit(Opcodes.GLOAD, resultReg, resultKind, ((ConstantLocation) memoryLocation).getStaticMemAddrOffset());
+        } else {
+            throw new UnsupportedNodeException(variableRefExpr);
+        }
+    }
+
+    @Override
+    public void visit(UnaryExpression unaryExpr) {
+        BiFunction<BValueType, BValueType, BValueType> evalFunc = unaryExpr.getEvalFunc();
+        lowerExpr(unaryExpr.getRExpr());
+        int operand = resultReg;
+        int operandKind = resultKind;
+
+        if (evalFunc == UnaryExpression.POSITIVE_INT_FUNC || evalFunc == UnaryExpression.POSITIVE_FLOAT_FUNC) {
+            // Unary plus leaves the operand as it is
+            resultReg = operand;
+            resultKind = operandKind;
+        } else if (evalFunc == UnaryExpression.NEGATIVE_INT_FUNC) {
+            emitUnary(Opcodes.INEG, operand, operandKind, KIND_INT, KIND_INT);
+        } else if (evalFunc == UnaryExpression.NEGATIVE_FLOAT_FUNC) {
+            emitUnary(Opcodes.FNEG, operand, operandKind, KIND_FLOAT, KIND_FLOAT);
+        } else if (evalFunc == UnaryExpression.NOT_BOOLEAN_FUNC) {
+            emitUnary(Opcodes.BNOT, operand, operandKind, KIND_BOOLEAN, KIND_BOOLEAN);
+        } else {
+            throw new UnsupportedNodeException(unaryExpr);
+        }
+    }
+
+    @Override
+    public void visit(AddExpression addExpr) {
+        lowerBinary(addExpr);
+    }
+
+    @Override
+    public void visit(SubtractExpression subtractExpression) {
+        lowerBinary(subtractExpression);
+    }
+
+    @Override
+    public void visit(MultExpression multExpression) {
+        lowerBinary(multExpression);
+    }
+
+    @Override
+    public void visit(DivideExpr divideExpr) {
+        lowerBinary(divideExpr);
+    }
+
+    @Override
+    public void visit(ModExpression modExpression) {
+        lowerBinary(modExpression);
+    }
+
+    @Override
+    public void visit(AndExpression andExpression) {
+        lowerBinary(andExpression);
+    }
+
+    @Override
+    public void visit(OrExpression orExpression) {
+        lowerBinary(orExpression);
+    }
+
+    @Override
+    public void visit(EqualExpression equalExpression) {
+        lowerBinary(equalExpression);
+    }
+
+    @Override
+    public void visit(NotEqualExpression notEqualExpression) {
+        lowerBinary(notEqualExpression);
+    }
+
+    @Override
+    public void visit(GreaterEqualExpression greaterEqualExpression) {
+        lowerBinary(greaterEqualExpression);
+    }
+
+    @Override
+    public void visit(GreaterThanExpression greaterThanExpression) {
+        lowerBinary(greaterThanExpression);
+    }
+
+    @Override
+    public void visit(LessEqualExpression lessEqualExpression) {
+        lowerBinary(lessEqualExpression);
+    }
+
+    @Override
+    public void visit(LessThanExpression lessThanExpression) {
+        lowerBinary(lessThanExpression);
+    }
+
+    @Override
+    public void visit(TypeCastExpression typeCastExpression) {
+        if (typeCastExpression.getEvalFunc() == null) {
+            // Casts through type mappers are executed by the tree walking executors
+            throw new UnsupportedNodeException(typeCastExpression);
+        }
+
+        lowerExpr(typeCastExpression.getRExpr());
+        int targetKind = CompiledCallableUnit.getKind(typeCastExpression.getType());
+        int dest = newTemp(targetKind);
+        emit(Opcodes.CAST, dest, targetKind, resultReg, resultKind,
+                addRefConstant(typeCastExpression.getEvalFunc()));
+        markTempDestination(1);
+        resultReg = dest;
+        resultKind = targetKind;
+    }
+
+    @Override
+    public void visit(FunctionInvocationExpr funcIExpr) {
+        Function callee = funcIExpr.getCallableUnit();
+        int opcode;
+        BType[] paramTypes;
+        if (callee instanceof BallerinaFunction) {
+            opcode = Opcodes.CALL;
+            callees.add((BallerinaFunction) callee);
+            ParameterDef[] parameterDefs = callee.getParameterDefs();
+            paramTypes = new BType[parameterDefs.length];
+            for (int i = 0; i < parameterDefs.length; i++) {
+                paramTypes[i] = parameterDefs[i].getType();
+            }
+        } else if (callee instanceof AbstractNativeFunction) {
+            opcode = Opcodes.NCALL;
+            paramTypes = null;
+        } else {
+            throw new UnsupportedNodeException(funcIExpr);
+        }
+
+        Expression[] argExprs = funcIExpr.getArgExprs();
+        int[] argRegs = new int[argExprs.length];
+        int[] argKinds = new int[argExprs.length];
+        for (int i = 0; i < argExprs.length; i++) {
+            lowerExpr(argExprs[i]);
+            argKinds[i] = paramTypes == null ? resultKind : CompiledCallableUnit.getKind(paramTypes[i]);
+            argRegs[i] = convert(resultReg, resultKind, argKinds[i]);
+        }
+
+        BType[] returnTypes = callee.getReturnParamTypes();
+        int[] returnRegs = new int[returnTypes.length];
+        int[] returnKinds = new int[returnTypes.length];
+        for (int i = 0; i < returnTypes.length; i++) {
+            returnKinds[i] = CompiledCallableUnit.getKind(returnTypes[i]);
+            returnRegs[i] = newTemp(returnKinds[i]);
+        }
+
+        CallableUnitInfo callableUnitInfo = new CallableUnitInfo(callee.getName(), callee.getPackagePath(),
+                funcIExpr.getNodeLocation());
+        emit(opcode, addRefConstant(new CallSite(callee, argRegs, argKinds, returnRegs, returnKinds,
+                callableUnitInfo)));
+
+        resultRegs = returnRegs;
+        resultKinds = returnKinds;
+        if (returnRegs.length > 0) {
+            resultReg = returnRegs[0];
+            resultKind = returnKinds[0];
+        }
+    }
+
+
+    // Constructs executed by the tree walking executors
+
+    @Override
+    public void visit(BLangProgram bLangProgram) {
+        throw new UnsupportedNodeException(bLangProgram);
+    }
+
+    @Override
+    public void visit(BLangPackage bLangPackage) {
+        throw new UnsupportedNodeException(bLangPackage);
+    }
+
+    @Override
+    public void visit(BallerinaFile bFile) {
+        throw new UnsupportedNodeException(bFile);
+    }
+
+    @Override
+    public void visit(ImportPackage importPkg) {
+        throw new UnsupportedNodeException(importPkg);
+    }
+
+    @Override
+    public void visit(ConstDef constant) {
+        throw new UnsupportedNodeException(constant);
+    }
+
+    @Override
+    public void visit(Service service) {
+        throw new UnsupportedNodeException(service);
+    }
+
+    @Override
+    public void visit(BallerinaConnectorDef connector) {
+        throw new UnsupportedNodeException(connector);
+    }
+
+    @Override
+    public void visit(Resource resource) {
+        throw new UnsupportedNodeException(resource);
+    }
+
+    @Override
+    public void visit(BallerinaFunction function) {
+        throw new UnsupportedNodeException(function);
+    }
+
+    @Override
+    public void visit(BTypeMapper typeMapper) {
+        throw new UnsupportedNodeException(typeMapper);
+    }
+
+    @Override
+    public void visit(BallerinaAction action) {
+        throw new UnsupportedNodeException(action);
+    }
+
+    @Override
+    public void visit(Worker worker) {
+        throw new UnsupportedNodeException(worker);
+    }
+
+    @Override
+    public void visit(AnnotationAttachment annotation) {
+        throw new UnsupportedNodeException(annotation);
+    }
+
+    @Override
+    public void visit(ParameterDef parameterDef) {
+        throw new UnsupportedNodeException(parameterDef);
+    }
+
+    @Override
+    public void visit(VariableDef variableDef) {
+        throw new UnsupportedNodeException(variableDef);
+    }
+
+    @Override
+    public void visit(StructDef structDef) {
+        throw new UnsupportedNodeException(structDef);
+    }
+
+    @Override
+    public void visit(AnnotationAttributeDef annotationAttributeDef) {
+        throw new UnsupportedNodeException(annotationAttributeDef);
+    }
+
+    @Override
+    public void visit(AnnotationDef annotationDef) {
+        throw new UnsupportedNodeException(annotationDef);
+    }
+
+    @Override
+    public void visit(ReplyStmt replyStmt) {
+        throw new UnsupportedNodeException(replyStmt);
+    }
+
+    @Override
+    public void visit(TryCatchStmt tryCatchStmt) {
+        throw new UnsupportedNodeException(tryCatchStmt);
+    }
+
+    @Override
+    public void visit(ThrowStmt throwStmt) {
+        throw new UnsupportedNodeException(throwStmt);
+    }
+
+    @Override
+    public void visit(ActionInvocationStmt actionInvocationStmt) {
+        throw new UnsupportedNodeException(actionInvocationStmt);
+    }
+
+    @Override
+    public void visit(WorkerInvocationStmt workerInvocationStmt) {
+        throw new UnsupportedNodeException(workerInvocationStmt);
+    }
+
+    @Override
+    public void visit(WorkerReplyStmt workerReplyStmt) {
+        throw new UnsupportedNodeException(workerReplyStmt);
+    }
+
+    @Override
+    public void visit(ForkJoinStmt forkJoinStmt) {
+        throw new UnsupportedNodeException(forkJoinStmt);
+    }
+
+    @Override
+    public void visit(ActionInvocationExpr actionInvocationExpr) {
+        throw new UnsupportedNodeException(actionInvocationExpr);
+    }
+
+    @Override
+    public void visit(InstanceCreationExpr instanceCreationExpr) {
+        throw new UnsupportedNodeException(instanceCreationExpr);
+    }
+
+    @Override
+    public void visit(ArrayMapAccessExpr arrayMapAccessExpr) {
+        throw new UnsupportedNodeException(arrayMapAccessExpr);
+    }
+
+    @Override
+    public void visit(StructFieldAccessExpr structAttributeAccessExpr) {
+        throw new UnsupportedNodeException(structAttributeAccessExpr);
+    }
+
+    @Override
+    public void visit(BacktickExpr backtickExpr) {
+        throw new UnsupportedNodeException(backtickExpr);
+    }
+
+    @Override
+    public void visit(ArrayInitExpr arrayInitExpr) {
+        throw new UnsupportedNodeException(arrayInitExpr);
+    }
+
+    @Override
+    public void visit(RefTypeInitExpr refTypeInitExpr) {
+        throw new UnsupportedNodeException(refTypeInitExpr);
+    }
+
+    @Override
+    public void visit(ConnectorInitExpr connectorInitExpr) {
+        throw new UnsupportedNodeException(connectorInitExpr);
+    }
+
+    @Override
+    public void visit(StructInitExpr structInitExpr) {
+        throw new UnsupportedNodeException(structInitExpr);
+    }
+
+    @Override
+    public void visit(MapInitExpr mapInitExpr) {
+        throw new UnsupportedNodeException(mapInitExpr);
+    }
+
+    @Override
+    public void visit(MapStructInitKeyValueExpr keyValueExpr) {
+        throw new UnsupportedNodeException(keyValueExpr);
+    }
+
+    @Override
+    public void visit(StackVarLocation stackVarLocation) {
+        throw new UnsupportedNodeException(stackVarLocation);
+    }
+
+    @Override
+    public void visit(ServiceVarLocation serviceVarLocation) {
+        throw new UnsupportedNodeException(serviceVarLocation);
+    }
+
+    @Override
+    public void visit(ConnectorVarLocation connectorVarLocation) {
+        throw new UnsupportedNodeException(connectorVarLocation);
+    }
+
+    @Override
+    public void visit(ConstantLocation constantLocation) {
+        throw new UnsupportedNodeException(constantLocation);
+    }
+
+    @Override
+    public void visit(StructVarLocation structVarLocation) {
+        throw new UnsupportedNodeException(structVarLocation);
+    }
+
+    @Override
+    public void visit(ResourceInvocationExpr resourceIExpr) {
+        throw new UnsupportedNodeException(resourceIExpr);
+    }
+
+    @Override
+    public void visit(MainInvoker mainInvoker) {
+        throw new UnsupportedNodeException(mainInvoker);
+    }
+
+    @Override
+    public void visit(WorkerVarLocation workerVarLocation) {
+        throw new UnsupportedNodeException(workerVarLocation);
+    }
+
+
+    // Private methods
+
+    private void lowerExpr(Expression expr) {
+        resultRegs = null;
+        resultKinds = null;
+        expr.accept(this);
+        if (expr instanceof FunctionInvocationExpr && resultRegs.length == 0) {
+            // A function without return values used as an expression
+            throw new UnsupportedNodeException(expr);
+        }
+    }
+
+    private void lowerBinary(BinaryExpression binaryExpr) {
+        BiFunction<BValueType, BValueType, BValueType> evalFunc = binaryExpr.getEvalFunc();
+        if (binaryExpr instanceof BinaryEqualityExpression &&
+                (binaryExpr.getLExpr().getType() == BTypes.typeNull ||
+                        binaryExpr.getRExpr().getType() == BTypes.typeNull)) {
+            int opcode = binaryExpr instanceof EqualExpression ? Opcodes.REQ : Opcodes.RNE;
+            emitBinary(opcode, binaryExpr, KIND_REF, KIND_BOOLEAN);
+            return;
+        }
+
+        int opcode;
+        int operandKind;
+        int destKind;
+        if (evalFunc == AddExpression.ADD_INT_FUNC) {
+            opcode = Opcodes.IADD;
+            operandKind = destKind = KIND_INT;
+        } else if (evalFunc == SubtractExpression.SUB_INT_FUNC) {
+            opcode = Opcodes.ISUB;
+            operandKind = destKind = KIND_INT;
+        } else if (evalFunc == MultExpression.MULT_INT_FUNC) {
+            opcode = Opcodes.IMUL;
+            operandKind = destKind = KIND_INT;
+        } else if (evalFunc == DivideExpr.DIV_INT_FUNC) {
+            opcode = Opcodes.IDIV;
+            operandKind = destKind = KIND_INT;
+        } else if (evalFunc == ModExpression.MOD_INT_FUNC) {
+            opcode = Opcodes.IMOD;
+            operandKind = destKind = KIND_INT;
+        } else if (evalFunc == AddExpression.ADD_FLOAT_FUNC) {
+            opcode = Opcodes.FADD;
+            operandKind = destKind = KIND_FLOAT;
+        } else if (evalFunc == SubtractExpression.SUB_FLOAT_FUNC) {
+            opcode = Opcodes.FSUB;
+            operandKind = destKind = KIND_FLOAT;
+        } else if (evalFunc == MultExpression.MULT_FLOAT_FUNC) {
+            opcode = Opcodes.FMUL;
+            operandKind = destKind = KIND_FLOAT;
+        } else if (evalFunc == DivideExpr.DIV_FLOAT_FUNC) {
+            opcode = Opcodes.FDIV;
+            operandKind = destKind = KIND_FLOAT;
+        } else if (evalFunc == ModExpression.MOD_FLOAT_FUNC) {
+            opcode = Opcodes.FMOD;
+            operandKind = destKind = KIND_FLOAT;
+        } else if (evalFunc == AddExpression.ADD_STRING_FUNC) {
+            opcode = Opcodes.SADD;
+            operandKind = destKind = KIND_REF;
+        } else if (evalFunc == AndExpression.AND_FUNC) {
+            opcode = Opcodes.BAND;
+            operandKind = destKind = KIND_BOOLEAN;
+        } else if (evalFunc == OrExpression.OR_FUNC) {
+            opcode = Opcodes.BOR;
+            operandKind = destKind = KIND_BOOLEAN;
+        } else {
+            destKind = KIND_BOOLEAN;
+            if (evalFunc == EqualExpression.EQUAL_INT_FUNC) {
+                opcode = Opcodes.IEQ;
+                operandKind = KIND_INT;
+            } else if (evalFunc == NotEqualExpression.NOT_EQUAL_INT_FUNC) {
+                opcode = Opcodes.INE;
+                operandKind = KIND_INT;
+            } else if (evalFunc == LessThanExpression.LESS_THAN_INT_FUNC) {
+                opcode = Opcodes.ILT;
+                operandKind = KIND_INT;
+            } else if (evalFunc == LessEqualExpression.LESS_EQUAL_INT_FUNC) {
+                opcode = Opcodes.ILE;
+                operandKind = KIND_INT;
+            } else if (evalFunc == GreaterThanExpression.GREATER_THAN_INT_FUNC) {
+                opcode = Opcodes.IGT;
+                operandKind = KIND_INT;
+            } else if (evalFunc == GreaterEqualExpression.GREATER_EQUAL_INT_FUNC) {
+                opcode = Opcodes.IGE;
+                operandKind = KIND_INT;
+            } else if (evalFunc == EqualExpression.EQUAL_FLOAT_FUNC) {
+                opcode = Opcodes.FEQ;
+                operandKind = KIND_FLOAT;
+            } else if (evalFunc == NotEqualExpression.NOT_EQUAL_FLOAT_FUNC) {
+                opcode = Opcodes.FNE;
+                operandKind = KIND_FLOAT;
+            } else if (evalFunc == LessThanExpression.LESS_THAN_FLOAT_FUNC) {
+                opcode = Opcodes.FLT;
+                operandKind = KIND_FLOAT;
+            } else if (evalFunc == LessEqualExpression.LESS_EQUAL_FLOAT_FUNC) {
+                opcode = Opcodes.FLE;
+                operandKind = KIND_FLOAT;
+            } else if (evalFunc == GreaterThanExpression.GREATER_THAN_FLOAT_FUNC) {
+                opcode = Opcodes.FGT;
+                operandKind = KIND_FLOAT;
+            } else if (evalFunc == GreaterEqualExpression.GREATER_EQUAL_FLOAT_FUNC) {
+                opcode = Opcodes.FGE;
+                operandKind = KIND_FLOAT;
+            } else if (evalFunc == EqualExpression.EQUAL_BOOLEAN_FUNC) {
+                opcode = Opcodes.IEQ;
+                operandKind = KIND_BOOLEAN;
+            } else if (evalFunc == NotEqualExpression.NOT_EQUAL_BOOLEAN_FUNC) {
+                opcode = Opcodes.INE;
+                operandKind = KIND_BOOLEAN;
+            } else if (evalFunc == EqualExpression.EQUAL_STRING_FUNC) {
+                opcode = Opcodes.SEQ;
+                operandKind = KIND_REF;
+            } else if (evalFunc == NotEqualExpression.NOT_EQUAL_STRING_FUNC) {
+                opcode = Opcodes.SNE;
+                operandKind = KIND_REF;
+            } else {
+                throw new UnsupportedNodeException(binaryExpr);
+            }
+        }
+
+        emitBinary(opcode, binaryExpr, operandKind, destKind);
+    }
+
+    private void emitBinary(int opcode, BinaryExpression binaryExpr, int operandKind, int destKind) {
+        // Right operand first, same evaluation order as the tree walking executors
+        lowerExpr(binaryExpr.getRExpr());
+        int rReg = resultReg;
+        requireKind(binaryExpr, resultKind, operandKind);
+
+        lowerExpr(binaryExpr.getLExpr());
+        int lReg = resultReg;
+        requireKind(binaryExpr, resultKind, operandKind);
+
+        int dest = newTemp(destKind);
+        emit(opcode, dest, lReg, rReg);
+        markTempDestination(1);
+        resultReg = dest;
+        resultKind = destKind;
+    }
+
+    private void emitUnary(int opcode, int operand, int operandKind, int expectedKind, int destKind) {
+        if (operandKind != expectedKind) {
+            throw new UnsupportedNodeException("unexpected operand kind " + operandKind);
+        }
+
+        int dest = newTemp(destKind);
+        emit(opcode, dest, operand);
+        markTempDestination(1);
+        resultReg = dest;
+        resultKind = destKind;
+    }
+
+    private void requireKind(Object node, int actualKind, int expectedKind) {
+        if (actualKind != expectedKind) {
+            throw new UnsupportedNodeException(node);
+        }
+    }
+
+    /**
+     * Emit a jump which is taken when the given condition is false.
+     *
+     * @param condition boolean condition expression
+     * @return position of the jump target operand, to be patched
+     */
+    private int emitConditionalJump(Expression condition) {
+        lowerExpr(condition);
+        requireKind(condition, resultKind, KIND_BOOLEAN);
+        emit(Opcodes.IF_FALSE, resultReg, -1);
+        return codeSize - 1;
+    }
+
+    private int emitJump() {
+        emit(Opcodes.GOTO, -1);
+        return codeSize - 1;
+    }
+
+    private void patchJump(int operandPos) {
+        code[operandPos] = codeSize;
+        // A jump target may not be merged with the previous instruction
+        lastInstructionPos = -1;
+    }
+
+    private void store(int slot, int slotKind, int reg, int kind) {
+        if (slotKind == kind && reg >= slotCount && lastDestOperandPos >= 0 && code[lastDestOperandPos] == reg) {
+            // The value was just computed into a temporary register; compute it into the slot instead
+            code[lastDestOperandPos] = slot;
+            lastDestOperandPos = -1;
+            return;
+        }
+
+        if (slotKind == kind) {
+            if (reg != slot) {
+                emitMove(slot, reg, kind);
+            }
+        } else if (slotKind == KIND_REF) {
+            emit(Opcodes.CAST, slot, KIND_REF, reg, kind, addRefConstant(null));
+        } else {
+            throw new UnsupportedNodeException("cannot store kind " + kind + " in slot of kind " + slotKind);
+        }
+    }
+
+    /**
+     * Make sure a value is held in a register of the given kind, boxing it into a ref register when needed.
+     */
+    private int convert(int reg, int kind, int targetKind) {
+        if (kind == targetKind) {
+            return reg;
+        } else if (targetKind == KIND_REF) {
+            int dest = newTemp(KIND_REF);
+            emit(Opcodes.CAST, dest, KIND_REF, reg, kind, addRefConstant(null));
+            return dest;
+        }
+        throw new UnsupportedNodeException("cannot convert kind " + kind + " to " + targetKind);
+    }
+
+    private void emitMove(int dest, int src, int kind) {
+        switch (kind) {
+            case KIND_INT:
+            case KIND_BOOLEAN:
+                emit(Opcodes.IMOVE, dest, src);
+                break;
+            case KIND_FLOAT:
+                emit(Opcodes.FMOVE, dest, src);
+                break;
+            default:
+                emit(Opcodes.RMOVE, dest, src);
+        }
+    }
+
+    private void emitZeroValue(int slot, BType type) {
+        switch (CompiledCallableUnit.getKind(type)) {
+            case KIND_INT:
+            case KIND_BOOLEAN:
+                emit(Opcodes.ICONST, slot, addIntConstant(0));
+                break;
+            case KIND_FLOAT:
+                emit(Opcodes.FCONST, slot, addFloatConstant(0));
+                break;
+            default:
+                emit(Opcodes.RZERO, slot, addRefConstant(type));
+        }
+    }
+
+    private int emitIntConstant(long value) {
+        int dest = newTemp(KIND_INT);
+        emit(Opcodes.ICONST, dest, addIntConstant(value));
+        markTempDestination(1);
+        return dest;
+    }
+
+    private int getStackSlot(VariableRefExpr varRefExpr) {
+        MemoryLocation memoryLocation = varRefExpr.getMemoryLocation();
+        if (!(memoryLocation instanceof StackVarLocation)) {
+            throw new UnsupportedNodeException(varRefExpr);
+        }
+
+        int slot = ((StackVarLocation) memoryLocation).getStackFrameOffset();
+        if (slot >= slotCount) {
+            throw new UnsupportedNodeException(varRefExpr);
+        }
+        return slot;
+    }
+
+    private int storageKind(BType type) {
+        return CompiledCallableUnit.getKind(type);
+    }
+
+    private void startStatement() {
+        Arrays.fill(nextTemp, slotCount);
+        lastDestOperandPos = -1;
+    }
+
+    private int newTemp(int kind) {
+        int file = kind == KIND_BOOLEAN ? KIND_INT : kind;
+        int reg = nextTemp[file]++;
+        if (nextTemp[file] > maxRegs[file]) {
+            maxRegs[file] = nextTemp[file];
+        }
+        return reg;
+    }
+
+    private void markTempDestination(int operandIndex) {
+        lastDestOperandPos = lastInstructionPos + operandIndex;
+    }
+
+    private int addIntConstant(long value) {
+        intConstants.add(value);
+        return intConstants.size() - 1;
+    }
+
+    private int addFloatConstant(double value) {
+        floatConstants.add(value);
+        return floatConstants.size() - 1;
+    }
+
+    private int addRefConstant(Object value) {
+        refConstants.add(value);
+        return refConstants.size() - 1;
+    }
+
+    private void emit(int... instruction) {
+        if (codeSize + instruction.length > code.length) {
+            code = Arrays.copyOf(code, Math.max(code.length * 2, codeSize + instruction.length));
+        }
+        lastInstructionPos = codeSize;
+        lastDestOperandPos = -1;
+        System.arraycopy(instruction, 0, code, codeSize, instruction.length);
+        codeSize += instruction.length;
+    }
+
+    /**
+     * Thrown when a function contains a construct which cannot be lowered.
+     */
+    private static class UnsupportedNodeException extends RuntimeException {
+
+        UnsupportedNodeException(Object node) {
+            super("unsupported construct: " + node.getClass().getSimpleName());
+        }
+
+        UnsupportedNodeException(String message) {
+            super(message);
+        }
+    }
+}
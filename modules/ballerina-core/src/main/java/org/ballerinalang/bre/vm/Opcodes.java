@@ -0,0 +1,98 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.bre.vm;
+
+/**
+ * {@code Opcodes} defines the instruction set executed by the {@link BLangVM}.
+ * <p>
+ * Every instruction is an opcode followed by a fixed number of int operands. Register operands index into
+ * the int, float or ref register file of the current frame, as implied by the opcode. int and boolean values
+ * share the int register file, booleans are stored as 0 or 1.
+ * <p>
+ * Operand legend: d - destination register, a/b/s - source registers, k - constant pool index, t - jump target.
+ *
+ * @since 0.87
+ */
+public final class Opcodes {
+
+    // Constants and moves
+    public static final int ICONST = 1;     // d, k
+    public static final int FCONST = 2;     // d, k
+    public static final int RCONST = 3;     // d, k
+    public static final int RNULL = 4;      // d
+    public static final int RZERO = 5;      // d, k (k is a BType)
+    public static final int IMOVE = 6;      // d, s
+    public static final int FMOVE = 7;      // d, s
+    public static final int RMOVE = 8;      // d, s
+    public static final int GLOAD = 9;      // d, kind, static memory offset
+
+    // int arithmetic
+    public static final int IADD = 10;      // d, a, b
+    public static final int ISUB = 11;
+    public static final int IMUL = 12;
+    public static final int IDIV = 13;
+    public static final int IMOD = 14;
+    public static final int INEG = 15;      // d, a
+
+    // float arithmetic
+    public static final int FADD = 20;      // d, a, b
+    public static final int FSUB = 21;
+    public static final int FMUL = 22;
+    public static final int FDIV = 23;
+    public static final int FMOD = 24;
+    public static final int FNEG = 25;      // d, a
+
+    // string concatenation
+    public static final int SADD = 30;      // d, a, b
+
+    // Comparisons. The result is written to an int register
+    public static final int IEQ = 40;       // d, a, b
+    public static final int INE = 41;
+    public static final int ILT = 42;
+    public static final int ILE = 43;
+    public static final int IGT = 44;
+    public static final int IGE = 45;
+    public static final int FEQ = 50;
+    public static final int FNE = 51;
+    public static final int FLT = 52;
+    public static final int FLE = 53;
+    public static final int FGT = 54;
+    public static final int FGE = 55;
+    public static final int SEQ = 60;
+    public static final int SNE = 61;
+    public static final int REQ = 62;
+    public static final int RNE = 63;
+
+    // Logical operators. Both operands are evaluated, as in the tree walking executors
+    public static final int BAND = 70;      // d, a, b
+    public static final int BOR = 71;       // d, a, b
+    public static final int BNOT = 72;      // d, a
+
+    // Native type conversion through a TypeCastExpression eval function
+    public static final int CAST = 80;      // d, dKind, s, sKind, k
+
+    // Control flow
+    public static final int GOTO = 90;      // t
+    public static final int IF_FALSE = 91;  // a, t
+    public static final int CALL = 92;      // k (k is a CallSite)
+    public static final int NCALL = 93;     // k (k is a CallSite)
+    public static final int RET = 94;       // n, r1 .. rn
+
+    private Opcodes() {
+    }
+}
@@ -18,6 +18,8 @@
 
 package org.ballerinalang.model;
 
+import org.ballerinalang.bre.CallableUnitInfo;
+import org.ballerinalang.bre.vm.CompiledCallableUnit;
 import org.ballerinalang.model.builder.CallableUnitBuilder;
 import org.ballerinalang.model.statements.BlockStmt;
 import org.ballerinalang.model.symbols.BLangSymbol;
@@ -71,6 +73,10 @@ public class BallerinaFunction implements Function, SymbolScope, CompilationUnit
     private int tempStackFrameSize;
     private boolean isFlowBuilderVisited;
 
+    // Instructions generated for the compiled mode, null if the function runs on the tree walking executors
+    private CompiledCallableUnit compiledUnit;
+    private CallableUnitInfo callableUnitInfo;
+
     private BallerinaFunction(SymbolScope enclosingScope) {
         this.enclosingScope = enclosingScope;
         this.symbolMap = new HashMap<>();
@@ -98,6 +104,14 @@ public class BallerinaFunction implements Function, SymbolScope, CompilationUnit
         this.tempStackFrameSize = stackFrameSize;
     }
 
+    public CompiledCallableUnit getCompiledUnit() {
+        return compiledUnit;
+    }
+
+    public void setCompiledUnit(CompiledCallableUnit compiledUnit) {
+        this.compiledUnit = compiledUnit;
+    }
+
     /**
      * Get all the Workers associated with a BallerinaFunction.
      *
@@ -195,6 +209,18 @@ public class BallerinaFunction implements Function, SymbolScope, CompilationUnit
         return location;
     }
 
+    /**
+     * Returns the stack frame info used when the runtime invokes this function directly.
+     *
+     * @return callable unit info with the location of this function
+     */
+    public CallableUnitInfo getCallableUnitInfo() {
+        if (callableUnitInfo == null) {
+            callableUnitInfo = new CallableUnitInfo(name, pkgPath, location);
+        }
+        return callableUnitInfo;
+    }
+
 
     // Methods in BLangSymbol interface
 
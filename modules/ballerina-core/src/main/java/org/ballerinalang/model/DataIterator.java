@@ -25,7 +25,7 @@ import java.util.Map;
  *  This interface represents an data iterator operations.
  *  Each data source need to implement their own implementation by implementing this interface.
  *  Methods which belongs to DataIterator will expose through native functions in ballerina.model.datatables package.
- *  Known implementations: {@code SQLDataIterator}
+ *  Known implementations: {@code SQLDataIterator}, {@code CachedSQLDataIterator}
  *
  *  @since 0.8.0
  */
@@ -62,4 +62,31 @@ public interface DataIterator {
     Map<String, Object> getArray(int columnIndex);
 
     Map<String, Object> getArray(String columnName);
+
+    /**
+     * Check whether the rows of this iterator are kept in memory, in which case they can be read more than once.
+     *
+     * @return true if the iterator supports {@link #rewind()} and {@link #moveTo(int)}
+     */
+    boolean isScrollable();
+
+    /**
+     * Move the cursor before the first row.
+     */
+    void rewind();
+
+    /**
+     * Move the cursor to a row.
+     *
+     * @param row row number, 1 being the first row
+     * @return true if the row exists
+     */
+    boolean moveTo(int row);
+
+    /**
+     * Get the number of rows of a scrollable iterator.
+     *
+     * @return number of rows
+     */
+    int getRowCount();
 }
@@ -18,29 +18,35 @@
 package org.ballerinalang.model;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.JsonNodeFactory;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BDataTable;
 import org.ballerinalang.model.values.BDataTable.ColumnDefinition;
 import org.ballerinalang.model.values.BJSON.JSONDataSource;
 
 import java.io.IOException;
+import java.util.List;
 
 /**
  * {@link org.ballerinalang.model.values.BJSON.JSONDataSource} implementation for DataTable.
+ * <p>
+ * Unless a {@link JSONObjectGenerator} is given, rows are written straight to the generator. Columns are read by
+ * their index and their names are encoded once, before the first row. The generator is flushed every
+ * {@value #ROWS_PER_FLUSH} rows, so that a large datatable is written out in chunks.
  *
  * @since 0.8.0
  */
 public class DataTableJSONDataSource implements JSONDataSource {
 
+    private static final int ROWS_PER_FLUSH = 256;
+
     private BDataTable df;
 
     private JSONObjectGenerator objGen;
 
     public DataTableJSONDataSource(BDataTable df) {
-        this(df, new DefaultJSONObjectGenerator());
+        this(df, null);
     }
 
     public DataTableJSONDataSource(BDataTable df, JSONObjectGenerator objGen) {
@@ -50,66 +56,79 @@ public class DataTableJSONDataSource implements JSONDataSource {
 
     @Override
     public void serialize(JsonGenerator gen) throws IOException {
-        gen.writeStartArray();
-        while (this.df.next()) {
-            this.objGen.transform(this.df).serialize(gen, null);
+        List<ColumnDefinition> columnDefs = this.df.getColumnDefs();
+        SerializedString[] names = new SerializedString[columnDefs.size()];
+        TypeEnum[] types = new TypeEnum[columnDefs.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = new SerializedString(columnDefs.get(i).getName());
+            types[i] = columnDefs.get(i).getType();
         }
-        gen.writeEndArray();
-        this.df.close();
-    }
-
-    /**
-     * Default {@link DataTableJSONDataSource.JSONObjectGenerator} implementation based
-     * on the datatable's in-built column definition.
-     */
-    private static class DefaultJSONObjectGenerator implements JSONObjectGenerator {
 
-        @Override
-        public JsonNode transform(BDataTable df) throws IOException {
-            JsonNodeFactory fac = JsonNodeFactory.instance;
-            ObjectNode objNode = fac.objectNode();
-            String name;
-            for (ColumnDefinition col : df.getColumnDefs()) {
-                name = col.getName();
-                switch (col.getType()) {
-                case STRING:
-                    objNode.put(name, df.getString(name));
-                    break;
-                case INT:
-                    objNode.put(name, df.getInt(name));
-                    break;
-                case FLOAT:
-                    objNode.put(name, df.getFloat(name));
-                    break;
-                case BOOLEAN:
-                    objNode.put(name, df.getBoolean(name));
-                    break;
-                case ARRAY:
-                    //TODO: ARRAY
-                    break;
-                case JSON:
-                    objNode.set(name, new ObjectMapper().readTree(""));
-                    break;
-                case MAP:
-                    //TODO: MAP
-                    break;
-                case XML:
-                    objNode.put(name, "");
-                    //TODO: get XML
-                    break;
-                default:
-                    objNode.put(name, df.getString(name));
-                    break;
+        try {
+            gen.writeStartArray();
+            int rowCount = 0;
+            while (this.df.next()) {
+                if (this.objGen != null) {
+                    this.objGen.transform(this.df).serialize(gen, null);
+                } else {
+                    writeRow(gen, names, types);
+                }
+                if (++rowCount % ROWS_PER_FLUSH == 0) {
+                    gen.flush();
                 }
             }
-            return objNode;
+            gen.writeEndArray();
+        } finally {
+            this.df.close();
         }
+    }
 
+    private void writeRow(JsonGenerator gen, SerializedString[] names, TypeEnum[] types) throws IOException {
+        gen.writeStartObject();
+        for (int i = 0; i < names.length; i++) {
+            // Column indexes of a datatable start from 1
+            long index = i + 1;
+            switch (types[i]) {
+            case STRING:
+                gen.writeFieldName(names[i]);
+                gen.writeString(this.df.getString(index));
+                break;
+            case INT:
+                gen.writeFieldName(names[i]);
+                gen.writeNumber(this.df.getInt(index));
+                break;
+            case FLOAT:
+                gen.writeFieldName(names[i]);
+                gen.writeNumber(this.df.getFloat(index));
+                break;
+            case BOOLEAN:
+                gen.writeFieldName(names[i]);
+                gen.writeBoolean(this.df.getBoolean(index));
+                break;
+            case ARRAY:
+            case MAP:
+                // Array and map columns are not written
+                break;
+            case JSON:
+                gen.writeFieldName(names[i]);
+                gen.writeNull();
+                break;
+            case XML:
+                gen.writeFieldName(names[i]);
+                gen.writeString("");
+                break;
+            default:
+                gen.writeFieldName(names[i]);
+                gen.writeString(this.df.getString(index));
+                break;
+            }
+        }
+        gen.writeEndObject();
     }
 
     /**
      * This represents the logic that will transform the current entry of a
-     * data table to a {@link com.fasterxml.jackson.databind.JsonNode}.
+     * data table to a {@link JsonNode}.
      */
     public static interface JSONObjectGenerator {
 
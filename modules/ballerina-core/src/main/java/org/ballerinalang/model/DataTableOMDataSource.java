@@ -18,8 +18,10 @@
 package org.ballerinalang.model;
 
 import org.apache.axiom.om.ds.AbstractPushOMDataSource;
+import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BDataTable;
 
+import java.util.List;
 import java.util.Map;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamWriter;
@@ -27,6 +29,9 @@ import javax.xml.stream.XMLStreamWriter;
 /**
  * This will provide custom OMDataSource implementation by wrapping BDataTable.
  * This will use to convert result set into XML stream.
+ * <p>
+ * Columns are read by their index, and the writer is flushed every {@value #ROWS_PER_FLUSH} rows, so that a large
+ * datatable is written out in chunks.
  *
  * @since 0.8.0
  */
@@ -37,6 +42,7 @@ public class DataTableOMDataSource extends AbstractPushOMDataSource {
     private static final String ARRAY_ELEMENT_NAME = "element";
     private static final String DEFAULT_ROOT_WRAPPER = "results";
     private static final String DEFAULT_ROW_WRAPPER = "result";
+    private static final int ROWS_PER_FLUSH = 256;
 
     private BDataTable dataTable;
     private String rootWrapper;
@@ -50,54 +56,70 @@ public class DataTableOMDataSource extends AbstractPushOMDataSource {
 
     @Override
     public void serialize(XMLStreamWriter xmlStreamWriter) throws XMLStreamException {
-        xmlStreamWriter.writeStartElement(this.rootWrapper);
-        while (dataTable.next()) {
-            xmlStreamWriter.writeStartElement(this.rowWrapper);
-            for (BDataTable.ColumnDefinition col : dataTable.getColumnDefs()) {
-                boolean isArray = false;
-                xmlStreamWriter.writeStartElement(col.getName());
-                String value = null;
-                switch (col.getType()) {
-                case BOOLEAN:
-                    value = String.valueOf(dataTable.getBoolean(col.getName()));
-                    break;
-                case STRING:
-                    value = dataTable.getString(col.getName());
-                    break;
-                case INT:
-                    value = String.valueOf(dataTable.getInt(col.getName()));
-                    break;
-                case FLOAT:
-                    value = String.valueOf(dataTable.getFloat(col.getName()));
-                    break;
-                case ARRAY:
-                    isArray = true;
-                    processArray(xmlStreamWriter, col);
-                    break;
-                default:
-                    value = dataTable.getObjectAsString(col.getName());
-                    break;
-                }
-                if (!isArray) {
-                    if (value == null) {
-                        xmlStreamWriter.writeNamespace(XSI_PREFIX, XSI_NAMESPACE);
-                        xmlStreamWriter.writeAttribute(XSI_PREFIX, XSI_NAMESPACE, "nil", "true");
-                    } else {
-                        xmlStreamWriter.writeCharacters(value);
-                    }
+        List<BDataTable.ColumnDefinition> columnDefs = dataTable.getColumnDefs();
+        String[] names = new String[columnDefs.size()];
+        TypeEnum[] types = new TypeEnum[columnDefs.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = columnDefs.get(i).getName();
+            types[i] = columnDefs.get(i).getType();
+        }
+
+        try {
+            xmlStreamWriter.writeStartElement(this.rootWrapper);
+            int rowCount = 0;
+            while (dataTable.next()) {
+                xmlStreamWriter.writeStartElement(this.rowWrapper);
+                for (int i = 0; i < names.length; i++) {
+                    writeColumn(xmlStreamWriter, names[i], types[i], i + 1);
                 }
                 xmlStreamWriter.writeEndElement();
+                if (++rowCount % ROWS_PER_FLUSH == 0) {
+                    xmlStreamWriter.flush();
+                }
             }
             xmlStreamWriter.writeEndElement();
+        } finally {
+            dataTable.close();
         }
-        xmlStreamWriter.writeEndElement();
-        dataTable.close();
         xmlStreamWriter.flush();
     }
 
-    private void processArray(XMLStreamWriter xmlStreamWriter, BDataTable.ColumnDefinition col)
+    private void writeColumn(XMLStreamWriter xmlStreamWriter, String name, TypeEnum type, long index)
             throws XMLStreamException {
-        Map<String, Object> array = dataTable.getArray(col.getName());
+        xmlStreamWriter.writeStartElement(name);
+        String value;
+        switch (type) {
+        case BOOLEAN:
+            value = String.valueOf(dataTable.getBoolean(index));
+            break;
+        case STRING:
+            value = dataTable.getString(index);
+            break;
+        case INT:
+            value = String.valueOf(dataTable.getInt(index));
+            break;
+        case FLOAT:
+            value = String.valueOf(dataTable.getFloat(index));
+            break;
+        case ARRAY:
+            processArray(xmlStreamWriter, index);
+            xmlStreamWriter.writeEndElement();
+            return;
+        default:
+            value = dataTable.getObjectAsString(index);
+            break;
+        }
+        if (value == null) {
+            xmlStreamWriter.writeNamespace(XSI_PREFIX, XSI_NAMESPACE);
+            xmlStreamWriter.writeAttribute(XSI_PREFIX, XSI_NAMESPACE, "nil", "true");
+        } else {
+            xmlStreamWriter.writeCharacters(value);
+        }
+        xmlStreamWriter.writeEndElement();
+    }
+
+    private void processArray(XMLStreamWriter xmlStreamWriter, long index) throws XMLStreamException {
+        Map<String, Object> array = dataTable.getArray(index);
         if (array != null && !array.isEmpty()) {
             for (Map.Entry<String, Object> values : array.entrySet()) {
                 xmlStreamWriter.writeStartElement(ARRAY_ELEMENT_NAME);
@@ -18,22 +18,32 @@
 package org.ballerinalang.model;
 
 import org.ballerinalang.model.symbols.BLangSymbol;
+import org.ballerinalang.natives.NativeSymbolIndex;
 
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
+ * The global scope holds the built-in packages, types and type mappers.
+ * <p>
+ * Symbols which are not defined in the scope are resolved from the {@link NativeSymbolIndex}es added to the scope,
+ * and are defined once they are resolved. Hence the symbol map of the scope holds only the symbols which have been
+ * defined or resolved so far.
  *
  * @since 0.8.0
  */
 public class GlobalScope implements SymbolScope {
     private Map<SymbolName, BLangSymbol> symbolMap;
+    private List<NativeSymbolIndex> nativeSymbolIndexes;
 
     private static GlobalScope instance = new GlobalScope();
 
     private GlobalScope() {
-        symbolMap = new HashMap<>();
+        symbolMap = new ConcurrentHashMap<>();
+        nativeSymbolIndexes = new CopyOnWriteArrayList<>();
     }
 
     public static GlobalScope getInstance() {
@@ -57,7 +67,46 @@ public class GlobalScope implements SymbolScope {
 
     @Override
     public BLangSymbol resolve(SymbolName name) {
-        return resolve(symbolMap, name);
+        BLangSymbol symbol = resolve(symbolMap, name);
+        if (symbol == null && name.getPkgPath() == null && !nativeSymbolIndexes.isEmpty()) {
+            symbol = resolveNative(name);
+        }
+        return symbol;
+    }
+
+    /**
+     * Add an index of native constructs, from which the symbols which are not defined in the scope are resolved. An
+     * index of the same module is added only once.
+     *
+     * @param nativeSymbolIndex Index of native constructs
+     */
+    public synchronized void addNativeSymbolIndex(NativeSymbolIndex nativeSymbolIndex) {
+        for (NativeSymbolIndex existingIndex : nativeSymbolIndexes) {
+            if (existingIndex.getProviderClassName().equals(nativeSymbolIndex.getProviderClassName())) {
+                return;
+            }
+        }
+        nativeSymbolIndexes.add(nativeSymbolIndex);
+    }
+
+    private BLangSymbol resolveNative(SymbolName name) {
+        for (NativeSymbolIndex nativeSymbolIndex : nativeSymbolIndexes) {
+            BLangSymbol symbol = nativeSymbolIndex.resolve(name.getName(), this);
+            if (symbol != null) {
+                return defineResolved(name, symbol);
+            }
+        }
+        return null;
+    }
+
+    private synchronized BLangSymbol defineResolved(SymbolName name, BLangSymbol symbol) {
+        // The symbol may have been resolved by another thread, whose symbol is kept so that all the threads share it
+        BLangSymbol existingSymbol = symbolMap.get(name);
+        if (existingSymbol != null) {
+            return existingSymbol;
+        }
+        symbolMap.put(name, symbol);
+        return symbol;
     }
 
     @Override
@@ -28,6 +28,7 @@ import org.ballerinalang.model.expressions.ArrayInitExpr;
 import org.ballerinalang.model.expressions.ArrayMapAccessExpr;
 import org.ballerinalang.model.expressions.BacktickExpr;
 import org.ballerinalang.model.expressions.BasicLiteral;
+import org.ballerinalang.model.expressions.BinaryArithmeticExpression;
 import org.ballerinalang.model.expressions.BinaryEqualityExpression;
 import org.ballerinalang.model.expressions.BinaryExpression;
 import org.ballerinalang.model.expressions.ConnectorInitExpr;
@@ -107,6 +108,8 @@ public interface NodeExecutor {
     BValue visit(UnaryExpression unaryExpr);
 
     BValue visit(BinaryExpression binaryExpr);
+
+    BValue visit(BinaryArithmeticExpression arithmeticExpr);
     
     BValue visit(BinaryEqualityExpression binaryEqualityExpr);
 
@@ -18,6 +18,7 @@
 
 package org.ballerinalang.model;
 
+import org.ballerinalang.bre.CallableUnitInfo;
 import org.ballerinalang.model.builder.CallableUnitBuilder;
 import org.ballerinalang.model.statements.BlockStmt;
 import org.ballerinalang.model.symbols.BLangSymbol;
@@ -67,6 +68,7 @@ public class Resource implements Node, SymbolScope, CallableUnit {
     private SymbolScope enclosingScope;
     private Map<SymbolName, BLangSymbol> symbolMap;
     private int tempStackFrameSize;
+    private CallableUnitInfo callableUnitInfo;
 
     private Resource(SymbolScope enclosingScope) {
         this.enclosingScope = enclosingScope;
@@ -217,6 +219,18 @@ public class Resource implements Node, SymbolScope, CallableUnit {
         return location;
     }
 
+    /**
+     * Returns the stack frame info used when the runtime invokes this resource directly.
+     *
+     * @return callable unit info with the location of this resource
+     */
+    public CallableUnitInfo getCallableUnitInfo() {
+        if (callableUnitInfo == null) {
+            callableUnitInfo = new CallableUnitInfo(name, pkgPath, location);
+        }
+        return callableUnitInfo;
+    }
+
 
     // Methods in BLangSymbol interface
 
@@ -736,6 +736,7 @@ public class BLangExecutionFlowBuilder implements NodeVisitor {
         // Parsing Function Body.
         BlockStmt blockStmt = funcInvExpr.getCallableUnit().getCallableUnitBody();
         CallableUnitEndNode callableUnitEndLink = new CallableUnitEndNode(funcInvExpr);
+        endLink.setCallableUnitEndNode(callableUnitEndLink);
         if (blockStmt != null) {
             // Ballerina Function. This blockStatement can have multi parents. So we need to handle this especially.
             endLink.setNext(blockStmt);
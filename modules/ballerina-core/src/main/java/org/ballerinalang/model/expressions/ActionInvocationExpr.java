@@ -17,6 +17,7 @@
 */
 package org.ballerinalang.model.expressions;
 
+import org.ballerinalang.bre.CallableUnitInfo;
 import org.ballerinalang.model.Action;
 import org.ballerinalang.model.NodeExecutor;
 import org.ballerinalang.model.NodeLocation;
@@ -39,6 +40,7 @@ public class ActionInvocationExpr extends AbstractExpression implements Callable
     private BType[] types = new BType[0];
     private int retuningBranchID;
     private boolean hasReturningBranch;
+    private CallableUnitInfo callableUnitInfo;
 
     public ActionInvocationExpr(NodeLocation location,
                                 String name,
@@ -86,6 +88,20 @@ public class ActionInvocationExpr extends AbstractExpression implements Callable
     @Override
     public void setCallableUnit(Action callableUnit) {
         this.action = callableUnit;
+        this.callableUnitInfo = null;
+    }
+
+    /**
+     * Returns the stack frame info of this invocation, created once per invocation expression.
+     *
+     * @return callable unit info with the location of this invocation
+     */
+    public CallableUnitInfo getCallableUnitInfo() {
+        if (callableUnitInfo == null) {
+            callableUnitInfo = new CallableUnitInfo(action.getName(), action.getPackagePath(),
+                    getNodeLocation());
+        }
+        return callableUnitInfo;
     }
 
     @Override
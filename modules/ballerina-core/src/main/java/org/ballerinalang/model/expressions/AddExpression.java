@@ -26,6 +26,8 @@ import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValueType;
 
 import java.util.function.BiFunction;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.LongBinaryOperator;
 
 /**
  * {@code AddExpression} represents a binary add expression.
@@ -34,11 +36,15 @@ import java.util.function.BiFunction;
  */
 public class AddExpression extends BinaryArithmeticExpression {
 
+    public static final LongBinaryOperator ADD_INT_OP = (lVal, rVal) -> lVal + rVal;
+
+    public static final DoubleBinaryOperator ADD_FLOAT_OP = (lVal, rVal) -> lVal + rVal;
+
     public static final BiFunction<BValueType, BValueType, BValueType> ADD_INT_FUNC =
-            (lVal, rVal) -> new BInteger(lVal.intValue() + rVal.intValue());
+            (lVal, rVal) -> BInteger.valueOf(ADD_INT_OP.applyAsLong(lVal.intValue(), rVal.intValue()));
 
     public static final BiFunction<BValueType, BValueType, BValueType> ADD_FLOAT_FUNC =
-            (lVal, rVal) -> new BFloat(lVal.floatValue() + rVal.floatValue());
+            (lVal, rVal) -> new BFloat(ADD_FLOAT_OP.applyAsDouble(lVal.floatValue(), rVal.floatValue()));
 
     public static final BiFunction<BValueType, BValueType, BValueType> ADD_STRING_FUNC =
             (lVal, rVal) -> new BString(lVal.stringValue() + rVal.stringValue());
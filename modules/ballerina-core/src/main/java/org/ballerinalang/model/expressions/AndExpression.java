@@ -34,7 +34,7 @@ import static org.ballerinalang.model.Operator.AND;
 public class AndExpression extends BinaryLogicalExpression {
 
     public static final BiFunction<BValueType, BValueType, BValueType> AND_FUNC =
-            (lVal, rVal) -> new BBoolean(lVal.booleanValue() && rVal.booleanValue());
+            (lVal, rVal) -> BBoolean.valueOf(lVal.booleanValue() && rVal.booleanValue());
 
     public AndExpression(NodeLocation location, Expression lExpr, Expression rExpr) {
         super(location, lExpr, AND, rExpr);
@@ -17,11 +17,19 @@
 */
 package org.ballerinalang.model.expressions;
 
+import org.ballerinalang.model.NodeExecutor;
 import org.ballerinalang.model.NodeLocation;
 import org.ballerinalang.model.Operator;
+import org.ballerinalang.model.values.BValue;
+
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.LongBinaryOperator;
 
 /**
  * {@code BinaryArithmeticExpression} is the base class for any binary arithmetic expression.
+ * <p>
+ * Int and float expressions also carry a primitive operator, so that the interpreter can evaluate a tree of them
+ * without boxing the intermediate results.
  *
  * @see AddExpression
  * @see SubtractExpression
@@ -30,7 +38,31 @@ import org.ballerinalang.model.Operator;
  */
 public class BinaryArithmeticExpression extends BinaryExpression {
 
+    private LongBinaryOperator intEvalFunc;
+    private DoubleBinaryOperator floatEvalFunc;
+
     public BinaryArithmeticExpression(NodeLocation location, Expression lExpr, Operator op, Expression rExpr) {
         super(location, lExpr, op, rExpr);
     }
+
+    public LongBinaryOperator getIntEvalFunc() {
+        return intEvalFunc;
+    }
+
+    public void setIntEvalFunc(LongBinaryOperator intEvalFunc) {
+        this.intEvalFunc = intEvalFunc;
+    }
+
+    public DoubleBinaryOperator getFloatEvalFunc() {
+        return floatEvalFunc;
+    }
+
+    public void setFloatEvalFunc(DoubleBinaryOperator floatEvalFunc) {
+        this.floatEvalFunc = floatEvalFunc;
+    }
+
+    @Override
+    public BValue execute(NodeExecutor executor) {
+        return executor.visit(this);
+    }
 }
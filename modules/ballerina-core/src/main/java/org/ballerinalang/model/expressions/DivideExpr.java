@@ -26,6 +26,8 @@ import org.ballerinalang.model.values.BValueType;
 import org.ballerinalang.util.exceptions.BallerinaException;
 
 import java.util.function.BiFunction;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.LongBinaryOperator;
 
 /**
  * {@code DivideExpr} represents a binary divide expression.
@@ -35,25 +37,31 @@ import java.util.function.BiFunction;
 public class DivideExpr extends BinaryArithmeticExpression {
 
     // TODO improve the divide operation with type checking
-    public static final BiFunction<BValueType, BValueType, BValueType> DIV_INT_FUNC =
+    public static final LongBinaryOperator DIV_INT_OP =
             (lVal, rVal) -> {
 
-                if (rVal.intValue() == 0) {
+                if (rVal == 0) {
                     throw new BallerinaException(" / by zero");
                 }
-                return new BInteger(lVal.intValue() / rVal.intValue());
+                return lVal / rVal;
             };
 
-    public static final BiFunction<BValueType, BValueType, BValueType> DIV_FLOAT_FUNC =
+    public static final DoubleBinaryOperator DIV_FLOAT_OP =
             (lVal, rVal) -> {
 
-                if (rVal.floatValue() == 0) {
+                if (rVal == 0) {
                     throw new BallerinaException(" / by zero");
                 }
 
-                return new BFloat(lVal.floatValue() / rVal.floatValue());
+                return lVal / rVal;
             };
 
+    public static final BiFunction<BValueType, BValueType, BValueType> DIV_INT_FUNC =
+            (lVal, rVal) -> BInteger.valueOf(DIV_INT_OP.applyAsLong(lVal.intValue(), rVal.intValue()));
+
+    public static final BiFunction<BValueType, BValueType, BValueType> DIV_FLOAT_FUNC =
+            (lVal, rVal) -> new BFloat(DIV_FLOAT_OP.applyAsDouble(lVal.floatValue(), rVal.floatValue()));
+
     public DivideExpr(NodeLocation location, Expression lExpr, Expression rExpr) {
         super(location, lExpr, Operator.DIV, rExpr);
     }
@@ -35,19 +35,19 @@ import static org.ballerinalang.model.Operator.EQUAL;
 public class EqualExpression extends BinaryEqualityExpression {
     
     public static final BiFunction<BValueType, BValueType, BValueType> EQUAL_INT_FUNC =
-            (lVal, rVal) -> new BBoolean(lVal.intValue() == rVal.intValue());
+            (lVal, rVal) -> BBoolean.valueOf(lVal.intValue() == rVal.intValue());
 
     public static final BiFunction<BValueType, BValueType, BValueType> EQUAL_FLOAT_FUNC =
-            (lVal, rVal) -> new BBoolean(lVal.floatValue() == rVal.floatValue());
+            (lVal, rVal) -> BBoolean.valueOf(lVal.floatValue() == rVal.floatValue());
 
     public static final BiFunction<BValueType, BValueType, BValueType> EQUAL_BOOLEAN_FUNC =
-            (lVal, rVal) -> new BBoolean(lVal.booleanValue() == rVal.booleanValue());
+            (lVal, rVal) -> BBoolean.valueOf(lVal.booleanValue() == rVal.booleanValue());
 
     public static final BiFunction<BValueType, BValueType, BValueType> EQUAL_STRING_FUNC =
-            (lVal, rVal) -> new BBoolean(lVal.stringValue().equals(rVal.stringValue()));
+            (lVal, rVal) -> BBoolean.valueOf(lVal.stringValue().equals(rVal.stringValue()));
             
     public static final BiFunction<BValue, BValue, BValueType> EQUAL_NULL_FUNC =
-            (lVal, rVal) -> new BBoolean(lVal == rVal);
+            (lVal, rVal) -> BBoolean.valueOf(lVal == rVal);
 
     public EqualExpression(NodeLocation location, Expression lExpr, Expression rExpr) {
         super(location, lExpr, EQUAL, rExpr);
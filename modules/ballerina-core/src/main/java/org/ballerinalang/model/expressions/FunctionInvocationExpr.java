@@ -17,6 +17,7 @@
 */
 package org.ballerinalang.model.expressions;
 
+import org.ballerinalang.bre.CallableUnitInfo;
 import org.ballerinalang.model.Function;
 import org.ballerinalang.model.NodeExecutor;
 import org.ballerinalang.model.NodeLocation;
@@ -38,6 +39,7 @@ public class FunctionInvocationExpr extends AbstractExpression implements Callab
     private BType[] types = new BType[0];
     private int retuningBranchID;
     private boolean hasReturningBranch;
+    private CallableUnitInfo callableUnitInfo;
 
     public FunctionInvocationExpr(NodeLocation location,
                                   String name,
@@ -79,6 +81,20 @@ public class FunctionInvocationExpr extends AbstractExpression implements Callab
     @Override
     public void setCallableUnit(Function callableUnit) {
         this.calleeFunction = callableUnit;
+        this.callableUnitInfo = null;
+    }
+
+    /**
+     * Returns the stack frame info of this invocation, created once per invocation expression.
+     *
+     * @return callable unit info with the location of this invocation
+     */
+    public CallableUnitInfo getCallableUnitInfo() {
+        if (callableUnitInfo == null) {
+            callableUnitInfo = new CallableUnitInfo(calleeFunction.getName(), calleeFunction.getPackagePath(),
+                    getNodeLocation());
+        }
+        return callableUnitInfo;
     }
 
     @Override
@@ -34,10 +34,10 @@ import static org.ballerinalang.model.Operator.GREATER_EQUAL;
 public class GreaterEqualExpression extends BinaryCompareExpression {
 
     public static final BiFunction<BValueType, BValueType, BValueType> GREATER_EQUAL_INT_FUNC =
-            (lVal, rVal) -> new BBoolean(lVal.intValue() >= rVal.intValue());
+            (lVal, rVal) -> BBoolean.valueOf(lVal.intValue() >= rVal.intValue());
 
     public static final BiFunction<BValueType, BValueType, BValueType> GREATER_EQUAL_FLOAT_FUNC =
-            (lVal, rVal) -> new BBoolean(lVal.floatValue() >= rVal.floatValue());
+            (lVal, rVal) -> BBoolean.valueOf(lVal.floatValue() >= rVal.floatValue());
 
     public GreaterEqualExpression(NodeLocation location, Expression lExpr, Expression rExpr) {
         super(location, lExpr, GREATER_EQUAL, rExpr);
@@ -34,10 +34,10 @@ import static org.ballerinalang.model.Operator.GREATER_THAN;
 public class GreaterThanExpression extends BinaryCompareExpression {
 
     public static final BiFunction<BValueType, BValueType, BValueType> GREATER_THAN_INT_FUNC =
-            (lVal, rVal) -> new BBoolean(lVal.intValue() > rVal.intValue());
+            (lVal, rVal) -> BBoolean.valueOf(lVal.intValue() > rVal.intValue());
 
     public static final BiFunction<BValueType, BValueType, BValueType> GREATER_THAN_FLOAT_FUNC =
-            (lVal, rVal) -> new BBoolean(lVal.floatValue() > rVal.floatValue());
+            (lVal, rVal) -> BBoolean.valueOf(lVal.floatValue() > rVal.floatValue());
 
     public GreaterThanExpression(NodeLocation location, Expression lExpr, Expression rExpr) {
         super(location, lExpr, GREATER_THAN, rExpr);
@@ -25,6 +25,8 @@ import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BValueType;
 
 import java.util.function.BiFunction;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.LongBinaryOperator;
 
 import static org.ballerinalang.model.Operator.MOD;
 
@@ -35,11 +37,15 @@ import static org.ballerinalang.model.Operator.MOD;
  */
 public class ModExpression extends BinaryArithmeticExpression {
 
+    public static final LongBinaryOperator MOD_INT_OP = (lVal, rVal) -> lVal % rVal;
+
+    public static final DoubleBinaryOperator MOD_FLOAT_OP = (lVal, rVal) -> lVal % rVal;
+
     public static final BiFunction<BValueType, BValueType, BValueType> MOD_INT_FUNC =
-            (lVal, rVal) -> new BInteger(lVal.intValue() % rVal.intValue());
+            (lVal, rVal) -> BInteger.valueOf(MOD_INT_OP.applyAsLong(lVal.intValue(), rVal.intValue()));
 
     public static final BiFunction<BValueType, BValueType, BValueType> MOD_FLOAT_FUNC =
-            (lVal, rVal) -> new BFloat(lVal.floatValue() % rVal.floatValue());
+            (lVal, rVal) -> new BFloat(MOD_FLOAT_OP.applyAsDouble(lVal.floatValue(), rVal.floatValue()));
 
     public ModExpression(NodeLocation location, Expression lExpr, Expression rExpr) {
         super(location, lExpr, MOD, rExpr);
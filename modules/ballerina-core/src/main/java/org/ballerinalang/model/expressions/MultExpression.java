@@ -24,6 +24,8 @@ import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BValueType;
 
 import java.util.function.BiFunction;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.LongBinaryOperator;
 
 import static org.ballerinalang.model.Operator.MUL;
 
@@ -34,11 +36,15 @@ import static org.ballerinalang.model.Operator.MUL;
  */
 public class MultExpression extends BinaryArithmeticExpression {
 
+    public static final LongBinaryOperator MULT_INT_OP = (lVal, rVal) -> lVal * rVal;
+
+    public static final DoubleBinaryOperator MULT_FLOAT_OP = (lVal, rVal) -> lVal * rVal;
+
     public static final BiFunction<BValueType, BValueType, BValueType> MULT_INT_FUNC =
-            (lVal, rVal) -> new BInteger(lVal.intValue() * rVal.intValue());
+            (lVal, rVal) -> BInteger.valueOf(MULT_INT_OP.applyAsLong(lVal.intValue(), rVal.intValue()));
 
     public static final BiFunction<BValueType, BValueType, BValueType> MULT_FLOAT_FUNC =
-            (lVal, rVal) -> new BFloat(lVal.floatValue() * rVal.floatValue());
+            (lVal, rVal) -> new BFloat(MULT_FLOAT_OP.applyAsDouble(lVal.floatValue(), rVal.floatValue()));
 
     public MultExpression(NodeLocation location, Expression lExpr, Expression rExpr) {
         super(location, lExpr, MUL, rExpr);
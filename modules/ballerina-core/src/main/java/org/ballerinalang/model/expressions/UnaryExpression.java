@@ -42,10 +42,10 @@ public class UnaryExpression extends AbstractExpression {
     private BiFunction<BValueType, BValueType, BValueType> evalFuncNewNew;
 
     public static final BiFunction<BValueType, BValueType, BValueType> NOT_BOOLEAN_FUNC =
-            (lVal, rVal) -> new BBoolean(!rVal.booleanValue());
+            (lVal, rVal) -> BBoolean.valueOf(!rVal.booleanValue());
 
     public static final BiFunction<BValueType, BValueType, BValueType> NEGATIVE_INT_FUNC =
-            (lVal, rVal) -> new BInteger(-(rVal.intValue()));
+            (lVal, rVal) -> BInteger.valueOf(-(rVal.intValue()));
 
     public static final BiFunction<BValueType, BValueType, BValueType> POSITIVE_INT_FUNC =
             (lVal, rVal) -> rVal;
@@ -27,6 +27,7 @@ import org.ballerinalang.model.nodes.AbstractLinkedNode;
 public class FunctionInvocationExprStartNode extends AbstractLinkedNode {
 
     private FunctionInvocationExpr expression;
+    private CallableUnitEndNode callableUnitEndNode;
 
     public FunctionInvocationExprStartNode(FunctionInvocationExpr expression) {
         this.expression = expression;
@@ -37,6 +38,14 @@ public class FunctionInvocationExprStartNode extends AbstractLinkedNode {
         return expression;
     }
 
+    public CallableUnitEndNode getCallableUnitEndNode() {
+        return callableUnitEndNode;
+    }
+
+    public void setCallableUnitEndNode(CallableUnitEndNode callableUnitEndNode) {
+        this.callableUnitEndNode = callableUnitEndNode;
+    }
+
     @Override
     public void accept(LinkedNodeVisitor nodeVisitor) {
         nodeVisitor.visit(this);
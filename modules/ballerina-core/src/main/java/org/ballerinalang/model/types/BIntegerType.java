@@ -39,11 +39,11 @@ class BIntegerType extends BType {
 
     @SuppressWarnings("unchecked")
     public <V extends BValue> V getZeroValue() {
-        return (V) new BInteger(0);
+        return (V) BInteger.valueOf(0);
     }
     
     @Override
     public <V extends BValue> V getEmptyValue() {
-        return (V) new BInteger(0);
+        return (V) BInteger.valueOf(0);
     }
 }
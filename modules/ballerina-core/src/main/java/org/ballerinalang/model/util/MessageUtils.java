@@ -18,18 +18,40 @@
 
 package org.ballerinalang.model.util;
 
+import org.ballerinalang.runtime.Constants;
 import org.ballerinalang.util.exceptions.BallerinaException;
+import org.wso2.carbon.messaging.CarbonMessage;
 
-import java.io.BufferedInputStream;
-import java.io.ByteArrayOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+import java.util.Arrays;
+import java.util.Locale;
 
 /**
  * Common Utils methods used in Message.
  */
 public class MessageUtils {
 
+    private static final String CONTENT_TYPE = "Content-Type";
+    private static final String CONTENT_LENGTH = "Content-Length";
+    private static final String CHARSET_PARAMETER = "charset=";
+
+    private static final int BUFFER_SIZE = 8192;
+    // The content length is sent by the client, hence the first buffer is not larger than this, and it grows with
+    // the payload which is actually read
+    private static final int MAX_INITIAL_BUFFER_SIZE = 64 * 1024;
+    // Largest array size which can be allocated in most of the JVMs
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+    private static final long DEFAULT_MAX_PAYLOAD_SIZE = 100L * 1024 * 1024;
+    // A maximum payload size which is not positive means that the size of a payload is not limited
+    private static final long MAX_PAYLOAD_SIZE = Long.getLong(Constants.SYS_PROP_MAX_PAYLOAD_SIZE,
+            DEFAULT_MAX_PAYLOAD_SIZE);
+
     /**
      * Convert input stream to String.
      *
@@ -37,24 +59,159 @@ public class MessageUtils {
      * @return Message payload as string
      */
     public static String getStringFromInputStream(InputStream in) {
-        BufferedInputStream bis = new BufferedInputStream(in);
-        ByteArrayOutputStream bos = new ByteArrayOutputStream();
-        String result;
+        Payload payload = readPayload(in, -1);
+        return new String(payload.bytes, 0, payload.length, Charset.defaultCharset());
+    }
+
+    /**
+     * Read the payload of a message as a string, decoded with the charset of its Content-Type.
+     *
+     * @param cMsg Message
+     * @return Message payload as string
+     */
+    public static String getStringPayload(CarbonMessage cMsg) {
+        Payload payload = readPayload(cMsg.getInputStream(), getContentLength(cMsg));
+        return new String(payload.bytes, 0, payload.length, getCharset(cMsg));
+    }
+
+    /**
+     * Read the payload of a message into memory, to be parsed from the returned stream.
+     *
+     * @param cMsg Message
+     * @return Stream of the message payload, which does not block
+     */
+    public static InputStream getPayloadStream(CarbonMessage cMsg) {
+        Payload payload = readPayload(cMsg.getInputStream(), getContentLength(cMsg));
+        return new ByteArrayInputStream(payload.bytes, 0, payload.length);
+    }
+
+    /**
+     * Read the payload of a message into memory.
+     *
+     * @param cMsg Message
+     * @return Message payload
+     */
+    public static byte[] getPayloadBytes(CarbonMessage cMsg) {
+        Payload payload = readPayload(cMsg.getInputStream(), getContentLength(cMsg));
+        return (payload.length == payload.bytes.length) ? payload.bytes : Arrays.copyOf(payload.bytes, payload.length);
+    }
+
+    /**
+     * Get the charset of the payload of a message from its Content-Type.
+     *
+     * @param cMsg Message
+     * @return Charset of the payload, or UTF-8 if the Content-Type does not have a supported charset
+     */
+    public static Charset getCharset(CarbonMessage cMsg) {
+        String contentType = cMsg.getHeader(CONTENT_TYPE);
+        if (contentType == null) {
+            return StandardCharsets.UTF_8;
+        }
+
+        int index = contentType.toLowerCase(Locale.ENGLISH).indexOf(CHARSET_PARAMETER);
+        if (index < 0) {
+            return StandardCharsets.UTF_8;
+        }
+        String charset = contentType.substring(index + CHARSET_PARAMETER.length());
+        int end = charset.indexOf(';');
+        if (end >= 0) {
+            charset = charset.substring(0, end);
+        }
+        charset = charset.trim();
+        if (charset.length() > 1 && charset.startsWith("\"") && charset.endsWith("\"")) {
+            charset = charset.substring(1, charset.length() - 1);
+        }
+
         try {
-            int data;
-            while ((data = bis.read()) != -1) {
-                bos.write(data);
+            return Charset.forName(charset);
+        } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+            return StandardCharsets.UTF_8;
+        }
+    }
+
+    private static long getContentLength(CarbonMessage cMsg) {
+        String contentLength = cMsg.getHeader(CONTENT_LENGTH);
+        if (contentLength == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(contentLength.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Read a stream in bulk into a buffer, which is sized from the content length when it is known, up to
+     * {@value #MAX_INITIAL_BUFFER_SIZE} bytes. Payloads larger than the maximum payload size are rejected, before
+     * they are read if the content length is known.
+     *
+     * @param in            Stream to read
+     * @param contentLength Length of the content, or -1 if it is not known
+     * @return Content of the stream
+     */
+    private static Payload readPayload(InputStream in, long contentLength) {
+        if (MAX_PAYLOAD_SIZE > 0 && contentLength > MAX_PAYLOAD_SIZE) {
+            throw new BallerinaException("payload size " + contentLength + " exceeds the maximum payload size of " +
+                    MAX_PAYLOAD_SIZE + " bytes");
+        }
+
+        byte[] buffer = new byte[contentLength >= 0 ? (int) Math.min(contentLength, MAX_INITIAL_BUFFER_SIZE) :
+                BUFFER_SIZE];
+        int length = 0;
+        try {
+            while (true) {
+                if (length == buffer.length) {
+                    // Check for the end of the stream before growing a buffer sized from the content length
+                    int next = in.read();
+                    if (next == -1) {
+                        break;
+                    }
+                    buffer = grow(buffer, length + 1);
+                    buffer[length++] = (byte) next;
+                } else {
+                    int read = in.read(buffer, length, buffer.length - length);
+                    if (read == -1) {
+                        break;
+                    }
+                    length += read;
+                }
+
+                if (MAX_PAYLOAD_SIZE > 0 && length > MAX_PAYLOAD_SIZE) {
+                    throw new BallerinaException("payload exceeds the maximum payload size of " + MAX_PAYLOAD_SIZE +
+                            " bytes");
+                }
             }
-            result = bos.toString();
         } catch (IOException ioe) {
             throw new BallerinaException("Error occurred when reading input stream", ioe);
-        } finally {
-            try {
-                bos.close();
-            } catch (IOException ignored) {
-            }
         }
-        return result;
+        return new Payload(buffer, length);
+    }
+
+    private static byte[] grow(byte[] buffer, int minCapacity) {
+        if (minCapacity > MAX_ARRAY_SIZE) {
+            throw new BallerinaException("payload is too large to be read into memory");
+        }
+        long maxCapacity = MAX_ARRAY_SIZE;
+        if (MAX_PAYLOAD_SIZE > 0) {
+            // A payload which exceeds the maximum payload size by a byte is rejected, hence it is not read further
+            maxCapacity = Math.min(maxCapacity, MAX_PAYLOAD_SIZE + 1);
+        }
+        int capacity = (int) Math.min(Math.max((long) buffer.length * 2, minCapacity), maxCapacity);
+        return Arrays.copyOf(buffer, Math.max(capacity, BUFFER_SIZE));
+    }
+
+    /**
+     * Bytes read from a payload.
+     */
+    private static class Payload {
+        private final byte[] bytes;
+        private final int length;
+
+        Payload(byte[] bytes, int length) {
+            this.bytes = bytes;
+            this.length = length;
+        }
     }
 
     /**
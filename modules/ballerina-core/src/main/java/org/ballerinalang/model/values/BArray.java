@@ -22,11 +22,14 @@ import org.ballerinalang.util.exceptions.BLangExceptionHelper;
 import org.ballerinalang.util.exceptions.BallerinaException;
 import org.ballerinalang.util.exceptions.RuntimeErrors;
 
-import java.lang.reflect.Array;
 import java.util.Arrays;
 
 /**
  * {@code BArray} represents an arrays in Ballerina.
+ * <p>
+ * Arrays of int, float and boolean are backed by contiguous {@code long[]}, {@code double[]} and {@code boolean[]}
+ * storage, all other arrays by a contiguous {@code BValue[]}. The primitive accessors ({@link #getInt(long)},
+ * {@link #addInt(long, long)}, etc.) read and write the primitive storage without boxing.
  *
  * @param <V> Ballerina value stored in this arrays value
  * @since 0.8.0
@@ -40,53 +43,155 @@ public final class BArray<V extends BValue> implements BRefType {
      */
     private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
 
-    private static final int DEFAULT_ARRAY_SIZE = 100;
-    private static final int DEFAULT_ARRAY_BUCKET_SIZE = 10;
+    private static final int DEFAULT_ARRAY_SIZE = 16;
+
+    private static final int REF_STORAGE = 0;
+    private static final int INT_STORAGE = 1;
+    private static final int FLOAT_STORAGE = 2;
+    private static final int BOOLEAN_STORAGE = 3;
 
-    private BValue[][] arrayBucket = new BValue[DEFAULT_ARRAY_BUCKET_SIZE][];
     private Class<V> valueClass;
+    private final int storageKind;
+
+    private BValue[] refValues;
+    private long[] intValues;
+    private double[] floatValues;
+    private boolean[] booleanValues;
 
-    private int lastBucketIndex = -1;
+    private int capacity = 0;
     private int size = 0;
 
     public BArray(Class<V> valueClass) {
         this.valueClass = valueClass;
+        if (valueClass == BInteger.class) {
+            storageKind = INT_STORAGE;
+        } else if (valueClass == BFloat.class) {
+            storageKind = FLOAT_STORAGE;
+        } else if (valueClass == BBoolean.class) {
+            storageKind = BOOLEAN_STORAGE;
+        } else {
+            storageKind = REF_STORAGE;
+        }
     }
 
     public <V extends BValue> void add(long index, V value) {
-        if (index > Integer.MAX_VALUE || index < Integer.MIN_VALUE) {
-            throw BLangExceptionHelper
-                    .getRuntimeException(RuntimeErrors.INDEX_NUMBER_TOO_LARGE, index);
+        if (value == null && storageKind != REF_STORAGE) {
+            // Primitive storage has no null, and storing the zero value instead would hide the error
+            throw BLangExceptionHelper.getRuntimeException(RuntimeErrors.NULL_IN_VALUE_TYPE_ARRAY,
+                    getElementTypeName());
         }
-        int indexVal = (int) index;
-        if (indexVal < 0) {
-            throw BLangExceptionHelper
-                    .getRuntimeException(RuntimeErrors.ARRAY_INDEX_OUT_OF_RANGE, index, size);
-        }
-        ensureCapacity(indexVal);
-
-        int bucketIndex = indexVal / DEFAULT_ARRAY_SIZE;
-        int slot = indexVal % DEFAULT_ARRAY_SIZE;
-        arrayBucket[bucketIndex][slot] = value;
 
-        if (index >= size) {
-            size = indexVal + 1;
+        int indexVal = prepareIndexForAdd(index);
+        switch (storageKind) {
+            case INT_STORAGE:
+                intValues[indexVal] = ((BValueType) value).intValue();
+                break;
+            case FLOAT_STORAGE:
+                floatValues[indexVal] = ((BValueType) value).floatValue();
+                break;
+            case BOOLEAN_STORAGE:
+                booleanValues[indexVal] = ((BValueType) value).booleanValue();
+                break;
+            default:
+                refValues[indexVal] = value;
         }
     }
 
     @SuppressWarnings("unchecked")
     public V get(long index) {
-        if (index > Integer.MAX_VALUE || index < Integer.MIN_VALUE) {
-            throw BLangExceptionHelper
-                    .getRuntimeException(RuntimeErrors.INDEX_NUMBER_TOO_LARGE, index);
+        int indexVal = prepareIndexForGet(index);
+        switch (storageKind) {
+            case INT_STORAGE:
+                return (V) BInteger.valueOf(intValues[indexVal]);
+            case FLOAT_STORAGE:
+                return (V) new BFloat(floatValues[indexVal]);
+            case BOOLEAN_STORAGE:
+                return (V) BBoolean.valueOf(booleanValues[indexVal]);
+            default:
+                return (V) refValues[indexVal];
         }
-        int indexVal = (int) index;
-        rangeCheck(indexVal);
+    }
+
+    public void addInt(long index, long value) {
+        if (storageKind != INT_STORAGE) {
+            add(index, BInteger.valueOf(value));
+            return;
+        }
+        intValues[prepareIndexForAdd(index)] = value;
+    }
+
+    public long getInt(long index) {
+        if (storageKind != INT_STORAGE) {
+            return ((BValueType) get(index)).intValue();
+        }
+        return intValues[prepareIndexForGet(index)];
+    }
+
+    public void addFloat(long index, double value) {
+        if (storageKind != FLOAT_STORAGE) {
+            add(index, new BFloat(value));
+            return;
+        }
+        floatValues[prepareIndexForAdd(index)] = value;
+    }
+
+    public double getFloat(long index) {
+        if (storageKind != FLOAT_STORAGE) {
+            return ((BValueType) get(index)).floatValue();
+        }
+        return floatValues[prepareIndexForGet(index)];
+    }
+
+    public void addBoolean(long index, boolean value) {
+        if (storageKind != BOOLEAN_STORAGE) {
+            add(index, BBoolean.valueOf(value));
+            return;
+        }
+        booleanValues[prepareIndexForAdd(index)] = value;
+    }
+
+    public boolean getBoolean(long index) {
+        if (storageKind != BOOLEAN_STORAGE) {
+            return ((BValueType) get(index)).booleanValue();
+        }
+        return booleanValues[prepareIndexForGet(index)];
+    }
 
-        int bucketIndex = indexVal / DEFAULT_ARRAY_SIZE;
-        int slot = indexVal % DEFAULT_ARRAY_SIZE;
+    /**
+     * Create a new array of the same element type holding a copy of the given range of this array.
+     *
+     * @param from initial index of the range, inclusive
+     * @param to   final index of the range, exclusive
+     * @return a new array with the elements in the given range
+     */
+    public BArray<V> copyOfRange(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new BallerinaException(
+                    "Array index out of range. Actual:" + size + " requested: " + from + " to " + to);
+        }
+
+        BArray<V> newArray = new BArray<>(valueClass);
+        int length = to - from;
+        if (length == 0) {
+            return newArray;
+        }
 
-        return (V) arrayBucket[bucketIndex][slot];
+        newArray.ensureCapacity(length);
+        switch (storageKind) {
+            case INT_STORAGE:
+                System.arraycopy(intValues, from, newArray.intValues, 0, length);
+                break;
+            case FLOAT_STORAGE:
+                System.arraycopy(floatValues, from, newArray.floatValues, 0, length);
+                break;
+            case BOOLEAN_STORAGE:
+                System.arraycopy(booleanValues, from, newArray.booleanValues, 0, length);
+                break;
+            default:
+                System.arraycopy(refValues, from, newArray.refValues, 0, length);
+        }
+        newArray.size = length;
+        return newArray;
     }
 
     public int size() {
@@ -111,16 +216,49 @@ public final class BArray<V extends BValue> implements BRefType {
 
     // Private methods
 
+    private String getElementTypeName() {
+        switch (storageKind) {
+            case INT_STORAGE:
+                return "int";
+            case FLOAT_STORAGE:
+                return "float";
+            default:
+                return "boolean";
+        }
+    }
+
+    private int prepareIndexForAdd(long index) {
+        if (index > Integer.MAX_VALUE || index < Integer.MIN_VALUE) {
+            throw BLangExceptionHelper
+                    .getRuntimeException(RuntimeErrors.INDEX_NUMBER_TOO_LARGE, index);
+        }
+        int indexVal = (int) index;
+        if (indexVal < 0) {
+            throw BLangExceptionHelper
+                    .getRuntimeException(RuntimeErrors.ARRAY_INDEX_OUT_OF_RANGE, index, size);
+        }
+        ensureCapacity(indexVal + 1);
+
+        if (indexVal >= size) {
+            size = indexVal + 1;
+        }
+        return indexVal;
+    }
+
+    private int prepareIndexForGet(long index) {
+        if (index > Integer.MAX_VALUE || index < Integer.MIN_VALUE) {
+            throw BLangExceptionHelper
+                    .getRuntimeException(RuntimeErrors.INDEX_NUMBER_TOO_LARGE, index);
+        }
+        int indexVal = (int) index;
+        rangeCheck(indexVal);
+        return indexVal;
+    }
+
     /**
      * Checks if the given index is in range.  If not, throws an appropriate
      * runtime exception.
      */
-
-    @SuppressWarnings("unchecked")
-    private <V extends BValue> V[] createArray() {
-        return (V[]) Array.newInstance(this.valueClass, DEFAULT_ARRAY_SIZE);
-    }
-
     private void rangeCheck(int index) {
         if (index < 0 || index >= size) {
             throw BLangExceptionHelper
@@ -129,30 +267,36 @@ public final class BArray<V extends BValue> implements BRefType {
     }
 
     private void ensureCapacity(int capacityRequired) {
-        int bucketIndex = capacityRequired / DEFAULT_ARRAY_SIZE;
-
-        if (bucketIndex - lastBucketIndex > 0) {
-            grow(capacityRequired, bucketIndex);
+        if (capacityRequired > capacity) {
+            grow(capacityRequired);
         }
     }
 
-    private void grow(int capacityRequired, int bucketIndex) {
+    private void grow(int capacityRequired) {
         if (capacityRequired > MAX_ARRAY_SIZE) {
             throw new BallerinaException("Requested array size " + capacityRequired +
                     " exceeds limit: " + MAX_ARRAY_SIZE);
         }
 
-        if (bucketIndex >= arrayBucket.length) {
-            // We have to create new arrayBucket
-            arrayBucket = Arrays.copyOf(arrayBucket, arrayBucket.length + DEFAULT_ARRAY_BUCKET_SIZE);
-
+        int newCapacity = capacity == 0 ? DEFAULT_ARRAY_SIZE : capacity + (capacity >> 1);
+        if (newCapacity < capacityRequired || newCapacity > MAX_ARRAY_SIZE || newCapacity < 0) {
+            newCapacity = capacityRequired;
         }
 
-        if (bucketIndex > lastBucketIndex) {
-            for (int i = lastBucketIndex + 1; bucketIndex > lastBucketIndex; i++) {
-                arrayBucket[i] = createArray();
-                lastBucketIndex++;
-            }
+        switch (storageKind) {
+            case INT_STORAGE:
+                intValues = intValues == null ? new long[newCapacity] : Arrays.copyOf(intValues, newCapacity);
+                break;
+            case FLOAT_STORAGE:
+                floatValues = floatValues == null ? new double[newCapacity] : Arrays.copyOf(floatValues, newCapacity);
+                break;
+            case BOOLEAN_STORAGE:
+                booleanValues = booleanValues == null ? new boolean[newCapacity] :
+                        Arrays.copyOf(booleanValues, newCapacity);
+                break;
+            default:
+                refValues = refValues == null ? new BValue[newCapacity] : Arrays.copyOf(refValues, newCapacity);
         }
+        capacity = newCapacity;
     }
 }
@@ -45,6 +45,16 @@ public final class BBoolean extends BValueType {
         this.value = value;
     }
 
+    /**
+     * Returns the shared {@code BBoolean} instance for the given value.
+     *
+     * @param value boolean value
+     * @return {@link #TRUE} or {@link #FALSE}
+     */
+    public static BBoolean valueOf(boolean value) {
+        return value ? TRUE : FALSE;
+    }
+
     @Override
     public long intValue() {
         return 0;
@@ -75,4 +85,9 @@ public final class BBoolean extends BValueType {
         return ((BBoolean) obj).booleanValue() == value;
     }
 
+    @Override
+    public int hashCode() {
+        return Boolean.hashCode(value);
+    }
+
 }
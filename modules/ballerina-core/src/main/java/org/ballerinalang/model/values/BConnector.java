@@ -20,6 +20,8 @@ import org.ballerinalang.model.Connector;
 import org.ballerinalang.model.types.BType;
 import org.ballerinalang.model.types.BTypes;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+
 /**
  * The {@code BConnector} represents a Connector in Ballerina.
  *
@@ -29,6 +31,8 @@ public final class BConnector implements BRefType<Connector> {
 
     private Connector connector;
     private BValue[] connectorMemBlock;
+    // Whether the reference to the native connector, acquired when this value was created, has been released
+    private final AtomicBoolean released = new AtomicBoolean();
 
     public BConnector() {
         this(null, new BValue[0]);
@@ -47,6 +51,15 @@ public final class BConnector implements BRefType<Connector> {
         this.connectorMemBlock[offset] = bValue;
     }
 
+    /**
+     * Mark the reference to the native connector of this value as released.
+     *
+     * @return true if the reference was not released before
+     */
+    public boolean markReleased() {
+        return released.compareAndSet(false, true);
+    }
+
     @Override
     public Connector value() {
         return connector;
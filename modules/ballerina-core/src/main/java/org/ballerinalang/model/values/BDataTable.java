@@ -154,6 +154,26 @@ public class BDataTable implements BRefType<Object> {
         return iterator.getArray(columnName);
     }
     
+    public boolean isScrollable() {
+        return iterator.isScrollable();
+    }
+
+    public void rewind() {
+        iterator.rewind();
+    }
+
+    public boolean moveTo(long row) {
+        if (row > Integer.MAX_VALUE || row < Integer.MIN_VALUE) {
+            throw BLangExceptionHelper
+                    .getRuntimeException(RuntimeErrors.INDEX_NUMBER_TOO_LARGE, row);
+        }
+        return iterator.moveTo((int) row);
+    }
+
+    public int getRowCount() {
+        return iterator.getRowCount();
+    }
+
     public BJSON toJSON() {
         return new BJSON(new DataTableJSONDataSource(this));
     }
@@ -62,4 +62,9 @@ public final class BFloat extends BValueType {
     public boolean equals(Object obj) {
         return ((BFloat) obj).floatValue() == value;
     }
+
+    @Override
+    public int hashCode() {
+        return Double.hashCode(value);
+    }
 }
@@ -27,12 +27,38 @@ import org.ballerinalang.model.types.BTypes;
  */
 public final class BInteger extends BValueType {
 
+    // Range of the shared instances returned by valueOf
+    private static final int CACHE_LOW = -128;
+    private static final int CACHE_HIGH = 1023;
+    private static final BInteger[] CACHE = new BInteger[CACHE_HIGH - CACHE_LOW + 1];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new BInteger(i + CACHE_LOW);
+        }
+    }
+
     private long value;
 
     public BInteger(long value) {
         this.value = value;
     }
 
+    /**
+     * Returns a {@code BInteger} for the given value. Values in the range -128 to 1023 are served from a shared cache.
+     * Values outside the range are allocated, hence the interpreter still allocates for such int results, as it does
+     * for float and string results. The compiled mode keeps ints and floats in primitive registers instead.
+     *
+     * @param value int value
+     * @return {@code BInteger} for the value
+     */
+    public static BInteger valueOf(long value) {
+        if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+            return CACHE[(int) value - CACHE_LOW];
+        }
+        return new BInteger(value);
+    }
+
     @Override
     public long intValue() {
         return this.value;
@@ -62,4 +88,9 @@ public final class BInteger extends BValueType {
     public boolean equals(Object obj) {
         return ((BInteger) obj).intValue() == value;
     }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
 }
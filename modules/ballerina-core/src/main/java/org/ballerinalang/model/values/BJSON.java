@@ -19,22 +19,34 @@ package org.ballerinalang.model.values;
 
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonParser.Feature;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 import org.ballerinalang.model.types.BType;
 import org.ballerinalang.model.types.BTypes;
 import org.ballerinalang.runtime.message.BallerinaMessageDataSource;
 import org.ballerinalang.util.exceptions.BallerinaException;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * {@code BJSON} represents a JSON value in Ballerina.
+ * <p>
+ * A JSON created from raw UTF-8 content is parsed lazily. The content is validated in one scan, but the tree of the
+ * JSON is built only when its {@link #value()} is needed. Until then, elements are read from the content by
+ * {@link #readElement(Object[])}, and the content is written out byte-for-byte.
  *
  * @since 0.8.0
  */
@@ -54,6 +66,13 @@ public final class BJSON extends BallerinaMessageDataSource implements BRefType<
     // GSON json object model associated with this JSONType object
     private JsonNode value;
 
+    // Raw UTF-8 content of a lazily parsed JSON, until its tree is built
+    private byte[] raw;
+
+    // Byte offsets of the objects and arrays found in the raw content, mapped by their paths. The raw content and
+    // its offsets are guarded by this JSON, as they are updated while elements are read
+    private Map<List<Object>, Integer> containerOffsets;
+
     // Schema of this JSONType object model
     private JsonNode schema;
 
@@ -135,6 +154,31 @@ public final class BJSON extends BallerinaMessageDataSource implements BRefType<
         }
     }
 
+    /**
+     * Create a lazily parsed {@link BJSON} from its raw content. Content which is not UTF-8 is parsed at once.
+     *
+     * @param bytes JSON content, in a unicode encoding
+     */
+    public BJSON(byte[] bytes) {
+        try (JsonParser parser = OBJECT_MAPPER.getFactory().createParser(bytes)) {
+            JsonToken token = parser.nextToken();
+            // Byte offsets are known only for UTF-8 content
+            long offset = parser.getTokenLocation().getByteOffset();
+            if (token == null || offset < 0) {
+                this.value = OBJECT_MAPPER.readTree(bytes);
+                return;
+            }
+            parser.skipChildren();
+            this.raw = bytes;
+            this.containerOffsets = new HashMap<>();
+            if (token.isStructStart()) {
+                this.containerOffsets.put(Collections.emptyList(), (int) offset);
+            }
+        } catch (Throwable t) {
+            handleJsonException("failed to create json: ", t);
+        }
+    }
+
     /**
      * Return the string representation of this json object.
      */
@@ -147,8 +191,116 @@ public final class BJSON extends BallerinaMessageDataSource implements BRefType<
      *
      * @param value Value associated with this {@link BJSON} object.
      */
-    public void setValue(JsonNode value) {
+    public synchronized void setValue(JsonNode value) {
         this.value = value;
+        this.raw = null;
+        this.containerOffsets = null;
+    }
+
+    /**
+     * Check whether the tree of this {@link BJSON} is yet to be built from its raw content.
+     *
+     * @return true if the elements of this JSON are read from its raw content
+     */
+    public synchronized boolean isLazy() {
+        return this.raw != null;
+    }
+
+    /**
+     * Read an element of a lazily parsed {@link BJSON}, without building its tree. Only the objects and arrays on
+     * the path are scanned, starting from the deepest of them which has been scanned before. The element is parsed
+     * on its own, hence changes to it are not reflected in this JSON. Of duplicate fields, the last is read, as it is
+     * when the tree is built.
+     *
+     * @param path property names and array indexes leading to the element
+     * @return element, or null if there is no such element or if the tree of this JSON is already built
+     */
+    public synchronized JsonNode readElement(Object[] path) {
+        if (this.raw == null) {
+            return null;
+        }
+
+        int depth = path.length;
+        Integer start = this.containerOffsets.get(Arrays.asList(path).subList(0, depth));
+        while (start == null && depth > 0) {
+            depth--;
+            start = this.containerOffsets.get(Arrays.asList(path).subList(0, depth));
+        }
+        if (start == null) {
+            // The content is a single value, which does not have elements
+            return null;
+        }
+
+        try {
+            int offset = start;
+            for (int i = depth; i < path.length && offset >= 0; i++) {
+                offset = elementOffset(path, i, offset);
+            }
+            if (offset < 0) {
+                return null;
+            }
+            try (JsonParser parser = OBJECT_MAPPER.getFactory().createParser(this.raw, offset,
+                    this.raw.length - offset)) {
+                return OBJECT_MAPPER.readTree(parser);
+            }
+        } catch (Throwable t) {
+            handleJsonException("failed to read json element: ", t);
+        }
+        return null;
+    }
+
+    /**
+     * Find the byte offset of the element at a step of a path, in the container starting at the given offset. An
+     * object is scanned to its end, so that the last of duplicate fields is found. The containers found on the way
+     * are indexed by their paths.
+     */
+    private int elementOffset(Object[] path, int step, int start) throws IOException {
+        List<Object> containerPath = Arrays.asList(path).subList(0, step);
+        try (JsonParser parser = OBJECT_MAPPER.getFactory().createParser(this.raw, start, this.raw.length - start)) {
+            JsonToken token = parser.nextToken();
+            if (path[step] instanceof String) {
+                if (token != JsonToken.START_OBJECT) {
+                    return -1;
+                }
+                int offset = -1;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.getCurrentName();
+                    parser.nextToken();
+                    // Offsets of a parser are relative to the start of its input
+                    int elementStart = start + (int) parser.getTokenLocation().getByteOffset();
+                    indexContainer(parser, containerPath, name, elementStart);
+                    if (name.equals(path[step])) {
+                        offset = elementStart;
+                    }
+                    parser.skipChildren();
+                }
+                return offset;
+            }
+
+            if (token != JsonToken.START_ARRAY) {
+                return -1;
+            }
+            int index = (Integer) path[step];
+            for (int i = 0; parser.nextToken() != JsonToken.END_ARRAY; i++) {
+                int elementStart = start + (int) parser.getTokenLocation().getByteOffset();
+                indexContainer(parser, containerPath, i, elementStart);
+                if (i == index) {
+                    return elementStart;
+                }
+                parser.skipChildren();
+            }
+            return -1;
+        }
+    }
+
+    private void indexContainer(JsonParser parser, List<Object> parentPath, Object step, int offset) {
+        if (!parser.getCurrentToken().isStructStart()) {
+            return;
+        }
+        Object[] path = parentPath.toArray(new Object[parentPath.size() + 1]);
+        path[parentPath.size()] = step;
+        // A later one of duplicate fields replaces the earlier
+        this.containerOffsets.put(Arrays.asList(path), offset);
     }
 
     /**
@@ -174,8 +326,18 @@ public final class BJSON extends BallerinaMessageDataSource implements BRefType<
         try {
             /* the below order is important, where if the value is generated from a streaming data source,
              * it should be able to serialize the data out again using the value */
-            if (this.value != null) {
-                this.outputStream.write(OBJECT_MAPPER.writeValueAsBytes(this.value));  
+            JsonNode value;
+            byte[] raw;
+            synchronized (this) {
+                value = this.value;
+                raw = this.raw;
+            }
+            if (value != null) {
+                this.outputStream.write(OBJECT_MAPPER.writeValueAsBytes(value));
+                this.outputStream.flush();
+            } else if (raw != null) {
+                // The content has not been touched, hence it is written out as it was read
+                this.outputStream.write(raw);
                 this.outputStream.flush();
             } else {
                 JsonGenerator gen = JSON_FAC.createGenerator(this.outputStream);
@@ -198,14 +360,23 @@ public final class BJSON extends BallerinaMessageDataSource implements BRefType<
      * @return JSON object associated with this {@link BJSON} object
      */
     @Override
-    public JsonNode value() {
-        if (this.value == null) {
-            ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+    public synchronized JsonNode value() {
+        if (this.value == null && this.raw != null) {
+            // The tree may be changed once it is handed out, hence the raw content is no longer used
             try {
-                JsonGenerator gen = JSON_FAC.createGenerator(byteOut);
-                this.datasource.serialize(gen);
-                gen.close();
-                this.value = OBJECT_MAPPER.readTree(byteOut.toByteArray());
+                this.value = OBJECT_MAPPER.readTree(this.raw);
+            } catch (Throwable t) {
+                handleJsonException("Error in building JSON node", t);
+            }
+            this.raw = null;
+            this.containerOffsets = null;
+        } else if (this.value == null) {
+            // The tree is built from the tokens written by the data source, without encoding them as text
+            TokenBuffer buffer = new TokenBuffer(OBJECT_MAPPER, false);
+            try {
+                this.datasource.serialize(buffer);
+                this.value = OBJECT_MAPPER.readTree(buffer.asParser());
+                buffer.close();
             } catch (Throwable t) {
                 handleJsonException("Error in building JSON node", t);
             }
@@ -230,6 +401,13 @@ public final class BJSON extends BallerinaMessageDataSource implements BRefType<
 
     @Override
     public String getMessageAsString() {
+        byte[] raw;
+        synchronized (this) {
+            raw = this.raw;
+        }
+        if (raw != null) {
+            return new String(raw, StandardCharsets.UTF_8);
+        }
         try {
             return this.value.toString();
         } catch (Throwable t) {
@@ -21,38 +21,64 @@ import org.ballerinalang.model.types.BType;
 import org.ballerinalang.model.types.BTypes;
 import org.ballerinalang.runtime.message.BallerinaMessageDataSource;
 
+import java.util.AbstractSet;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 /**
  * {@code MapType} represents a map.
+ * <p>
+ * Entries are kept in insertion order in dense key/value arrays, and an open-addressing (linear probing) index
+ * table maps key hashes to positions in those arrays. Lookups, inserts and removals are O(1) expected time.
+ *
  * @param <BString> Key
  * @param <V> Value
  * @since 0.8.0
  */
 public class BMap<BString, V extends BValue> extends BallerinaMessageDataSource implements BRefType {
 
-    private int size;
     private static final int INITIAL_CAPACITY = 16;
-    private static final int MAX_CAPACITY = 1 << 16;
-    @SuppressWarnings("unchecked")
-    private MapEntry<BString, V>[] values = new MapEntry[INITIAL_CAPACITY];
+
+    // Markers used in the index table
+    private static final int EMPTY = -1;
+    private static final int DELETED = -2;
+
+    // Marker used in the key array for removed entries
+    private static final Object REMOVED = new Object();
+
+    // Number of live entries
+    private int size;
+
+    // Number of used entry slots, including removed ones
+    private int count;
+
+    // Number of structural modifications, used to fail the iterators of the key set fast
+    private int modCount;
+
+    private Object[] keys = new Object[INITIAL_CAPACITY];
+    private Object[] values = new Object[INITIAL_CAPACITY];
+    private int[] hashes = new int[INITIAL_CAPACITY];
+
+    // Open-addressing table holding entry positions. Always twice the entry capacity, so the load stays under 0.5
+    private int[] index = newIndex(INITIAL_CAPACITY * 2);
+
+    private Set<BString> keySet;
 
     /**
      * Retrieve the value for the given key from map.
      * @param key key used to get the value
      * @return value
      */
+    @SuppressWarnings("unchecked")
     public V get(BString key) {
-        for (int i = 0; i < size; i++) {
-            if (values[i] != null) {
-                if (values[i].getKey().equals(key)) {
-                    return values[i].getValue();
-                }
-            }
+        int slot = findSlot(key, hash(key));
+        if (slot < 0) {
+            return null;
         }
-        return null;
+        return (V) values[index[slot]];
     }
 
     /**
@@ -61,28 +87,33 @@ public class BMap<BString, V extends BValue> extends BallerinaMessageDataSource
      * @param value value related to the key
      */
     public void put(BString key, V value) {
-        boolean insert = true;
-        for (int i = 0; i < size; i++) {
-            if (values[i].getKey().equals(key)) {
-                values[i].setValue(value);
-                insert = false;
-            }
+        int hash = hash(key);
+        int slot = findSlot(key, hash);
+        if (slot >= 0) {
+            values[index[slot]] = value;
+            return;
         }
-        if (insert) {
-            ensureCapacity();
-            values[size++] = new MapEntry<>(key, value);
+
+        if (count == keys.length) {
+            resize();
         }
+
+        int pos = count++;
+        keys[pos] = key;
+        values[pos] = value;
+        hashes[pos] = hash;
+        index[insertionSlot(hash)] = pos;
+        size++;
+        modCount++;
     }
 
-    private void ensureCapacity() {
-        if (size == values.length) {
-            int newSize = values.length * 2;
-            if (newSize <= MAX_CAPACITY) {
-                values = Arrays.copyOf(values, newSize);
-            } else {
-                throw new RuntimeException(" Map cannot exceed the maximum size");
-            }
-        }
+    /**
+     * Returns true if this map contains a value for the given key.
+     * @param key key to look for
+     * @return flag indicating whether the key is present
+     */
+    public boolean containsKey(BString key) {
+        return findSlot(key, hash(key)) >= 0;
     }
 
     /**
@@ -98,29 +129,31 @@ public class BMap<BString, V extends BValue> extends BallerinaMessageDataSource
      * @param key key of the item to be removed
      */
     public void remove(BString key) {
-        for (int i = 0; i < size; i++) {
-            if (values[i].getKey().equals(key)) {
-                values[i] = null;
-                size--;
-                condenseArray(i);
-            }
+        int slot = findSlot(key, hash(key));
+        if (slot < 0) {
+            return;
         }
-    }
 
-    private void condenseArray(int start) {
-        System.arraycopy(values, start + 1, values, start, (values.length - start - 1));
+        int pos = index[slot];
+        index[slot] = DELETED;
+        keys[pos] = REMOVED;
+        values[pos] = null;
+        size--;
+        modCount++;
     }
 
     /**
      * Retrieve the set of keys related to this map.
+     * <p>
+     * The returned set is a read-only view backed by this map, iterated in insertion order. Its iterators throw a
+     * {@link ConcurrentModificationException} if keys are added to or removed from the map during the iteration.
      * @return returns the set of keys
      */
     public Set<BString> keySet() {
-        Set<BString> set = new HashSet<>();
-        for (int i = 0; i < size; i++) {
-            set.add(values[i].getKey());
+        if (keySet == null) {
+            keySet = new KeySet();
         }
-        return set;
+        return keySet;
     }
 
     /**Return true if this map is empty.
@@ -146,27 +179,134 @@ public class BMap<BString, V extends BValue> extends BallerinaMessageDataSource
         return BTypes.typeMap;
     }
 
-    private class MapEntry<K, V> {
-        private final K key;
-        private V value;
+    private static int hash(Object key) {
+        int h = key == null ? 0 : key.hashCode();
+        return h ^ (h >>> 16);
+    }
 
-        MapEntry(K key, V value) {
-            this.key = key;
-            this.value = value;
+    private static int[] newIndex(int length) {
+        int[] table = new int[length];
+        Arrays.fill(table, EMPTY);
+        return table;
+    }
+
+    /**
+     * Find the index table slot holding the given key.
+     *
+     * @param key  key to look for
+     * @param hash spread hash of the key
+     * @return slot in the index table or -1 if the key is not present
+     */
+    private int findSlot(Object key, int hash) {
+        int mask = index.length - 1;
+        int slot = hash & mask;
+        while (true) {
+            int pos = index[slot];
+            if (pos == EMPTY) {
+                return -1;
+            }
+            if (pos != DELETED && hashes[pos] == hash && keyEquals(keys[pos], key)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
         }
+    }
+
+    private int insertionSlot(int hash) {
+        int mask = index.length - 1;
+        int slot = hash & mask;
+        while (index[slot] >= 0) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
 
-        K getKey() {
-            return key;
+    private static boolean keyEquals(Object existing, Object key) {
+        return existing == key || (existing != null && key != null && existing.equals(key));
+    }
+
+    /**
+     * Make room for a new entry. Removed entries are compacted away, and the capacity is doubled only when more
+     * than half of the entry slots are still live.
+     */
+    private void resize() {
+        int capacity = keys.length;
+        if (size >= capacity / 2) {
+            capacity = capacity * 2;
         }
 
-        V getValue() {
-            return value;
+        Object[] newKeys = new Object[capacity];
+        Object[] newValues = new Object[capacity];
+        int[] newHashes = new int[capacity];
+        int pos = 0;
+        for (int i = 0; i < count; i++) {
+            if (keys[i] != REMOVED) {
+                newKeys[pos] = keys[i];
+                newValues[pos] = values[i];
+                newHashes[pos] = hashes[i];
+                pos++;
+            }
         }
 
-        void setValue(V value) {
-            this.value = value;
+        keys = newKeys;
+        values = newValues;
+        hashes = newHashes;
+        count = pos;
+        index = newIndex(capacity * 2);
+        for (int i = 0; i < count; i++) {
+            index[insertionSlot(hashes[i])] = i;
         }
     }
 
-}
+    /**
+     * Read-only, insertion ordered view of the keys of this map.
+     */
+    private class KeySet extends AbstractSet<BString> {
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean contains(Object o) {
+            // The type parameter shadows the BString value class, hence the qualified name
+            return o instanceof org.ballerinalang.model.values.BString && containsKey((BString) o);
+        }
+
+        @Override
+        public Iterator<BString> iterator() {
+            return new Iterator<BString>() {
+                private final int expectedModCount = modCount;
+                private int next = advance(0);
+
+                private int advance(int from) {
+                    while (from < count && keys[from] == REMOVED) {
+                        from++;
+                    }
+                    return from;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return next < count;
+                }
 
+                @Override
+                @SuppressWarnings("unchecked")
+                public BString next() {
+                    if (modCount != expectedModCount) {
+                        throw new ConcurrentModificationException();
+                    }
+                    if (next >= count) {
+                        throw new NoSuchElementException();
+                    }
+                    BString key = (BString) keys[next];
+                    next = advance(next + 1);
+                    return key;
+                }
+            };
+        }
+    }
+}
@@ -16,7 +16,12 @@
 
 package org.ballerinalang.model.values;
 
+import net.sf.saxon.s9api.XdmNode;
+import org.apache.axiom.om.OMAbstractFactory;
+import org.apache.axiom.om.OMAttribute;
+import org.apache.axiom.om.OMContainer;
 import org.apache.axiom.om.OMElement;
+import org.apache.axiom.om.OMNode;
 import org.apache.axiom.om.impl.builder.StAXOMBuilder;
 import org.apache.axiom.om.util.AXIOMUtil;
 import org.ballerinalang.model.types.BType;
@@ -37,6 +42,11 @@ public final class BXML extends BallerinaMessageDataSource implements BRefType<O
     private OMElement value;
     private OutputStream outputStream;
 
+    // Saxon tree of the value, which is valid only until the value is modified. The mutators of this class discard
+    // it, hence in-place changes to the value must be made through them
+    private XdmNode xdmNode;
+    private int modCount;
+
     /**
      * Initialize a {@link BXML} from a XML string.
      *
@@ -102,6 +112,142 @@ public final class BXML extends BallerinaMessageDataSource implements BRefType<O
         return this.value;
     }
 
+    /**
+     * Get the cached Saxon tree of this XML value.
+     *
+     * @return Saxon tree, or null if the tree is not built or the value has been modified since it was built
+     */
+    public synchronized XdmNode getXdmNode() {
+        return xdmNode;
+    }
+
+    /**
+     * Cache the Saxon tree of this XML value.
+     *
+     * @param xdmNode  Saxon tree built from the value
+     * @param modCount modification count of the value, when the tree was built
+     */
+    public synchronized void setXdmNode(XdmNode xdmNode, int modCount) {
+        // Discard a tree built from a value which has been modified meanwhile
+        if (this.modCount == modCount) {
+            this.xdmNode = xdmNode;
+        }
+    }
+
+    public synchronized int getModCount() {
+        return modCount;
+    }
+
+    /**
+     * Add a child element to a container of this XML value.
+     *
+     * @param parent container of this value
+     * @param child  element to be added
+     */
+    public void addChild(OMContainer parent, OMElement child) {
+        try {
+            parent.addChild(child);
+        } finally {
+            modified();
+        }
+    }
+
+    /**
+     * Add an attribute, without a namespace, to an element of this XML value.
+     *
+     * @param element element of this value
+     * @param name    name of the attribute
+     * @param value   value of the attribute
+     */
+    public void addAttribute(OMElement element, String name, String value) {
+        try {
+            element.addAttribute(name, value, null);
+        } finally {
+            modified();
+        }
+    }
+
+    /**
+     * Set the value of an attribute of this XML value.
+     *
+     * @param attribute attribute of this value
+     * @param value     new value of the attribute
+     */
+    public void setAttributeValue(OMAttribute attribute, String value) {
+        try {
+            attribute.setAttributeValue(value);
+        } finally {
+            modified();
+        }
+    }
+
+    /**
+     * Replace the content of an element of this XML value with a text.
+     *
+     * @param element element of this value
+     * @param text    new text of the element
+     */
+    public void setText(OMElement element, String text) {
+        try {
+            element.setText(text);
+        } finally {
+            modified();
+        }
+    }
+
+    /**
+     * Remove a node from this XML value.
+     *
+     * @param node node of this value
+     */
+    public void detach(OMNode node) {
+        try {
+            node.detach();
+        } finally {
+            modified();
+        }
+    }
+
+    /**
+     * Replace a node of this XML value with an element. The element is added as the last child of the parent of the
+     * node.
+     *
+     * @param node        node of this value
+     * @param replacement element to be added
+     */
+    public void replace(OMNode node, OMElement replacement) {
+        try {
+            OMContainer parent = node.getParent();
+            node.detach();
+            parent.addChild(replacement);
+        } finally {
+            modified();
+        }
+    }
+
+    /**
+     * Replace a node of this XML value with a text. The text is added as the last child of the parent of the node.
+     *
+     * @param node node of this value
+     * @param text text to be added
+     */
+    public void replaceWithText(OMNode node, String text) {
+        try {
+            OMContainer parent = node.getParent();
+            node.detach();
+            OMAbstractFactory.getOMFactory().createOMText(parent, text);
+        } finally {
+            modified();
+        }
+    }
+
+    // The cached Saxon tree is discarded once the value is modified. A tree built while the value was being modified
+    // is discarded by setXdmNode, as its modification count is no longer current.
+    private synchronized void modified() {
+        modCount++;
+        xdmNode = null;
+    }
+
     @Override
     public String stringValue() {
         if (this.value != null) {
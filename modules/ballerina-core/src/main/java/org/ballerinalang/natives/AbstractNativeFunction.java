@@ -34,6 +34,8 @@ import org.ballerinalang.model.types.SimpleTypeName;
 import org.ballerinalang.model.values.BException;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.natives.exceptions.ArgumentOutOfRangeException;
+import org.ballerinalang.runtime.metrics.ErrorCategory;
+import org.ballerinalang.runtime.metrics.Metrics;
 import org.ballerinalang.util.exceptions.BallerinaException;
 import org.ballerinalang.util.exceptions.FlowBuilderException;
 
@@ -69,6 +71,7 @@ public abstract class AbstractNativeFunction implements NativeUnit, Function {
     private SimpleTypeName[] argTypeNames;
     private String[] argNames;
     private int tempStackFrameSize;
+    private NativeFunctionInvoker invoker;
 
     /**
      * Initialize a native function.
@@ -111,6 +114,7 @@ public abstract class AbstractNativeFunction implements NativeUnit, Function {
      * @param context Ballerina Context
      */
     public void executeNative(Context context) {
+        long startTime = Metrics.ENABLED ? System.nanoTime() : 0;
         try {
             BValue[] retVals = execute(context);
             BValue[] returnRefs = context.getControlStack().getCurrentFrame().returnValues;
@@ -124,6 +128,9 @@ public abstract class AbstractNativeFunction implements NativeUnit, Function {
                 }
             }
         } catch (RuntimeException e) {
+            if (Metrics.ENABLED) {
+                Metrics.errorOccurred(ErrorCategory.NATIVE_FUNCTION);
+            }
             BException exception = new BException(e.getMessage());
             // TODO : Fix this once we remove Blocking executor
             if (context.getExecutor() != null) {
@@ -131,9 +138,62 @@ public abstract class AbstractNativeFunction implements NativeUnit, Function {
             } else {
                 throw e;
             }
+        } finally {
+            if (Metrics.ENABLED) {
+                Metrics.nativeFunctionInvoked(getPackagePath(), getName(), startTime);
+            }
         }
     }
 
+    /**
+     * Invoke this native function through its invoker, with the values of its arguments. Unlike
+     * {@link #executeNative(Context)}, no stack frame is used.
+     *
+     * @param context Ballerina Context
+     * @param args    values of the arguments, which may be followed by unused elements
+     * @return return value, or null if the function does not return a value
+     */
+    public BValue invokeNative(Context context, BValue[] args) {
+        long startTime = Metrics.ENABLED ? System.nanoTime() : 0;
+        try {
+            return invoker.invoke(context, args);
+        } catch (NullPointerException e) {
+            if (Metrics.ENABLED) {
+                Metrics.errorOccurred(ErrorCategory.NATIVE_FUNCTION);
+            }
+            // Null arguments are passed on to the function, which checks the ones it accepts. An argument which the
+            // function does not accept is reported as getArgument(Context, int) does
+            for (int i = 0; i < argTypeNames.length; i++) {
+                if (args[i] == null) {
+                    throw new BallerinaException("argument " + i + " is null");
+                }
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            if (Metrics.ENABLED) {
+                Metrics.errorOccurred(ErrorCategory.NATIVE_FUNCTION);
+            }
+            throw e;
+        } finally {
+            if (Metrics.ENABLED) {
+                Metrics.nativeFunctionInvoked(getPackagePath(), getName(), startTime);
+            }
+        }
+    }
+
+    /**
+     * Get the invoker of this native function.
+     *
+     * @return invoker, or null if the function is executed only through {@link #execute(Context)}
+     */
+    public NativeFunctionInvoker getInvoker() {
+        return invoker;
+    }
+
+    public void setInvoker(NativeFunctionInvoker invoker) {
+        this.invoker = invoker;
+    }
+
     /**
      * Util method to construct BValue arrays.
      *
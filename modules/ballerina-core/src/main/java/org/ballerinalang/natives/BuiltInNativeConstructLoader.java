@@ -19,17 +19,25 @@
 package org.ballerinalang.natives;
 
 import org.ballerinalang.model.GlobalScope;
+import org.ballerinalang.util.exceptions.BallerinaException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Enumeration;
 import java.util.Iterator;
 import java.util.ServiceLoader;
 
 /**
  * {@code BuiltInNativeConstructLoader} is responsible for loading built-in native constructs in the ballerina.
- * Constructs are loaded via java SPI. Each module implementing a native construct will register their
- * implementations as a service provider.
+ * Each module implementing native constructs has a {@link NativeSymbolIndex}, generated at build time, which is
+ * added to the global scope. The constructs in the index are resolved lazily, hence a native package which is never
+ * imported is not loaded at all.
  * <p>
+ * Modules may also register {@link NativeConstructLoader}s as service providers, via java SPI, which load their
+ * constructs eagerly.
  *
  * @since 0.8.0
  */
@@ -43,6 +51,12 @@ public class BuiltInNativeConstructLoader {
      * @param globalScope   Symbol scope to load native constructs
      */
     public static void loadConstructs(GlobalScope globalScope) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = BuiltInNativeConstructLoader.class.getClassLoader();
+        }
+        loadNativeSymbolIndexes(globalScope, classLoader);
+
         Iterator<NativeConstructLoader> nativeConstructLoaders =
             ServiceLoader.load(NativeConstructLoader.class).iterator();
         while (nativeConstructLoaders.hasNext()) {
@@ -51,6 +65,23 @@ public class BuiltInNativeConstructLoader {
         }
     }
 
+    private static void loadNativeSymbolIndexes(GlobalScope globalScope, ClassLoader classLoader) {
+        try {
+            Enumeration<URL> indexFiles = classLoader.getResources(NativeSymbolIndex.INDEX_FILE);
+            while (indexFiles.hasMoreElements()) {
+                URL indexFile = indexFiles.nextElement();
+                try (InputStream in = indexFile.openStream()) {
+                    globalScope.addNativeSymbolIndex(NativeSymbolIndex.read(in, classLoader));
+                }
+                if (log.isDebugEnabled()) {
+                    log.debug("Loaded the native symbol index " + indexFile);
+                }
+            }
+        } catch (IOException e) {
+            throw new BallerinaException("error while loading the native symbol indexes: " + e.getMessage(), e);
+        }
+    }
+
     public static void loadConstructs() {
     }
 }
@@ -0,0 +1,42 @@
+/*
+ *  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.natives;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.model.values.BValue;
+
+/**
+ * {@code NativeFunctionInvoker} calls a native function with the values of its arguments, without a stack frame.
+ * <p>
+ * An invoker is generated by the annotation processor for each native function which has a typed {@code invoke}
+ * method, taking the {@link Context} and the arguments of the function, and returning its return value, if any.
+ *
+ * @since 0.87
+ */
+@FunctionalInterface
+public interface NativeFunctionInvoker {
+
+    /**
+     * Invoke the native function.
+     *
+     * @param context current {@code {@link Context}} instance
+     * @param args    values of the arguments, which are not null
+     * @return return value, or null if the function does not return a value
+     */
+    BValue invoke(Context context, BValue[] args);
+}
@@ -0,0 +1,310 @@
+/*
+ *  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.natives;
+
+import org.ballerinalang.model.BLangPackage;
+import org.ballerinalang.model.FunctionSymbolName;
+import org.ballerinalang.model.GlobalScope;
+import org.ballerinalang.model.NativeUnit;
+import org.ballerinalang.model.SymbolName;
+import org.ballerinalang.model.SymbolScope;
+import org.ballerinalang.model.symbols.BLangSymbol;
+import org.ballerinalang.model.types.SimpleTypeName;
+import org.ballerinalang.natives.connectors.AbstractNativeConnector;
+import org.ballerinalang.util.exceptions.BallerinaException;
+import org.ballerinalang.util.exceptions.NativeException;
+import org.ballerinalang.util.repository.BuiltinPackageRepository;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+/**
+ * {@code NativeSymbolIndex} is the index of the native constructs of a module, which is generated by the annotation
+ * processor at build time, in {@value #INDEX_FILE}.
+ * <p>
+ * The index holds the built-in packages of the module, and the signatures of their native functions, connectors and
+ * actions, as well as the native type mappers. Packages and type mappers are sorted by their names, and only their
+ * names are read when the index is loaded. The constructs of a package are read when the package is first resolved,
+ * and a construct is instantiated only when it is first used.
+ * <p>
+ * The layout of the index is,
+ * <pre>
+ * magic, version, provider class
+ * package count, (package name, offset)*      sorted by the package name
+ * type mapper count, (type mapper name, offset)*      sorted by the type mapper name
+ * entries
+ * </pre>
+ * where an offset is the position of a package or a type mapper in the entries. A package is its construct count and
+ * its constructs, and a construct is its kind, symbol name, name, implementation class, whether it has an invoker,
+ * its arguments, its return types, and the actions of a connector.
+ *
+ * @since 0.87
+ */
+public class NativeSymbolIndex {
+
+    public static final String INDEX_FILE = "META-INF/ballerina/natives.idx";
+
+    public static final int MAGIC = 0x42414C4E;
+    public static final short VERSION = 1;
+
+    public static final byte FUNCTION = 1;
+    public static final byte CONNECTOR = 2;
+    public static final byte ACTION = 3;
+    public static final byte TYPE_MAPPER = 4;
+
+    private static final String SET_INVOKER_METHOD = "setInvoker";
+
+    private final byte[] data;
+    private final int entriesOffset;
+    private final ClassLoader classLoader;
+    private final String providerClassName;
+    private final String[] packageNames;
+    private final int[] packageOffsets;
+    private final String[] typeMapperNames;
+    private final int[] typeMapperOffsets;
+
+    private Class<?> providerClass;
+    private Method setInvokerMethod;
+
+    private NativeSymbolIndex(byte[] data, ClassLoader classLoader) throws IOException {
+        this.data = data;
+        this.classLoader = classLoader;
+        ByteArrayInputStream byteStream = new ByteArrayInputStream(data);
+        DataInputStream in = new DataInputStream(byteStream);
+        if (in.readInt() != MAGIC) {
+            throw new IOException("not a native symbol index");
+        }
+        short version = in.readShort();
+        if (version != VERSION) {
+            throw new IOException("unsupported native symbol index version: " + version);
+        }
+        providerClassName = in.readUTF();
+
+        packageNames = new String[in.readInt()];
+        packageOffsets = new int[packageNames.length];
+        for (int i = 0; i < packageNames.length; i++) {
+            packageNames[i] = in.readUTF();
+            packageOffsets[i] = in.readInt();
+        }
+        typeMapperNames = new String[in.readInt()];
+        typeMapperOffsets = new int[typeMapperNames.length];
+        for (int i = 0; i < typeMapperNames.length; i++) {
+            typeMapperNames[i] = in.readUTF();
+            typeMapperOffsets[i] = in.readInt();
+        }
+        entriesOffset = data.length - byteStream.available();
+    }
+
+    /**
+     * Read a native symbol index.
+     *
+     * @param in          input stream of the index
+     * @param classLoader class loader of the native constructs in the index
+     * @return native symbol index
+     */
+    public static NativeSymbolIndex read(InputStream in, ClassLoader classLoader) {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int length;
+            while ((length = in.read(buffer)) != -1) {
+                out.write(buffer, 0, length);
+            }
+            return new NativeSymbolIndex(out.toByteArray(), classLoader);
+        } catch (IOException e) {
+            throw new BallerinaException("error while reading the native symbol index: " + e.getMessage(), e);
+        }
+    }
+
+    public String getProviderClassName() {
+        return providerClassName;
+    }
+
+    /**
+     * Resolve a top level symbol from the index, which is either a built-in package or a native type mapper.
+     *
+     * @param name        name of the symbol
+     * @param globalScope global scope, which is the enclosing scope of the packages
+     * @return package proxy or type mapper proxy, or null if the index does not have the symbol
+     */
+    public BLangSymbol resolve(String name, GlobalScope globalScope) {
+        int index = Arrays.binarySearch(packageNames, name);
+        if (index >= 0) {
+            int offset = packageOffsets[index];
+            return new NativePackageProxy(() -> loadPackage(name, offset, globalScope), globalScope);
+        }
+
+        index = Arrays.binarySearch(typeMapperNames, name);
+        if (index >= 0) {
+            IndexEntry entry = readEntries(typeMapperOffsets[index], 1)[0];
+            return createProxy(entry, null);
+        }
+        return null;
+    }
+
+    private BLangPackage loadPackage(String packagePath, int offset, GlobalScope globalScope) {
+        BLangPackage nativePackage = new BLangPackage(globalScope);
+        nativePackage.setPackagePath(packagePath);
+        for (IndexEntry entry : readEntries(offset, -1)) {
+            nativePackage.define(entry.getSymbolName(), createProxy(entry, nativePackage));
+        }
+        nativePackage.setPackageRepository(new BuiltinPackageRepository(getProviderClass()));
+        return nativePackage;
+    }
+
+    private NativeUnitProxy createProxy(IndexEntry entry, SymbolScope enclosingScope) {
+        return new NativeUnitProxy(() -> createNativeUnit(entry, enclosingScope), entry.argTypes);
+    }
+
+    private NativeUnit createNativeUnit(IndexEntry entry, SymbolScope enclosingScope) {
+        NativeUnit nativeUnit;
+        try {
+            Class<?> nativeUnitClass = Class.forName(entry.className, true, classLoader);
+            if (entry.kind == CONNECTOR) {
+                nativeUnit = (NativeUnit) nativeUnitClass.getConstructor(SymbolScope.class)
+                        .newInstance(enclosingScope);
+            } else {
+                nativeUnit = (NativeUnit) nativeUnitClass.getConstructor().newInstance();
+            }
+            nativeUnit.setName(entry.name);
+            nativeUnit.setPackagePath(entry.packagePath);
+            nativeUnit.setArgNames(entry.argNames);
+            nativeUnit.setArgTypeNames(entry.argTypes);
+            nativeUnit.setReturnParamTypeNames(entry.returnTypes);
+            nativeUnit.setStackFrameSize(entry.argTypes.length);
+            nativeUnit.setSymbolName(entry.getSymbolName());
+            if (entry.hasInvoker) {
+                getSetInvokerMethod().invoke(null, entry.packagePath + ":" + entry.symbolName, nativeUnit);
+            }
+            if (entry.kind == CONNECTOR) {
+                AbstractNativeConnector connector = (AbstractNativeConnector) nativeUnit;
+                for (IndexEntry action : entry.actions) {
+                    connector.addAction(action.getSymbolName(), createProxy(action, connector));
+                }
+            }
+        } catch (Throwable t) {
+            throw new NativeException("internal error occured in '" + entry.packagePath + ":" + entry.name + "'", t);
+        }
+        return nativeUnit;
+    }
+
+    private synchronized Class<?> getProviderClass() {
+        if (providerClass == null) {
+            try {
+                providerClass = Class.forName(providerClassName, true, classLoader);
+            } catch (ClassNotFoundException e) {
+                throw new BallerinaException("native construct provider '" + providerClassName + "' not found", e);
+            }
+        }
+        return providerClass;
+    }
+
+    private synchronized Method getSetInvokerMethod() throws NoSuchMethodException {
+        if (setInvokerMethod == null) {
+            setInvokerMethod = getProviderClass().getMethod(SET_INVOKER_METHOD, String.class, NativeUnit.class);
+        }
+        return setInvokerMethod;
+    }
+
+    /**
+     * Read the entries at an offset.
+     *
+     * @param offset offset of the entries
+     * @param count  number of entries, or -1 if the number of entries is read from the index
+     * @return entries
+     */
+    private IndexEntry[] readEntries(int offset, int count) {
+        DataInputStream in = new DataInputStream(
+                new ByteArrayInputStream(data, entriesOffset + offset, data.length - entriesOffset - offset));
+        try {
+            IndexEntry[] entries = new IndexEntry[(count < 0) ? in.readShort() : count];
+            for (int i = 0; i < entries.length; i++) {
+                entries[i] = readEntry(in);
+            }
+            return entries;
+        } catch (IOException e) {
+            throw new BallerinaException("error while reading the native symbol index: " + e.getMessage(), e);
+        }
+    }
+
+    private static IndexEntry readEntry(DataInputStream in) throws IOException {
+        IndexEntry entry = new IndexEntry();
+        entry.kind = in.readByte();
+        entry.symbolName = in.readUTF();
+        entry.name = in.readUTF();
+        entry.packagePath = in.readUTF();
+        entry.className = in.readUTF();
+        entry.hasInvoker = in.readBoolean();
+
+        int argCount = in.readShort();
+        entry.argNames = new String[argCount];
+        entry.argTypes = new SimpleTypeName[argCount];
+        for (int i = 0; i < argCount; i++) {
+            entry.argNames[i] = in.readUTF();
+            entry.argTypes[i] = readTypeName(in);
+        }
+        entry.returnTypes = new SimpleTypeName[in.readShort()];
+        for (int i = 0; i < entry.returnTypes.length; i++) {
+            entry.returnTypes[i] = readTypeName(in);
+        }
+        if (entry.kind == CONNECTOR) {
+            entry.actions = new IndexEntry[in.readShort()];
+            for (int i = 0; i < entry.actions.length; i++) {
+                entry.actions[i] = readEntry(in);
+            }
+        }
+        return entry;
+    }
+
+    private static SimpleTypeName readTypeName(DataInputStream in) throws IOException {
+        String name = in.readUTF();
+        String packagePath = in.readBoolean() ? in.readUTF() : null;
+        boolean isArray = in.readBoolean();
+        int dimensions = in.readByte();
+        return (packagePath == null) ? new SimpleTypeName(name, isArray, dimensions) :
+                new SimpleTypeName(name, packagePath, isArray, dimensions);
+    }
+
+    /**
+     * A native construct in the index.
+     */
+    private static class IndexEntry {
+        private byte kind;
+        private String symbolName;
+        private String name;
+        private String packagePath;
+        private String className;
+        private boolean hasInvoker;
+        private String[] argNames;
+        private SimpleTypeName[] argTypes;
+        private SimpleTypeName[] returnTypes;
+        private IndexEntry[] actions;
+
+        SymbolName getSymbolName() {
+            if (kind == FUNCTION) {
+                return new FunctionSymbolName(symbolName, name, argTypes.length);
+            }
+            return new SymbolName(symbolName);
+        }
+    }
+}
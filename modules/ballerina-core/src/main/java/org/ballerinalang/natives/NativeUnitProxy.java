@@ -23,22 +23,30 @@ import org.ballerinalang.model.NodeVisitor;
 import org.ballerinalang.model.SymbolName;
 import org.ballerinalang.model.SymbolScope;
 import org.ballerinalang.model.symbols.BLangSymbol;
+import org.ballerinalang.model.types.SimpleTypeName;
 
 import java.util.function.Supplier;
 
 /**
- * Proxy class to hold Native units.
+ * Proxy class to hold Native units. The argument types of a native unit may be given along with the supplier, so that
+ * they are known without loading the native unit.
  *
  * @since 0.8.0
  */
 public class NativeUnitProxy implements BLangSymbol, CompilationUnit {
     private Supplier<NativeUnit> nativeFunctionSupplier;
     private NativeUnit nativeUnit;
+    private SimpleTypeName[] argTypeNames;
 
     public NativeUnitProxy(Supplier<NativeUnit> nativeFunctionSupplier) {
         this.nativeFunctionSupplier = nativeFunctionSupplier;
     }
 
+    public NativeUnitProxy(Supplier<NativeUnit> nativeFunctionSupplier, SimpleTypeName[] argTypeNames) {
+        this.nativeFunctionSupplier = nativeFunctionSupplier;
+        this.argTypeNames = argTypeNames;
+    }
+
     @Override
     public String getName() {
         return null;
@@ -76,6 +84,19 @@ public class NativeUnitProxy implements BLangSymbol, CompilationUnit {
         return nativeUnit;
     }
 
+    /**
+     * Get the simple type names of the arguments of the native unit, which loads the native unit only if they were
+     * not given.
+     *
+     * @return Simple type names of the arguments
+     */
+    public SimpleTypeName[] getArgumentTypeNames() {
+        if (argTypeNames == null) {
+            argTypeNames = load().getArgumentTypeNames();
+        }
+        return argTypeNames;
+    }
+
     @Override
     public void accept(NodeVisitor visitor) {
         // do nothing
@@ -72,6 +72,33 @@ public abstract class AbstractNativeConnector extends BType implements NativeUni
      */
     public abstract AbstractNativeConnector  getInstance();
 
+    /**
+     * Whether an initialized instance of the connector can be shared by the {@code create} expressions with the same
+     * arguments. A connector is shareable if its state depends only on its arguments, and its actions can be invoked
+     * concurrently.
+     *
+     * @return true if the connector can be shared, false otherwise
+     * @see ConnectorRegistry
+     */
+    public boolean isShareable() {
+        return false;
+    }
+
+    /**
+     * Release the resources held by an initialized instance of the connector, such as its connection pool.
+     */
+    public void destroy() {
+    }
+
+    /**
+     * Get the statistics of an initialized instance of the connector, such as the statistics of its connection pool.
+     *
+     * @return statistics, mapped by their names
+     */
+    public Map<String, Object> getStatistics() {
+        return Collections.emptyMap();
+    }
+
 
     // Methods in BLangSymbol interface
 
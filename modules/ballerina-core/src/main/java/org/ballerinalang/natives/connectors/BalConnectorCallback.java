@@ -22,23 +22,49 @@ import org.ballerinalang.model.nodes.fragments.expressions.InvokeNativeActionNod
 import org.ballerinalang.model.values.BMessage;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.runtime.DefaultBalCallback;
+import org.ballerinalang.runtime.ServerConnectorMessageHandler;
+import org.ballerinalang.runtime.metrics.ErrorCategory;
+import org.ballerinalang.runtime.metrics.Metrics;
 import org.ballerinalang.runtime.threadpool.ResponseWorkerThread;
 import org.ballerinalang.runtime.threadpool.ThreadPoolFactory;
+import org.ballerinalang.util.exceptions.BallerinaException;
 import org.wso2.carbon.messaging.CarbonMessage;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 /**
  * A class used by connectors to receive response from external system and correlate request context with response.
  */
 public class BalConnectorCallback extends DefaultBalCallback {
 
+    // Times out the non-blocking calls, whose threads are released while waiting for the response
+    private static final ScheduledThreadPoolExecutor TIMEOUT_SCHEDULER = createTimeoutScheduler();
+
     private InvokeNativeActionNode actionNode;
 
     private Context context;
 
-    private boolean responseArrived = false;
+    private volatile boolean responseArrived = false;
+
+    private volatile boolean timedOut = false;
+
+    // Set by either the response or the timeout, whichever happens first
+    private final AtomicBoolean completed = new AtomicBoolean(false);
+
+    private volatile ScheduledFuture<?> timeoutTask;
+
+    private long timeout;
 
     private BValue valueRef;
 
+    // Invocation time of a non-blocking action, when metrics are enabled
+    private long startTime;
+
     public BalConnectorCallback(Context context) {
         super(context.getBalCallback());
         this.context = context;
@@ -48,18 +74,106 @@ public class BalConnectorCallback extends DefaultBalCallback {
         super(context.getBalCallback());
         this.context = context;
         this.actionNode = current;
+        if (Metrics.ENABLED) {
+            this.startTime = System.nanoTime();
+        }
     }
 
     public boolean isResponseArrived() {
         return responseArrived;
     }
 
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+
+    public long getTimeout() {
+        return timeout;
+    }
+
     public BValue getValueRef() {
         return valueRef;
     }
 
+    /**
+     * Wait for the response of a blocking call. The wait is a {@link ForkJoinPool.ManagedBlocker}, so that a worker
+     * which waits for an action lets its fork join pool start another thread in the meantime.
+     *
+     * @param timeout maximum time to wait in milliseconds
+     * @return true if the response arrived, or false if the call timed out
+     * @throws InterruptedException if the waiting thread is interrupted
+     */
+    public boolean awaitResponse(long timeout) throws InterruptedException {
+        this.timeout = timeout;
+        long deadline = System.currentTimeMillis() + timeout;
+        ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+            @Override
+            public boolean block() throws InterruptedException {
+                waitForResponse(deadline);
+                return true;
+            }
+
+            @Override
+            public boolean isReleasable() {
+                return responseArrived || timedOut;
+            }
+        });
+        return responseArrived;
+    }
+
+    private synchronized void waitForResponse(long deadline) throws InterruptedException {
+        while (!responseArrived) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining > 0) {
+                wait(remaining);
+            } else if (completed.compareAndSet(false, true)) {
+                // A response arriving after this is ignored. The latency of the blocking action is recorded by the
+                // executor, once the action returns
+                timedOut = true;
+                if (Metrics.ENABLED) {
+                    Metrics.errorOccurred(ErrorCategory.TIMEOUT);
+                }
+                return;
+            } else {
+                // The response is already being delivered
+                wait();
+            }
+        }
+    }
+
+    /**
+     * Time out a non-blocking call, if the response does not arrive within the given time. The execution then
+     * continues with {@link #isTimedOut()} set.
+     *
+     * @param timeout maximum time to wait for the response in milliseconds
+     */
+    public void scheduleTimeout(long timeout) {
+        this.timeout = timeout;
+        timeoutTask = TIMEOUT_SCHEDULER.schedule(() -> {
+            if (completed.compareAndSet(false, true)) {
+                timedOut = true;
+                if (Metrics.ENABLED) {
+                    Metrics.errorOccurred(ErrorCategory.TIMEOUT);
+                    recordAction();
+                }
+                continueExecution(null);
+            }
+        }, timeout, TimeUnit.MILLISECONDS);
+    }
+
     @Override
     public void done(CarbonMessage carbonMessage) {
+        if (!completed.compareAndSet(false, true)) {
+            // The call has already timed out
+            return;
+        }
+        if (timeoutTask != null) {
+            timeoutTask.cancel(false);
+        }
+        if (Metrics.ENABLED) {
+            recordAction();
+        }
+
         BMessage bMessage = new BMessage(carbonMessage);
         valueRef = bMessage;
         //context.getControlStack().setValue(4, valueRef);
@@ -67,11 +181,11 @@ public class BalConnectorCallback extends DefaultBalCallback {
         responseArrived = true;
         if (isNonBlockingExecutor()) {
             // spawn a new thread to continue execution.
-            ThreadPoolFactory.getInstance().getExecutor().execute(new ResponseWorkerThread(carbonMessage, this));
+            continueExecution(carbonMessage);
         } else {
             // Release Thread.
-            synchronized (context) {
-                context.notifyAll();
+            synchronized (this) {
+                notifyAll();
             }
         }
     }
@@ -92,4 +206,34 @@ public class BalConnectorCallback extends DefaultBalCallback {
     public InvokeNativeActionNode getActionNode() {
         return actionNode;
     }
+
+    private void continueExecution(CarbonMessage carbonMessage) {
+        try {
+            ThreadPoolFactory.getInstance().getResponseScheduler()
+                    .execute(new ResponseWorkerThread(carbonMessage, this));
+        } catch (RejectedExecutionException e) {
+            // The action cannot continue, fail its request instead of leaving it suspended
+            ServerConnectorMessageHandler.handleErrorFromOutbound(context,
+                    new BallerinaException("response of the action rejected, server is busy", e));
+        }
+    }
+
+    private void recordAction() {
+        // Blocking actions are recorded by the executor, whether they complete, fail or time out
+        if (actionNode != null) {
+            AbstractNativeAction action = actionNode.getCallableUnit();
+            Metrics.actionInvoked(action.getPackagePath(), action.getName(), startTime);
+        }
+    }
+
+    private static ScheduledThreadPoolExecutor createTimeoutScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "BLangConnectorTimeout");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Most calls complete before they time out, do not keep the cancelled timeouts in the queue
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
 }
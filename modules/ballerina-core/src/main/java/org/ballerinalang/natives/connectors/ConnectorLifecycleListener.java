@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.natives.connectors;
+
+/**
+ * {@code ConnectorLifecycleListener} is notified of the lifecycle events of the connectors shared by the
+ * {@link ConnectorRegistry}. Listeners are called while the connector is locked, hence they should not block.
+ *
+ * @since 0.87
+ */
+public interface ConnectorLifecycleListener {
+
+    /**
+     * Called when a shared connector is created and initialized.
+     *
+     * @param id        identifier of the connector
+     * @param connector connector
+     */
+    default void connectorCreated(String id, AbstractNativeConnector connector) {
+    }
+
+    /**
+     * Called when a reference to a shared connector is acquired.
+     *
+     * @param id             identifier of the connector
+     * @param connector      connector
+     * @param referenceCount number of references to the connector
+     */
+    default void connectorAcquired(String id, AbstractNativeConnector connector, int referenceCount) {
+    }
+
+    /**
+     * Called when a reference to a shared connector is released.
+     *
+     * @param id             identifier of the connector
+     * @param connector      connector
+     * @param referenceCount number of remaining references to the connector
+     */
+    default void connectorReleased(String id, AbstractNativeConnector connector, int referenceCount) {
+    }
+
+    /**
+     * Called when a shared connector is destroyed.
+     *
+     * @param id        identifier of the connector
+     * @param connector connector
+     */
+    default void connectorDestroyed(String id, AbstractNativeConnector connector) {
+    }
+}
@@ -0,0 +1,356 @@
+/*
+ *  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.natives.connectors;
+
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BConnector;
+import org.ballerinalang.model.values.BFloat;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * {@code ConnectorRegistry} shares the native connectors of the runtime.
+ * <p>
+ * A native connector which is {@link AbstractNativeConnector#isShareable() shareable} is created and initialized
+ * once for its type and arguments, and the connector is reused by every equivalent {@code create} expression, in any
+ * resource or service. Map arguments are compared by their entries, regardless of the order of the entries. The
+ * registry counts the references to a connector, which are released by {@link #release(AbstractNativeConnector)}.
+ * Once all of them are released, the connector is destroyed. The remaining connectors are destroyed when the
+ * runtime shuts down.
+ * <p>
+ * The connectors and their statistics are registered in JMX as {@value #JMX_OBJECT_NAME}.
+ *
+ * @since 0.87
+ */
+public class ConnectorRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(ConnectorRegistry.class);
+
+    public static final String JMX_OBJECT_NAME = "org.ballerinalang:type=ConnectorRegistry";
+
+    private static ConnectorRegistry instance = new ConnectorRegistry();
+
+    private final ConcurrentMap<ConnectorKey, Entry> entries = new ConcurrentHashMap<>();
+    // Connectors are types, which are equal if their names are equal, hence they are mapped by their identity
+    private final Map<AbstractNativeConnector, Entry> connectors = Collections.synchronizedMap(
+            new IdentityHashMap<>());
+    private final List<ConnectorLifecycleListener> listeners = new CopyOnWriteArrayList<>();
+    private final AtomicInteger connectorCount = new AtomicInteger();
+
+    private ConnectorRegistry() {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "BLangConnectorRegistryShutdown"));
+        try {
+            ManagementFactory.getPlatformMBeanServer()
+                    .registerMBean(new ConnectorRegistryStatistics(this), new ObjectName(JMX_OBJECT_NAME));
+        } catch (JMException e) {
+            log.warn("Failed to register the connector registry in JMX: " + e.getMessage(), e);
+        }
+    }
+
+    public static ConnectorRegistry getInstance() {
+        return instance;
+    }
+
+    /**
+     * Get an initialized instance of a native connector. A shareable connector is created only if there is no
+     * connector of the same type and arguments, and a reference to it is acquired.
+     *
+     * @param connectorType connector type, which creates the instances of the connector
+     * @param args          arguments of the connector
+     * @return initialized connector
+     */
+    public AbstractNativeConnector getConnector(AbstractNativeConnector connectorType, BValue[] args) {
+        String canonicalArgs = connectorType.isShareable() ? canonicalize(args) : null;
+        if (canonicalArgs == null) {
+            AbstractNativeConnector connector = connectorType.getInstance();
+            connector.init(args);
+            return connector;
+        }
+
+        ConnectorKey key = new ConnectorKey(connectorType.getPackagePath() + ":" + connectorType.getName(),
+                canonicalArgs);
+        while (true) {
+            Entry entry = entries.computeIfAbsent(key, k -> new Entry(k));
+            AbstractNativeConnector connector = entry.acquire(connectorType, args);
+            if (connector != null) {
+                return connector;
+            }
+            // The connector was destroyed while it was acquired, hence it is created again
+            entries.remove(key, entry);
+        }
+    }
+
+    /**
+     * Release a reference to a connector, which is destroyed once all the references to it are released. Connectors
+     * which are not shared are destroyed at once.
+     *
+     * @param connector connector to release
+     */
+    public void release(AbstractNativeConnector connector) {
+        Entry entry = connectors.get(connector);
+        if (entry == null) {
+            connector.destroy();
+            return;
+        }
+        entry.release();
+    }
+
+    /**
+     * Release the reference to a native connector acquired by a connector value. The reference is released once, and
+     * releasing it again through the same value does nothing.
+     *
+     * @param bConnector connector value holding the reference
+     */
+    public void release(BConnector bConnector) {
+        if (bConnector.markReleased()) {
+            release((AbstractNativeConnector) bConnector.value());
+        }
+    }
+
+    /**
+     * Destroy all the shared connectors, regardless of their references.
+     */
+    public void shutdown() {
+        for (Entry entry : new ArrayList<>(entries.values())) {
+            entry.destroy();
+        }
+    }
+
+    public void addListener(ConnectorLifecycleListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(ConnectorLifecycleListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Get the number of shared connectors.
+     *
+     * @return number of shared connectors
+     */
+    public int getConnectorCount() {
+        return connectors.size();
+    }
+
+    /**
+     * Get the number of references to a shared connector.
+     *
+     * @param connector shared connector
+     * @return number of references, or 0 if the connector is not shared
+     */
+    public int getReferenceCount(AbstractNativeConnector connector) {
+        Entry entry = connectors.get(connector);
+        return (entry != null) ? entry.getReferenceCount() : 0;
+    }
+
+    /**
+     * Get the statistics of the shared connectors. The arguments of a connector may hold credentials, hence the
+     * connectors are identified by their type and a sequence number.
+     *
+     * @return statistics of each connector, mapped by the identifier of the connector
+     */
+    public Map<String, Map<String, Object>> getStatistics() {
+        List<Entry> sharedEntries;
+        synchronized (connectors) {
+            sharedEntries = new ArrayList<>(connectors.values());
+        }
+        Map<String, Map<String, Object>> statistics = new TreeMap<>();
+        for (Entry entry : sharedEntries) {
+            Map<String, Object> connectorStatistics = new LinkedHashMap<>();
+            connectorStatistics.put("references", entry.getReferenceCount());
+            connectorStatistics.putAll(entry.connector.getStatistics());
+            statistics.put(entry.id, connectorStatistics);
+        }
+        return statistics;
+    }
+
+    /**
+     * Get the canonical form of the arguments of a connector.
+     *
+     * @param args arguments of the connector
+     * @return canonical form, or null if an argument is not a value type or a map of value types
+     */
+    static String canonicalize(BValue[] args) {
+        StringBuilder builder = new StringBuilder();
+        for (BValue arg : args) {
+            if (!canonicalize(arg, builder)) {
+                return null;
+            }
+            builder.append(';');
+        }
+        return builder.toString();
+    }
+
+    private static boolean canonicalize(BValue value, StringBuilder builder) {
+        if (value == null) {
+            builder.append("null");
+        } else if (value instanceof BString || value instanceof BInteger || value instanceof BFloat ||
+                value instanceof BBoolean) {
+            String stringValue = value.stringValue();
+            builder.append(value.getClass().getSimpleName()).append('(').append(stringValue.length()).append(')')
+                    .append(stringValue);
+        } else if (value instanceof BMap) {
+            BMap<BString, BValue> map = (BMap<BString, BValue>) value;
+            Map<String, BValue> sortedEntries = new TreeMap<>();
+            for (BString key : map.keySet()) {
+                sortedEntries.put(key.stringValue(), map.get(key));
+            }
+            builder.append('{');
+            for (Map.Entry<String, BValue> entry : sortedEntries.entrySet()) {
+                builder.append(entry.getKey().length()).append(':').append(entry.getKey()).append('=');
+                if (!canonicalize(entry.getValue(), builder)) {
+                    return false;
+                }
+                builder.append(',');
+            }
+            builder.append('}');
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Shared connector and the references to it.
+     */
+    private class Entry {
+        private final ConnectorKey key;
+        private String id;
+        private AbstractNativeConnector connector;
+        private int referenceCount;
+        private boolean destroyed;
+
+        Entry(ConnectorKey key) {
+            this.key = key;
+        }
+
+        /**
+         * Acquire a reference to the connector, which is created by the first reference.
+         *
+         * @return connector, or null if the entry is already destroyed
+         */
+        synchronized AbstractNativeConnector acquire(AbstractNativeConnector connectorType, BValue[] args) {
+            if (destroyed) {
+                return null;
+            }
+            if (connector == null) {
+                AbstractNativeConnector newConnector = connectorType.getInstance();
+                try {
+                    newConnector.init(args);
+                } catch (RuntimeException e) {
+                    destroyed = true;
+                    entries.remove(key, this);
+                    throw e;
+                }
+                connector = newConnector;
+                id = key.type + "#" + connectorCount.incrementAndGet();
+                connectors.put(connector, this);
+                listeners.forEach(listener -> listener.connectorCreated(id, connector));
+                if (log.isDebugEnabled()) {
+                    log.debug("Created the shared connector " + id);
+                }
+            }
+            referenceCount++;
+            listeners.forEach(listener -> listener.connectorAcquired(id, connector, referenceCount));
+            return connector;
+        }
+
+        synchronized void release() {
+            if (destroyed) {
+                return;
+            }
+            referenceCount--;
+            listeners.forEach(listener -> listener.connectorReleased(id, connector, referenceCount));
+            if (referenceCount <= 0) {
+                destroy();
+            }
+        }
+
+        synchronized void destroy() {
+            if (destroyed) {
+                return;
+            }
+            destroyed = true;
+            entries.remove(key, this);
+            if (connector == null) {
+                return;
+            }
+            connectors.remove(connector);
+            try {
+                connector.destroy();
+            } catch (RuntimeException e) {
+                log.warn("Failed to destroy the shared connector " + id + ": " + e.getMessage(), e);
+            }
+            listeners.forEach(listener -> listener.connectorDestroyed(id, connector));
+            if (log.isDebugEnabled()) {
+                log.debug("Destroyed the shared connector " + id);
+            }
+        }
+
+        synchronized int getReferenceCount() {
+            return referenceCount;
+        }
+    }
+
+    /**
+     * Key of a shared connector, which is its type and the canonical form of its arguments.
+     */
+    private static class ConnectorKey {
+        private final String type;
+        private final String args;
+
+        ConnectorKey(String type, String args) {
+            this.type = type;
+            this.args = args;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof ConnectorKey)) {
+                return false;
+            }
+            ConnectorKey other = (ConnectorKey) obj;
+            return type.equals(other.type) && args.equals(other.args);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * type.hashCode() + args.hashCode();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ *  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.natives.connectors;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code ConnectorRegistryStatistics} exposes the connectors shared by a {@link ConnectorRegistry} through JMX.
+ *
+ * @since 0.87
+ */
+public class ConnectorRegistryStatistics implements ConnectorRegistryStatisticsMBean {
+
+    private final ConnectorRegistry registry;
+
+    public ConnectorRegistryStatistics(ConnectorRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public int getConnectorCount() {
+        return registry.getConnectorCount();
+    }
+
+    @Override
+    public Map<String, String> getStatistics() {
+        Map<String, String> statistics = new LinkedHashMap<>();
+        registry.getStatistics().forEach((id, connectorStatistics) -> statistics.put(id,
+                connectorStatistics.toString()));
+        return statistics;
+    }
+}
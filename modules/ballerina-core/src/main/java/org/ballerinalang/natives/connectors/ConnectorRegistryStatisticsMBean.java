@@ -0,0 +1,38 @@
+/*
+ *  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.natives.connectors;
+
+import java.util.Map;
+
+/**
+ * JMX interface of the {@link ConnectorRegistry}.
+ *
+ * @since 0.87
+ */
+public interface ConnectorRegistryStatisticsMBean {
+
+    int getConnectorCount();
+
+    /**
+     * Get the statistics of the shared connectors, such as the references to them and the statistics of their
+     * connection pools.
+     *
+     * @return statistics of each connector, mapped by the identifier of the connector
+     */
+    Map<String, String> getStatistics();
+}
@@ -41,7 +41,7 @@ public class NativeCastMapper {
             (rVal) -> new BString(rVal.stringValue());
 
     public static final Function<BValueType, BValueType> INT_TO_BOOLEAN_FUNC =
-            (rVal) -> new BBoolean(rVal.intValue() != 0);
+            (rVal) -> BBoolean.valueOf(rVal.intValue() != 0);
 
     public static final Function<BValueType, BValueType> INT_TO_INT_FUNC =
             (rVal) -> rVal;
@@ -50,22 +50,22 @@ public class NativeCastMapper {
             (rVal) -> new BString(rVal.stringValue());
 
     public static final Function<BValueType, BValueType> FLOAT_TO_BOOLEAN_FUNC =
-            (rVal) -> new BBoolean(rVal.floatValue() != 0.0);
+            (rVal) -> BBoolean.valueOf(rVal.floatValue() != 0.0);
 
     public static final Function<BValueType, BValueType> FLOAT_TO_FLOAT_FUNC =
             (rVal) -> rVal;
 
     public static final Function<BValueType, BValueType> FLOAT_TO_INT_FUNC =
-            (rVal) -> new BInteger(rVal.intValue());
+            (rVal) -> BInteger.valueOf(rVal.intValue());
 
     public static final Function<BValueType, BValueType> STRING_TO_INT_FUNC =
-            (rVal) -> new BInteger(rVal.intValue());
+            (rVal) -> BInteger.valueOf(rVal.intValue());
 
     public static final Function<BValueType, BValueType> STRING_TO_FLOAT_FUNC =
             (rVal) -> new BFloat(rVal.floatValue());
 
     public static final Function<BValueType, BValueType> STRING_TO_BOOLEAN_FUNC =
-            (rVal) -> new BBoolean(rVal.booleanValue());
+            (rVal) -> BBoolean.valueOf(rVal.booleanValue());
 
     public static final Function<BValueType, BValueType> STRING_TO_STRING_FUNC =
             (rVal) -> rVal;
@@ -74,7 +74,7 @@ public class NativeCastMapper {
             (rVal) -> new BString(rVal.stringValue());
 
     public static final Function<BValueType, BValueType> BOOLEAN_TO_INT_FUNC =
-            (rVal) -> rVal.booleanValue() ? new BInteger(1) : new BInteger(0);
+            (rVal) -> rVal.booleanValue() ? BInteger.valueOf(1) : BInteger.valueOf(0);
 
     public static final Function<BValueType, BValueType> BOOLEAN_TO_FLOAT_FUNC =
             (rVal) -> rVal.booleanValue() ? new BFloat(1.0f) : new BFloat(0.0f);
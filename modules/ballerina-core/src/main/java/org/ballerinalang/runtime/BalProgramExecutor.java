@@ -129,6 +129,7 @@ public class BalProgramExecutor {
                 } else {
                     BLangExecutor executor = new BLangExecutor(runtimeEnv, balContext);
                     new ResourceInvocationExpr(resource, exprs).executeMultiReturn(executor);
+                    balContext.resourceCompleted();
                 }
             }
         } else if (ModeResolver.getInstance().isNonblockingEnabled()) {
@@ -139,6 +140,7 @@ public class BalProgramExecutor {
             BLangExecutor executor = new BLangExecutor(runtimeEnv, balContext);
             new ResourceInvocationExpr(resource, exprs).executeMultiReturn(executor);
             balContext.getControlStack().popFrame();
+            balContext.resourceCompleted();
         }
     }
 }
@@ -25,6 +25,9 @@ public class Constants {
 
     public static final String SYS_PROP_ENABLE_NONBLOCKING = "enable.nonblocking";
 
+    // Name of the system property to run functions on the register based instruction interpreter
+    public static final String SYS_PROP_ENABLE_COMPILED_MODE = "enable.compiledmode";
+
     // Intermediate headers added to the ballerina message
     public static final String INTERMEDIATE_HEADERS = "INTERMEDIATE_HEADERS";
 
@@ -37,6 +40,10 @@ public class Constants {
     // logger names.
     public static final String BAL_LINKED_INTERPRETER_LOGGER = "BLinkedInterpreter";
 
+    // Name of the system property to limit the size of a message payload read into memory, in bytes. The limit is
+    // 100 MB by default, and a limit which is not positive means that the size is not limited
+    public static final String SYS_PROP_MAX_PAYLOAD_SIZE = "ballerina.payload.max.size";
+
     // Name of the system property to hold the debug port
     public static final String SYSTEM_PROP_BAL_DEBUG = "ballerina.debug";
 
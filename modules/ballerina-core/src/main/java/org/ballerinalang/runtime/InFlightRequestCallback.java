@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime;
+
+import org.ballerinalang.bre.RuntimeEnvironment;
+import org.wso2.carbon.messaging.CarbonCallback;
+import org.wso2.carbon.messaging.CarbonMessage;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@code InFlightRequestCallback} wraps the callback of a request, to complete the request in the runtime
+ * environment of its service when its response is sent. Requests of one-way protocols, such as JMS and File, are
+ * completed when their resources end, as they are not responded.
+ *
+ * @since 0.87
+ */
+public class InFlightRequestCallback implements CarbonCallback {
+
+    private final CarbonCallback callback;
+    private final RuntimeEnvironment runtimeEnvironment;
+    private final AtomicBoolean completed = new AtomicBoolean(false);
+
+    public InFlightRequestCallback(CarbonCallback callback, RuntimeEnvironment runtimeEnvironment) {
+        this.callback = callback;
+        this.runtimeEnvironment = runtimeEnvironment;
+    }
+
+    @Override
+    public void done(CarbonMessage cMsg) {
+        requestCompleted();
+        callback.done(cMsg);
+    }
+
+    /**
+     * Complete the request in the runtime environment. Only the first call completes it, hence this is called both
+     * when the response is sent and when the execution of the resource ends.
+     */
+    public void requestCompleted() {
+        if (completed.compareAndSet(false, true)) {
+            runtimeEnvironment.requestCompleted();
+        }
+    }
+}
@@ -19,9 +19,14 @@
 package org.ballerinalang.runtime;
 
 import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.RuntimeEnvironment;
+import org.ballerinalang.model.BLangProgram;
 import org.ballerinalang.model.Resource;
 import org.ballerinalang.model.Service;
 import org.ballerinalang.natives.connectors.BallerinaConnectorManager;
+import org.ballerinalang.runtime.metrics.ErrorCategory;
+import org.ballerinalang.runtime.metrics.Metrics;
+import org.ballerinalang.runtime.metrics.MetricsCallback;
 import org.ballerinalang.services.DefaultServerConnectorErrorHandler;
 import org.ballerinalang.services.ErrorHandlerUtils;
 import org.ballerinalang.services.dispatchers.DispatcherRegistry;
@@ -49,6 +54,13 @@ public class ServerConnectorMessageHandler {
     private static PrintStream outStream = System.err;
 
     public static void handleInbound(CarbonMessage cMsg, CarbonCallback callback) {
+        MetricsCallback metricsCallback = null;
+        if (Metrics.ENABLED) {
+            // Record the latencies of the request when its response is sent
+            metricsCallback = new MetricsCallback(callback, Metrics.getCollector(), System.nanoTime());
+            callback = metricsCallback;
+        }
+
         // Create the Ballerina Context
         Context balContext = new Context(cMsg);
         balContext.setServerConnectorProtocol(cMsg.getProperty("PROTOCOL"));
@@ -72,6 +84,24 @@ public class ServerConnectorMessageHandler {
                 // Finer details of the errors are thrown from the dispatcher itself, Ideally we shouldn't get here.
             }
 
+            // A service which is replaced by a redeployment does not accept new requests, hence the request is
+            // dispatched again, to the new version of the service
+            RuntimeEnvironment runtimeEnv = getRuntimeEnvironment(service);
+            while (runtimeEnv != null && !runtimeEnv.requestStarted()) {
+                service = dispatcher.findService(cMsg, callback, balContext);
+                if (service == null) {
+                    throw new BallerinaException("no Service found to handle the service request", balContext);
+                }
+                runtimeEnv = getRuntimeEnvironment(service);
+            }
+            if (runtimeEnv != null) {
+                InFlightRequestCallback inFlightCallback = new InFlightRequestCallback(callback, runtimeEnv);
+                // Resources of one-way protocols never send a response, hence the request is also completed when
+                // the execution of the resource ends
+                balContext.setResourceCompletionHandler(inFlightCallback::requestCompleted);
+                callback = inFlightCallback;
+            }
+
             // Find the Resource Dispatcher
             ResourceDispatcher resourceDispatcher = DispatcherRegistry.getInstance().getResourceDispatcher(protocol);
             if (resourceDispatcher == null) {
@@ -93,10 +123,18 @@ public class ServerConnectorMessageHandler {
                 // Finer details of the errors are thrown from the dispatcher itself, Ideally we shouldn't get here.
             }
 
+            if (metricsCallback != null) {
+                metricsCallback.dispatched(service.getName(), resource.getName());
+            }
+
             // Delegate the execution to the BalProgram Executor
             BalProgramExecutor.execute(cMsg, callback, resource, service, balContext);
 
         } catch (Throwable throwable) {
+            if (metricsCallback != null) {
+                Metrics.errorOccurred(metricsCallback.isDispatched() ? ErrorCategory.EXECUTION :
+                        ErrorCategory.DISPATCH);
+            }
             handleErrorInboundPath(cMsg, callback, balContext, throwable);
         }
     }
@@ -117,6 +155,7 @@ public class ServerConnectorMessageHandler {
 
     public static void handleErrorInboundPath(CarbonMessage cMsg, CarbonCallback callback, Context balContext,
                                               Throwable throwable) {
+        balContext.resourceCompleted();
         String errorMsg = ErrorHandlerUtils.getErrorMessage(throwable);
         String stacktrace = ErrorHandlerUtils.getServiceStackTrace(balContext, throwable);
         String errorWithTrace = errorMsg + "\n" + stacktrace;
@@ -139,6 +178,10 @@ public class ServerConnectorMessageHandler {
     }
 
     public static void handleErrorFromOutbound(Context balContext, Throwable throwable) {
+        if (Metrics.ENABLED) {
+            Metrics.errorOccurred(ErrorCategory.EXECUTION);
+        }
+        balContext.resourceCompleted();
         String errorMsg = ErrorHandlerUtils.getErrorMessage(throwable);
         String stacktrace = ErrorHandlerUtils.getServiceStackTrace(balContext, throwable);
         String errorWithTrace = errorMsg + "\n" + stacktrace;
@@ -160,4 +203,8 @@ public class ServerConnectorMessageHandler {
         }
     }
 
+    private static RuntimeEnvironment getRuntimeEnvironment(Service service) {
+        BLangProgram bLangProgram = service.getBLangProgram();
+        return (bLangProgram != null) ? bLangProgram.getRuntimeEnvironment() : null;
+    }
 }
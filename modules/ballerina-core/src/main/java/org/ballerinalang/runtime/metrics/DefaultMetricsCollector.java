@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.metrics;
+
+import org.ballerinalang.runtime.threadpool.Scheduler;
+import org.ballerinalang.runtime.threadpool.ThreadPoolFactory;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code DefaultMetricsCollector} keeps the metrics of the runtime in memory, in lock-free counters and
+ * {@link LatencyHistogram}s.
+ * <p>
+ * Request latencies are kept per service and per resource. The metrics are reported in the Prometheus text format
+ * by {@link #report()}, which is served by the {@link MetricsEndpoint} and exposed through JMX. The report also
+ * carries the gauges of the schedulers of the {@link ThreadPoolFactory}.
+ *
+ * @since 0.87
+ */
+public class DefaultMetricsCollector implements MetricsCollector {
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+
+    private final LongAdder inFlightRequests = new LongAdder();
+    private final LongAdder requestCount = new LongAdder();
+    private final ConcurrentMap<String, RequestMetrics> serviceMetrics = new ConcurrentHashMap<>();
+    private final ConcurrentMap<ResourceKey, RequestMetrics> resourceMetrics = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LatencyHistogram> nativeFunctionMetrics = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LatencyHistogram> actionMetrics = new ConcurrentHashMap<>();
+    private final Map<ErrorCategory, LongAdder> errorCounts = new EnumMap<>(ErrorCategory.class);
+
+    public DefaultMetricsCollector() {
+        for (ErrorCategory category : ErrorCategory.values()) {
+            errorCounts.put(category, new LongAdder());
+        }
+    }
+
+    @Override
+    public void requestStarted() {
+        inFlightRequests.increment();
+        requestCount.increment();
+    }
+
+    @Override
+    public void requestDispatched(String serviceName, String resourceName) {
+        getServiceMetrics(serviceName).inFlightRequests.increment();
+        getResourceMetrics(serviceName, resourceName).inFlightRequests.increment();
+    }
+
+    @Override
+    public void requestCompleted(String serviceName, String resourceName, long dispatchTime, long executionTime,
+                                 long totalTime) {
+        inFlightRequests.decrement();
+        if (serviceName == null) {
+            return;
+        }
+        getServiceMetrics(serviceName).record(dispatchTime, executionTime, totalTime);
+        getResourceMetrics(serviceName, resourceName).record(dispatchTime, executionTime, totalTime);
+    }
+
+    @Override
+    public void nativeFunctionInvoked(String functionName, long time) {
+        nativeFunctionMetrics.computeIfAbsent(functionName, name -> new LatencyHistogram()).record(time);
+    }
+
+    @Override
+    public void actionInvoked(String actionName, long time) {
+        actionMetrics.computeIfAbsent(actionName, name -> new LatencyHistogram()).record(time);
+    }
+
+    @Override
+    public void errorOccurred(ErrorCategory category) {
+        errorCounts.get(category).increment();
+    }
+
+    public long getInFlightRequests() {
+        return inFlightRequests.sum();
+    }
+
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    public long getErrorCount(ErrorCategory category) {
+        return errorCounts.get(category).sum();
+    }
+
+    /**
+     * Get the total latencies of the requests to a resource.
+     *
+     * @param serviceName  name of the service
+     * @param resourceName name of the resource
+     * @return total latencies, or null if the resource has not received any request
+     */
+    public LatencyHistogram getResourceLatencies(String serviceName, String resourceName) {
+        RequestMetrics metrics = resourceMetrics.get(new ResourceKey(serviceName, resourceName));
+        return (metrics != null) ? metrics.totalTime : null;
+    }
+
+    /**
+     * Get the latencies of a native function.
+     *
+     * @param functionName qualified name of the native function
+     * @return latencies, or null if the function has not been invoked
+     */
+    public LatencyHistogram getNativeFunctionLatencies(String functionName) {
+        return nativeFunctionMetrics.get(functionName);
+    }
+
+    /**
+     * Get the latencies of a native action.
+     *
+     * @param actionName qualified name of the native action
+     * @return latencies, or null if the action has not been invoked
+     */
+    public LatencyHistogram getActionLatencies(String actionName) {
+        return actionMetrics.get(actionName);
+    }
+
+    /**
+     * Report the metrics in the Prometheus text exposition format. Latencies are reported as summaries in seconds.
+     *
+     * @return metrics report
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder();
+        report.append("# TYPE ballerina_requests_total counter\n");
+        report.append("ballerina_requests_total ").append(getRequestCount()).append('\n');
+        report.append("# TYPE ballerina_requests_in_flight gauge\n");
+        report.append("ballerina_requests_in_flight ").append(getInFlightRequests()).append('\n');
+
+        Map<String, RequestMetrics> services = new TreeMap<>(serviceMetrics);
+        Map<ResourceKey, RequestMetrics> resources = new TreeMap<>(resourceMetrics);
+        report.append("# TYPE ballerina_service_requests_in_flight gauge\n");
+        services.forEach((name, metrics) -> report.append("ballerina_service_requests_in_flight")
+                .append(labels("service", name)).append(' ').append(metrics.inFlightRequests.sum()).append('\n'));
+        report.append("# TYPE ballerina_resource_requests_in_flight gauge\n");
+        resources.forEach((key, metrics) -> report.append("ballerina_resource_requests_in_flight")
+                .append(key.labels()).append(' ').append(metrics.inFlightRequests.sum()).append('\n'));
+
+        String[] phases = {"dispatch", "execution", "total"};
+        for (int i = 0; i < phases.length; i++) {
+            int phase = i;
+            String serviceMetric = "ballerina_service_" + phases[i] + "_seconds";
+            report.append("# TYPE ").append(serviceMetric).append(" summary\n");
+            services.forEach((name, metrics) ->
+                    appendSummary(report, serviceMetric, labels("service", name), metrics.get(phase)));
+            String resourceMetric = "ballerina_resource_" + phases[i] + "_seconds";
+            report.append("# TYPE ").append(resourceMetric).append(" summary\n");
+            resources.forEach((key, metrics) ->
+                    appendSummary(report, resourceMetric, key.labels(), metrics.get(phase)));
+        }
+
+        report.append("# TYPE ballerina_native_function_seconds summary\n");
+        new TreeMap<>(nativeFunctionMetrics).forEach((name, histogram) -> appendSummary(report,
+                "ballerina_native_function_seconds", labels("function", name), histogram));
+        report.append("# TYPE ballerina_action_seconds summary\n");
+        new TreeMap<>(actionMetrics).forEach((name, histogram) -> appendSummary(report,
+                "ballerina_action_seconds", labels("action", name), histogram));
+
+        List<Scheduler> schedulers = ThreadPoolFactory.getInstance().getSchedulers();
+        report.append("# TYPE ballerina_scheduler_queue_depth gauge\n");
+        schedulers.forEach(scheduler -> report.append("ballerina_scheduler_queue_depth")
+                .append(labels("scheduler", scheduler.getName())).append(' ').append(scheduler.getQueueDepth())
+                .append('\n'));
+        report.append("# TYPE ballerina_scheduler_active_threads gauge\n");
+        schedulers.forEach(scheduler -> report.append("ballerina_scheduler_active_threads")
+                .append(labels("scheduler", scheduler.getName())).append(' ')
+                .append(scheduler.getActiveThreadCount()).append('\n'));
+        report.append("# TYPE ballerina_scheduler_rejected_total counter\n");
+        schedulers.forEach(scheduler -> report.append("ballerina_scheduler_rejected_total")
+                .append(labels("scheduler", scheduler.getName())).append(' ').append(scheduler.getRejectedCount())
+                .append('\n'));
+
+        report.append("# TYPE ballerina_errors_total counter\n");
+        errorCounts.forEach((category, count) -> report.append("ballerina_errors_total")
+                .append(labels("category", category.name().toLowerCase())).append(' ').append(count.sum())
+                .append('\n'));
+        return report.toString();
+    }
+
+    private RequestMetrics getServiceMetrics(String serviceName) {
+        return serviceMetrics.computeIfAbsent(serviceName, name -> new RequestMetrics());
+    }
+
+    private RequestMetrics getResourceMetrics(String serviceName, String resourceName) {
+        return resourceMetrics.computeIfAbsent(new ResourceKey(serviceName, resourceName),
+                key -> new RequestMetrics());
+    }
+
+    private static void appendSummary(StringBuilder report, String name, String labels, LatencyHistogram histogram) {
+        // Labels are of the form {a="b"}, and the quantile is added as the last label
+        String labelPrefix = labels.substring(0, labels.length() - 1) + ",quantile=\"";
+        for (double quantile : QUANTILES) {
+            report.append(name).append(labelPrefix).append(quantile).append("\"} ")
+                    .append(toSeconds(histogram.getPercentile(quantile * 100))).append('\n');
+        }
+        report.append(name).append("_sum").append(labels).append(' ')
+                .append(toSeconds(histogram.getTotalTime())).append('\n');
+        report.append(name).append("_count").append(labels).append(' ').append(histogram.getCount()).append('\n');
+    }
+
+    private static double toSeconds(long nanos) {
+        return nanos / 1e9;
+    }
+
+    private static String labels(String name, String value) {
+        return "{" + name + "=\"" + escape(value) + "\"}";
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    /**
+     * Latencies and in-flight requests of a service or a resource.
+     */
+    private static class RequestMetrics {
+        private final LongAdder inFlightRequests = new LongAdder();
+        private final LatencyHistogram dispatchTime = new LatencyHistogram();
+        private final LatencyHistogram executionTime = new LatencyHistogram();
+        private final LatencyHistogram totalTime = new LatencyHistogram();
+
+        void record(long dispatch, long execution, long total) {
+            inFlightRequests.decrement();
+            dispatchTime.record(dispatch);
+            executionTime.record(execution);
+            totalTime.record(total);
+        }
+
+        LatencyHistogram get(int phase) {
+            return (phase == 0) ? dispatchTime : (phase == 1) ? executionTime : totalTime;
+        }
+    }
+
+    /**
+     * Key of the metrics of a resource.
+     */
+    private static class ResourceKey implements Comparable<ResourceKey> {
+        private final String serviceName;
+        private final String resourceName;
+
+        ResourceKey(String serviceName, String resourceName) {
+            this.serviceName = serviceName;
+            this.resourceName = resourceName;
+        }
+
+        String labels() {
+            return "{service=\"" + escape(serviceName) + "\",resource=\"" + escape(resourceName) + "\"}";
+        }
+
+        @Override
+        public int compareTo(ResourceKey other) {
+            int result = serviceName.compareTo(other.serviceName);
+            return (result != 0) ? result : resourceName.compareTo(other.resourceName);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof ResourceKey)) {
+                return false;
+            }
+            ResourceKey other = (ResourceKey) obj;
+            return serviceName.equals(other.serviceName) && resourceName.equals(other.resourceName);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * serviceName.hashCode() + resourceName.hashCode();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.metrics;
+
+/**
+ * Categories of the errors counted by a {@link MetricsCollector}.
+ *
+ * @since 0.87
+ */
+public enum ErrorCategory {
+
+    /**
+     * No service or resource could be found for a request.
+     */
+    DISPATCH,
+
+    /**
+     * An error was not handled by the executed resource.
+     */
+    EXECUTION,
+
+    /**
+     * A native function failed.
+     */
+    NATIVE_FUNCTION,
+
+    /**
+     * A native action failed.
+     */
+    ACTION,
+
+    /**
+     * A native action did not receive a response in time.
+     */
+    TIMEOUT
+}
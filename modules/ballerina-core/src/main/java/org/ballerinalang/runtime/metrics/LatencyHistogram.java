@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code LatencyHistogram} is a lock-free histogram of latencies with exponential buckets.
+ * <p>
+ * Bucket {@code i > 0} counts the latencies from 2<sup>i-1</sup> up to 2<sup>i</sup> microseconds, and bucket 0 the
+ * latencies under a microsecond. Hence a percentile is reported as the upper bound of its bucket, which is at most
+ * twice the actual value.
+ *
+ * @since 0.87
+ */
+public class LatencyHistogram {
+
+    public static final int BUCKET_COUNT = 40;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalTime = new LongAdder();
+    private final LongAccumulator maxTime = new LongAccumulator(Long::max, 0);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Record a latency.
+     *
+     * @param time latency in nanoseconds
+     */
+    public void record(long time) {
+        if (time < 0) {
+            time = 0;
+        }
+        long micros = time / 1000;
+        int index = Math.min(Long.SIZE - Long.numberOfLeadingZeros(micros), BUCKET_COUNT - 1);
+        buckets[index].increment();
+        count.increment();
+        totalTime.add(time);
+        maxTime.accumulate(time);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTotalTime() {
+        return totalTime.sum();
+    }
+
+    public long getMaxTime() {
+        return maxTime.get();
+    }
+
+    public long getBucketCount(int index) {
+        return buckets[index].sum();
+    }
+
+    /**
+     * Get the upper bound of a bucket.
+     *
+     * @param index index of the bucket
+     * @return upper bound of the bucket in nanoseconds
+     */
+    public static long getBucketUpperBound(int index) {
+        return (1L << index) * 1000;
+    }
+
+    /**
+     * Get an estimate of a percentile of the recorded latencies. As the buckets are read while latencies are
+     * recorded, the estimate is approximate under concurrent updates.
+     *
+     * @param percentile percentile, between 0 and 100
+     * @return upper bound of the bucket of the percentile in nanoseconds, capped to the maximum latency, or 0 if no
+     * latency is recorded
+     */
+    public long getPercentile(double percentile) {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(getBucketUpperBound(i), getMaxTime());
+            }
+        }
+        return getMaxTime();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Iterator;
+import java.util.ServiceLoader;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * {@code Metrics} holds the {@link MetricsCollector} of the runtime.
+ * <p>
+ * Metrics are collected only when the {@value #SYS_PROP_METRICS_ENABLED} system property is set. The instrumented
+ * code checks {@link #ENABLED} before doing anything else, and as it is a constant, disabled metrics do not cost
+ * anything. When the default collector is used, its metrics are registered in JMX as {@value #JMX_OBJECT_NAME}. If
+ * the {@value #SYS_PROP_METRICS_PORT} system property is set, they are also served over HTTP at
+ * {@value MetricsEndpoint#CONTEXT_PATH}, on the interface given by {@value #SYS_PROP_METRICS_HOST}.
+ *
+ * @since 0.87
+ */
+public class Metrics {
+
+    private static final Logger log = LoggerFactory.getLogger(Metrics.class);
+
+    public static final String SYS_PROP_METRICS_ENABLED = "ballerina.metrics.enabled";
+    public static final String SYS_PROP_METRICS_PORT = "ballerina.metrics.port";
+    public static final String SYS_PROP_METRICS_HOST = "ballerina.metrics.host";
+    public static final String JMX_OBJECT_NAME = "org.ballerinalang:type=RuntimeMetrics";
+
+    private static final String DEFAULT_HOST = "localhost";
+
+    public static final boolean ENABLED = Boolean.getBoolean(SYS_PROP_METRICS_ENABLED);
+
+    private static final MetricsCollector COLLECTOR = ENABLED ? createCollector() : null;
+
+    private Metrics() {
+    }
+
+    /**
+     * Get the collector of the runtime.
+     *
+     * @return collector, or null if metrics are not enabled
+     */
+    public static MetricsCollector getCollector() {
+        return COLLECTOR;
+    }
+
+    public static void nativeFunctionInvoked(String packagePath, String functionName, long startTime) {
+        COLLECTOR.nativeFunctionInvoked(packagePath + ":" + functionName, System.nanoTime() - startTime);
+    }
+
+    public static void actionInvoked(String packagePath, String actionName, long startTime) {
+        COLLECTOR.actionInvoked(packagePath + ":" + actionName, System.nanoTime() - startTime);
+    }
+
+    public static void errorOccurred(ErrorCategory category) {
+        COLLECTOR.errorOccurred(category);
+    }
+
+    private static MetricsCollector createCollector() {
+        Iterator<MetricsCollector> collectors = ServiceLoader.load(MetricsCollector.class).iterator();
+        if (collectors.hasNext()) {
+            MetricsCollector collector = collectors.next();
+            log.info("Using metrics collector " + collector.getClass().getName());
+            return collector;
+        }
+
+        DefaultMetricsCollector collector = new DefaultMetricsCollector();
+        try {
+            ManagementFactory.getPlatformMBeanServer()
+                    .registerMBean(new RuntimeMetrics(collector), new ObjectName(JMX_OBJECT_NAME));
+        } catch (JMException e) {
+            log.warn("Failed to register the runtime metrics in JMX: " + e.getMessage(), e);
+        }
+
+        Integer port = Integer.getInteger(SYS_PROP_METRICS_PORT);
+        if (port != null) {
+            String host = System.getProperty(SYS_PROP_METRICS_HOST, DEFAULT_HOST);
+            try {
+                MetricsEndpoint endpoint = new MetricsEndpoint(collector, host, port);
+                endpoint.start();
+                log.info("Serving runtime metrics at http://" + host + ":" + endpoint.getPort() +
+                        MetricsEndpoint.CONTEXT_PATH);
+            } catch (IOException e) {
+                log.error("Failed to start the metrics endpoint on " + host + ":" + port + ": " + e.getMessage(),
+                        e);
+            }
+        }
+        return collector;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.metrics;
+
+import org.wso2.carbon.messaging.CarbonCallback;
+import org.wso2.carbon.messaging.CarbonMessage;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@code MetricsCallback} wraps the callback of a request, to record the latencies of the request when its response
+ * is sent.
+ *
+ * @since 0.87
+ */
+public class MetricsCallback implements CarbonCallback {
+
+    private final CarbonCallback callback;
+    private final MetricsCollector collector;
+    private final long startTime;
+    private final AtomicBoolean completed = new AtomicBoolean(false);
+
+    private volatile String serviceName;
+    private volatile String resourceName;
+    private volatile long dispatchTime;
+
+    public MetricsCallback(CarbonCallback callback, MetricsCollector collector, long startTime) {
+        this.callback = callback;
+        this.collector = collector;
+        this.startTime = startTime;
+        collector.requestStarted();
+    }
+
+    /**
+     * Mark the request as dispatched to a resource.
+     *
+     * @param serviceName  name of the service
+     * @param resourceName name of the resource
+     */
+    public void dispatched(String serviceName, String resourceName) {
+        this.dispatchTime = System.nanoTime() - startTime;
+        this.resourceName = resourceName;
+        this.serviceName = serviceName;
+        collector.requestDispatched(serviceName, resourceName);
+    }
+
+    public boolean isDispatched() {
+        return serviceName != null;
+    }
+
+    @Override
+    public void done(CarbonMessage cMsg) {
+        // Only the first response of a request is recorded
+        if (completed.compareAndSet(false, true)) {
+            long totalTime = System.nanoTime() - startTime;
+            if (isDispatched()) {
+                collector.requestCompleted(serviceName, resourceName, dispatchTime, totalTime - dispatchTime,
+                        totalTime);
+            } else {
+                collector.requestCompleted(null, null, totalTime, 0, totalTime);
+            }
+        }
+        callback.done(cMsg);
+    }
+}
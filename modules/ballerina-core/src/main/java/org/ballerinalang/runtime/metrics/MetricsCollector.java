@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.metrics;
+
+/**
+ * {@code MetricsCollector} is the service provider interface to collect metrics of the Ballerina runtime.
+ * <p>
+ * An implementation can be plugged in with the {@link java.util.ServiceLoader} mechanism. If none is available,
+ * {@link DefaultMetricsCollector} is used. Implementations are called concurrently from the worker threads, and
+ * should not block them. All times are in nanoseconds.
+ *
+ * @since 0.87
+ */
+public interface MetricsCollector {
+
+    /**
+     * Called when a request is received by the runtime, before it is dispatched.
+     */
+    void requestStarted();
+
+    /**
+     * Called when a request is dispatched to a resource.
+     *
+     * @param serviceName  name of the service
+     * @param resourceName name of the resource
+     */
+    void requestDispatched(String serviceName, String resourceName);
+
+    /**
+     * Called when the response of a request is sent.
+     *
+     * @param serviceName   name of the service, or null if the request was not dispatched
+     * @param resourceName  name of the resource, or null if the request was not dispatched
+     * @param dispatchTime  time taken to find the resource
+     * @param executionTime time from the dispatch to the response
+     * @param totalTime     time from the receipt of the request to the response
+     */
+    void requestCompleted(String serviceName, String resourceName, long dispatchTime, long executionTime,
+                          long totalTime);
+
+    /**
+     * Called when a native function returns.
+     *
+     * @param functionName qualified name of the native function
+     * @param time         execution time of the function
+     */
+    void nativeFunctionInvoked(String functionName, long time);
+
+    /**
+     * Called when a native action completes.
+     *
+     * @param actionName qualified name of the native action
+     * @param time       time from the invocation of the action to its response
+     */
+    void actionInvoked(String actionName, long time);
+
+    /**
+     * Called when an error occurs.
+     *
+     * @param category category of the error
+     */
+    void errorOccurred(ErrorCategory category);
+}
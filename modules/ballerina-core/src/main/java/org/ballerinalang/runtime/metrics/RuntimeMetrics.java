@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.metrics;
+
+import org.ballerinalang.runtime.threadpool.Scheduler;
+import org.ballerinalang.runtime.threadpool.ThreadPoolFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * {@code RuntimeMetrics} exposes the metrics of a {@link DefaultMetricsCollector} through JMX.
+ *
+ * @since 0.87
+ */
+public class RuntimeMetrics implements RuntimeMetricsMBean {
+
+    private final DefaultMetricsCollector collector;
+
+    public RuntimeMetrics(DefaultMetricsCollector collector) {
+        this.collector = collector;
+    }
+
+    @Override
+    public long getRequestCount() {
+        return collector.getRequestCount();
+    }
+
+    @Override
+    public long getInFlightRequests() {
+        return collector.getInFlightRequests();
+    }
+
+    @Override
+    public Map<String, Long> getErrorCounts() {
+        Map<String, Long> errorCounts = new LinkedHashMap<>();
+        for (ErrorCategory category : ErrorCategory.values()) {
+            errorCounts.put(category.name(), collector.getErrorCount(category));
+        }
+        return errorCounts;
+    }
+
+    @Override
+    public Map<String, Long> getSchedulerQueueDepths() {
+        return getSchedulerGauge(Scheduler::getQueueDepth);
+    }
+
+    @Override
+    public Map<String, Long> getSchedulerActiveThreads() {
+        return getSchedulerGauge(Scheduler::getActiveThreadCount);
+    }
+
+    @Override
+    public Map<String, Long> getSchedulerRejectedCounts() {
+        return getSchedulerGauge(Scheduler::getRejectedCount);
+    }
+
+    @Override
+    public String getReport() {
+        return collector.report();
+    }
+
+    private static Map<String, Long> getSchedulerGauge(ToLongFunction<Scheduler> gauge) {
+        Map<String, Long> values = new LinkedHashMap<>();
+        for (Scheduler scheduler : ThreadPoolFactory.getInstance().getSchedulers()) {
+            values.put(scheduler.getName(), gauge.applyAsLong(scheduler));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX interface of the metrics of the Ballerina runtime.
+ *
+ * @since 0.87
+ */
+public interface RuntimeMetricsMBean {
+
+    long getRequestCount();
+
+    long getInFlightRequests();
+
+    /**
+     * Get the number of errors of each category.
+     *
+     * @return error counts, mapped by category
+     */
+    Map<String, Long> getErrorCounts();
+
+    /**
+     * Get the number of tasks queued in each scheduler.
+     *
+     * @return queue depths, mapped by scheduler name
+     */
+    Map<String, Long> getSchedulerQueueDepths();
+
+    /**
+     * Get the number of threads running tasks in each scheduler.
+     *
+     * @return active thread counts, mapped by scheduler name
+     */
+    Map<String, Long> getSchedulerActiveThreads();
+
+    /**
+     * Get the number of tasks rejected by each scheduler.
+     *
+     * @return rejected task counts, mapped by scheduler name
+     */
+    Map<String, Long> getSchedulerRejectedCounts();
+
+    /**
+     * Get all the metrics in the Prometheus text exposition format.
+     *
+     * @return metrics report
+     */
+    String getReport();
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.threadpool;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code BoundedScheduler} runs tasks on a fixed number of threads, with an optionally bounded task queue.
+ *
+ * @since 0.87
+ */
+public class BoundedScheduler implements Scheduler {
+
+    private final String name;
+    private final ThreadPoolExecutor executor;
+    private final LongAdder rejectedCount = new LongAdder();
+
+    /**
+     * Create a bounded scheduler.
+     *
+     * @param name            name of the scheduler
+     * @param threadCount     number of threads
+     * @param queueLimit      maximum number of queued tasks, or zero for an unbounded queue
+     * @param rejectionPolicy how a task is handled when the queue is full
+     */
+    public BoundedScheduler(String name, int threadCount, int queueLimit, RejectionPolicy rejectionPolicy) {
+        this.name = name;
+        BlockingQueue<Runnable> queue = queueLimit > 0 ? new LinkedBlockingQueue<>(queueLimit) :
+                new LinkedBlockingQueue<>();
+        RejectedExecutionHandler handler = rejectionPolicy == RejectionPolicy.CALLER_RUNS ?
+                new ThreadPoolExecutor.CallerRunsPolicy() : new ThreadPoolExecutor.AbortPolicy();
+        this.executor = new ThreadPoolExecutor(threadCount, threadCount, 0L, TimeUnit.MILLISECONDS, queue,
+                new BLangThreadFactory(name), (task, pool) -> {
+            rejectedCount.increment();
+            handler.rejectedExecution(task, pool);
+        });
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        executor.execute(task);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public int getActiveThreadCount() {
+        return executor.getActiveCount();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    @Override
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
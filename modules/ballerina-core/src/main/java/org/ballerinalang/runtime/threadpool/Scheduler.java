@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.runtime.threadpool;
+
+import java.util.concurrent.Executor;
+
+/**
+ * {@code Scheduler} runs the worker threads of the Ballerina engine, and exposes the gauges of its pool.
+ *
+ * @since 0.87
+ */
+public interface Scheduler extends Executor {
+
+    /**
+     * Get the name of this scheduler, which is also the prefix of its thread names.
+     *
+     * @return name of the scheduler
+     */
+    String getName();
+
+    /**
+     * Get the number of tasks waiting to be run.
+     *
+     * @return number of queued tasks
+     */
+    int getQueueDepth();
+
+    /**
+     * Get the number of threads which are running tasks.
+     *
+     * @return number of active threads
+     */
+    int getActiveThreadCount();
+
+    /**
+     * Get the number of tasks rejected by this scheduler, since it is created.
+     *
+     * @return number of rejected tasks
+     */
+    long getRejectedCount();
+
+    /**
+     * Stop accepting tasks. Tasks which are already submitted are still run.
+     */
+    void shutdown();
+}
@@ -18,33 +18,166 @@
 
 package org.ballerinalang.runtime.threadpool;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 
 /**
  * {@code ThreadPoolFactory} holds the thread pools in Ballerina engine.
+ * <p>
+ * Requests are run on the request scheduler, and responses of connectors on the response scheduler. Both use the
+ * same pool unless {@value #SYS_PROP_SEPARATE_RESPONSE_POOL} is set. Workers of worker invocations and fork-join
+ * statements are run on a separate, work stealing worker scheduler, whose number of threads is read from
+ * {@code ballerina.scheduler.worker.threads}. Request and response schedulers are configured with system
+ * properties of the form {@code ballerina.scheduler.<key>}, which can be overridden for one pool with
+ * {@code ballerina.scheduler.request.<key>} or {@code ballerina.scheduler.response.<key>}. The keys are,
+ * <ul>
+ *     <li>type: bounded (default), forkjoin or virtual</li>
+ *     <li>threads: number of threads of a bounded or forkjoin scheduler</li>
+ *     <li>queue.limit: maximum number of queued tasks of a bounded scheduler, zero (default) for no limit</li>
+ *     <li>rejection.policy: abort (default) or caller_runs, when the queue of a bounded scheduler is full</li>
+ * </ul>
  *
  * @since 0.8.0
  */
 public class ThreadPoolFactory {
 
+    private static final Logger log = LoggerFactory.getLogger(ThreadPoolFactory.class);
+
+    public static final String SYS_PROP_SCHEDULER_PREFIX = "ballerina.scheduler.";
+    public static final String SYS_PROP_SEPARATE_RESPONSE_POOL = "ballerina.scheduler.response.separate";
+
+    public static final String SCHEDULER_TYPE = "type";
+    public static final String SCHEDULER_THREADS = "threads";
+    public static final String SCHEDULER_QUEUE_LIMIT = "queue.limit";
+    public static final String SCHEDULER_REJECTION_POLICY = "rejection.policy";
+
+    public static final String SCHEDULER_TYPE_BOUNDED = "bounded";
+    public static final String SCHEDULER_TYPE_FORK_JOIN = "forkjoin";
+    public static final String SCHEDULER_TYPE_VIRTUAL = "virtual";
+
+    private static final String REQUEST_POOL = "request";
+    private static final String RESPONSE_POOL = "response";
+    private static final String WORKER_POOL = "worker";
+    private static final int DEFAULT_THREAD_COUNT = 500;
+
     private static ThreadPoolFactory instance = new ThreadPoolFactory();
 
-    //TODO: Make the thread count configurable.
-    // Ideally number of threads need to be calculated and spawned intelligently
-    // based on the environment and runtime status (CPU Usage, memory, etc).
-    // A configuration parameter which is user configurable is also required.
-    // Issue#1929
-    private ExecutorService executorService =  Executors.newFixedThreadPool(500, new BLangThreadFactory("BLangWorker"));
+    private final Scheduler requestScheduler;
+    private final Scheduler responseScheduler;
+    private final Scheduler workerScheduler;
 
-    private ThreadPoolFactory(){};
+    private ThreadPoolFactory() {
+        requestScheduler = createScheduler(REQUEST_POOL, "BLangWorker");
+        if (Boolean.getBoolean(SYS_PROP_SEPARATE_RESPONSE_POOL)) {
+            responseScheduler = createScheduler(RESPONSE_POOL, "BLangResponseWorker");
+        } else {
+            responseScheduler = requestScheduler;
+        }
+        // Workers wait for each other, so they are not run on the request scheduler, which may be fully used by
+        // the requests waiting for their workers
+        int workerThreads = Integer.getInteger(SYS_PROP_SCHEDULER_PREFIX + WORKER_POOL + "." + SCHEDULER_THREADS,
+                Runtime.getRuntime().availableProcessors());
+        workerScheduler = new ForkJoinScheduler("BLangParallelWorker", workerThreads);
+    }
 
     public static ThreadPoolFactory getInstance() {
         return instance;
     }
 
-    public ExecutorService getExecutor() {
-        return executorService;
+    /**
+     * Get the scheduler which runs the incoming requests.
+     *
+     * @return request scheduler
+     */
+    public Scheduler getRequestScheduler() {
+        return requestScheduler;
     }
 
+    /**
+     * Get the scheduler which runs the responses received by connectors.
+     *
+     * @return response scheduler
+     */
+    public Scheduler getResponseScheduler() {
+        return responseScheduler;
+    }
+
+    /**
+     * Get the scheduler which runs the workers of worker invocations and fork-join statements.
+     *
+     * @return worker scheduler
+     */
+    public Scheduler getWorkerScheduler() {
+        return workerScheduler;
+    }
+
+    /**
+     * Get the distinct schedulers of the engine, so that their gauges are reported once when the request and
+     * response schedulers share a pool.
+     *
+     * @return request, response and worker schedulers
+     */
+    public List<Scheduler> getSchedulers() {
+        List<Scheduler> schedulers = new ArrayList<>();
+        schedulers.add(requestScheduler);
+        if (responseScheduler != requestScheduler) {
+            schedulers.add(responseScheduler);
+        }
+        schedulers.add(workerScheduler);
+        return schedulers;
+    }
+
+    private static Scheduler createScheduler(String pool, String name) {
+        String type = getConfig(pool, SCHEDULER_TYPE, SCHEDULER_TYPE_BOUNDED);
+        if (SCHEDULER_TYPE_VIRTUAL.equalsIgnoreCase(type)) {
+            if (VirtualThreadScheduler.isSupported()) {
+                return new VirtualThreadScheduler(name);
+            }
+            log.warn("virtual threads are not supported in Java " + System.getProperty("java.version") +
+                    ", using a bounded scheduler for " + pool + "s");
+        } else if (SCHEDULER_TYPE_FORK_JOIN.equalsIgnoreCase(type)) {
+            int parallelism = getIntConfig(pool, SCHEDULER_THREADS, Runtime.getRuntime().availableProcessors());
+            return new ForkJoinScheduler(name, parallelism);
+        } else if (!SCHEDULER_TYPE_BOUNDED.equalsIgnoreCase(type)) {
+            log.warn("unknown scheduler type '" + type + "', using a bounded scheduler for " + pool + "s");
+        }
+
+        int threadCount = getIntConfig(pool, SCHEDULER_THREADS, DEFAULT_THREAD_COUNT);
+        int queueLimit = getIntConfig(pool, SCHEDULER_QUEUE_LIMIT, 0);
+        RejectionPolicy rejectionPolicy = RejectionPolicy.ABORT;
+        String policy = getConfig(pool, SCHEDULER_REJECTION_POLICY, RejectionPolicy.ABORT.name());
+        try {
+            rejectionPolicy = RejectionPolicy.valueOf(policy.toUpperCase(Locale.ENGLISH));
+        } catch (IllegalArgumentException e) {
+            log.warn("unknown rejection policy '" + policy + "', using " + rejectionPolicy.name().toLowerCase(
+                    Locale.ENGLISH) + " for " + pool + "s");
+        }
+        return new BoundedScheduler(name, threadCount, queueLimit, rejectionPolicy);
+    }
+
+    private static String getConfig(String pool, String key, String defaultValue) {
+        String value = System.getProperty(SYS_PROP_SCHEDULER_PREFIX + pool + "." + key);
+        if (value == null) {
+            value = System.getProperty(SYS_PROP_SCHEDULER_PREFIX + key);
+        }
+        return value != null ? value.trim() : defaultValue;
+    }
+
+    private static int getIntConfig(String pool, String key, int defaultValue) {
+        String value = getConfig(pool, key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            log.warn("invalid value '" + value + "' for scheduler " + key + " of " + pool + "s, using " +
+                    defaultValue);
+            return defaultValue;
+        }
+    }
 }
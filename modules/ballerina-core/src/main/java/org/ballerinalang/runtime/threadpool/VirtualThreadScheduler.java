@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.threadpool;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code VirtualThreadScheduler} runs each task on a new virtual thread. Virtual threads are available from JDK 21,
+ * hence the executor is looked up reflectively, and {@link #isSupported()} must be checked before creating one.
+ *
+ * @since 0.87
+ */
+public class VirtualThreadScheduler implements Scheduler {
+
+    private static final Method NEW_VIRTUAL_THREAD_EXECUTOR = getVirtualThreadExecutorFactory();
+
+    private final String name;
+    private final ExecutorService executor;
+    private final AtomicInteger activeThreadCount = new AtomicInteger();
+    private final LongAdder rejectedCount = new LongAdder();
+
+    public VirtualThreadScheduler(String name) {
+        if (NEW_VIRTUAL_THREAD_EXECUTOR == null) {
+            throw new IllegalStateException("virtual threads are not supported in Java " +
+                    System.getProperty("java.version"));
+        }
+
+        this.name = name;
+        try {
+            this.executor = (ExecutorService) NEW_VIRTUAL_THREAD_EXECUTOR.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("failed to create the virtual thread executor: " + e.getMessage(), e);
+        }
+    }
+
+    public static boolean isSupported() {
+        return NEW_VIRTUAL_THREAD_EXECUTOR != null;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        try {
+            executor.execute(() -> {
+                activeThreadCount.incrementAndGet();
+                try {
+                    task.run();
+                } finally {
+                    activeThreadCount.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            throw e;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int getQueueDepth() {
+        // Every task gets its own thread, tasks are never queued
+        return 0;
+    }
+
+    @Override
+    public int getActiveThreadCount() {
+        return activeThreadCount.get();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    @Override
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static Method getVirtualThreadExecutorFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ * <p>
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.worker;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.WorkerRunner;
+import org.ballerinalang.model.values.BMessage;
+import org.ballerinalang.runtime.threadpool.ThreadPoolFactory;
+import org.ballerinalang.util.exceptions.BallerinaException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code WorkerExecutor} runs workers on the worker scheduler of the {@link ThreadPoolFactory}.
+ * <p>
+ * Cancelling the future of a worker cancels the worker. The executor checks for cancellation only before each
+ * statement of a block and after each iteration of a while loop, hence a worker which is blocked in a native function
+ * or an action keeps its thread until the call returns. Workers which are not completed are cancelled when a
+ * fork-join statement times out, or when the first worker of a join any replies. Futures of workers are waited on
+ * with {@link CompletableFuture#get}, and responses of blocking actions with
+ * {@link org.ballerinalang.natives.connectors.BalConnectorCallback#awaitResponse}, which both block as managed
+ * blockers, hence the worker scheduler starts another thread while a worker waits for them. Other blocking calls,
+ * such as the I/O of native functions, keep their thread, so the worker scheduler should be sized with
+ * {@code ballerina.scheduler.worker.threads} when workers run such calls. Contexts of completed workers are kept in a
+ * bounded pool, to be reused by the next workers.
+ *
+ * @since 0.87
+ */
+public class WorkerExecutor {
+
+    private static final int MAX_POOLED_CONTEXTS = 256;
+    private static final Queue<Context> CONTEXTS = new ArrayBlockingQueue<>(MAX_POOLED_CONTEXTS);
+
+    private WorkerExecutor() {
+    }
+
+    /**
+     * Get a context to run a worker.
+     *
+     * @return pooled context, or a new context if the pool is empty
+     */
+    public static Context getContext() {
+        Context context = CONTEXTS.poll();
+        return (context != null) ? context : new Context();
+    }
+
+    /**
+     * Return the context of a completed worker to the pool.
+     *
+     * @param context context of the worker
+     */
+    public static void releaseContext(Context context) {
+        context.reset();
+        CONTEXTS.offer(context);
+    }
+
+    /**
+     * Start a worker.
+     *
+     * @param workerRunner worker to run
+     * @return future of the reply of the worker. Cancelling the future cancels the worker
+     */
+    public static CompletableFuture<BMessage> submit(WorkerRunner workerRunner) {
+        CompletableFuture<BMessage> future = CompletableFuture.supplyAsync(workerRunner::call,
+                ThreadPoolFactory.getInstance().getWorkerScheduler());
+        future.whenComplete((result, throwable) -> {
+            if (throwable instanceof CancellationException) {
+                workerRunner.cancel();
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Run workers, and wait for the first successful reply. Workers which are not completed are cancelled.
+     *
+     * @param workerRunners workers to run
+     * @param timeout       maximum time to wait
+     * @param unit          unit of the timeout
+     * @return first successful reply
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     * @throws ExecutionException   if all the workers failed, with the failure of the last one
+     * @throws TimeoutException     if no worker replied before the timeout
+     */
+    public static BMessage invokeAny(List<WorkerRunner> workerRunners, long timeout, TimeUnit unit)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        List<CompletableFuture<BMessage>> futures = submitAll(workerRunners);
+        CompletableFuture<BMessage> firstReply = new CompletableFuture<>();
+        AtomicInteger remainingWorkers = new AtomicInteger(futures.size());
+        for (int i = 0; i < futures.size(); i++) {
+            WorkerRunner workerRunner = workerRunners.get(i);
+            futures.get(i).whenComplete((reply, throwable) -> {
+                if (throwable == null && !workerRunner.isFailed()) {
+                    firstReply.complete(reply);
+                } else if (remainingWorkers.decrementAndGet() == 0) {
+                    // Failures are ignored until every worker has failed
+                    Throwable cause = (throwable instanceof CompletionException) ? throwable.getCause() : throwable;
+                    firstReply.completeExceptionally(cause != null ? cause :
+                            new BallerinaException("all the workers failed"));
+                }
+            });
+        }
+        try {
+            return firstReply.get(timeout, unit);
+        } finally {
+            cancelAll(futures);
+        }
+    }
+
+    /**
+     * Run workers, and wait for all of them to reply. Workers which are not completed when the timeout elapses
+     * are cancelled, and the {@code get} of their futures throws a {@link CancellationException}.
+     *
+     * @param workerRunners workers to run
+     * @param timeout       maximum time to wait
+     * @param unit          unit of the timeout
+     * @return completed futures of the workers, in the order of the given workers
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    public static List<Future<BMessage>> invokeAll(List<WorkerRunner> workerRunners, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        List<CompletableFuture<BMessage>> futures = submitAll(workerRunners);
+        boolean completed = false;
+        try {
+            CompletableFuture<?>[] completableFutures = futures.toArray(new CompletableFuture<?>[futures.size()]);
+            CompletableFuture.allOf(completableFutures).get(timeout, unit);
+            completed = true;
+        } catch (ExecutionException e) {
+            // All the workers are completed, and the failures are reported by their futures
+            completed = true;
+        } catch (TimeoutException e) {
+            // Workers which are not completed are cancelled below
+        } finally {
+            if (!completed) {
+                cancelAll(futures);
+            }
+        }
+        return new ArrayList<>(futures);
+    }
+
+    private static List<CompletableFuture<BMessage>> submitAll(List<WorkerRunner> workerRunners) {
+        List<CompletableFuture<BMessage>> futures = new ArrayList<>(workerRunners.size());
+        for (WorkerRunner workerRunner : workerRunners) {
+            futures.add(submit(workerRunner));
+        }
+        return futures;
+    }
+
+    private static void cancelAll(List<CompletableFuture<BMessage>> futures) {
+        for (Future<BMessage> future : futures) {
+            // Completed futures are not affected
+            future.cancel(false);
+        }
+    }
+}
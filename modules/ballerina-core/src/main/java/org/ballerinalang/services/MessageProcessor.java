@@ -18,17 +18,23 @@
 
 package org.ballerinalang.services;
 
+import org.ballerinalang.natives.connectors.BallerinaConnectorManager;
 import org.ballerinalang.runtime.ServerConnectorMessageHandler;
 import org.ballerinalang.runtime.threadpool.RequestWorkerThread;
+import org.ballerinalang.runtime.threadpool.Scheduler;
 import org.ballerinalang.runtime.threadpool.ThreadPoolFactory;
+import org.ballerinalang.util.exceptions.BallerinaException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.wso2.carbon.messaging.CarbonCallback;
 import org.wso2.carbon.messaging.CarbonMessage;
 import org.wso2.carbon.messaging.CarbonMessageProcessor;
 import org.wso2.carbon.messaging.ClientConnector;
+import org.wso2.carbon.messaging.ServerConnectorErrorHandler;
 import org.wso2.carbon.messaging.TransportSender;
 
+import java.util.concurrent.RejectedExecutionException;
+
 /**
  * {@code MessageProcessor} is the interface between the inbound transport and the Ballerina engine.
  */
@@ -44,13 +50,38 @@ public class MessageProcessor implements CarbonMessageProcessor {
             if (log.isDebugEnabled()) {
                 log.debug("ballerina received a request message");
             }
-            ThreadPoolFactory.getInstance().getExecutor().execute(new RequestWorkerThread(cMsg, carbonCallback));
+            dispatchRequest(ThreadPoolFactory.getInstance().getRequestScheduler(), cMsg, carbonCallback);
         } else {
             ServerConnectorMessageHandler.handleOutbound(cMsg, carbonCallback);
         }
         return true;
     }
 
+    /**
+     * Run a request on the given scheduler. If the scheduler rejects the request, the request is completed with the
+     * response of the error handler of its protocol, so that the client is not left waiting.
+     *
+     * @param scheduler      request scheduler
+     * @param cMsg           request message
+     * @param carbonCallback callback of the request
+     * @throws Exception if the rejected request cannot be handled by the error handler
+     */
+    static void dispatchRequest(Scheduler scheduler, CarbonMessage cMsg, CarbonCallback carbonCallback)
+            throws Exception {
+        try {
+            scheduler.execute(new RequestWorkerThread(cMsg, carbonCallback));
+        } catch (RejectedExecutionException e) {
+            Object protocol = cMsg.getProperty(org.wso2.carbon.messaging.Constants.PROTOCOL);
+            log.warn("request rejected by " + scheduler.getName() + " with " + scheduler.getQueueDepth() +
+                    " queued requests");
+            ServerConnectorErrorHandler errorHandler = BallerinaConnectorManager.getInstance()
+                    .getServerConnectorErrorHandler((String) protocol)
+                    .orElseGet(DefaultServerConnectorErrorHandler::getInstance);
+            errorHandler.handleError(new BallerinaException("server is busy, request rejected", e), cMsg,
+                    carbonCallback);
+        }
+    }
+
     public void setTransportSender(TransportSender transportSender) {
     }
 
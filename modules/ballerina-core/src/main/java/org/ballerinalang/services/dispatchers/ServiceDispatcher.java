@@ -61,4 +61,17 @@ public interface ServiceDispatcher {
      */
     void serviceUnregistered(Service service);
 
+    /**
+     * This is getting triggered when a Service belongs to this protocol is replaced by a new version of it, when the
+     * service is redeployed. Dispatchers which can swap the service without stopping its listener should override
+     * this, by default the old service is unregistered and then the new service is registered.
+     *
+     * @param oldService Service which is replaced
+     * @param newService Service which replaces the old service
+     */
+    default void serviceReplaced(Service oldService, Service newService) {
+        serviceUnregistered(oldService);
+        serviceRegistered(newService);
+    }
+
 }
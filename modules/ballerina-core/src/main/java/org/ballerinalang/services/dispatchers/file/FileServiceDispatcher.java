@@ -35,13 +35,14 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Service dispatcher for File server connector.
  */
 public class FileServiceDispatcher implements ServiceDispatcher {
 
-    Map<String, Service> servicesMap = new HashMap<>();
+    Map<String, Service> servicesMap = new ConcurrentHashMap<>();
 
     @Override
     public Service findService(CarbonMessage cMsg, CarbonCallback callback, Context balContext) {
@@ -65,13 +66,67 @@ public class FileServiceDispatcher implements ServiceDispatcher {
 
     @Override
     public void serviceRegistered(Service service) {
+        Map<String, String> serverConnectorParams = getServerConnectorParams(service);
+        if (serverConnectorParams == null) {
+            return;
+        }
+
+        String serviceName = service.getSymbolName().getName();
+
+        ServerConnector fileServerConnector = BallerinaConnectorManager.getInstance().createServerConnector(
+                Constants.PROTOCOL_FILE, serviceName, serverConnectorParams);
+
+        try {
+            fileServerConnector.start();
+            servicesMap.put(serviceName, service);
+        } catch (ServerConnectorException e) {
+            throw new BallerinaException("Could not start File Server Connector for service: "
+                    + serviceName, e);
+        }
+    }
+
+    @Override
+    public void serviceUnregistered(Service service) {
+        String serviceName = service.getSymbolName().getName();
+        // A replaced service does not remove the service which replaced it
+        if (servicesMap.remove(serviceName, service)) {
+            try {
+                BallerinaConnectorManager.getInstance().getServerConnector(serviceName).stop();
+            } catch (ServerConnectorException e) {
+                throw new BallerinaException("Could not stop file server connector for " +
+                        "service: " + serviceName, e);
+            }
+        }
+    }
+
+    @Override
+    public void serviceReplaced(Service oldService, Service newService) {
+        String serviceName = newService.getSymbolName().getName();
+        Map<String, String> serverConnectorParams = getServerConnectorParams(newService);
+        if (serverConnectorParams != null && serviceName.equals(oldService.getSymbolName().getName()) &&
+                serverConnectorParams.equals(getServerConnectorParams(oldService)) &&
+                servicesMap.replace(serviceName, oldService, newService)) {
+            // The server connector keeps polling, and dispatches the files to the new service
+            return;
+        }
+        serviceUnregistered(oldService);
+        serviceRegistered(newService);
+    }
+
+    /**
+     * Get the parameters of the server connector of a service, from its source annotation.
+     *
+     * @param service service
+     * @return parameters of the server connector, or null if the service is not a file service
+     */
+    private static Map<String, String> getServerConnectorParams(Service service) {
         for (AnnotationAttachment annotation : service.getAnnotations()) {
             if (annotation.getName().equals(Constants.ANNOTATION_NAME_SOURCE)) {
                 Map<String, AnnotationAttributeValue> elementsMap = annotation.getAttributeNameValuePairs();
 
                 Object protocolObj = elementsMap.get(new SymbolName(Constants.ANNOTATION_PROTOCOL));
                 if (protocolObj == null) {
-                    return;
+                    return null;
                 }
                 if (!(protocolObj instanceof String)) {
                     throw new BallerinaException("Annotation element '" +
@@ -80,38 +135,12 @@ public class FileServiceDispatcher implements ServiceDispatcher {
                 }
                 String protocol = ((String) protocolObj);
                 if (!(protocol.equals(Constants.PROTOCOL_FILE))) {
-                    return;
-                }
-
-                String serviceName = service.getSymbolName().getName();
-
-                ServerConnector fileServerConnector = BallerinaConnectorManager.getInstance().createServerConnector(
-                        Constants.PROTOCOL_FILE, serviceName, getServerConnectorParamMap(elementsMap));
-
-                try {
-                    fileServerConnector.start();
-                    servicesMap.put(serviceName, service);
-                } catch (ServerConnectorException e) {
-                    throw new BallerinaException("Could not start File Server Connector for service: "
-                            + serviceName, e);
+                    return null;
                 }
-                return;
-            }
-        }
-    }
-
-    @Override
-    public void serviceUnregistered(Service service) {
-        String serviceName = service.getSymbolName().getName();
-        if (servicesMap.get(serviceName) != null) {
-            servicesMap.remove(serviceName);
-            try {
-                BallerinaConnectorManager.getInstance().getServerConnector(serviceName).stop();
-            } catch (ServerConnectorException e) {
-                throw new BallerinaException("Could not stop file server connector for " +
-                        "service: " + serviceName, e);
+                return getServerConnectorParamMap(elementsMap);
             }
         }
+        return null;
     }
 
     private static Map<String, String> getServerConnectorParamMap(Map<String, AnnotationAttributeValue> map) {
@@ -28,6 +28,7 @@ import org.wso2.carbon.messaging.ServerConnectorErrorHandler;
 import java.nio.charset.Charset;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Error handler for HTTP Protocol.
@@ -42,7 +43,10 @@ public class HTTPErrorHandler implements ServerConnectorErrorHandler {
 
     @Override
     public void handleError(Exception e, CarbonMessage carbonMessage, CarbonCallback callback) {
-        callback.done(createErrorMessage(e.getMessage(), 500));
+        // A request or a response which cannot be scheduled is rejected because the server is overloaded
+        boolean rejected = e instanceof RejectedExecutionException ||
+                e.getCause() instanceof RejectedExecutionException;
+        callback.done(createErrorMessage(e.getMessage(), rejected ? 503 : 500));
     }
 
     @Override
@@ -19,7 +19,6 @@
 package org.ballerinalang.services.dispatchers.http;
 
 import org.ballerinalang.bre.Context;
-import org.ballerinalang.model.AnnotationAttachment;
 import org.ballerinalang.model.Resource;
 import org.ballerinalang.model.Service;
 import org.ballerinalang.services.dispatchers.ResourceDispatcher;
@@ -50,43 +49,28 @@ public class HTTPResourceDispatcher implements ResourceDispatcher {
         String subPath = (String) cMsg.getProperty(Constants.SUB_PATH);
 
         try {
-            for (Resource resource : service.getResources()) {
-                AnnotationAttachment subPathAnnotation = resource.getAnnotation(Constants.PROTOCOL_HTTP,
-                        Constants.ANNOTATION_NAME_PATH);
-                String subPathAnnotationVal;
-                if (subPathAnnotation != null && subPathAnnotation.getValue() != null  &&
-                        !subPathAnnotation.getValue().trim().isEmpty()) {
-                    subPathAnnotationVal = subPathAnnotation.getValue();
-                } else {
-                    if (log.isDebugEnabled()) {
-                        log.debug("Path not specified in the Resource, using default sub path");
-                    }
-                    subPathAnnotationVal = Constants.DEFAULT_SUB_PATH;
-                }
-
-                Map<String, String> resourceArgumentValues = new HashMap<>();
-                //to enable dispatchers with query params products/{productId}?regID={regID}
-                //queryStr is the encoded value of query params
-                String rawQueryStr = cMsg.getProperty(Constants.RAW_QUERY_STR) != null
-                                  ? "?" + cMsg.getProperty(Constants.RAW_QUERY_STR)
-                                  : "";
-                if ((matches(subPathAnnotationVal, (subPath + rawQueryStr), resourceArgumentValues) ||
-                        Constants.DEFAULT_SUB_PATH.equals(subPathAnnotationVal))
-                        && (resource.getAnnotation(Constants.PROTOCOL_HTTP, method) != null)) {
-
-                    if (cMsg.getProperty(Constants.QUERY_STR) != null) {
-                        QueryParamProcessor.processQueryParams
-                                ((String) cMsg.getProperty(Constants.QUERY_STR))
-                                .forEach((resourceArgumentValues::put));
-                    }
-                    cMsg.setProperty(org.ballerinalang.runtime.Constants.RESOURCE_ARGS, resourceArgumentValues);
-                    return resource;
+            HTTPResourceRouter router = HTTPServicesRegistry.getInstance().getResourceRouter(service);
+            Map<String, String> resourceArgumentValues = new HashMap<>();
+            //to enable dispatchers with query params products/{productId}?regID={regID}
+            //queryStr is the encoded value of query params
+            String rawQueryStr = (String) cMsg.getProperty(Constants.RAW_QUERY_STR);
+            Resource resource = router.route(method, subPath, rawQueryStr, resourceArgumentValues);
+            if (resource != null) {
+                if (cMsg.getProperty(Constants.QUERY_STR) != null) {
+                    QueryParamProcessor.processQueryParams
+                            ((String) cMsg.getProperty(Constants.QUERY_STR))
+                            .forEach((resourceArgumentValues::put));
                 }
+                cMsg.setProperty(org.ballerinalang.runtime.Constants.RESOURCE_ARGS, resourceArgumentValues);
+                return resource;
             }
         } catch (Throwable e) {
             throw new BallerinaException(e.getMessage(), balContext);
         }
 
+        if (log.isDebugEnabled()) {
+            log.debug("No resource in service " + service.getName() + " matches " + method + " " + subPath);
+        }
         // Throw an exception if the resource is not found.
         throw new BallerinaException("no matching resource found for Path : " + subPath + " , Method : " + method);
     }
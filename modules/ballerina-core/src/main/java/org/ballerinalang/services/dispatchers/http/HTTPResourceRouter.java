@@ -0,0 +1,341 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.services.dispatchers.http;
+
+import org.ballerinalang.model.AnnotationAttachment;
+import org.ballerinalang.model.Resource;
+import org.ballerinalang.model.Service;
+import org.ballerinalang.services.dispatchers.uri.URITemplate;
+import org.ballerinalang.services.dispatchers.uri.URITemplateException;
+import org.ballerinalang.services.dispatchers.uri.URIUtil;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@code HTTPResourceRouter} is the immutable routing structure of the resources of a HTTP service.
+ * <p>
+ * Resources are grouped into one table per HTTP method. Path templates made only of literal segments and simple
+ * {@code {var}} segments are stored in a segment trie, which is matched in O(path length) without any template
+ * parsing. All other templates (query templates, wildcards, operators and the default "/*" path) are parsed once
+ * and matched in declaration order. As with a linear scan of the resources, the first declared resource which
+ * matches a request is selected.
+ *
+ * @since 0.87
+ */
+public class HTTPResourceRouter {
+
+    private static final char[] RESERVED_CHARS = new char[] {
+            ':', '/', '?', '#', '[', ']', '@', '!', '$', '&', '\'', '(', ')', '*', '+', ',', ';', '='
+    };
+
+    private final Map<String, RoutingTable> methodTables = new HashMap<>();
+
+    public HTTPResourceRouter(Service service) {
+        Resource[] resources = service.getResources();
+        for (int order = 0; order < resources.length; order++) {
+            Resource resource = resources[order];
+            Route route = createRoute(order, resource);
+            for (AnnotationAttachment annotation : resource.getAnnotations()) {
+                if (!Constants.PROTOCOL_HTTP.equals(annotation.getPkgName())
+                        || Constants.ANNOTATION_NAME_PATH.equals(annotation.getName())) {
+                    continue;
+                }
+
+                // Every other HTTP annotation of the resource is treated as a method it accepts
+                RoutingTable table = methodTables.get(annotation.getName());
+                if (table == null) {
+                    table = new RoutingTable();
+                    methodTables.put(annotation.getName(), table);
+                }
+                table.add(route);
+            }
+        }
+    }
+
+    /**
+     * Find the first declared resource which accepts the given method and matches the given path.
+     *
+     * @param method    HTTP method of the request
+     * @param subPath   request path relative to the service base path
+     * @param rawQuery  raw query string of the request, or null if there is no query
+     * @param variables map to populate with the template variables of the matched resource
+     * @return matched resource, or null if no resource matches
+     * @throws URITemplateException if the template of a resource cannot be parsed
+     */
+    public Resource route(String method, String subPath, String rawQuery, Map<String, String> variables)
+            throws URITemplateException {
+        RoutingTable table = methodTables.get(method);
+        if (table == null) {
+            return null;
+        }
+
+        // Trie routes never match a request with a query, since their templates have no query part
+        String[] segments = null;
+        Route match = null;
+        if (rawQuery == null) {
+            segments = splitPath(subPath);
+            match = table.root.find(segments, 0);
+        }
+
+        String uri = rawQuery != null ? subPath + "?" + rawQuery : subPath;
+        for (Route route : table.templateRoutes) {
+            if (match != null && route.order > match.order) {
+                break;
+            }
+
+            Map<String, String> templateVariables = new HashMap<>();
+            if (route.matches(uri, templateVariables)) {
+                variables.putAll(templateVariables);
+                return route.resource;
+            }
+        }
+
+        if (match != null) {
+            for (int i = 0; i < segments.length; i++) {
+                if (match.variableNames[i] != null) {
+                    variables.put(match.variableNames[i], URIUtil.decode(segments[i]));
+                }
+            }
+            return match.resource;
+        }
+        return null;
+    }
+
+    private static Route createRoute(int order, Resource resource) {
+        AnnotationAttachment pathAnnotation = resource.getAnnotation(Constants.PROTOCOL_HTTP,
+                Constants.ANNOTATION_NAME_PATH);
+        String path;
+        if (pathAnnotation != null && pathAnnotation.getValue() != null &&
+                !pathAnnotation.getValue().trim().isEmpty()) {
+            path = pathAnnotation.getValue();
+        } else {
+            path = Constants.DEFAULT_SUB_PATH;
+        }
+
+        URITemplate template;
+        try {
+            template = new URITemplate(path);
+        } catch (URITemplateException e) {
+            // Report the invalid template when a request reaches this resource, as the template is not validated
+            // when the service is deployed
+            return new Route(order, resource, null, null, null, e.getMessage());
+        }
+
+        if (Constants.DEFAULT_SUB_PATH.equals(path)) {
+            return new Route(order, resource, null, null, null, null);
+        }
+
+        String[] segments = parseSegments(path);
+        if (segments == null) {
+            return new Route(order, resource, template, null, null, null);
+        }
+
+        String[] variableNames = new String[segments.length];
+        for (int i = 0; i < segments.length; i++) {
+            if (segments[i].startsWith("{")) {
+                variableNames[i] = segments[i].substring(1, segments[i].length() - 1);
+                segments[i] = null;
+            }
+        }
+        return new Route(order, resource, null, segments, variableNames, null);
+    }
+
+    /**
+     * Split a path template into segments, if it only has literal segments and simple variable segments.
+     *
+     * @param path path template
+     * @return template segments, or null if the template cannot be stored in the trie
+     */
+    private static String[] parseSegments(String path) {
+        if (!path.startsWith("/")) {
+            return null;
+        }
+
+        String[] segments = splitPath(path);
+        Set<String> variableNames = new HashSet<>();
+        for (String segment : segments) {
+            if (segment.startsWith("{") && segment.endsWith("}") && segment.length() > 2) {
+                String name = segment.substring(1, segment.length() - 1);
+                if (!isVariableName(name) || !variableNames.add(name)) {
+                    return null;
+                }
+            } else if (!isLiteral(segment)) {
+                return null;
+            }
+        }
+        return segments;
+    }
+
+    private static String[] splitPath(String path) {
+        // A single trailing slash is ignored, as in URITemplate
+        int end = path.length();
+        if (end > 1 && path.charAt(end - 1) == '/') {
+            end--;
+        }
+        if (end <= 1) {
+            return new String[0];
+        }
+        return path.substring(1, end).split("/", -1);
+    }
+
+    private static boolean isVariableName(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            char ch = name.charAt(i);
+            if (!((ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z') || (ch >= '0' && ch <= '9') ||
+                    ch == '.' || ch == '-' || ch == '_')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLiteral(String segment) {
+        for (int i = 0; i < segment.length(); i++) {
+            char ch = segment.charAt(i);
+            if (ch == '{' || ch == '}' || ch == '*' || ch == '?') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isVariableValue(String segment) {
+        if (segment.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < segment.length(); i++) {
+            char ch = segment.charAt(i);
+            for (char reservedChar : RESERVED_CHARS) {
+                if (ch == reservedChar) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Resources of a single HTTP method.
+     */
+    private static class RoutingTable {
+        private final TrieNode root = new TrieNode();
+        private final List<Route> templateRoutes = new ArrayList<>();
+
+        void add(Route route) {
+            if (route.segments == null) {
+                templateRoutes.add(route);
+                return;
+            }
+
+            TrieNode node = root;
+            for (String segment : route.segments) {
+                node = (segment != null) ? node.literalChild(segment) : node.variableChild();
+            }
+            // Routes are added in declaration order, an identical template declared later is never selected
+            if (node.route == null) {
+                node.route = route;
+            }
+        }
+    }
+
+    /**
+     * A node of the segment trie. Literal segments take precedence only through the declaration order of the
+     * resources, hence both the literal and the variable edge are searched.
+     */
+    private static class TrieNode {
+        private Map<String, TrieNode> literalChildren;
+        private TrieNode variableChild;
+        private Route route;
+
+        TrieNode literalChild(String segment) {
+            if (literalChildren == null) {
+                literalChildren = new HashMap<>();
+            }
+            TrieNode child = literalChildren.get(segment);
+            if (child == null) {
+                child = new TrieNode();
+                literalChildren.put(segment, child);
+            }
+            return child;
+        }
+
+        TrieNode variableChild() {
+            if (variableChild == null) {
+                variableChild = new TrieNode();
+            }
+            return variableChild;
+        }
+
+        Route find(String[] segments, int index) {
+            if (index == segments.length) {
+                return route;
+            }
+
+            Route match = null;
+            if (literalChildren != null) {
+                TrieNode child = literalChildren.get(segments[index]);
+                if (child != null) {
+                    match = child.find(segments, index + 1);
+                }
+            }
+            if (variableChild != null && isVariableValue(segments[index])) {
+                Route variableMatch = variableChild.find(segments, index + 1);
+                if (match == null || (variableMatch != null && variableMatch.order < match.order)) {
+                    match = variableMatch;
+                }
+            }
+            return match;
+        }
+    }
+
+    /**
+     * A resource and its compiled path template.
+     */
+    private static class Route {
+        private final int order;
+        private final Resource resource;
+        private final URITemplate template;
+        // Literal segments of a trie route, null for variable segments
+        private final String[] segments;
+        private final String[] variableNames;
+        private final String error;
+
+        Route(int order, Resource resource, URITemplate template, String[] segments, String[] variableNames,
+              String error) {
+            this.order = order;
+            this.resource = resource;
+            this.template = template;
+            this.segments = segments;
+            this.variableNames = variableNames;
+            this.error = error;
+        }
+
+        boolean matches(String uri, Map<String, String> variables) throws URITemplateException {
+            if (error != null) {
+                throw new URITemplateException(error);
+            }
+            // The default sub path accepts any request
+            return template == null || template.matches(uri, variables);
+        }
+    }
+}
@@ -103,6 +103,11 @@ public class HTTPServiceDispatcher implements ServiceDispatcher {
         HTTPServicesRegistry.getInstance().unregisterService(service);
     }
 
+    @Override
+    public void serviceReplaced(Service oldService, Service newService) {
+        HTTPServicesRegistry.getInstance().replaceService(oldService, newService);
+    }
+
     protected String getInterface(CarbonMessage cMsg) {
         String interfaceId = (String) cMsg.getProperty(org.wso2.carbon.messaging.Constants.LISTENER_INTERFACE_ID);
         if (interfaceId == null) {
@@ -28,7 +28,6 @@ import org.slf4j.LoggerFactory;
 import org.wso2.carbon.messaging.ServerConnector;
 import org.wso2.carbon.messaging.exceptions.ServerConnectorException;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -44,6 +43,8 @@ public class HTTPServicesRegistry {
 
     // Outer Map key=interface, Inner Map key=basePath
     private final Map<String, Map<String, Service>> servicesMap = new ConcurrentHashMap<>();
+    // Routing structure of the resources of each service
+    private final Map<Service, HTTPResourceRouter> resourceRouters = new ConcurrentHashMap<>();
     private static final HTTPServicesRegistry servicesRegistry = new HTTPServicesRegistry();
 
     private HTTPServicesRegistry() {
@@ -70,6 +71,17 @@ public class HTTPServicesRegistry {
         return servicesMap.get(interfaceId);
     }
 
+    /**
+     * @param service service to dispatch requests to.
+     * @return the resource router of the service. A router is built for each request of a service which is not
+     * registered, such as a service which has been unregistered after the request was dispatched to it, so that
+     * routers of such services are not kept.
+     */
+    public HTTPResourceRouter getResourceRouter(Service service) {
+        HTTPResourceRouter router = resourceRouters.get(service);
+        return (router != null) ? router : new HTTPResourceRouter(service);
+    }
+
     /**
      * Register a service into the map.
      * @param service requested service to register.
@@ -79,30 +91,14 @@ public class HTTPServicesRegistry {
             logger.debug("Service already exists.");
             return;
         }
-        String listenerInterface = Constants.DEFAULT_INTERFACE;
-        String basePath = service.getSymbolName().getName();
-        for (AnnotationAttachment annotation : service.getAnnotations()) {
-            if (annotation.getName().equals(Constants.ANNOTATION_NAME_SOURCE)) {
-                String sourceInterfaceVal = annotation
-                        .getAttribute(Constants.ANNOTATION_SOURCE_KEY_INTERFACE).toString();
-                if (sourceInterfaceVal != null) {   //TODO: Filter non-http protocols
-                    listenerInterface = sourceInterfaceVal;
-                }
-            } else if (annotation.getPkgName().equals(Constants.PROTOCOL_HTTP) &&
-                       annotation.getName().equals(Constants.ANNOTATION_NAME_BASE_PATH) &&
-                       annotation.getValue() != null && !annotation.getValue().trim().isEmpty()) {
-                basePath = annotation.getValue();
-            }
-        }
-
-        if (!basePath.startsWith(Constants.DEFAULT_BASE_PATH)) {
-            basePath = Constants.DEFAULT_BASE_PATH.concat(basePath);
-        }
+        String listenerInterface = getListenerInterface(service);
+        String basePath = getBasePath(service);
 
         Map<String, Service> servicesOnInterface = servicesMap.get(listenerInterface);
         if (servicesOnInterface == null) {
             // Assumption : this is always sequential, no two simultaneous calls can get here
-            servicesOnInterface = new HashMap<>();
+            // Services are replaced while requests are dispatched to them, hence the map is concurrent
+            servicesOnInterface = new ConcurrentHashMap<>();
             servicesMap.put(listenerInterface, servicesOnInterface);
             ServerConnector connector = BallerinaConnectorManager.getInstance().getServerConnector(listenerInterface);
             if (connector == null) {
@@ -118,44 +114,59 @@ public class HTTPServicesRegistry {
         }
 
         servicesOnInterface.put(basePath, service);
+        resourceRouters.put(service, new HTTPResourceRouter(service));
 
-        logger.info("Service deployed : " +
-                         (service.getSymbolName().getPkgPath() != null ?
-                                 service.getSymbolName().getPkgPath() + ":" : "") +
-                         service.getSymbolName().getName() +
-                         " with context " +  basePath);
+        logger.info("Service deployed : " + getQualifiedName(service) + " with context " +  basePath);
     }
 
     /**
-     * Removing service from the service registry.
-     * @param service requested service to be removed.
+     * Replace a service with a new version of it. If both of them are on the same interface and base path, the new
+     * service is swapped in place, hence the requests which are dispatched after this are served by the new service,
+     * and the listener is not interrupted.
+     * @param oldService service to be replaced.
+     * @param newService service which replaces the old service.
      */
-    public void unregisterService(Service service) {
-        String listenerInterface = Constants.DEFAULT_INTERFACE;
-        // String basePath = Constants.DEFAULT_BASE_PATH;
-        String basePath = service.getSymbolName().getName();
-
-        for (AnnotationAttachment annotation : service.getAnnotations()) {
-            if (annotation.getName().equals(Constants.ANNOTATION_NAME_SOURCE)) {
-                String sourceInterfaceVal = annotation
-                        .getAttribute(Constants.ANNOTATION_SOURCE_KEY_INTERFACE).toString();
-                if (sourceInterfaceVal != null) {   //TODO: Filter non-http protocols
-                    listenerInterface = sourceInterfaceVal;
-                }
-            } else if (annotation.getPkgName().equals(Constants.PROTOCOL_HTTP) &&
-                       annotation.getName().equals(Constants.ANNOTATION_NAME_BASE_PATH) &&
-                       annotation.getValue() != null && !annotation.getValue().trim().isEmpty()) {
-                basePath = annotation.getValue();
+    public void replaceService(Service oldService, Service newService) {
+        String listenerInterface = getListenerInterface(newService);
+        String basePath = getBasePath(newService);
+        Map<String, Service> servicesOnInterface = servicesMap.get(listenerInterface);
+        if (servicesOnInterface == null || servicesOnInterface.get(basePath) != oldService ||
+                !listenerInterface.equals(getListenerInterface(oldService)) ||
+                !basePath.equals(getBasePath(oldService))) {
+            // Unlike a service which is registered at startup, a replacing service is not skipped when its base path
+            // is taken, as the old version would be removed without a replacement
+            if (serviceExists(newService)) {
+                throw new BallerinaException("service " + getQualifiedName(newService) + " cannot be redeployed, " +
+                        "the context " + basePath + " is used by another service");
             }
+            // The new service is registered first, hence the listener is not stopped if the old service is the last
+            // service on it
+            registerService(newService);
+            unregisterService(oldService);
+            return;
         }
 
-        if (!basePath.startsWith(Constants.DEFAULT_BASE_PATH)) {
-            basePath = Constants.DEFAULT_BASE_PATH.concat(basePath);
-        }
+        // The router is added first, as the requests dispatched to the new service look up its router
+        resourceRouters.put(newService, new HTTPResourceRouter(newService));
+        servicesOnInterface.put(basePath, newService);
+        resourceRouters.remove(oldService);
+
+        logger.info("Service redeployed : " + getQualifiedName(newService) + " with context " +  basePath);
+    }
+
+    /**
+     * Removing service from the service registry.
+     * @param service requested service to be removed.
+     */
+    public void unregisterService(Service service) {
+        String listenerInterface = getListenerInterface(service);
+        String basePath = getBasePath(service);
 
+        resourceRouters.remove(service);
         Map<String, Service> servicesOnInterface = servicesMap.get(listenerInterface);
         if (servicesOnInterface != null) {
-            servicesOnInterface.remove(basePath);
+            // A replaced service does not remove the service which replaced it
+            servicesOnInterface.remove(basePath, service);
             if (servicesOnInterface.isEmpty()) {
                 servicesMap.remove(listenerInterface);
                 ServerConnector connector =
@@ -178,8 +189,12 @@ public class HTTPServicesRegistry {
      * @return true if service exists.
      */
     public boolean serviceExists(Service service) {
+        Map<String, Service> servicesOnInterface = servicesMap.get(getListenerInterface(service));
+        return servicesOnInterface != null && servicesOnInterface.containsKey(getBasePath(service));
+    }
+
+    private String getListenerInterface(Service service) {
         String listenerInterface = Constants.DEFAULT_INTERFACE;
-        String basePath = service.getSymbolName().getName();
         for (AnnotationAttachment annotation : service.getAnnotations()) {
             if (annotation.getName().equals(Constants.ANNOTATION_NAME_SOURCE)) {
                 String sourceInterfaceVal = annotation
@@ -187,12 +202,30 @@ public class HTTPServicesRegistry {
                 if (sourceInterfaceVal != null) {   //TODO: Filter non-http protocols
                     listenerInterface = sourceInterfaceVal;
                 }
-            } else if (annotation.getPkgName().equals(Constants.PROTOCOL_HTTP) &&
-                       annotation.getName().equals(Constants.ANNOTATION_NAME_BASE_PATH) &&
-                       annotation.getValue() != null && !annotation.getValue().trim().isEmpty()) {
+            }
+        }
+        return listenerInterface;
+    }
+
+    private String getBasePath(Service service) {
+        String basePath = service.getSymbolName().getName();
+        for (AnnotationAttachment annotation : service.getAnnotations()) {
+            if (!annotation.getName().equals(Constants.ANNOTATION_NAME_SOURCE) &&
+                    annotation.getPkgName().equals(Constants.PROTOCOL_HTTP) &&
+                    annotation.getName().equals(Constants.ANNOTATION_NAME_BASE_PATH) &&
+                    annotation.getValue() != null && !annotation.getValue().trim().isEmpty()) {
                 basePath = annotation.getValue();
             }
         }
-        return servicesMap.containsKey(listenerInterface) && servicesMap.get(listenerInterface).containsKey(basePath);
+
+        if (!basePath.startsWith(Constants.DEFAULT_BASE_PATH)) {
+            basePath = Constants.DEFAULT_BASE_PATH.concat(basePath);
+        }
+        return basePath;
+    }
+
+    private String getQualifiedName(Service service) {
+        return (service.getSymbolName().getPkgPath() != null ? service.getSymbolName().getPkgPath() + ":" : "") +
+                service.getSymbolName().getName();
     }
 }
@@ -32,9 +32,9 @@ import org.wso2.carbon.messaging.ServerConnector;
 import org.wso2.carbon.messaging.exceptions.ServerConnectorException;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -44,7 +44,7 @@ public class JMSServiceDispatcher implements ServiceDispatcher {
     private static final Logger log = LoggerFactory.getLogger(JMSServiceDispatcher.class);
 
     // Map <ServiceId, Service>
-    private Map<String, Service> serviceMap = new HashMap<>();
+    private Map<String, Service> serviceMap = new ConcurrentHashMap<>();
 
     @Override
     public Service findService(CarbonMessage cMsg, CarbonCallback callback, Context balContext) {
@@ -68,41 +68,10 @@ public class JMSServiceDispatcher implements ServiceDispatcher {
 
     @Override
     public void serviceRegistered(Service service) {
-
-        AnnotationAttachment jmsSource = null;
-
-        List<AnnotationAttachment> connectionProperties = new ArrayList<>();
-
-        for (AnnotationAttachment annotation : service.getAnnotations()) {
-            if (Constants.ANNOTATION_JMS_SOURCE.equals(annotation.getName())) {
-                jmsSource = annotation;
-                continue;
-            }
-
-            if (Constants.ANNOTATION_CONNECTION_PROPERTY.equals(annotation.getName())) {
-                connectionProperties.add(annotation);
-            }
-        }
-
-        if (jmsSource != null) {
-
-            Map<String, String> annotationKeyValuePairs = jmsSource.getAttributeNameValuePairs().entrySet().stream()
-                    .collect(Collectors.toMap(
-                            entry -> entry.getKey(),
-                            entry -> entry.getValue().getLiteralValue().stringValue()
-                    ));
-
-            connectionProperties.stream().map(property -> property.getAttributeNameValuePairs()).forEach(
-                    keyValuePair -> {
-                        annotationKeyValuePairs.put(
-                                keyValuePair.get(Constants.CONNECTION_PROPERTY_KEY).getLiteralValue().stringValue(),
-                                keyValuePair.get(Constants.CONNECTION_PROPERTY_VALUE).getLiteralValue().stringValue());
-                    }
-            );
-
+        Map<String, String> annotationKeyValuePairs = getServerConnectorParameters(service);
+        if (annotationKeyValuePairs != null) {
             String serviceId = service.getSymbolName().toString();
             serviceMap.put(serviceId, service);
-            annotationKeyValuePairs.putIfAbsent(Constants.JMS_DESTINATION, serviceId);
             ServerConnector serverConnector = BallerinaConnectorManager.getInstance()
                     .createServerConnector(Constants.PROTOCOL_JMS, serviceId, annotationKeyValuePairs);
             try {
@@ -120,7 +89,8 @@ public class JMSServiceDispatcher implements ServiceDispatcher {
     public void serviceUnregistered(Service service) {
         String serviceId = service.getSymbolName().toString();
         try {
-            if (serviceMap.get(serviceId) != null) {
+            // A replaced service does not remove the service which replaced it
+            if (serviceMap.remove(serviceId, service)) {
                 ServerConnector serverConnector = BallerinaConnectorManager.getInstance().getServerConnector(serviceId);
                 if (null != serverConnector) {
                     serverConnector.stop();
@@ -131,4 +101,62 @@ public class JMSServiceDispatcher implements ServiceDispatcher {
                     serviceId, e);
         }
     }
+
+    @Override
+    public void serviceReplaced(Service oldService, Service newService) {
+        String serviceId = newService.getSymbolName().toString();
+        Map<String, String> annotationKeyValuePairs = getServerConnectorParameters(newService);
+        if (annotationKeyValuePairs != null && serviceId.equals(oldService.getSymbolName().toString()) &&
+                annotationKeyValuePairs.equals(getServerConnectorParameters(oldService)) &&
+                serviceMap.replace(serviceId, oldService, newService)) {
+            // The server connector keeps listening to the queue/topic, and dispatches the messages to the new service
+            return;
+        }
+        serviceUnregistered(oldService);
+        serviceRegistered(newService);
+    }
+
+    /**
+     * Get the parameters of the server connector of a service, from its annotations.
+     *
+     * @param service service
+     * @return parameters of the server connector, or null if the service is not a jms service
+     */
+    private Map<String, String> getServerConnectorParameters(Service service) {
+        AnnotationAttachment jmsSource = null;
+
+        List<AnnotationAttachment> connectionProperties = new ArrayList<>();
+
+        for (AnnotationAttachment annotation : service.getAnnotations()) {
+            if (Constants.ANNOTATION_JMS_SOURCE.equals(annotation.getName())) {
+                jmsSource = annotation;
+                continue;
+            }
+
+            if (Constants.ANNOTATION_CONNECTION_PROPERTY.equals(annotation.getName())) {
+                connectionProperties.add(annotation);
+            }
+        }
+
+        if (jmsSource == null) {
+            return null;
+        }
+
+        Map<String, String> annotationKeyValuePairs = jmsSource.getAttributeNameValuePairs().entrySet().stream()
+                .collect(Collectors.toMap(
+                        entry -> entry.getKey(),
+                        entry -> entry.getValue().getLiteralValue().stringValue()
+                ));
+
+        connectionProperties.stream().map(property -> property.getAttributeNameValuePairs()).forEach(
+                keyValuePair -> {
+                    annotationKeyValuePairs.put(
+                            keyValuePair.get(Constants.CONNECTION_PROPERTY_KEY).getLiteralValue().stringValue(),
+                            keyValuePair.get(Constants.CONNECTION_PROPERTY_VALUE).getLiteralValue().stringValue());
+                }
+        );
+
+        annotationKeyValuePairs.putIfAbsent(Constants.JMS_DESTINATION, service.getSymbolName().toString());
+        return annotationKeyValuePairs;
+    }
 }
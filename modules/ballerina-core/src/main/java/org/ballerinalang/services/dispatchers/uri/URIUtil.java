@@ -18,6 +18,8 @@
 
 package org.ballerinalang.services.dispatchers.uri;
 
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
 
 /**
  * Utilities related to URI processing.
@@ -50,4 +52,18 @@ public class URIUtil {
         return URI_PATH_DELIMITER;
 
     }
+
+    /**
+     * Decode a URI template variable value. A '+' is kept as it is.
+     *
+     * @param value encoded value
+     * @return decoded value
+     */
+    public static String decode(String value) {
+        try {
+            return URLDecoder.decode(value.replaceAll("\\+", "%2B"), "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new RuntimeException("Error while encoding value: " + value, e);
+        }
+    }
 }
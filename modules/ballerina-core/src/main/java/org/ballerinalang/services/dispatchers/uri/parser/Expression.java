@@ -21,9 +21,9 @@ package org.ballerinalang.services.dispatchers.uri.parser;
 
 
 import org.ballerinalang.services.dispatchers.uri.URITemplateException;
+import org.ballerinalang.services.dispatchers.uri.URIUtil;
 
 import java.io.UnsupportedEncodingException;
-import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.util.ArrayList;
 import java.util.List;
@@ -76,10 +76,6 @@ public abstract class Expression extends Node {
     }
 
     protected String decodeValue(String value) {
-        try {
-            return URLDecoder.decode(value.replaceAll("\\+", "%2B"), "UTF-8");
-        } catch (UnsupportedEncodingException e) {
-            throw new RuntimeException("Error while encoding value: " + value, e);
-        }
+        return URIUtil.decode(value);
     }
 }
@@ -26,7 +26,8 @@ public enum RuntimeErrors {
     CASTING_ANY_TYPE_TO_WRONG_VALUE_TYPE("casting.any.to.wrong.value.type", "RUNTIME_0001"),
     CASTING_ANY_TYPE_WITHOUT_INIT("casting.any.without.init", "RUNTIME_0002"),
     INDEX_NUMBER_TOO_LARGE("index.number.too.large", "RUNTIME_0003"),
-    ARRAY_INDEX_OUT_OF_RANGE("array.index.out.of.range", "RUNTIME_0004");
+    ARRAY_INDEX_OUT_OF_RANGE("array.index.out.of.range", "RUNTIME_0004"),
+    NULL_IN_VALUE_TYPE_ARRAY("null.in.value.type.array", "RUNTIME_0005");
 
 
     private String errorMsgKey;
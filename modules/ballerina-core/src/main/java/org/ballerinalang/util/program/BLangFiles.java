@@ -20,6 +20,8 @@ package org.ballerinalang.util.program;
 import org.antlr.v4.runtime.ANTLRInputStream;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
 import org.ballerinalang.model.BLangPackage;
 import org.ballerinalang.model.BallerinaFile;
 import org.ballerinalang.model.builder.BLangModelBuilder;
@@ -44,13 +46,28 @@ public class BLangFiles {
                                          InputStream inputStream,
                                          BLangPackage.PackageBuilder packageBuilder) {
 
-        Path sourceFilePath;
+        Path sourceFilePath = getSourceFilePath(sourceFileName, packagePath);
+        ParseTree compilationUnit = parseFile(sourceFilePath, inputStream);
+        return buildFile(sourceFileName, sourceFilePath, compilationUnit, packageBuilder);
+    }
+
+    public static Path getSourceFilePath(String sourceFileName, Path packagePath) {
         if (packagePath == null || packagePath.toString().equals(".")) {
-            sourceFilePath = Paths.get(sourceFileName);
+            return Paths.get(sourceFileName);
         } else {
-            sourceFilePath = packagePath.resolve(sourceFileName);
+            return packagePath.resolve(sourceFileName);
         }
+    }
 
+    /**
+     * Parse a source file. This does not touch any package, hence the files of a package can be parsed concurrently.
+     *
+     * @param sourceFilePath path of the source file
+     * @param inputStream    content of the source file
+     * @return parse tree of the compilation unit
+     * @throws ParserException if the source file has syntax errors
+     */
+    public static ParseTree parseFile(Path sourceFilePath, InputStream inputStream) {
         try {
             ANTLRInputStream antlrInputStream = new ANTLRInputStream(inputStream);
 
@@ -63,12 +80,7 @@ public class BLangFiles {
 
             BallerinaParser ballerinaParser = new BallerinaParser(ballerinaToken);
             ballerinaParser.setErrorHandler(new BallerinaParserErrorStrategy());
-
-            BLangModelBuilder bLangModelBuilder = new BLangModelBuilder(packageBuilder, sourceFileName);
-            BLangAntlr4Listener antlr4Listener = new BLangAntlr4Listener(bLangModelBuilder, sourceFilePath);
-            ballerinaParser.addParseListener(antlr4Listener);
-            ballerinaParser.compilationUnit();
-            return bLangModelBuilder.build();
+            return ballerinaParser.compilationUnit();
 
         } catch (IOException e) {
             throw new IllegalStateException("error in reading source file '" +
@@ -78,4 +90,24 @@ public class BLangFiles {
             throw new ParserException(e.getMessage(), e);
         }
     }
+
+    /**
+     * Build the model of a parsed source file into the given package.
+     *
+     * @param sourceFileName   name of the source file
+     * @param sourceFilePath   path of the source file
+     * @param compilationUnit  parse tree of the source file
+     * @param packageBuilder   builder of the package of the source file
+     * @return model of the source file
+     */
+    public static BallerinaFile buildFile(String sourceFileName,
+                                          Path sourceFilePath,
+                                          ParseTree compilationUnit,
+                                          BLangPackage.PackageBuilder packageBuilder) {
+        // The model is built by walking the finished parse tree, so that parsing can run on another thread
+        BLangModelBuilder bLangModelBuilder = new BLangModelBuilder(packageBuilder, sourceFileName);
+        BLangAntlr4Listener antlr4Listener = new BLangAntlr4Listener(bLangModelBuilder, sourceFilePath);
+        ParseTreeWalker.DEFAULT.walk(antlr4Listener, compilationUnit);
+        return bLangModelBuilder.build();
+    }
 }
@@ -25,7 +25,9 @@ import org.ballerinalang.bre.StackFrame;
 import org.ballerinalang.bre.StackVarLocation;
 import org.ballerinalang.bre.nonblocking.BLangNonBlockingExecutor;
 import org.ballerinalang.bre.nonblocking.ModeResolver;
+import org.ballerinalang.bre.vm.BLangVM;
 import org.ballerinalang.model.BLangProgram;
+import org.ballerinalang.model.BallerinaFunction;
 import org.ballerinalang.model.Function;
 import org.ballerinalang.model.ParameterDef;
 import org.ballerinalang.model.SymbolName;
@@ -163,6 +165,12 @@ public class BLangFunctions {
             bContext.getControlStack().pushFrame(stackFrame);
 
             // Invoke main function
+            if (function instanceof BallerinaFunction && ((BallerinaFunction) function).getCompiledUnit() != null) {
+                BLangVM vm = new BLangVM(runtimeEnv, bContext);
+                vm.execute((BallerinaFunction) function, argValues, returnValues);
+                return returnValues;
+            }
+
             BLangExecutor executor = new BLangExecutor(runtimeEnv, bContext);
             function.getCallableUnitBody().execute(executor);
             return returnValues;
@@ -18,6 +18,7 @@
 
 package org.ballerinalang.util.program;
 
+import org.antlr.v4.runtime.tree.ParseTree;
 import org.ballerinalang.model.BLangPackage;
 import org.ballerinalang.model.BLangProgram;
 import org.ballerinalang.model.BallerinaFile;
@@ -27,21 +28,40 @@ import org.ballerinalang.natives.NativePackageProxy;
 import org.ballerinalang.util.exceptions.BallerinaException;
 import org.ballerinalang.util.repository.PackageRepository;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
-import java.util.stream.Collectors;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * This class contains a set of static methods to operate on {@code BLangPackage} objects. This class contains methods
  * to load packages or files from the given package repository.
+ * <p>
+ * When the {@value #SYS_PROP_PARALLEL_LOADING} system property is set, the source files of a package and of the
+ * packages it imports are parsed concurrently on a fork/join pool. The size of the pool is read from the
+ * {@value #SYS_PROP_PARALLEL_THREADS} system property, and defaults to the number of processors. The models are still
+ * built and the dependencies resolved on the calling thread, in the same order as sequential loading. Hence the
+ * loaded program and the reported errors do not depend on the loading mode.
  *
  * @since 0.8.0
  */
 public class BLangPackages {
 
+    public static final String SYS_PROP_PARALLEL_LOADING = "ballerina.packages.parallel";
+    public static final String SYS_PROP_PARALLEL_THREADS = "ballerina.packages.parallel.threads";
+
+    private static volatile boolean parallelLoadingEnabled = Boolean.getBoolean(SYS_PROP_PARALLEL_LOADING);
+
     public static BLangPackage loadPackage(Path packagePath,
                                            PackageRepository packageRepo,
                                            BLangProgram bLangProgram) {
@@ -55,6 +75,14 @@ public class BLangPackages {
 
         // Load package details (input streams of source files) from the given package repository
         PackageRepository.PackageSource pkgSource = packageRepo.loadPackage(packagePath);
+        return loadPackage(packagePath, pkgSource, parseFiles(pkgSource), bLangProgram, currentDepPath);
+    }
+
+    private static BLangPackage loadPackage(Path packagePath,
+                                            PackageRepository.PackageSource pkgSource,
+                                            List<SourceFile> sourceFiles,
+                                            BLangProgram bLangProgram,
+                                            LinkedHashSet<SymbolName> currentDepPath) {
         if (pkgSource.getSourceFileStreamMap().isEmpty()) {
             throw new RuntimeException("no bal files in the package: " + packagePath.toString());
         }
@@ -63,7 +91,7 @@ public class BLangPackages {
         BLangPackage.PackageBuilder packageBuilder =
                 new BLangPackage.PackageBuilder(pkgPathStr, pkgSource.getPackageRepository(), bLangProgram);
 
-        return loadPackageInternal(pkgSource, packageBuilder, bLangProgram, currentDepPath);
+        return loadPackageInternal(pkgSource, sourceFiles, packageBuilder, bLangProgram, currentDepPath);
     }
 
     public static BLangPackage loadFile(Path filePath, PackageRepository packageRepo, BLangProgram bLangProgram) {
@@ -73,7 +101,16 @@ public class BLangPackages {
 
         LinkedHashSet<SymbolName> currentDepPath = new LinkedHashSet<>();
         // Resolve dependent packages of this package
-        return loadPackageInternal(pkgSource, packageBuilder, bLangProgram, currentDepPath);
+        return loadPackageInternal(pkgSource, parseFiles(pkgSource), packageBuilder, bLangProgram, currentDepPath);
+    }
+
+    public static void setParallelLoadingEnabled(boolean enabled) {
+        // Testing purpose only.
+        parallelLoadingEnabled = enabled;
+    }
+
+    public static boolean isParallelLoadingEnabled() {
+        return parallelLoadingEnabled;
     }
 
     public static Path getPathFromPackagePath(String packagePath) {
@@ -101,17 +138,22 @@ public class BLangPackages {
     }
 
     private static BLangPackage loadPackageInternal(PackageRepository.PackageSource pkgSource,
+                                                    List<SourceFile> sourceFiles,
                                                     BLangPackage.PackageBuilder packageBuilder,
                                                     BLangProgram bLangProgram,
                                                     LinkedHashSet<SymbolName> currentDepPath) {
 
         Path packagePath = pkgSource.getPackagePath();
         String pkgPathStr = getPackagePathFromPath(packagePath);
-        packageBuilder.setBallerinaFileList(pkgSource.getSourceFileStreamMap().entrySet()
-                .stream()
-                .map(entry -> BLangFiles.loadFile(entry.getKey(), packagePath, entry.getValue(), packageBuilder))
-                .peek(bFile -> validatePackagePathInFile(pkgPathStr, packagePath, bFile))
-                .collect(Collectors.toList()));
+        List<BallerinaFile> ballerinaFiles = new ArrayList<>(sourceFiles.size());
+        for (SourceFile sourceFile : sourceFiles) {
+            // Models are built one file at a time, in the order of the source file map
+            BallerinaFile bFile = BLangFiles.buildFile(sourceFile.fileName, sourceFile.filePath,
+                    sourceFile.getParseTree(), packageBuilder);
+            validatePackagePathInFile(pkgPathStr, packagePath, bFile);
+            ballerinaFiles.add(bFile);
+        }
+        packageBuilder.setBallerinaFileList(ballerinaFiles);
 
         BLangPackage bLangPackage = packageBuilder.build();
         // Check for a dependency cycle
@@ -141,6 +183,19 @@ public class BLangPackages {
 
     private static BLangPackage resolveDependencies(BLangPackage parentPackage, BLangProgram bLangProgram,
                                                     LinkedHashSet<SymbolName> currentDepPath) {
+        Map<Path, CompletableFuture<LoadedPackage>> prefetchedPackages = prefetchDependencies(parentPackage,
+                bLangProgram);
+        try {
+            return resolveImports(parentPackage, bLangProgram, currentDepPath, prefetchedPackages);
+        } finally {
+            // Prefetched packages which were resolved meanwhile, or left behind by an error, are discarded
+            prefetchedPackages.values().forEach(BLangPackages::discard);
+        }
+    }
+
+    private static BLangPackage resolveImports(BLangPackage parentPackage, BLangProgram bLangProgram,
+                                               LinkedHashSet<SymbolName> currentDepPath,
+                                               Map<Path, CompletableFuture<LoadedPackage>> prefetchedPackages) {
         for (ImportPackage importPackage : parentPackage.getImportPackages()) {
 
             // Check whether this package is already resolved.
@@ -153,7 +208,8 @@ public class BLangPackages {
                         dependentPkg.getPackageRepository().loadPackage(packagePath);
 
                 BLangPackage.PackageBuilder packageBuilder = new BLangPackage.PackageBuilder(dependentPkg);
-                dependentPkg = loadPackageInternal(pkgSource, packageBuilder, bLangProgram, currentDepPath);
+                dependentPkg = loadPackageInternal(pkgSource, parseFiles(pkgSource), packageBuilder, bLangProgram,
+                        currentDepPath);
 
             } else if (dependentPkg == null) {
 
@@ -170,8 +226,15 @@ public class BLangPackages {
                 //      i) Search the system repository
                 //      ii) Search the personal/user repository
                 // 4) None of the above applies if the package name starts with 'ballerina'
-                dependentPkg = loadPackage(packagePath, parentPackage.getPackageRepository(),
-                        bLangProgram, currentDepPath);
+                CompletableFuture<LoadedPackage> prefetchedPackage = prefetchedPackages.remove(packagePath);
+                if (prefetchedPackage != null) {
+                    LoadedPackage loadedPackage = join(prefetchedPackage);
+                    dependentPkg = loadPackage(packagePath, loadedPackage.pkgSource, loadedPackage.sourceFiles,
+                            bLangProgram, currentDepPath);
+                } else {
+                    dependentPkg = loadPackage(packagePath, parentPackage.getPackageRepository(),
+                            bLangProgram, currentDepPath);
+                }
 
             }
 
@@ -183,6 +246,93 @@ public class BLangPackages {
         return parentPackage;
     }
 
+    /**
+     * Start loading and parsing the imported packages which are not yet resolved, in parallel loading mode. A
+     * prefetched package which is resolved by the time its import is processed is ignored, as are its errors.
+     *
+     * @param parentPackage package whose imports are prefetched
+     * @param bLangProgram  program being loaded
+     * @return prefetched packages, mapped by package path
+     */
+    private static Map<Path, CompletableFuture<LoadedPackage>> prefetchDependencies(BLangPackage parentPackage,
+                                                                                  BLangProgram bLangProgram) {
+        Map<Path, CompletableFuture<LoadedPackage>> prefetchedPackages = new HashMap<>();
+        if (!parallelLoadingEnabled) {
+            return prefetchedPackages;
+        }
+
+        PackageRepository packageRepo = parentPackage.getPackageRepository();
+        for (ImportPackage importPackage : parentPackage.getImportPackages()) {
+            Path packagePath = getPathFromPackagePath(importPackage.getSymbolName().getName());
+            if (bLangProgram.resolve(importPackage.getSymbolName()) != null ||
+                    prefetchedPackages.containsKey(packagePath)) {
+                continue;
+            }
+
+            CompletableFuture<LoadedPackage> prefetchedPackage = new CompletableFuture<>();
+            ParserPool.POOL.execute(() -> {
+                if (prefetchedPackage.isDone()) {
+                    // Discarded before it was started
+                    return;
+                }
+                try {
+                    PackageRepository.PackageSource pkgSource = packageRepo.loadPackage(packagePath);
+                    LoadedPackage loadedPackage = new LoadedPackage(pkgSource, parseFiles(pkgSource));
+                    if (!prefetchedPackage.complete(loadedPackage)) {
+                        // Discarded while it was loaded
+                        loadedPackage.close();
+                    }
+                } catch (Throwable t) {
+                    prefetchedPackage.completeExceptionally(t);
+                }
+            });
+            prefetchedPackages.put(packagePath, prefetchedPackage);
+        }
+        return prefetchedPackages;
+    }
+
+    /**
+     * Cancel a prefetched package which is not used. The sources of a package which is already loaded are closed,
+     * otherwise they are closed by the prefetching task once it is done.
+     */
+    private static void discard(CompletableFuture<LoadedPackage> prefetchedPackage) {
+        if (!prefetchedPackage.cancel(false) && !prefetchedPackage.isCompletedExceptionally()) {
+            prefetchedPackage.join().close();
+        }
+    }
+
+    private static List<SourceFile> parseFiles(PackageRepository.PackageSource pkgSource) {
+        Path packagePath = pkgSource.getPackagePath();
+        Map<String, InputStream> sourceFileStreamMap = pkgSource.getSourceFileStreamMap();
+        boolean parallel = parallelLoadingEnabled && sourceFileStreamMap.size() > 1;
+
+        List<SourceFile> sourceFiles = new ArrayList<>(sourceFileStreamMap.size());
+        for (Map.Entry<String, InputStream> entry : sourceFileStreamMap.entrySet()) {
+            SourceFile sourceFile = new SourceFile(entry.getKey(),
+                    BLangFiles.getSourceFilePath(entry.getKey(), packagePath), entry.getValue());
+            if (parallel) {
+                sourceFile.parseTree = CompletableFuture.supplyAsync(
+                        () -> BLangFiles.parseFile(sourceFile.filePath, sourceFile.inputStream), ParserPool.POOL);
+            }
+            sourceFiles.add(sourceFile);
+        }
+        return sourceFiles;
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // Report the error as it is reported by sequential loading
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
     private static String generateDepCycleString(LinkedHashSet<SymbolName> currentPath, BLangPackage targetPack) {
         StringBuilder builder = new StringBuilder();
         Iterator<SymbolName> itr = currentPath.iterator();
@@ -200,4 +350,57 @@ public class BLangPackages {
         return builder.toString();
     }
 
+    /**
+     * A source file of a package, which is parsed either on demand or ahead on the parser pool.
+     */
+    private static class SourceFile {
+        private final String fileName;
+        private final Path filePath;
+        private final InputStream inputStream;
+        private CompletableFuture<ParseTree> parseTree;
+
+        SourceFile(String fileName, Path filePath, InputStream inputStream) {
+            this.fileName = fileName;
+            this.filePath = filePath;
+            this.inputStream = inputStream;
+        }
+
+        ParseTree getParseTree() {
+            return (parseTree != null) ? join(parseTree) : BLangFiles.parseFile(filePath, inputStream);
+        }
+    }
+
+    /**
+     * Source of a package, with its source files.
+     */
+    private static class LoadedPackage {
+        private final PackageRepository.PackageSource pkgSource;
+        private final List<SourceFile> sourceFiles;
+
+        LoadedPackage(PackageRepository.PackageSource pkgSource, List<SourceFile> sourceFiles) {
+            this.pkgSource = pkgSource;
+            this.sourceFiles = sourceFiles;
+        }
+
+        void close() {
+            for (SourceFile sourceFile : sourceFiles) {
+                if (sourceFile.parseTree != null) {
+                    sourceFile.parseTree.cancel(false);
+                }
+                try {
+                    sourceFile.inputStream.close();
+                } catch (IOException ignore) {
+                    /* ignore */
+                }
+            }
+        }
+    }
+
+    /**
+     * Holder of the parser pool, which is created on first use.
+     */
+    private static class ParserPool {
+        private static final ForkJoinPool POOL = new ForkJoinPool(Integer.getInteger(SYS_PROP_PARALLEL_THREADS,
+                Runtime.getRuntime().availableProcessors()));
+    }
 }
@@ -1395,9 +1395,11 @@ public class SemanticAnalyzer implements NodeVisitor {
 
         if (arithmeticExprType == BTypes.typeInt) {
             divideExpr.setEvalFunc(DivideExpr.DIV_INT_FUNC);
+            divideExpr.setIntEvalFunc(DivideExpr.DIV_INT_OP);
 
         } else if (arithmeticExprType == BTypes.typeFloat) {
             divideExpr.setEvalFunc(DivideExpr.DIV_FLOAT_FUNC);
+            divideExpr.setFloatEvalFunc(DivideExpr.DIV_FLOAT_OP);
 
         } else {
             throwInvalidBinaryOpError(divideExpr);
@@ -1410,9 +1412,11 @@ public class SemanticAnalyzer implements NodeVisitor {
 
         if (arithmeticExprType == BTypes.typeInt) {
             modExpression.setEvalFunc(ModExpression.MOD_INT_FUNC);
+            modExpression.setIntEvalFunc(ModExpression.MOD_INT_OP);
 
         } else if (arithmeticExprType == BTypes.typeFloat) {
             modExpression.setEvalFunc(ModExpression.MOD_FLOAT_FUNC);
+            modExpression.setFloatEvalFunc(ModExpression.MOD_FLOAT_OP);
 
         } else {
             throwInvalidBinaryOpError(modExpression);
@@ -1460,9 +1464,11 @@ public class SemanticAnalyzer implements NodeVisitor {
 
         if (arithmeticExprType == BTypes.typeInt) {
             addExpr.setEvalFunc(AddExpression.ADD_INT_FUNC);
+            addExpr.setIntEvalFunc(AddExpression.ADD_INT_OP);
 
         } else if (arithmeticExprType == BTypes.typeFloat) {
             addExpr.setEvalFunc(AddExpression.ADD_FLOAT_FUNC);
+            addExpr.setFloatEvalFunc(AddExpression.ADD_FLOAT_OP);
 
         } else if (arithmeticExprType == BTypes.typeString) {
             addExpr.setEvalFunc(AddExpression.ADD_STRING_FUNC);
@@ -1478,9 +1484,11 @@ public class SemanticAnalyzer implements NodeVisitor {
 
         if (binaryExprType == BTypes.typeInt) {
             multExpr.setEvalFunc(MultExpression.MULT_INT_FUNC);
+            multExpr.setIntEvalFunc(MultExpression.MULT_INT_OP);
 
         } else if (binaryExprType == BTypes.typeFloat) {
             multExpr.setEvalFunc(MultExpression.MULT_FLOAT_FUNC);
+            multExpr.setFloatEvalFunc(MultExpression.MULT_FLOAT_OP);
 
         } else {
             throwInvalidBinaryOpError(multExpr);
@@ -1493,9 +1501,11 @@ public class SemanticAnalyzer implements NodeVisitor {
 
         if (binaryExprType == BTypes.typeInt) {
             subtractExpr.setEvalFunc(SubtractExpression.SUB_INT_FUNC);
+            subtractExpr.setIntEvalFunc(SubtractExpression.SUB_INT_OP);
 
         } else if (binaryExprType == BTypes.typeFloat) {
             subtractExpr.setEvalFunc(SubtractExpression.SUB_FLOAT_FUNC);
+            subtractExpr.setFloatEvalFunc(SubtractExpression.SUB_FLOAT_OP);
 
         } else {
             throwInvalidBinaryOpError(subtractExpr);
@@ -2281,8 +2291,7 @@ public class SemanticAnalyzer implements NodeVisitor {
                 updatedArgExprs[i] = argExpr;
                 BType lhsType;
                 if (entry.getValue() instanceof NativeUnitProxy) {
-                    NativeUnit nativeUnit = ((NativeUnitProxy) entry.getValue()).load();
-                    SimpleTypeName simpleTypeName = nativeUnit.getArgumentTypeNames()[i];
+                    SimpleTypeName simpleTypeName = ((NativeUnitProxy) entry.getValue()).getArgumentTypeNames()[i];
                     lhsType = BTypes.resolveType(simpleTypeName, currentScope, funcIExpr.getNodeLocation());
                 } else {
                     if (!(entry.getValue() instanceof Function)) {
@@ -18,7 +18,9 @@
 package org.ballerinalang;
 
 import org.ballerinalang.bre.nonblocking.ModeResolver;
+import org.ballerinalang.util.program.BLangPackages;
 import org.testng.annotations.BeforeTest;
+import org.testng.annotations.Optional;
 import org.testng.annotations.Parameters;
 
 /**
@@ -26,10 +28,13 @@ import org.testng.annotations.Parameters;
  */
 public class TestConfigurationUtil {
 
-    @Parameters("enableNonBlocking")
+    @Parameters({"enableNonBlocking", "enableCompiledMode", "enableParallelLoading"})
     @BeforeTest
-    public void configureTestExecutor(String enableNonBlocking) {
+    public void configureTestExecutor(String enableNonBlocking, @Optional("false") String enableCompiledMode,
+                                      @Optional("false") String enableParallelLoading) {
         ModeResolver.getInstance().setNonblockingEnabled(Boolean.valueOf(enableNonBlocking));
+        ModeResolver.getInstance().setCompiledModeEnabled(Boolean.valueOf(enableCompiledMode));
+        BLangPackages.setParallelLoadingEnabled(Boolean.valueOf(enableParallelLoading));
     }
 
 }
@@ -0,0 +1,126 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.core.interpreter;
+
+import org.ballerinalang.bre.nonblocking.ModeResolver;
+import org.ballerinalang.core.utils.BTestUtils;
+import org.ballerinalang.model.BLangProgram;
+import org.ballerinalang.model.BallerinaFunction;
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BFloat;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.exceptions.BallerinaException;
+import org.ballerinalang.util.program.BLangFunctions;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Test functions executed on the register based instruction interpreter.
+ *
+ * @since 0.87
+ */
+public class CompiledModeTest {
+
+    private BLangProgram bLangProgram;
+
+    @BeforeClass
+    public void setup() {
+        ModeResolver.getInstance().setCompiledModeEnabled(true);
+        bLangProgram = BTestUtils.parseBalFile("lang/functions/compiled-functions.bal");
+    }
+
+    @AfterClass
+    public void tearDown() {
+        ModeResolver.getInstance().setCompiledModeEnabled(false);
+    }
+
+    @Test(description = "Test which functions are compiled to instructions")
+    public void testCompiledFunctions() {
+        Assert.assertNotNull(getFunction("fibonacci").getCompiledUnit());
+        Assert.assertNotNull(getFunction("rangeOfMinMax").getCompiledUnit());
+        Assert.assertNull(getFunction("withArray").getCompiledUnit(), "array access should not be compiled");
+    }
+
+    @Test(description = "Test recursive function invocations")
+    public void testRecursiveInvocation() {
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "fibonacci", new BValue[]{new BInteger(20)});
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 6765);
+    }
+
+    @Test(description = "Test while loop with break")
+    public void testWhileWithBreak() {
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "sumUpTo", new BValue[]{new BInteger(100)});
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 5050);
+    }
+
+    @Test(description = "Test float arithmetic with an implicit cast")
+    public void testFloatArithmetic() {
+        BValue[] args = {new BFloat(1.5), new BFloat(2.0)};
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "average", args);
+        Assert.assertEquals(((BFloat) returns[0]).floatValue(), 1.75);
+    }
+
+    @Test(description = "Test string concatenation")
+    public void testStringConcat() {
+        BValue[] args = {new BString("hello"), new BString("world")};
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "concat", args);
+        Assert.assertEquals(returns[0].stringValue(), "hello world");
+    }
+
+    @Test(description = "Test named and multiple return values")
+    public void testMultipleReturns() {
+        BValue[] args = {new BInteger(15), new BInteger(4)};
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "minMax", args);
+        Assert.assertEquals(returns.length, 2);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 4);
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), 15);
+
+        returns = BLangFunctions.invoke(bLangProgram, "rangeOfMinMax", args);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 11);
+    }
+
+    @Test(description = "Test logical operators and constants")
+    public void testLogicalOperators() {
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "isWithinLimit", new BValue[]{new BInteger(5)});
+        Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
+
+        returns = BLangFunctions.invoke(bLangProgram, "isWithinLimit", new BValue[]{new BInteger(11)});
+        Assert.assertFalse(((BBoolean) returns[0]).booleanValue());
+    }
+
+    @Test(description = "Test fallback to the tree walking executor")
+    public void testUncompiledFunction() {
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "withArray");
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 3);
+    }
+
+    @Test(description = "Test integer division by zero",
+            expectedExceptions = BallerinaException.class,
+            expectedExceptionsMessageRegExp = " / by zero")
+    public void testDivideByZero() {
+        BLangFunctions.invoke(bLangProgram, "divide", new BValue[]{new BInteger(1), new BInteger(0)});
+    }
+
+    private BallerinaFunction getFunction(String name) {
+        return (BallerinaFunction) BLangFunctions.getFunction(bLangProgram, name);
+    }
+}
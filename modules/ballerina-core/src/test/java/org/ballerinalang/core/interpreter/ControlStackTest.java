@@ -0,0 +1,103 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.core.interpreter;
+
+import org.ballerinalang.bre.CallableUnitInfo;
+import org.ballerinalang.bre.ControlStack;
+import org.ballerinalang.bre.StackFrame;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test the array backed {@link ControlStack}.
+ *
+ * @since 0.87
+ */
+public class ControlStackTest {
+
+    @Test(description = "Test pushing and popping more frames than the initial stack size")
+    public void testPushAndPop() {
+        ControlStack controlStack = new ControlStack();
+        StackFrame[] frames = new StackFrame[40];
+        for (int i = 0; i < frames.length; i++) {
+            frames[i] = newFrame(controlStack.allocateValues(2), "f" + i);
+            controlStack.pushFrame(frames[i]);
+            controlStack.setValue(0, new BInteger(i));
+        }
+
+        Assert.assertEquals(controlStack.size(), frames.length);
+        Assert.assertSame(controlStack.getFrame(0), frames[0]);
+
+        int index = 0;
+        for (StackFrame frame : controlStack) {
+            Assert.assertSame(frame, frames[index++]);
+        }
+
+        for (int i = frames.length - 1; i >= 0; i--) {
+            Assert.assertSame(controlStack.getCurrentFrame(), frames[i]);
+            Assert.assertEquals(((BInteger) controlStack.getValue(0)).intValue(), i);
+            Assert.assertSame(controlStack.popFrame(), frames[i]);
+        }
+        Assert.assertEquals(controlStack.size(), 0);
+        Assert.assertNull(controlStack.getCurrentFrame());
+    }
+
+    @Test(description = "Test reusing the value arrays of popped frames")
+    public void testValueReuse() {
+        ControlStack controlStack = new ControlStack();
+        controlStack.pushFrame(newFrame(new BValue[1], "main"));
+
+        BValue[] values = controlStack.allocateValues(4);
+        values[3] = new BInteger(3);
+        controlStack.pushFrame(newFrame(values, "foo"));
+        controlStack.popFrame();
+
+        BValue[] reused = controlStack.allocateValues(2);
+        Assert.assertSame(reused, values);
+        Assert.assertNull(reused[0]);
+        Assert.assertNull(reused[1]);
+
+        // Values reserved for a frame which is never pushed
+        controlStack.releaseValues();
+        Assert.assertSame(controlStack.allocateValues(4), values);
+        Assert.assertNotSame(controlStack.allocateValues(4), values);
+    }
+
+    @Test(description = "Test resetting the stack clears the values held by its slab")
+    public void testReset() {
+        ControlStack controlStack = new ControlStack();
+        BValue[] values = controlStack.allocateValues(4);
+        values[3] = new BInteger(3);
+        controlStack.pushFrame(newFrame(values, "main"));
+        controlStack.popFrame();
+
+        controlStack.pushFrame(newFrame(controlStack.allocateValues(1), "main"));
+        controlStack.reset();
+        Assert.assertEquals(controlStack.size(), 0);
+        Assert.assertNull(controlStack.getCurrentFrame());
+        // Values beyond the part used by the last frame are cleared as well
+        Assert.assertNull(values[3]);
+        Assert.assertSame(controlStack.allocateValues(4), values);
+    }
+
+    private StackFrame newFrame(BValue[] values, String name) {
+        return new StackFrame(values, new BValue[0], new CallableUnitInfo(name, null, null));
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.core.parser;
+
+import org.ballerinalang.core.utils.BTestUtils;
+import org.ballerinalang.model.BLangPackage;
+import org.ballerinalang.model.BLangProgram;
+import org.ballerinalang.model.BallerinaFile;
+import org.ballerinalang.model.BallerinaFunction;
+import org.ballerinalang.model.Function;
+import org.ballerinalang.model.StructDef;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.program.BLangFunctions;
+import org.ballerinalang.util.program.BLangPackages;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Test loading a program of several packages with the {@value BLangPackages#SYS_PROP_PARALLEL_LOADING} mode.
+ *
+ * @since 0.87
+ */
+public class ParallelPackageLoadingTest {
+
+    private static final String PROGRAM_PATH = "lang/packages/parallel/main";
+
+    private boolean parallelLoadingEnabled;
+
+    @BeforeClass
+    public void setup() {
+        parallelLoadingEnabled = BLangPackages.isParallelLoadingEnabled();
+    }
+
+    @Test(description = "Test a program of several packages loads to the same model in parallel as sequentially")
+    public void testParallelLoadingModel() {
+        BLangPackages.setParallelLoadingEnabled(false);
+        BLangProgram sequentialProgram = BTestUtils.parseBalFile(PROGRAM_PATH);
+        BLangPackages.setParallelLoadingEnabled(true);
+        BLangProgram parallelProgram = BTestUtils.parseBalFile(PROGRAM_PATH);
+
+        List<String> sequentialModel = describe(sequentialProgram);
+        Assert.assertTrue(sequentialModel.contains("package lang.packages.parallel.util"));
+        Assert.assertTrue(sequentialModel.contains("file names.bal"));
+        Assert.assertEquals(describe(parallelProgram), sequentialModel);
+
+        BValue[] args = {new BInteger(3), new BInteger(4)};
+        BValue[] returns = BLangFunctions.invoke(parallelProgram, "totalArea", args);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 30);
+        Assert.assertEquals(BLangFunctions.invoke(parallelProgram, "areaLabel")[0].stringValue(), "area (m2)");
+    }
+
+    @AfterClass
+    public void tearDown() {
+        BLangPackages.setParallelLoadingEnabled(parallelLoadingEnabled);
+    }
+
+    /**
+     * Describe the parts of the model which depend on the order the files and packages are loaded in: the files
+     * and imports of each package, and the memory laid out for its functions and structs.
+     */
+    private static List<String> describe(BLangProgram program) {
+        List<String> model = new ArrayList<>();
+        model.add("static memory " + program.getSizeOfStaticMem());
+
+        BLangPackage[] packages = program.getPackages();
+        Arrays.sort(packages, Comparator.comparing(BLangPackage::getPackagePath));
+        for (BLangPackage bLangPackage : packages) {
+            model.add("package " + bLangPackage.getPackagePath());
+            if (bLangPackage.getBallerinaFiles() != null) {
+                for (BallerinaFile bFile : bLangPackage.getBallerinaFiles()) {
+                    model.add("file " + bFile.getFileName());
+                }
+            }
+            for (BLangPackage dependentPackage : bLangPackage.getDependentPackages()) {
+                model.add("imports " + dependentPackage.getPackagePath());
+            }
+            for (Function function : bLangPackage.getFunctions()) {
+                String frameSize = (function instanceof BallerinaFunction) ?
+                        String.valueOf(((BallerinaFunction) function).getStackFrameSize()) : "native";
+                model.add("function " + function.getName() + " frame " + frameSize);
+            }
+            for (StructDef structDef : bLangPackage.getStructDefs()) {
+                model.add("struct " + structDef.getName() + " memory " + structDef.getStructMemorySize());
+            }
+        }
+        return model;
+    }
+}
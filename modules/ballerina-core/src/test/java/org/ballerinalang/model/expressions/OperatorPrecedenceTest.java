@@ -21,8 +21,10 @@ package org.ballerinalang.model.expressions;
 import org.ballerinalang.core.utils.BTestUtils;
 import org.ballerinalang.model.BLangProgram;
 import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BFloat;
 import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.exceptions.BallerinaException;
 import org.ballerinalang.util.program.BLangFunctions;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
@@ -273,4 +275,33 @@ public class OperatorPrecedenceTest {
                 "division operation differ");
     }
 
+    @Test(description = "Test the precedence of float arithmetic with int operands")
+    public void testFloatMultiplicationAndDivisionPrecedence() {
+        double a = 10.5;
+        double b = 20.25;
+        double c = 30.5;
+        int d = 40;
+
+        double x = (a + b) * (c + d) + a / b;
+        double y = (a + b) / (c - d) - a * b % c;
+        double z = a + b / c - d + a * (d % 3);
+
+        double expectedResult = x + y + z;
+
+        BValue[] args = {new BFloat(a), new BFloat(b), new BFloat(c), new BInteger(d)};
+
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "floatMultiplicationAndDivisionPrecedence", args);
+
+        Assert.assertSame(returns[0].getClass(), BFloat.class);
+        double actualResult = ((BFloat) returns[0]).floatValue();
+
+        Assert.assertEquals(actualResult, expectedResult, "The results of float operations differ");
+    }
+
+    @Test(description = "Test division by zero within a nested int expression",
+            expectedExceptions = BallerinaException.class)
+    public void testIntDivisionByZeroPrecedence() {
+        BValue[] args = {new BInteger(10), new BInteger(20), new BInteger(0)};
+        BLangFunctions.invoke(bLangProgram, "intDivisionByZeroPrecedence", args);
+    }
 }
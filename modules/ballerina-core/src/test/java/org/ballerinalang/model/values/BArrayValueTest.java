@@ -117,4 +117,68 @@ public class BArrayValueTest {
         Assert.assertEquals(arrayValue.get(199).floatValue(), new Double(6.9), DELTA, "Invalid value returned.");
 
     }
+
+    @Test(description = "Test primitive accessors and range copy of primitive arrays")
+    public void testPrimitiveArrayAccess() {
+        BArray<BInteger> intArray = new BArray<>(BInteger.class);
+        for (int i = 0; i < 1000; i++) {
+            intArray.addInt(i, i * 2);
+        }
+        intArray.add(1000, new BInteger(-1));
+        Assert.assertEquals(intArray.size(), 1001);
+        Assert.assertEquals(intArray.getInt(500), 1000);
+        Assert.assertEquals(intArray.get(1000).intValue(), -1);
+
+        BArray<BInteger> intCopy = intArray.copyOfRange(10, 20);
+        Assert.assertEquals(intCopy.size(), 10);
+        Assert.assertEquals(intCopy.getInt(0), 20);
+        Assert.assertEquals(intCopy.get(9).intValue(), 38);
+
+        BArray<BFloat> floatArray = new BArray<>(BFloat.class);
+        floatArray.addFloat(0, 1.5);
+        floatArray.add(1, new BFloat(2.5));
+        Assert.assertEquals(floatArray.getFloat(1), 2.5, DELTA);
+        Assert.assertEquals(floatArray.copyOfRange(0, 2).get(0).floatValue(), 1.5, DELTA);
+
+        BArray<BBoolean> booleanArray = new BArray<>(BBoolean.class);
+        booleanArray.addBoolean(3, true);
+        Assert.assertEquals(booleanArray.size(), 4);
+        Assert.assertFalse(booleanArray.getBoolean(0));
+        Assert.assertTrue(booleanArray.get(3).booleanValue());
+    }
+
+    @Test(description = "Test reading int and float array elements in arithmetic expressions")
+    public void testArrayElementsInArithmetic() {
+        BArray<BInteger> intArray = new BArray<>(BInteger.class);
+        BArray<BFloat> floatArray = new BArray<>(BFloat.class);
+        long expectedIntSum = 0;
+        double expectedFloatSum = 0;
+        for (int i = 0; i < 10; i++) {
+            intArray.addInt(i, i * 3 - 7);
+            floatArray.addFloat(i, i + 0.5);
+        }
+        for (int i = 0; i < 9; i++) {
+            expectedIntSum = expectedIntSum + intArray.getInt(i) * intArray.getInt(i + 1);
+            expectedFloatSum = expectedFloatSum
+                    + floatArray.getFloat(i) * intArray.getInt(i) / floatArray.getFloat(i + 1);
+        }
+
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "sumOfProducts", new BValue[]{intArray, floatArray});
+
+        Assert.assertEquals(returns.length, 2);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), expectedIntSum);
+        Assert.assertEquals(((BFloat) returns[1]).floatValue(), expectedFloatSum, DELTA);
+    }
+
+    @Test(description = "Test storing null in primitive arrays", expectedExceptions = {BallerinaException.class},
+            expectedExceptionsMessageRegExp = "cannot store 'null' in an array of type 'int\\[\\]'")
+    public void testAddNullToIntArray() {
+        new BArray<>(BInteger.class).add(0, null);
+    }
+
+    @Test(description = "Test storing null in primitive arrays", expectedExceptions = {BallerinaException.class},
+            expectedExceptionsMessageRegExp = "cannot store 'null' in an array of type 'float\\[\\]'")
+    public void testAddNullToFloatArray() {
+        new BArray<>(BFloat.class).add(0, null);
+    }
 }
@@ -115,4 +115,14 @@ public class BIntegerValueTest {
         BInteger intValue = (BInteger) returns[0];
         Assert.assertEquals(intValue.intValue(), 5, "Invalid int value returned.");
     }
+
+    @Test(description = "Test sharing of small int values")
+    public void testIntegerValueCache() {
+        Assert.assertSame(BInteger.valueOf(-128), BInteger.valueOf(-128));
+        Assert.assertSame(BInteger.valueOf(1023), BInteger.valueOf(1023));
+        Assert.assertNotSame(BInteger.valueOf(1024), BInteger.valueOf(1024));
+        Assert.assertEquals(BInteger.valueOf(Long.MIN_VALUE).intValue(), Long.MIN_VALUE);
+        Assert.assertSame(BBoolean.valueOf(true), BBoolean.TRUE);
+        Assert.assertSame(BBoolean.valueOf(false), BBoolean.FALSE);
+    }
 }
@@ -24,7 +24,10 @@ import org.ballerinalang.util.program.BLangFunctions;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.testng.Assert.assertEquals;
@@ -79,6 +82,63 @@ public class BMapValueTest   {
         assertEquals(map.size(), 101);
     }
 
+    @Test
+    public void testBMapKeyOrder() {
+        BMap<BString, BInteger> map = new BMap<>();
+        for (int i = 0; i < 50; i++) {
+            map.put(new BString("key" + i), new BInteger(i));
+        }
+        map.remove(new BString("key10"));
+        map.put(new BString("key10"), new BInteger(10));
+        map.put(new BString("key0"), new BInteger(100));
+
+        List<String> keys = new ArrayList<>();
+        for (BString key : map.keySet()) {
+            keys.add(key.stringValue());
+        }
+        assertEquals(keys.size(), 50);
+        assertEquals(keys.get(0), "key0");
+        assertEquals(keys.get(10), "key11");
+        assertEquals(keys.get(49), "key10");
+        assertEquals(map.get(new BString("key0")), new BInteger(100));
+        Assert.assertTrue(map.keySet().contains(new BString("key25")));
+        Assert.assertFalse(map.keySet().contains(new BString("key50")));
+        Assert.assertFalse(map.keySet().contains("key25"));
+        Assert.assertFalse(map.keySet().contains(null));
+    }
+
+    @Test(expectedExceptions = ConcurrentModificationException.class)
+    public void testBMapKeySetModifiedDuringIteration() {
+        BMap<BString, BInteger> map = new BMap<>();
+        for (int i = 0; i < 16; i++) {
+            map.put(new BString("key" + i), new BInteger(i));
+        }
+        map.remove(new BString("key0"));
+
+        for (BString key : map.keySet()) {
+            // Adding a key to the full entry arrays compacts them, which would shift the keys under the iterator
+            map.put(new BString("new" + key.stringValue()), new BInteger(0));
+        }
+    }
+
+    @Test
+    public void testLargeBMap() {
+        BMap<BString, BInteger> map = new BMap<>();
+        int count = 100000;
+        for (int i = 0; i < count; i++) {
+            map.put(new BString(String.valueOf(i)), new BInteger(i));
+        }
+        assertEquals(map.size(), count);
+
+        for (int i = 0; i < count; i += 2) {
+            map.remove(new BString(String.valueOf(i)));
+        }
+        assertEquals(map.size(), count / 2);
+        Assert.assertNull(map.get(new BString("5000")));
+        assertEquals(map.get(new BString("5001")), new BInteger(5001));
+        assertEquals(map.keySet().size(), count / 2);
+    }
+
     @Test
     void testGrammar() {
         bLangProgram = BTestUtils.parseBalFile("lang/values/map-value.bal");
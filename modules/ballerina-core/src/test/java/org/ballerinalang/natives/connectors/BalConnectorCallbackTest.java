@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.natives.connectors;
+
+import org.ballerinalang.bre.CallableUnitInfo;
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.StackFrame;
+import org.ballerinalang.model.values.BMessage;
+import org.ballerinalang.model.values.BValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.messaging.DefaultCarbonMessage;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test waiting for the responses of blocking connector calls.
+ *
+ * @since 0.87
+ */
+public class BalConnectorCallbackTest {
+
+    @Test(description = "Test receiving the response of a blocking call")
+    public void testAwaitResponse() throws InterruptedException {
+        BalConnectorCallback callback = new BalConnectorCallback(newContext());
+        Thread responder = new Thread(() -> callback.done(new DefaultCarbonMessage()));
+        responder.start();
+
+        Assert.assertTrue(callback.awaitResponse(10000));
+        Assert.assertFalse(callback.isTimedOut());
+        Assert.assertTrue(callback.getValueRef() instanceof BMessage);
+        responder.join();
+    }
+
+    @Test(description = "Test timing out a blocking call, and ignoring the late response")
+    public void testAwaitResponseTimeout() throws InterruptedException {
+        BalConnectorCallback callback = new BalConnectorCallback(newContext());
+
+        Assert.assertFalse(callback.awaitResponse(10));
+        Assert.assertTrue(callback.isTimedOut());
+        Assert.assertEquals(callback.getTimeout(), 10);
+
+        callback.done(new DefaultCarbonMessage());
+        Assert.assertFalse(callback.isResponseArrived());
+        Assert.assertNull(callback.getValueRef());
+    }
+
+    @Test(description = "Test a blocking call on a fork join pool lets the pool run the task delivering its response")
+    public void testAwaitResponseInForkJoinPool() throws Exception {
+        BalConnectorCallback callback = new BalConnectorCallback(newContext());
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            // The only thread of the pool waits for the response, hence the responder runs on a compensating thread
+            Future<Boolean> response = pool.submit(() -> callback.awaitResponse(10000));
+            Thread.sleep(100);
+            pool.execute(() -> callback.done(new DefaultCarbonMessage()));
+
+            Assert.assertTrue(response.get(5, TimeUnit.SECONDS));
+            Assert.assertFalse(callback.isTimedOut());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private Context newContext() {
+        Context context = new Context();
+        context.getControlStack().pushFrame(new StackFrame(new BValue[0], new BValue[1],
+                new CallableUnitInfo("get", null, null)));
+        return context;
+    }
+}
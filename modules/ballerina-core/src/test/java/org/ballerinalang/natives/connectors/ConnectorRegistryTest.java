@@ -0,0 +1,204 @@
+/*
+ *  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.natives.connectors;
+
+import org.ballerinalang.model.SymbolScope;
+import org.ballerinalang.model.values.BArray;
+import org.ballerinalang.model.values.BConnector;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test sharing native connectors through the {@link ConnectorRegistry}.
+ *
+ * @since 0.87
+ */
+public class ConnectorRegistryTest {
+
+    private final ConnectorRegistry registry = ConnectorRegistry.getInstance();
+
+    @AfterMethod
+    public void cleanup() {
+        registry.shutdown();
+    }
+
+    @Test(description = "Test sharing a connector created with equivalent arguments")
+    public void testShareConnector() {
+        TestConnector type = new TestConnector(true);
+        AbstractNativeConnector first = registry.getConnector(type, new BValue[]{newOptions("url", "jdbc:a", "size",
+                5)});
+        AbstractNativeConnector second = registry.getConnector(type, new BValue[]{newOptions("size", 5, "url",
+                "jdbc:a")});
+
+        Assert.assertSame(second, first);
+        Assert.assertEquals(((TestConnector) first).initCount, 1);
+        Assert.assertEquals(registry.getReferenceCount(first), 2);
+        Assert.assertEquals(registry.getConnectorCount(), 1);
+
+        AbstractNativeConnector other = registry.getConnector(type, new BValue[]{newOptions("url", "jdbc:b", "size",
+                5)});
+        Assert.assertNotSame(other, first);
+        Assert.assertEquals(registry.getConnectorCount(), 2);
+    }
+
+    @Test(description = "Test destroying a shared connector once all the references to it are released")
+    public void testReleaseConnector() {
+        TestConnector type = new TestConnector(true);
+        List<String> events = new ArrayList<>();
+        ConnectorLifecycleListener listener = new ConnectorLifecycleListener() {
+            @Override
+            public void connectorCreated(String id, AbstractNativeConnector connector) {
+                events.add("created");
+            }
+
+            @Override
+            public void connectorDestroyed(String id, AbstractNativeConnector connector) {
+                events.add("destroyed");
+            }
+        };
+        registry.addListener(listener);
+        try {
+            TestConnector first = (TestConnector) registry.getConnector(type, new BValue[]{new BString("uri")});
+            registry.getConnector(type, new BValue[]{new BString("uri")});
+
+            registry.release(first);
+            Assert.assertEquals(first.destroyCount, 0);
+            Map<String, Map<String, Object>> statistics = registry.getStatistics();
+            Assert.assertEquals(statistics.size(), 1);
+            Assert.assertEquals(statistics.values().iterator().next().get("references"), 1);
+            Assert.assertEquals(statistics.values().iterator().next().get("requests"), 0);
+
+            registry.release(first);
+            Assert.assertEquals(first.destroyCount, 1);
+            Assert.assertEquals(registry.getConnectorCount(), 0);
+            Assert.assertEquals(events, Arrays.asList("created", "destroyed"));
+
+            AbstractNativeConnector second = registry.getConnector(type, new BValue[]{new BString("uri")});
+            Assert.assertNotSame(second, first);
+        } finally {
+            registry.removeListener(listener);
+        }
+    }
+
+    @Test(description = "Test creating a connector which is not shareable for each expression")
+    public void testConnectorNotShared() {
+        TestConnector type = new TestConnector(false);
+        TestConnector first = (TestConnector) registry.getConnector(type, new BValue[]{new BString("uri")});
+        TestConnector second = (TestConnector) registry.getConnector(type, new BValue[]{new BString("uri")});
+
+        Assert.assertNotSame(second, first);
+        Assert.assertEquals(registry.getConnectorCount(), 0);
+
+        registry.release(first);
+        Assert.assertEquals(first.destroyCount, 1);
+    }
+
+    @Test(description = "Test closing a connector value more than once releases its reference only once")
+    public void testReleaseConnectorValue() {
+        TestConnector type = new TestConnector(true);
+        BValue[] args = new BValue[]{new BString("uri")};
+        TestConnector connector = (TestConnector) registry.getConnector(type, args);
+        BConnector first = new BConnector(connector, args);
+        BConnector second = new BConnector(registry.getConnector(type, args), args);
+        Assert.assertEquals(registry.getReferenceCount(connector), 2);
+
+        registry.release(first);
+        registry.release(first);
+        Assert.assertEquals(registry.getReferenceCount(connector), 1);
+        Assert.assertEquals(connector.destroyCount, 0);
+
+        registry.release(second);
+        Assert.assertEquals(connector.destroyCount, 1);
+        Assert.assertEquals(registry.getConnectorCount(), 0);
+    }
+
+    @Test(description = "Test canonicalizing the arguments of connectors")
+    public void testCanonicalize() {
+        Assert.assertEquals(ConnectorRegistry.canonicalize(new BValue[]{newOptions("a", "b", "c", 1)}),
+                ConnectorRegistry.canonicalize(new BValue[]{newOptions("c", 1, "a", "b")}));
+        Assert.assertNotEquals(ConnectorRegistry.canonicalize(new BValue[]{newOptions("a", "1")}),
+                ConnectorRegistry.canonicalize(new BValue[]{newOptions("a", 1)}));
+        Assert.assertNotEquals(ConnectorRegistry.canonicalize(new BValue[]{new BString("a,b")}),
+                ConnectorRegistry.canonicalize(new BValue[]{new BString("a"), new BString("b")}));
+        Assert.assertNull(ConnectorRegistry.canonicalize(new BValue[]{new BArray<>(BString.class)}));
+    }
+
+    private static BMap<BString, BValue> newOptions(Object... entries) {
+        BMap<BString, BValue> options = new BMap<>();
+        for (int i = 0; i < entries.length; i += 2) {
+            Object value = entries[i + 1];
+            options.put(new BString((String) entries[i]),
+                    (value instanceof Integer) ? new BInteger((Integer) value) : new BString((String) value));
+        }
+        return options;
+    }
+
+    /**
+     * Connector which counts how many times it is initialized and destroyed.
+     */
+    private static class TestConnector extends AbstractNativeConnector {
+
+        private final boolean shareable;
+        private int initCount;
+        private int destroyCount;
+
+        TestConnector(boolean shareable) {
+            super((SymbolScope) null);
+            this.shareable = shareable;
+            setName("TestConnector");
+            setPackagePath("ballerina.test");
+        }
+
+        @Override
+        public boolean init(BValue[] bValueRefs) {
+            initCount++;
+            return true;
+        }
+
+        @Override
+        public AbstractNativeConnector getInstance() {
+            return new TestConnector(shareable);
+        }
+
+        @Override
+        public boolean isShareable() {
+            return shareable;
+        }
+
+        @Override
+        public void destroy() {
+            destroyCount++;
+        }
+
+        @Override
+        public Map<String, Object> getStatistics() {
+            return Collections.singletonMap("requests", 0);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.metrics;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.messaging.DefaultCarbonMessage;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test the {@link DefaultMetricsCollector} and its {@link LatencyHistogram}s.
+ *
+ * @since 0.87
+ */
+public class MetricsTest {
+
+    @Test(description = "Test the counts and percentiles of a latency histogram")
+    public void testLatencyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 90; i++) {
+            // 1.5 microseconds, in the bucket of 1 to 2 microseconds
+            histogram.record(1500);
+        }
+        for (int i = 0; i < 10; i++) {
+            // 3 milliseconds, in the bucket of 2048 to 4096 microseconds
+            histogram.record(3000000);
+        }
+
+        Assert.assertEquals(histogram.getCount(), 100);
+        Assert.assertEquals(histogram.getTotalTime(), 90 * 1500 + 10 * 3000000);
+        Assert.assertEquals(histogram.getMaxTime(), 3000000);
+        Assert.assertEquals(histogram.getPercentile(50), 2000);
+        Assert.assertEquals(histogram.getPercentile(90), 2000);
+        // The upper bound of the bucket is capped to the maximum latency
+        Assert.assertEquals(histogram.getPercentile(99), 3000000);
+        Assert.assertEquals(new LatencyHistogram().getPercentile(99), 0);
+    }
+
+    @Test(description = "Test the latencies recorded for a request when its response is sent")
+    public void testRequestMetrics() {
+        DefaultMetricsCollector collector = new DefaultMetricsCollector();
+        AtomicInteger responses = new AtomicInteger();
+        MetricsCallback callback = new MetricsCallback(cMsg -> responses.incrementAndGet(), collector,
+                System.nanoTime());
+        Assert.assertEquals(collector.getInFlightRequests(), 1);
+
+        callback.dispatched("Echo", "echo");
+        Assert.assertTrue(callback.isDispatched());
+        callback.done(new DefaultCarbonMessage());
+        // A second response of the same request is not recorded again
+        callback.done(new DefaultCarbonMessage());
+
+        Assert.assertEquals(responses.get(), 2);
+        Assert.assertEquals(collector.getRequestCount(), 1);
+        Assert.assertEquals(collector.getInFlightRequests(), 0);
+        Assert.assertEquals(collector.getResourceLatencies("Echo", "echo").getCount(), 1);
+        Assert.assertNull(collector.getResourceLatencies("Echo", "other"));
+    }
+
+    @Test(description = "Test the report of the collected metrics")
+    public void testReport() {
+        DefaultMetricsCollector collector = new DefaultMetricsCollector();
+        collector.requestStarted();
+        collector.requestDispatched("Echo", "echo");
+        collector.requestCompleted("Echo", "echo", 1000, 2000, 3000);
+        collector.requestStarted();
+        collector.requestCompleted(null, null, 500, 0, 500);
+        collector.nativeFunctionInvoked("ballerina.lang.jsons:getString", 4000);
+        collector.actionInvoked("ballerina.net.http:ClientConnector.get", 5000);
+        collector.errorOccurred(ErrorCategory.DISPATCH);
+
+        Assert.assertEquals(collector.getNativeFunctionLatencies("ballerina.lang.jsons:getString").getCount(), 1);
+        Assert.assertEquals(collector.getActionLatencies("ballerina.net.http:ClientConnector.get").getCount(), 1);
+
+        String report = collector.report();
+        Assert.assertTrue(report.contains("ballerina_requests_total 2\n"));
+        Assert.assertTrue(report.contains("ballerina_requests_in_flight 0\n"));
+        Assert.assertTrue(report.contains(
+                "ballerina_resource_total_seconds_count{service=\"Echo\",resource=\"echo\"} 1"));
+        Assert.assertTrue(report.contains("ballerina_service_dispatch_seconds_sum{service=\"Echo\"} 1.0E-6"));
+        Assert.assertTrue(report.contains(
+                "ballerina_native_function_seconds_count{function=\"ballerina.lang.jsons:getString\"} 1"));
+        Assert.assertTrue(report.contains("ballerina_errors_total{category=\"dispatch\"} 1"));
+        Assert.assertTrue(report.contains("ballerina_errors_total{category=\"timeout\"} 0"));
+        Assert.assertTrue(report.contains("ballerina_scheduler_queue_depth{scheduler=\"BLangWorker\"} "));
+        Assert.assertTrue(report.contains("ballerina_scheduler_active_threads{scheduler=\"BLangParallelWorker\"} "));
+        Assert.assertTrue(report.contains("ballerina_scheduler_rejected_total{scheduler=\"BLangWorker\"} "));
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.threadpool;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test the {@link Scheduler} implementations.
+ *
+ * @since 0.87
+ */
+public class SchedulerTest {
+
+    @Test(description = "Test the gauges and the rejections of a bounded scheduler")
+    public void testBoundedScheduler() throws InterruptedException {
+        BoundedScheduler scheduler = new BoundedScheduler("BoundedTest", 1, 1, RejectionPolicy.ABORT);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            scheduler.execute(() -> {
+                started.countDown();
+                await(release);
+            });
+            Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+            scheduler.execute(() -> { });
+
+            Assert.assertEquals(scheduler.getActiveThreadCount(), 1);
+            Assert.assertEquals(scheduler.getQueueDepth(), 1);
+
+            try {
+                scheduler.execute(() -> { });
+                Assert.fail("task is not rejected when the queue is full");
+            } catch (RejectedExecutionException e) {
+                Assert.assertEquals(scheduler.getRejectedCount(), 1);
+            }
+        } finally {
+            release.countDown();
+            scheduler.shutdown();
+        }
+    }
+
+    @Test(description = "Test running a task in the caller when the queue of a bounded scheduler is full")
+    public void testCallerRunsPolicy() {
+        BoundedScheduler scheduler = new BoundedScheduler("CallerRunsTest", 1, 1, RejectionPolicy.CALLER_RUNS);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            scheduler.execute(() -> await(release));
+            scheduler.execute(() -> await(release));
+
+            Thread caller = Thread.currentThread();
+            Thread[] runner = new Thread[1];
+            scheduler.execute(() -> runner[0] = Thread.currentThread());
+            Assert.assertSame(runner[0], caller);
+            Assert.assertEquals(scheduler.getRejectedCount(), 1);
+        } finally {
+            release.countDown();
+            scheduler.shutdown();
+        }
+    }
+
+    @Test(description = "Test running tasks on a fork join scheduler")
+    public void testForkJoinScheduler() throws InterruptedException {
+        ForkJoinScheduler scheduler = new ForkJoinScheduler("ForkJoinTest", 2);
+        CountDownLatch done = new CountDownLatch(10);
+        try {
+            for (int i = 0; i < 10; i++) {
+                scheduler.execute(done::countDown);
+            }
+            Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+            Assert.assertEquals(scheduler.getRejectedCount(), 0);
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.service;
+
+import org.ballerinalang.bre.nonblocking.ModeResolver;
+import org.ballerinalang.core.EnvironmentInitializer;
+import org.ballerinalang.core.utils.MessageUtils;
+import org.ballerinalang.model.BLangProgram;
+import org.ballerinalang.model.util.Services;
+import org.ballerinalang.runtime.Constants;
+import org.ballerinalang.runtime.message.StringDataSource;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.messaging.CarbonMessage;
+
+/**
+ * Test dispatching a resource when the execution mode is not configured.
+ *
+ * @since 0.87
+ */
+public class DefaultExecutionModeTest {
+
+    private BLangProgram bLangProgram;
+    private String nonblockingProperty;
+    private boolean nonblockingEnabled;
+
+    @BeforeClass
+    public void setup() {
+        // Other suites switch the mode of the shared resolver, hence reset it to what an unset property resolves to
+        nonblockingProperty = System.clearProperty(Constants.SYS_PROP_ENABLE_NONBLOCKING);
+        nonblockingEnabled = ModeResolver.getInstance().isNonblockingEnabled();
+        ModeResolver.getInstance().setNonblockingEnabled(false);
+
+        bLangProgram = EnvironmentInitializer.setup("lang/service/echoService.bal");
+    }
+
+    @Test(description = "Test a resource replies when the non-blocking property is not set")
+    public void testDispatchResourceInDefaultMode() {
+        Assert.assertFalse(ModeResolver.getInstance().isNonblockingEnabled());
+
+        CarbonMessage response = Services.invoke(MessageUtils.generateHTTPMessage("/echo/message", "GET", "hello"));
+        Assert.assertNotNull(response, "resource ended without a reply");
+        Assert.assertEquals(((StringDataSource) response.getMessageDataSource()).getValue(), "hello");
+    }
+
+    @AfterClass
+    public void tearDown() {
+        EnvironmentInitializer.cleanup(bLangProgram);
+        ModeResolver.getInstance().setNonblockingEnabled(nonblockingEnabled);
+        if (nonblockingProperty != null) {
+            System.setProperty(Constants.SYS_PROP_ENABLE_NONBLOCKING, nonblockingProperty);
+        }
+    }
+
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.service;
+
+import org.ballerinalang.BLangProgramLoader;
+import org.ballerinalang.BLangProgramRunner;
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.RuntimeEnvironment;
+import org.ballerinalang.core.EnvironmentInitializer;
+import org.ballerinalang.core.TestCallback;
+import org.ballerinalang.core.TestErrorHandler;
+import org.ballerinalang.core.utils.BTestUtils;
+import org.ballerinalang.core.utils.MessageUtils;
+import org.ballerinalang.model.BLangProgram;
+import org.ballerinalang.model.Service;
+import org.ballerinalang.model.util.Services;
+import org.ballerinalang.natives.connectors.BallerinaConnectorManager;
+import org.ballerinalang.runtime.InFlightRequestCallback;
+import org.ballerinalang.runtime.message.StringDataSource;
+import org.ballerinalang.services.MessageProcessor;
+import org.ballerinalang.services.dispatchers.DispatcherRegistry;
+import org.ballerinalang.services.dispatchers.ServiceDispatcher;
+import org.ballerinalang.services.dispatchers.http.Constants;
+import org.ballerinalang.services.dispatchers.http.HTTPServicesRegistry;
+import org.ballerinalang.util.exceptions.BallerinaException;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.messaging.CarbonCallback;
+import org.wso2.carbon.messaging.CarbonMessage;
+
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test redeploying the services of a program, without restarting the runtime.
+ *
+ * @since 0.87
+ */
+public class ServiceRedeploymentTest {
+
+    private static final String SERVICE_FILE = "lang/service/echoService.bal";
+    private static final String CHANGED_SERVICE_FILE = "lang/service/echoServiceV2.bal";
+
+    private BLangProgram deployedProgram;
+
+    @BeforeClass
+    public void setup() {
+        BallerinaConnectorManager.getInstance().initialize(new MessageProcessor());
+        BallerinaConnectorManager.getInstance().registerServerConnectorErrorHandler(new TestErrorHandler());
+
+        deployedProgram = loadServiceProgram(SERVICE_FILE);
+        new BLangProgramRunner().startServices(deployedProgram);
+    }
+
+    @Test(description = "Test replacing a service by the new version of it")
+    public void testRedeployService() {
+        BLangProgram oldProgram = deployedProgram;
+        BLangProgram newProgram = loadServiceProgram(SERVICE_FILE);
+        Assert.assertTrue(new BLangProgramRunner().redeployServices(oldProgram, newProgram, 1000));
+        deployedProgram = newProgram;
+
+        // The old version does not accept requests once it is replaced
+        Assert.assertTrue(oldProgram.getRuntimeEnvironment().isRetired());
+        Assert.assertFalse(oldProgram.getRuntimeEnvironment().requestStarted());
+
+        Service service = HTTPServicesRegistry.getInstance().getService(Constants.DEFAULT_INTERFACE, "/echo");
+        Assert.assertSame(service.getBLangProgram(), newProgram);
+
+        CarbonMessage cMsg = MessageUtils.generateHTTPMessage("/echo/message", "GET");
+        CarbonMessage response = Services.invoke(cMsg);
+        Assert.assertNotNull(response);
+        Assert.assertEquals(newProgram.getRuntimeEnvironment().getInFlightRequests(), 0);
+    }
+
+    @Test(description = "Test draining the requests which are in flight on the old version of a service",
+            dependsOnMethods = "testRedeployService")
+    public void testDrainInFlightRequests() throws InterruptedException {
+        BLangProgram oldProgram = deployedProgram;
+        Assert.assertTrue(oldProgram.getRuntimeEnvironment().requestStarted());
+
+        BLangProgram newProgram = loadServiceProgram(SERVICE_FILE);
+        Assert.assertFalse(new BLangProgramRunner().redeployServices(oldProgram, newProgram, 100));
+        deployedProgram = newProgram;
+        Assert.assertEquals(oldProgram.getRuntimeEnvironment().getInFlightRequests(), 1);
+
+        oldProgram.getRuntimeEnvironment().requestCompleted();
+        Assert.assertTrue(oldProgram.getRuntimeEnvironment().drain(0, TimeUnit.MILLISECONDS));
+    }
+
+    @Test(description = "Test the requests are served by the changed version of a service once it is redeployed",
+            dependsOnMethods = "testDrainInFlightRequests")
+    public void testRedeployChangedService() {
+        BLangProgram newProgram = loadServiceProgram(CHANGED_SERVICE_FILE);
+        Assert.assertTrue(new BLangProgramRunner().redeployServices(deployedProgram, newProgram, 1000));
+        deployedProgram = newProgram;
+
+        CarbonMessage response = Services.invoke(MessageUtils.generateHTTPMessage("/echo/message", "GET"));
+        Assert.assertNotNull(response);
+        Assert.assertEquals(((StringDataSource) response.getMessageDataSource()).getValue(), "version 2");
+    }
+
+    @Test(description = "Test a request which reaches a retired version of a service is dispatched to the new version",
+            dependsOnMethods = "testRedeployChangedService")
+    public void testRedispatchFromRetiredService() throws Exception {
+        BLangProgram oldProgram = deployedProgram;
+        RuntimeEnvironment oldRuntimeEnv = oldProgram.getRuntimeEnvironment();
+        Assert.assertTrue(oldRuntimeEnv.requestStarted());
+        // The old version is retired while it is still registered, hence the request is dispatched until the new
+        // version is registered
+        oldRuntimeEnv.retire();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<CarbonMessage> response = executor.submit(() -> Services.invoke(
+                    MessageUtils.generateHTTPMessage("/echo/message", "GET", "request")));
+            Thread.sleep(100);
+            Assert.assertFalse(response.isDone());
+
+            BLangProgram newProgram = loadServiceProgram(SERVICE_FILE);
+            Assert.assertFalse(new BLangProgramRunner().redeployServices(oldProgram, newProgram, 100));
+            deployedProgram = newProgram;
+
+            // The new version echoes the request, while the old version replies with its version
+            CarbonMessage responseMsg = response.get(5, TimeUnit.SECONDS);
+            Assert.assertEquals(((StringDataSource) responseMsg.getMessageDataSource()).getValue(), "request");
+            Assert.assertEquals(oldRuntimeEnv.getInFlightRequests(), 1);
+            Assert.assertEquals(newProgram.getRuntimeEnvironment().getInFlightRequests(), 0);
+        } finally {
+            executor.shutdownNow();
+            oldRuntimeEnv.requestCompleted();
+        }
+    }
+
+    @Test(description = "Test the services are rolled back when a dispatcher fails to take the new version",
+            dependsOnMethods = "testRedispatchFromRetiredService")
+    public void testRollbackFailedRedeployment() {
+        BLangProgram oldProgram = deployedProgram;
+        BLangProgram newProgram = loadServiceProgram(CHANGED_SERVICE_FILE);
+        DispatcherRegistry.getInstance().registerServiceDispatcher(new FailingServiceDispatcher());
+        try {
+            new BLangProgramRunner().redeployServices(oldProgram, newProgram, 1000);
+            Assert.fail("redeployment should fail");
+        } catch (BallerinaException e) {
+            Assert.assertEquals(e.getMessage(), "cannot replace service echo");
+        } finally {
+            DispatcherRegistry.getInstance().unregisterServiceDispatcher(FailingServiceDispatcher.PROTOCOL);
+        }
+
+        Service service = HTTPServicesRegistry.getInstance().getService(Constants.DEFAULT_INTERFACE, "/echo");
+        Assert.assertSame(service.getBLangProgram(), oldProgram);
+        Assert.assertFalse(oldProgram.getRuntimeEnvironment().isRetired());
+        Assert.assertTrue(newProgram.getRuntimeEnvironment().isRetired());
+
+        CarbonMessage response = Services.invoke(MessageUtils.generateHTTPMessage("/echo/message", "GET", "request"));
+        Assert.assertEquals(((StringDataSource) response.getMessageDataSource()).getValue(), "request");
+    }
+
+    @Test(description = "Test a request of a one-way resource is completed when the resource ends")
+    public void testCompleteRequestWhenResourceEnds() {
+        RuntimeEnvironment runtimeEnv = RuntimeEnvironment.get(loadServiceProgram(SERVICE_FILE));
+        Assert.assertTrue(runtimeEnv.requestStarted());
+
+        InFlightRequestCallback callback = new InFlightRequestCallback(new TestCallback(), runtimeEnv);
+        Context context = new Context();
+        context.setResourceCompletionHandler(callback::requestCompleted);
+        context.resourceCompleted();
+        Assert.assertEquals(runtimeEnv.getInFlightRequests(), 0);
+
+        // A response sent after the resource ends does not complete the request again
+        callback.done(null);
+        Assert.assertEquals(runtimeEnv.getInFlightRequests(), 0);
+    }
+
+    @AfterClass
+    public void tearDown() {
+        EnvironmentInitializer.cleanup(deployedProgram);
+    }
+
+    private static BLangProgram loadServiceProgram(String serviceFile) {
+        try {
+            Path programPath = Paths.get(BTestUtils.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+            return new BLangProgramLoader().loadService(programPath, Paths.get(serviceFile));
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("error while running test: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Service dispatcher which fails to replace services.
+     */
+    private static class FailingServiceDispatcher implements ServiceDispatcher {
+
+        private static final String PROTOCOL = "failing";
+
+        @Override
+        public Service findService(CarbonMessage cMsg, CarbonCallback callback, Context balContext) {
+            return null;
+        }
+
+        @Override
+        public String getProtocol() {
+            return PROTOCOL;
+        }
+
+        @Override
+        public void serviceRegistered(Service service) {
+        }
+
+        @Override
+        public void serviceUnregistered(Service service) {
+        }
+
+        @Override
+        public void serviceReplaced(Service oldService, Service newService) {
+            throw new BallerinaException("cannot replace service " + newService.getName());
+        }
+    }
+}
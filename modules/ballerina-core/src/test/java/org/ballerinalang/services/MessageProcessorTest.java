@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.services;
+
+import org.ballerinalang.core.TestCallback;
+import org.ballerinalang.core.TestErrorHandler;
+import org.ballerinalang.core.utils.MessageUtils;
+import org.ballerinalang.natives.connectors.BallerinaConnectorManager;
+import org.ballerinalang.runtime.threadpool.BoundedScheduler;
+import org.ballerinalang.runtime.threadpool.RejectionPolicy;
+import org.ballerinalang.services.dispatchers.http.HTTPErrorHandler;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.messaging.CarbonMessage;
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Test handing the requests over from the transport to the request scheduler.
+ *
+ * @since 0.87
+ */
+public class MessageProcessorTest {
+
+    @Test(description = "Test a request rejected by a saturated scheduler is replied with service unavailable")
+    public void testRejectedRequest() throws Exception {
+        BoundedScheduler scheduler = new BoundedScheduler("RejectingTest", 1, 1, RejectionPolicy.ABORT);
+        CountDownLatch release = new CountDownLatch(1);
+        BallerinaConnectorManager.getInstance().registerServerConnectorErrorHandler(new HTTPErrorHandler());
+        try {
+            scheduler.execute(() -> await(release));
+            scheduler.execute(() -> await(release));
+
+            TestCallback callback = new TestCallback();
+            MessageProcessor.dispatchRequest(scheduler, MessageUtils.generateHTTPMessage("/echo/message", "GET"),
+                    callback);
+            CarbonMessage response = callback.getResponse();
+            Assert.assertNotNull(response);
+            Assert.assertEquals(response.getProperty(
+                    org.wso2.carbon.transport.http.netty.common.Constants.HTTP_STATUS_CODE), 503);
+            Assert.assertEquals(scheduler.getRejectedCount(), 1);
+        } finally {
+            release.countDown();
+            scheduler.shutdown();
+            BallerinaConnectorManager.getInstance().registerServerConnectorErrorHandler(new TestErrorHandler());
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
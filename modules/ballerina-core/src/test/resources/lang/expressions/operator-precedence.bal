@@ -51,4 +51,14 @@ function intMultiplicationAndDivisionPrecedence(int a, int b, int c, int d) (int
     int y = (a + b) / (c - d) - a * b;
     int z = a + b / c - d + a * b;
     return x + y + z;
-}
\ No newline at end of file
+}
+function floatMultiplicationAndDivisionPrecedence(float a, float b, float c, int d) (float) {
+    float x = (a + b) * (c + d) + a / b;
+    float y = (a + b) / (c - d) - a * b % c;
+    float z = a + b / c - d + a * (d % 3);
+    return x + y + z;
+}
+
+function intDivisionByZeroPrecedence(int a, int b, int c) (int) {
+    return a + b * (a / c);
+}
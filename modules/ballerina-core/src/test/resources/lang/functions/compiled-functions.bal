@@ -0,0 +1,60 @@
+const int limit = 10;
+
+function fibonacci(int n) (int) {
+    if (n < 2) {
+        return n;
+    }
+    return fibonacci(n - 1) + fibonacci(n - 2);
+}
+
+function sumUpTo(int n) (int) {
+    int i = 0;
+    int total;
+    while (true) {
+        if (i > n) {
+            break;
+        }
+        total = total + i;
+        i = i + 1;
+    }
+    return total;
+}
+
+function average(float a, float b) (float) {
+    return (a + b) / 2;
+}
+
+function concat(string a, string b) (string) {
+    return a + " " + b;
+}
+
+function minMax(int a, int b) (int min, int max) {
+    if (a < b) {
+        min = a;
+        max = b;
+    } else {
+        min = b;
+        max = a;
+    }
+    return;
+}
+
+function rangeOfMinMax(int a, int b) (int) {
+    int min;
+    int max;
+    min, max = minMax(a, b);
+    return max - min;
+}
+
+function isWithinLimit(int value) (boolean) {
+    return value >= 0 && !(value > limit);
+}
+
+function divide(int a, int b) (int) {
+    return a / b;
+}
+
+function withArray() (int) {
+    int[] values = [1, 2, 3];
+    return values[2];
+}
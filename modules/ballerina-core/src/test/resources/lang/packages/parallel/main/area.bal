@@ -0,0 +1,13 @@
+package lang.packages.parallel.main;
+
+import lang.packages.parallel.model;
+import lang.packages.parallel.util;
+
+function totalArea(int width, int height) (int) {
+    model:Rectangle r = {width:width, height:height};
+    return util:scaledArea(r, 2) + doubled(width);
+}
+
+function areaLabel() (string) {
+    return util:label("area", "m2");
+}
@@ -0,0 +1,5 @@
+package lang.packages.parallel.main;
+
+function doubled(int value) (int) {
+    return value * 2;
+}
@@ -0,0 +1,10 @@
+package lang.packages.parallel.model;
+
+struct Rectangle {
+    int width;
+    int height;
+}
+
+function area(Rectangle r) (int) {
+    return r.width * r.height;
+}
@@ -0,0 +1,7 @@
+package lang.packages.parallel.util;
+
+import lang.packages.parallel.model;
+
+function scaledArea(model:Rectangle r, int factor) (int) {
+    return model:area(r) * factor;
+}
@@ -0,0 +1,5 @@
+package lang.packages.parallel.util;
+
+function label(string name, string unit) (string) {
+    return name + " (" + unit + ")";
+}
@@ -0,0 +1,13 @@
+import ballerina.lang.messages;
+
+@BasePath {value:"/echo"}
+service echo {
+
+    @GET {}
+    @Path ("/message")
+    resource echo (message m) {
+        message response = {};
+        messages:setStringPayload(response, "version 2");
+        reply response;
+    }
+}
@@ -46,4 +46,16 @@ function commnetFunction() {
 // 3) Array grow test
 // 4) Array maximum size test
 // 5) Array grow and size change test
-}
\ No newline at end of file
+}
+
+function sumOfProducts(int[] a, float[] b) (int, float) {
+    int i = 0;
+    int intSum = 0;
+    float floatSum = 0.0;
+    while (i < 9) {
+        intSum = intSum + a[i] * a[i + 1];
+        floatSum = floatSum + b[i] * a[i] / b[i + 1];
+        i = i + 1;
+    }
+    return intSum, floatSum;
+}
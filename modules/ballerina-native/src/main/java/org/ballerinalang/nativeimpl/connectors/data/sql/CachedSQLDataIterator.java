@@ -0,0 +1,740 @@
+/*
+ *  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.nativeimpl.connectors.data.sql;
+
+import org.ballerinalang.model.DataIterator;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.nativeimpl.connectors.data.sql.client.SQLConnectorUtils;
+import org.ballerinalang.util.exceptions.BallerinaException;
+
+import java.io.InputStream;
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * {@code CachedSQLDataIterator} is a {@link DataIterator} over a result set which is read fully into memory, so that
+ * the connection can be returned to the pool as soon as the query is executed.
+ * <p>
+ * Rows are kept in columns: INT, FLOAT and BOOLEAN columns in primitive arrays, and string columns as codes into a
+ * dictionary of their distinct values. The datatable can be rewound and read any number of times. Hence
+ * {@link #close()} does not release the rows, but only moves the cursor before the first row.
+ *
+ * @since 0.87
+ */
+public class CachedSQLDataIterator implements DataIterator {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Column[] columns;
+    private final Map<String, Integer> columnIndexes = new HashMap<>();
+    private int rowCount;
+    private int cursor = -1;
+
+    public CachedSQLDataIterator(ResultSet rs) throws SQLException {
+        ResultSetMetaData rsMetaData = rs.getMetaData();
+        int columnCount = rsMetaData.getColumnCount();
+        columns = new Column[columnCount];
+        for (int i = 1; i <= columnCount; i++) {
+            columns[i - 1] = createColumn(rsMetaData.getColumnType(i));
+            columnIndexes.putIfAbsent(rsMetaData.getColumnLabel(i).toUpperCase(Locale.ENGLISH), i);
+        }
+
+        int capacity = INITIAL_CAPACITY;
+        for (Column column : columns) {
+            column.ensureCapacity(capacity);
+        }
+        while (rs.next()) {
+            if (rowCount == capacity) {
+                capacity = capacity * 2;
+                for (Column column : columns) {
+                    column.ensureCapacity(capacity);
+                }
+            }
+            for (int i = 0; i < columnCount; i++) {
+                columns[i].read(rs, i + 1, rowCount);
+            }
+            rowCount++;
+        }
+        for (Column column : columns) {
+            column.complete(rowCount);
+        }
+    }
+
+    @Override
+    public void close() {
+        rewind();
+    }
+
+    @Override
+    public boolean next() {
+        if (cursor < rowCount) {
+            cursor++;
+        }
+        return cursor < rowCount;
+    }
+
+    @Override
+    public String getString(int columnIndex) {
+        return getColumn(columnIndex).getString(getRow());
+    }
+
+    @Override
+    public String getString(String columnName) {
+        return getString(getColumnIndex(columnName));
+    }
+
+    @Override
+    public long getInt(int columnIndex) {
+        return getColumn(columnIndex).getInt(getRow());
+    }
+
+    @Override
+    public long getInt(String columnName) {
+        return getInt(getColumnIndex(columnName));
+    }
+
+    @Override
+    public double getFloat(int columnIndex) {
+        return getColumn(columnIndex).getFloat(getRow());
+    }
+
+    @Override
+    public double getFloat(String columnName) {
+        return getFloat(getColumnIndex(columnName));
+    }
+
+    @Override
+    public boolean getBoolean(int columnIndex) {
+        return getColumn(columnIndex).getBoolean(getRow());
+    }
+
+    @Override
+    public boolean getBoolean(String columnName) {
+        return getBoolean(getColumnIndex(columnName));
+    }
+
+    @Override
+    public String getObjectAsString(int columnIndex) {
+        return getColumn(columnIndex).getObjectAsString(getRow());
+    }
+
+    @Override
+    public String getObjectAsString(String columnName) {
+        return getObjectAsString(getColumnIndex(columnName));
+    }
+
+    @Override
+    public BValue get(int columnIndex, String type) {
+        return getColumn(columnIndex).get(getRow(), type);
+    }
+
+    @Override
+    public BValue get(String columnName, String type) {
+        return get(getColumnIndex(columnName), type);
+    }
+
+    @Override
+    public Map<String, Object> getArray(int columnIndex) {
+        return getColumn(columnIndex).getArray(getRow());
+    }
+
+    @Override
+    public Map<String, Object> getArray(String columnName) {
+        return getArray(getColumnIndex(columnName));
+    }
+
+    @Override
+    public boolean isScrollable() {
+        return true;
+    }
+
+    @Override
+    public void rewind() {
+        cursor = -1;
+    }
+
+    @Override
+    public boolean moveTo(int row) {
+        if (row < 1 || row > rowCount) {
+            return false;
+        }
+        cursor = row - 1;
+        return true;
+    }
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    private int getRow() {
+        if (cursor < 0 || cursor >= rowCount) {
+            throw new BallerinaException("datatable is not positioned on a row");
+        }
+        return cursor;
+    }
+
+    private Column getColumn(int columnIndex) {
+        if (columnIndex < 1 || columnIndex > columns.length) {
+            throw new BallerinaException("invalid column index: " + columnIndex);
+        }
+        return columns[columnIndex - 1];
+    }
+
+    private int getColumnIndex(String columnName) {
+        Integer index = columnIndexes.get(columnName.toUpperCase(Locale.ENGLISH));
+        if (index == null) {
+            throw new BallerinaException("column not found: " + columnName);
+        }
+        return index;
+    }
+
+    private static Column createColumn(int sqlType) {
+        switch (sqlType) {
+        case Types.TINYINT:
+        case Types.SMALLINT:
+        case Types.INTEGER:
+        case Types.BIGINT:
+            return new IntColumn();
+        case Types.FLOAT:
+        case Types.DOUBLE:
+            return new FloatColumn();
+        case Types.REAL:
+        case Types.NUMERIC:
+        case Types.DECIMAL:
+            // Keep the text of the value as well, so that the string value is the same as that of the result set
+            return new DecimalColumn();
+        case Types.BIT:
+        case Types.BOOLEAN:
+            return new BooleanColumn();
+        case Types.DATE:
+        case Types.TIME:
+        case Types.TIMESTAMP:
+        case Types.TIME_WITH_TIMEZONE:
+        case Types.TIMESTAMP_WITH_TIMEZONE:
+            return new TemporalColumn();
+        case Types.BLOB:
+            return new BinaryColumn(true);
+        case Types.BINARY:
+        case Types.VARBINARY:
+        case Types.LONGVARBINARY:
+            return new BinaryColumn(false);
+        case Types.ARRAY:
+            return new ArrayColumn();
+        default:
+            return new StringColumn();
+        }
+    }
+
+    /**
+     * Values of a column of the result set.
+     */
+    private abstract static class Column {
+
+        protected BitSet nulls = new BitSet();
+
+        abstract void ensureCapacity(int capacity);
+
+        abstract void read(ResultSet rs, int columnIndex, int row) throws SQLException;
+
+        /**
+         * Called once all the rows are read, to release the unused capacity.
+         */
+        void complete(int rowCount) {
+        }
+
+        boolean isNull(int row) {
+            return nulls.get(row);
+        }
+
+        abstract String getString(int row);
+
+        long getInt(int row) {
+            String value = getString(row);
+            if (value == null) {
+                return 0;
+            }
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                throw new BallerinaException("value is not an int: " + value, e);
+            }
+        }
+
+        double getFloat(int row) {
+            String value = getString(row);
+            if (value == null) {
+                return 0;
+            }
+            try {
+                return Double.parseDouble(value.trim());
+            } catch (NumberFormatException e) {
+                throw new BallerinaException("value is not a float: " + value, e);
+            }
+        }
+
+        boolean getBoolean(int row) {
+            String value = getString(row);
+            return value != null && ("true".equalsIgnoreCase(value.trim()) || "1".equals(value.trim()));
+        }
+
+        String getObjectAsString(int row) {
+            return getString(row);
+        }
+
+        BValue get(int row, String type) {
+            return null;
+        }
+
+        Map<String, Object> getArray(int row) {
+            throw new BallerinaException("value is not an array");
+        }
+    }
+
+    /**
+     * Column of integer values.
+     */
+    private static class IntColumn extends Column {
+
+        private long[] values = new long[0];
+
+        @Override
+        void ensureCapacity(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void read(ResultSet rs, int columnIndex, int row) throws SQLException {
+            values[row] = rs.getLong(columnIndex);
+            if (rs.wasNull()) {
+                nulls.set(row);
+            }
+        }
+
+        @Override
+        void complete(int rowCount) {
+            values = Arrays.copyOf(values, rowCount);
+        }
+
+        @Override
+        String getString(int row) {
+            return isNull(row) ? null : Long.toString(values[row]);
+        }
+
+        @Override
+        long getInt(int row) {
+            return values[row];
+        }
+
+        @Override
+        double getFloat(int row) {
+            return values[row];
+        }
+
+        @Override
+        boolean getBoolean(int row) {
+            return values[row] != 0;
+        }
+    }
+
+    /**
+     * Column of floating point values.
+     */
+    private static class FloatColumn extends Column {
+
+        private double[] values = new double[0];
+
+        @Override
+        void ensureCapacity(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void read(ResultSet rs, int columnIndex, int row) throws SQLException {
+            values[row] = rs.getDouble(columnIndex);
+            if (rs.wasNull()) {
+                nulls.set(row);
+            }
+        }
+
+        @Override
+        void complete(int rowCount) {
+            values = Arrays.copyOf(values, rowCount);
+        }
+
+        @Override
+        String getString(int row) {
+            return isNull(row) ? null : Double.toString(values[row]);
+        }
+
+        @Override
+        long getInt(int row) {
+            return (long) values[row];
+        }
+
+        @Override
+        double getFloat(int row) {
+            return values[row];
+        }
+
+        @Override
+        boolean getBoolean(int row) {
+            return values[row] != 0;
+        }
+    }
+
+    /**
+     * Column of decimal values, which keeps the text of the values along with their floating point values.
+     */
+    private static class DecimalColumn extends FloatColumn {
+
+        private final StringValues text = new StringValues();
+
+        @Override
+        void ensureCapacity(int capacity) {
+            super.ensureCapacity(capacity);
+            text.ensureCapacity(capacity);
+        }
+
+        @Override
+        void read(ResultSet rs, int columnIndex, int row) throws SQLException {
+            super.read(rs, columnIndex, row);
+            text.set(row, isNull(row) ? null : rs.getString(columnIndex));
+        }
+
+        @Override
+        void complete(int rowCount) {
+            super.complete(rowCount);
+            text.complete(rowCount);
+        }
+
+        @Override
+        String getString(int row) {
+            return text.get(row);
+        }
+    }
+
+    /**
+     * Column of boolean values.
+     */
+    private static class BooleanColumn extends Column {
+
+        private final BitSet values = new BitSet();
+
+        @Override
+        void ensureCapacity(int capacity) {
+        }
+
+        @Override
+        void read(ResultSet rs, int columnIndex, int row) throws SQLException {
+            boolean value = rs.getBoolean(columnIndex);
+            if (rs.wasNull()) {
+                nulls.set(row);
+            } else if (value) {
+                values.set(row);
+            }
+        }
+
+        @Override
+        String getString(int row) {
+            return isNull(row) ? null : Boolean.toString(values.get(row));
+        }
+
+        @Override
+        long getInt(int row) {
+            return values.get(row) ? 1 : 0;
+        }
+
+        @Override
+        double getFloat(int row) {
+            return values.get(row) ? 1 : 0;
+        }
+
+        @Override
+        boolean getBoolean(int row) {
+            return values.get(row);
+        }
+    }
+
+    /**
+     * Column of string values.
+     */
+    private static class StringColumn extends Column {
+
+        private final StringValues values = new StringValues();
+
+        @Override
+        void ensureCapacity(int capacity) {
+            values.ensureCapacity(capacity);
+        }
+
+        @Override
+        void read(ResultSet rs, int columnIndex, int row) throws SQLException {
+            String value = rs.getString(columnIndex);
+            if (value == null) {
+                nulls.set(row);
+            }
+            values.set(row, value);
+        }
+
+        @Override
+        void complete(int rowCount) {
+            values.complete(rowCount);
+        }
+
+        @Override
+        String getString(int row) {
+            return values.get(row);
+        }
+
+        @Override
+        BValue get(int row, String type) {
+            switch (type) {
+            case "clob":
+            case "nclob":
+                return new BString(getString(row));
+            default:
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Column of dates, times and timestamps, which keeps their time in milliseconds along with their text.
+     */
+    private static class TemporalColumn extends Column {
+
+        private long[] times = new long[0];
+        private final StringValues text = new StringValues();
+
+        @Override
+        void ensureCapacity(int capacity) {
+            times = Arrays.copyOf(times, capacity);
+            text.ensureCapacity(capacity);
+        }
+
+        @Override
+        void read(ResultSet rs, int columnIndex, int row) throws SQLException {
+            Object value = rs.getObject(columnIndex);
+            if (value == null) {
+                nulls.set(row);
+                text.set(row, null);
+                return;
+            }
+            if (value instanceof java.util.Date) {
+                times[row] = ((java.util.Date) value).getTime();
+            } else {
+                times[row] = rs.getTimestamp(columnIndex).getTime();
+            }
+            text.set(row, rs.getString(columnIndex));
+        }
+
+        @Override
+        void complete(int rowCount) {
+            times = Arrays.copyOf(times, rowCount);
+            text.complete(rowCount);
+        }
+
+        @Override
+        String getString(int row) {
+            return text.get(row);
+        }
+
+        @Override
+        long getInt(int row) {
+            return times[row];
+        }
+
+        @Override
+        double getFloat(int row) {
+            return times[row];
+        }
+
+        @Override
+        String getObjectAsString(int row) {
+            return isNull(row) ? null : String.valueOf(times[row]);
+        }
+
+        @Override
+        BValue get(int row, String type) {
+            switch (type) {
+            case "date":
+            case "time":
+            case "timestamp":
+                if (isNull(row)) {
+                    throw new BallerinaException("failed to get the value of " + type + ": value is null");
+                }
+                return new BInteger(times[row]);
+            default:
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Column of binary values, which are kept base64 encoded.
+     */
+    private static class BinaryColumn extends Column {
+
+        private final boolean blob;
+        private String[] values = new String[0];
+
+        BinaryColumn(boolean blob) {
+            this.blob = blob;
+        }
+
+        @Override
+        void ensureCapacity(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void read(ResultSet rs, int columnIndex, int row) throws SQLException {
+            String value;
+            if (blob) {
+                value = SQLConnectorUtils.getString(rs.getBlob(columnIndex));
+            } else {
+                InputStream inputStream = rs.getBinaryStream(columnIndex);
+                value = (inputStream != null) ? SQLConnectorUtils.getString(inputStream) : null;
+            }
+            if (value == null) {
+                nulls.set(row);
+            }
+            values[row] = value;
+        }
+
+        @Override
+        void complete(int rowCount) {
+            values = Arrays.copyOf(values, rowCount);
+        }
+
+        @Override
+        String getString(int row) {
+            return values[row];
+        }
+
+        @Override
+        BValue get(int row, String type) {
+            switch (type) {
+            case "blob":
+            case "binary":
+                return new BString(values[row]);
+            default:
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Column of array values.
+     */
+    private static class ArrayColumn extends Column {
+
+        private Object[][] values = new Object[0][];
+
+        @Override
+        void ensureCapacity(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void read(ResultSet rs, int columnIndex, int row) throws SQLException {
+            Array array = rs.getArray(columnIndex);
+            if (rs.wasNull() || array == null) {
+                nulls.set(row);
+            } else {
+                values[row] = (Object[]) array.getArray();
+                array.free();
+            }
+        }
+
+        @Override
+        void complete(int rowCount) {
+            values = Arrays.copyOf(values, rowCount);
+        }
+
+        @Override
+        String getString(int row) {
+            return isNull(row) ? null : Arrays.toString(values[row]);
+        }
+
+        @Override
+        Map<String, Object> getArray(int row) {
+            Map<String, Object> resultMap = new HashMap<>();
+            if (!isNull(row)) {
+                Object[] objArray = values[row];
+                for (int i = 0; i < objArray.length; i++) {
+                    resultMap.put(String.valueOf(i), objArray[i]);
+                }
+            }
+            return resultMap;
+        }
+    }
+
+    /**
+     * Dictionary encoded string values. Each row holds the code of its value in the dictionary, or -1 if it is null.
+     */
+    private static class StringValues {
+
+        private int[] codes = new int[0];
+        private List<String> dictionary = new ArrayList<>();
+        // Only needed while the rows are read
+        private Map<String, Integer> dictionaryCodes = new HashMap<>();
+
+        void ensureCapacity(int capacity) {
+            codes = Arrays.copyOf(codes, capacity);
+        }
+
+        void set(int row, String value) {
+            if (value == null) {
+                codes[row] = -1;
+                return;
+            }
+            Integer code = dictionaryCodes.get(value);
+            if (code == null) {
+                code = dictionary.size();
+                dictionary.add(value);
+                dictionaryCodes.put(value, code);
+            }
+            codes[row] = code;
+        }
+
+        void complete(int rowCount) {
+            codes = Arrays.copyOf(codes, rowCount);
+            dictionary = new ArrayList<>(dictionary);
+            dictionaryCodes = null;
+        }
+
+        String get(int row) {
+            int code = codes[row];
+            return (code < 0) ? null : dictionary.get(code);
+        }
+    }
+}
@@ -52,6 +52,10 @@ public final class Constants {
         public static final String VALIDATION_TIMEOUT = "validationTimeout";
         public static final String LEAK_DETECTION_THRESHOLD = "leakDetectionThreshold";
         public static final String DATASOURCE = "dataSource.";
+        // Not a HikariCP property, maximum number of prepared statements cached per connection
+        public static final String STATEMENT_CACHE_SIZE = "statementCacheSize";
+        // Not a HikariCP property, read query results into memory and release the connection at once
+        public static final String MATERIALIZE_RESULTS = "materializeResults";
     }
 
     /**
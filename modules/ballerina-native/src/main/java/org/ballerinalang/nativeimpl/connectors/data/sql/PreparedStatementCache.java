@@ -0,0 +1,330 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.nativeimpl.connectors.data.sql;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code PreparedStatementCache} keeps the prepared statements of the connections of a connection pool.
+ * <p>
+ * Pooled connections close the statements created through them when they are returned to the pool. Hence cached
+ * statements are prepared on the physical connection, and each physical connection has its own LRU cache of
+ * statements keyed by the SQL text, the result set type and the generated keys mode. A physical connection is used
+ * by one borrower at a time, so a cached statement is never shared by concurrent actions.
+ * <p>
+ * The statements of a physical connection which is closed by the pool are dropped when the pool opens a new
+ * connection, and statements which fail are removed from the cache. A statement is cached only while the
+ * connection is in auto commit mode, as statements run on the physical connection are not tracked by the pool.
+ * For the same reason the pool does not see the errors of cached statements, hence the connection of a statement
+ * which fails with a connection error, see {@link #isConnectionError(Throwable)}, must be evicted from the pool.
+ *
+ * @since 0.87
+ */
+public class PreparedStatementCache {
+
+    public static final int DEFAULT_SIZE = 64;
+
+    // SQL states, other than the connection exception class, after which a connection cannot be used any more
+    private static final Set<String> CONNECTION_ERROR_STATES = Collections.unmodifiableSet(
+            new HashSet<>(Arrays.asList("57P01", "57P02", "57P03", "01002", "JZ0C0", "JZ0C1")));
+
+    private final int maxSize;
+    private final Map<Connection, Map<StatementKey, PreparedStatement>> connectionCaches = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Create a statement cache.
+     *
+     * @param maxSize maximum number of statements cached per connection. The cache is disabled if it is zero
+     */
+    public PreparedStatementCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    /**
+     * Get a prepared statement of a pooled connection. A cached statement is cleared of its parameters and batch.
+     *
+     * @param conn          pooled connection
+     * @param query         SQL query
+     * @param resultSetType type of the result set, or {@link ResultSet#TYPE_FORWARD_ONLY}
+     * @param keyColumns    names of the generated key columns to return, or null
+     * @param generatedKeys {@link Statement#RETURN_GENERATED_KEYS} or {@link Statement#NO_GENERATED_KEYS}, used
+     *                      when the key columns are not given
+     * @return prepared statement, which must be released with {@link #release(PreparedStatement)}
+     * @throws SQLException if the statement cannot be prepared
+     */
+    public PreparedStatement getStatement(Connection conn, String query, int resultSetType, String[] keyColumns,
+                                          int generatedKeys) throws SQLException {
+        if (!isEnabled() || !conn.getAutoCommit()) {
+            return prepare(conn, query, resultSetType, keyColumns, generatedKeys);
+        }
+
+        Connection physicalConn = conn.unwrap(Connection.class);
+        Map<StatementKey, PreparedStatement> statements = getConnectionCache(physicalConn);
+        StatementKey key = new StatementKey(query, resultSetType, keyColumns, generatedKeys);
+        synchronized (statements) {
+            PreparedStatement stmt = statements.get(key);
+            if (stmt != null && !stmt.isClosed()) {
+                hits.increment();
+                stmt.clearParameters();
+                stmt.clearBatch();
+                return stmt;
+            }
+            misses.increment();
+            stmt = prepare(physicalConn, query, resultSetType, keyColumns, generatedKeys);
+            statements.put(key, stmt);
+            return stmt;
+        }
+    }
+
+    /**
+     * Check whether a statement is kept in the cache, in which case it must not be closed by the action.
+     *
+     * @param stmt statement
+     * @return true if the statement is cached
+     * @throws SQLException if the connection of the statement cannot be read
+     */
+    public boolean isCached(Statement stmt) throws SQLException {
+        if (!isEnabled() || stmt == null) {
+            return false;
+        }
+        Map<StatementKey, PreparedStatement> statements = connectionCaches.get(stmt.getConnection());
+        if (statements == null) {
+            return false;
+        }
+        synchronized (statements) {
+            return statements.containsValue(stmt);
+        }
+    }
+
+    /**
+     * Release a statement got from this cache. A statement which is not cached is closed.
+     *
+     * @param stmt statement
+     */
+    public void release(Statement stmt) {
+        try {
+            if (stmt != null && !isCached(stmt)) {
+                stmt.close();
+            }
+        } catch (SQLException ignore) {
+            /* ignore */
+        }
+    }
+
+    /**
+     * Remove a statement which failed from the cache, and close it.
+     *
+     * @param stmt statement
+     */
+    public void invalidate(Statement stmt) {
+        if (stmt == null) {
+            return;
+        }
+        try {
+            Map<StatementKey, PreparedStatement> statements = connectionCaches.get(stmt.getConnection());
+            if (statements != null) {
+                synchronized (statements) {
+                    statements.values().remove(stmt);
+                }
+            }
+            stmt.close();
+        } catch (SQLException ignore) {
+            /* ignore */
+        }
+    }
+
+    /**
+     * Close all the cached statements.
+     */
+    public void clear() {
+        for (Iterator<Map<StatementKey, PreparedStatement>> iterator = connectionCaches.values().iterator();
+             iterator.hasNext(); ) {
+            closeAll(iterator.next());
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Check whether an error of a statement is caused by a broken connection, in which case the connection must not
+     * be returned to the pool.
+     *
+     * @param error error thrown by a statement, or a {@link SQLException} wrapped by it
+     * @return true if the connection of the statement is broken
+     */
+    public static boolean isConnectionError(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException) {
+                String sqlState = ((SQLException) cause).getSQLState();
+                if (sqlState != null && (sqlState.startsWith("08") || CONNECTION_ERROR_STATES.contains(sqlState))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Get the number of statements cached for all the connections.
+     *
+     * @return number of cached statements
+     */
+    public int getStatementCount() {
+        int count = 0;
+        for (Map<StatementKey, PreparedStatement> statements : connectionCaches.values()) {
+            synchronized (statements) {
+                count += statements.size();
+            }
+        }
+        return count;
+    }
+
+    private Map<StatementKey, PreparedStatement> getConnectionCache(Connection physicalConn) throws SQLException {
+        Map<StatementKey, PreparedStatement> statements = connectionCaches.get(physicalConn);
+        if (statements != null) {
+            return statements;
+        }
+
+        // A new physical connection usually replaces a connection closed by the pool
+        removeClosedConnections();
+        statements = new LinkedHashMap<StatementKey, PreparedStatement>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<StatementKey, PreparedStatement> eldest) {
+                if (size() <= maxSize) {
+                    return false;
+                }
+                evictions.increment();
+                close(eldest.getValue());
+                return true;
+            }
+        };
+        Map<StatementKey, PreparedStatement> existing = connectionCaches.putIfAbsent(physicalConn, statements);
+        return (existing != null) ? existing : statements;
+    }
+
+    private void removeClosedConnections() throws SQLException {
+        List<Connection> closedConnections = new ArrayList<>();
+        for (Connection connection : connectionCaches.keySet()) {
+            if (connection.isClosed()) {
+                closedConnections.add(connection);
+            }
+        }
+        for (Connection connection : closedConnections) {
+            Map<StatementKey, PreparedStatement> statements = connectionCaches.remove(connection);
+            if (statements != null) {
+                closeAll(statements);
+            }
+        }
+    }
+
+    private static PreparedStatement prepare(Connection conn, String query, int resultSetType, String[] keyColumns,
+                                             int generatedKeys) throws SQLException {
+        if (keyColumns != null) {
+            return conn.prepareStatement(query, keyColumns);
+        } else if (generatedKeys == Statement.RETURN_GENERATED_KEYS) {
+            return conn.prepareStatement(query, Statement.RETURN_GENERATED_KEYS);
+        } else if (resultSetType != ResultSet.TYPE_FORWARD_ONLY) {
+            return conn.prepareStatement(query, resultSetType, ResultSet.CONCUR_READ_ONLY);
+        }
+        return conn.prepareStatement(query);
+    }
+
+    private static void closeAll(Map<StatementKey, PreparedStatement> statements) {
+        synchronized (statements) {
+            statements.values().forEach(PreparedStatementCache::close);
+            statements.clear();
+        }
+    }
+
+    private static void close(Statement stmt) {
+        try {
+            stmt.close();
+        } catch (SQLException ignore) {
+            /* ignore */
+        }
+    }
+
+    /**
+     * Cache key of a prepared statement.
+     */
+    private static class StatementKey {
+        private final String query;
+        private final int resultSetType;
+        private final String[] keyColumns;
+        private final int generatedKeys;
+
+        StatementKey(String query, int resultSetType, String[] keyColumns, int generatedKeys) {
+            this.query = query;
+            this.resultSetType = resultSetType;
+            this.keyColumns = keyColumns;
+            this.generatedKeys = generatedKeys;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof StatementKey)) {
+                return false;
+            }
+            StatementKey other = (StatementKey) obj;
+            return query.equals(other.query) && resultSetType == other.resultSetType &&
+                    generatedKeys == other.generatedKeys && Arrays.equals(keyColumns, other.keyColumns);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = query.hashCode();
+            result = 31 * result + resultSetType;
+            result = 31 * result + generatedKeys;
+            return 31 * result + Arrays.hashCode(keyColumns);
+        }
+    }
+}
@@ -19,6 +19,7 @@ package org.ballerinalang.nativeimpl.connectors.data.sql;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
 import org.ballerinalang.model.SymbolScope;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BBoolean;
@@ -36,7 +37,9 @@ import org.osgi.service.component.annotations.Component;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.LinkedHashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -61,6 +64,8 @@ public class SQLConnector extends AbstractNativeConnector {
     public static final String CONNECTOR_NAME = "ClientConnector";
 
     private HikariDataSource hikariDataSource;
+    private PreparedStatementCache statementCache;
+    private boolean materializeResults;
     private String databaseName;
 
     public String getDatabaseName() {
@@ -98,10 +103,59 @@ public class SQLConnector extends AbstractNativeConnector {
         }
     }
 
+    /**
+     * Evict a connection from the pool if an error of one of its statements shows that the connection is broken.
+     * The pool cannot detect such errors itself, as cached statements are run on the physical connection.
+     *
+     * @param conn  connection borrowed from the pool
+     * @param error error thrown while running a statement of the connection
+     */
+    public void evictBrokenConnection(Connection conn, Throwable error) {
+        if (conn != null && PreparedStatementCache.isConnectionError(error)) {
+            // A connection in use is closed when it is returned to the pool
+            hikariDataSource.evictConnection(conn);
+        }
+    }
+
+    public PreparedStatementCache getStatementCache() {
+        return statementCache;
+    }
+
+    public boolean isMaterializeResults() {
+        return materializeResults;
+    }
+
     public void closeConnectionPool() {
+        statementCache.clear();
         hikariDataSource.close();
     }
 
+    @Override
+    public boolean isShareable() {
+        return true;
+    }
+
+    @Override
+    public void destroy() {
+        closeConnectionPool();
+    }
+
+    @Override
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+        if (pool != null) {
+            statistics.put("activeConnections", pool.getActiveConnections());
+            statistics.put("idleConnections", pool.getIdleConnections());
+            statistics.put("totalConnections", pool.getTotalConnections());
+            statistics.put("threadsAwaitingConnection", pool.getThreadsAwaitingConnection());
+        }
+        statistics.put("cachedStatements", statementCache.getStatementCount());
+        statistics.put("statementCacheHits", statementCache.getHitCount());
+        statistics.put("statementCacheMisses", statementCache.getMissCount());
+        return statistics;
+    }
+
     private void buildDataSource(BMap options) {
         try {
             HikariConfig config = new HikariConfig();
@@ -237,6 +291,20 @@ public class SQLConnector extends AbstractNativeConnector {
                 config.setLeakDetectionThreshold(Long.parseLong(value.stringValue()));
                 options.remove(key);
             }
+            int statementCacheSize = PreparedStatementCache.DEFAULT_SIZE;
+            key = new BString(Constants.PoolProperties.STATEMENT_CACHE_SIZE);
+            value = options.get(key);
+            if (value != null) {
+                statementCacheSize = Integer.parseInt(value.stringValue());
+                options.remove(key);
+            }
+            statementCache = new PreparedStatementCache(statementCacheSize);
+            key = new BString(Constants.PoolProperties.MATERIALIZE_RESULTS);
+            value = options.get(key);
+            if (value != null) {
+                materializeResults = Boolean.parseBoolean(value.stringValue());
+                options.remove(key);
+            }
             setDataSourceProperties(options, config);
             hikariDataSource = new HikariDataSource(config);
         } catch (Throwable t) {
@@ -49,16 +49,27 @@ public class SQLDataIterator implements DataIterator {
     private Connection conn;
     private Statement stmt;
     private ResultSet rs;
+    private PreparedStatementCache statementCache;
 
     public SQLDataIterator(Connection conn, Statement stmt, ResultSet rs) throws SQLException {
+        this(conn, stmt, rs, null);
+    }
+
+    public SQLDataIterator(Connection conn, Statement stmt, ResultSet rs, PreparedStatementCache statementCache)
+            throws SQLException {
         this.conn = conn;
         this.stmt = stmt;
         this.rs = rs;
+        this.statementCache = statementCache;
     }
 
     @Override
     public void close() {
-        SQLConnectorUtils.cleanupConnection(rs, stmt, conn);
+        if (statementCache != null) {
+            SQLConnectorUtils.cleanupConnection(rs, stmt, conn, statementCache, false);
+        } else {
+            SQLConnectorUtils.cleanupConnection(rs, stmt, conn);
+        }
         rs = null;
         stmt = null;
         conn = null;
@@ -278,6 +289,26 @@ public class SQLDataIterator implements DataIterator {
         return resultMap;
     }
 
+    @Override
+    public boolean isScrollable() {
+        return false;
+    }
+
+    @Override
+    public void rewind() {
+        throw new BallerinaException("rewind is not supported by a streamed datatable");
+    }
+
+    @Override
+    public boolean moveTo(int row) {
+        throw new BallerinaException("moving to a row is not supported by a streamed datatable");
+    }
+
+    @Override
+    public int getRowCount() {
+        throw new BallerinaException("row count is not supported by a streamed datatable");
+    }
+
     private BValue getBString(Clob clob) throws SQLException {
         return new BString(SQLConnectorUtils.getString(clob));
     }
@@ -21,16 +21,20 @@ import org.ballerinalang.bre.Context;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BArray;
 import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BConnector;
 import org.ballerinalang.model.values.BDataTable;
 import org.ballerinalang.model.values.BFloat;
 import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BStruct;
 import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.nativeimpl.connectors.data.sql.CachedSQLDataIterator;
 import org.ballerinalang.nativeimpl.connectors.data.sql.Constants;
+import org.ballerinalang.nativeimpl.connectors.data.sql.PreparedStatementCache;
 import org.ballerinalang.nativeimpl.connectors.data.sql.SQLConnector;
 import org.ballerinalang.nativeimpl.connectors.data.sql.SQLDataIterator;
 import org.ballerinalang.natives.connectors.AbstractNativeAction;
+import org.ballerinalang.natives.connectors.ConnectorRegistry;
 import org.ballerinalang.util.exceptions.BallerinaException;
 
 import java.math.BigDecimal;
@@ -62,6 +66,7 @@ public abstract class AbstractSQLAction extends AbstractNativeAction {
 
 
     protected void executeQuery(Context context, SQLConnector connector, String query, BArray parameters) {
+        PreparedStatementCache statementCache = connector.getStatementCache();
         Connection conn = null;
         PreparedStatement stmt = null;
         ResultSet rs = null;
@@ -70,38 +75,58 @@ public abstract class AbstractSQLAction extends AbstractNativeAction {
             stmt = getPreparedStatement(conn, connector, query);
             createProcessedStatement(conn, stmt, parameters);
             rs = stmt.executeQuery();
-            BDataTable dataTable = new BDataTable(new SQLDataIterator(conn, stmt, rs), new HashMap<>(),
-                    getColumnDefinitions(rs));
+            BDataTable dataTable;
+            if (connector.isMaterializeResults()) {
+                // The rows are read at once, hence the connection is returned to the pool before the datatable
+                // is consumed
+                dataTable = new BDataTable(new CachedSQLDataIterator(rs), new HashMap<>(), getColumnDefinitions(rs));
+                SQLConnectorUtils.cleanupConnection(rs, stmt, conn, statementCache, false);
+            } else {
+                dataTable = new BDataTable(new SQLDataIterator(conn, stmt, rs, statementCache), new HashMap<>(),
+                        getColumnDefinitions(rs));
+            }
             context.getControlStack().setReturnValue(0, dataTable);
         } catch (SQLException e) {
-            SQLConnectorUtils.cleanupConnection(rs, stmt, conn);
+            connector.evictBrokenConnection(conn, e);
+            SQLConnectorUtils.cleanupConnection(rs, stmt, conn, statementCache, true);
             throw new BallerinaException("execute query failed: " + e.getMessage(), e);
+        } catch (BallerinaException e) {
+            connector.evictBrokenConnection(conn, e);
+            SQLConnectorUtils.cleanupConnection(rs, stmt, conn, statementCache, true);
+            throw e;
         }
     }
 
     protected void executeUpdate(Context context, SQLConnector connector, String query, BArray parameters) {
+        PreparedStatementCache statementCache = connector.getStatementCache();
         Connection conn = null;
         PreparedStatement stmt = null;
         ResultSet rs = null;
+        boolean failed = false;
         try {
             conn = connector.getSQLConnection();
-            stmt = conn.prepareStatement(query);
+            stmt = statementCache.getStatement(conn, query, ResultSet.TYPE_FORWARD_ONLY, null,
+                    Statement.NO_GENERATED_KEYS);
             createProcessedStatement(conn, stmt, parameters);
             int count = stmt.executeUpdate();
             BInteger updatedCount = new BInteger(count);
             context.getControlStack().setReturnValue(0, updatedCount);
         } catch (SQLException e) {
+            failed = true;
+            connector.evictBrokenConnection(conn, e);
             throw new BallerinaException("execute update failed: " + e.getMessage(), e);
         } finally {
-            SQLConnectorUtils.cleanupConnection(rs, stmt, conn);
+            SQLConnectorUtils.cleanupConnection(rs, stmt, conn, statementCache, failed);
         }
     }
 
     protected void executeUpdateWithKeys(Context context, SQLConnector connector, String query,
             BArray<BString> keyColumns, BArray parameters) {
+        PreparedStatementCache statementCache = connector.getStatementCache();
         Connection conn = null;
         PreparedStatement stmt = null;
         ResultSet rs = null;
+        boolean failed = false;
         try {
             conn = connector.getSQLConnection();
             int keyColumnCount = 0;
@@ -113,9 +138,11 @@ public abstract class AbstractSQLAction extends AbstractNativeAction {
                 for (int i = 0; i < keyColumnCount; i++) {
                     columnArray[i] = keyColumns.get(i).stringValue();
                 }
-                stmt = conn.prepareStatement(query, columnArray);
+                stmt = statementCache.getStatement(conn, query, ResultSet.TYPE_FORWARD_ONLY, columnArray,
+                        Statement.RETURN_GENERATED_KEYS);
             } else {
-                stmt = conn.prepareStatement(query, Statement.RETURN_GENERATED_KEYS);
+                stmt = statementCache.getStatement(conn, query, ResultSet.TYPE_FORWARD_ONLY, null,
+                        Statement.RETURN_GENERATED_KEYS);
             }
             createProcessedStatement(conn, stmt, parameters);
             int count = stmt.executeUpdate();
@@ -130,9 +157,11 @@ public abstract class AbstractSQLAction extends AbstractNativeAction {
                 context.getControlStack().setReturnValue(1, generatedKeys);
             }
         } catch (SQLException e) {
+            failed = true;
+            connector.evictBrokenConnection(conn, e);
             throw new BallerinaException("execute update with generated keys failed: " + e.getMessage(), e);
         } finally {
-            SQLConnectorUtils.cleanupConnection(rs, stmt, conn);
+            SQLConnectorUtils.cleanupConnection(rs, stmt, conn, statementCache, failed);
         }
     }
 
@@ -146,7 +175,12 @@ public abstract class AbstractSQLAction extends AbstractNativeAction {
             createProcessedStatement(conn, stmt, parameters);
             rs = executeStoredProc(stmt);
             setOutParameters(stmt, parameters);
-            if (rs != null) {
+            if (rs != null && connector.isMaterializeResults()) {
+                BDataTable datatable = new BDataTable(new CachedSQLDataIterator(rs), new HashMap<>(),
+                        getColumnDefinitions(rs));
+                SQLConnectorUtils.cleanupConnection(rs, stmt, conn);
+                context.getControlStack().setReturnValue(0, datatable);
+            } else if (rs != null) {
                 BDataTable datatable = new BDataTable(new SQLDataIterator(conn, stmt, rs), new HashMap<>(),
                         getColumnDefinitions(rs));
                 context.getControlStack().setReturnValue(0, datatable);
@@ -156,6 +190,9 @@ public abstract class AbstractSQLAction extends AbstractNativeAction {
         } catch (SQLException e) {
             SQLConnectorUtils.cleanupConnection(rs, stmt, conn);
             throw new BallerinaException("execute stored procedure failed: " + e.getMessage(), e);
+        } catch (BallerinaException e) {
+            SQLConnectorUtils.cleanupConnection(rs, stmt, conn);
+            throw e;
         }
     }
 
@@ -164,6 +201,8 @@ public abstract class AbstractSQLAction extends AbstractNativeAction {
         PreparedStatement stmt = null;
         try {
             conn = connector.getSQLConnection();
+            // The batch runs in a transaction, hence its statement is prepared through the pooled connection and
+            // is not cached
             stmt = conn.prepareStatement(query);
             setConnectionAutoCommit(conn, false);
             int paramArrayCount = parameters.size();
@@ -198,26 +237,27 @@ public abstract class AbstractSQLAction extends AbstractNativeAction {
         }
     }
 
-    protected void closeConnections(SQLConnector connector) {
-        connector.closeConnectionPool();
+    protected void closeConnections(BConnector bConnector) {
+        // The connector may be shared, hence its pool is closed once all the references to it are released. Each
+        // connector value releases its own reference only, however many times it is closed
+        ConnectorRegistry.getInstance().release(bConnector);
     }
 
     private PreparedStatement getPreparedStatement(Connection conn, SQLConnector connector, String query)
             throws SQLException {
-        PreparedStatement stmt;
+        PreparedStatementCache statementCache = connector.getStatementCache();
+        PreparedStatement stmt = statementCache.getStatement(conn, query, ResultSet.TYPE_FORWARD_ONLY, null,
+                Statement.NO_GENERATED_KEYS);
         boolean mysql = connector.getDatabaseName().contains("mysql");
         /* In MySQL by default, ResultSets are completely retrieved and stored in memory.
            Following properties are set to stream the results back one row at a time.*/
         if (mysql) {
-            stmt = conn.prepareStatement(query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
             // To fulfill OBL_UNSATISFIED_OBLIGATION_EXCEPTION_EDGE findbugs validation.
             try {
                 stmt.setFetchSize(Integer.MIN_VALUE);
             } catch (SQLException e) {
-                stmt.close();
+                statementCache.invalidate(stmt);
             }
-        } else {
-            stmt = conn.prepareStatement(query);
         }
         return stmt;
     }
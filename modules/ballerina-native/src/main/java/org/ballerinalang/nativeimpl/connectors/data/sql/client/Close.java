@@ -18,7 +18,6 @@
 package org.ballerinalang.nativeimpl.connectors.data.sql.client;
 
 import org.ballerinalang.bre.Context;
-import org.ballerinalang.model.Connector;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BConnector;
 import org.ballerinalang.model.values.BValue;
@@ -47,8 +46,7 @@ public class Close extends AbstractSQLAction {
     @Override
     public BValue execute(Context context) {
         BConnector bConnector = (BConnector) getArgument(context, 0);
-        Connector connector = bConnector.value();
-        closeConnections((SQLConnector) connector);
+        closeConnections(bConnector);
         return null;
     }
 }
@@ -20,6 +20,7 @@ package org.ballerinalang.nativeimpl.connectors.data.sql.client;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.nativeimpl.connectors.data.sql.Constants;
+import org.ballerinalang.nativeimpl.connectors.data.sql.PreparedStatementCache;
 import org.ballerinalang.util.exceptions.BallerinaException;
 
 import java.io.BufferedReader;
@@ -655,6 +656,37 @@ public class SQLConnectorUtils {
         }
     }
 
+    /**
+     * Close the result set and the connection, and release the statement to the statement cache. A statement which
+     * failed is removed from the cache.
+     *
+     * @param rs             result set
+     * @param stmt           statement got from the statement cache
+     * @param conn           connection
+     * @param statementCache statement cache of the connector
+     * @param failed         whether the execution of the statement failed
+     */
+    public static void cleanupConnection(ResultSet rs, Statement stmt, Connection conn,
+            PreparedStatementCache statementCache, boolean failed) {
+        if (rs != null) {
+            try {
+                rs.close();
+            } catch (SQLException ignore) { /* ignore */ }
+        }
+        if (stmt != null) {
+            if (failed) {
+                statementCache.invalidate(stmt);
+            } else {
+                statementCache.release(stmt);
+            }
+        }
+        if (conn != null) {
+            try {
+                conn.close();
+            } catch (SQLException ignore) { /* ignore */ }
+        }
+    }
+
     /**
      * This method will return equal ballerina data type for SQL type.
      *
@@ -20,6 +20,7 @@ package org.ballerinalang.nativeimpl.connectors.http;
 
 import org.ballerinalang.bre.Context;
 import org.ballerinalang.model.Connector;
+import org.ballerinalang.model.values.BConnector;
 import org.ballerinalang.model.values.BException;
 import org.ballerinalang.model.values.BMessage;
 import org.ballerinalang.model.values.BValue;
@@ -48,9 +49,6 @@ public abstract class AbstractHTTPAction extends AbstractNativeAction {
 
     private static final String BALLERINA_USER_AGENT;
 
-    /* Application level timeout */
-    private static final long SENDER_TIMEOUT = 180000; // TODO: Make this configurable with endpoint timeout impl
-
     static {
         String version = System.getProperty(BALLERINA_VERSION);
         if (version != null) {
@@ -131,18 +129,10 @@ public abstract class AbstractHTTPAction extends AbstractNativeAction {
             clientConnector.send(message, balConnectorCallback);
 
             // Wait till Response comes
-            long startTime = System.currentTimeMillis();
-            while (!balConnectorCallback.isResponseArrived()) {
-                synchronized (context) {
-                    if (!balConnectorCallback.isResponseArrived()) {
-                        logger.debug("Waiting for a response");
-                        context.wait(SENDER_TIMEOUT);
-                        if (System.currentTimeMillis() >= (startTime + SENDER_TIMEOUT)) {
-                            throw new RuntimeException("response was not received within sender timeout of " +
-                                                       SENDER_TIMEOUT / 1000 + " seconds");
-                        }
-                    }
-                }
+            logger.debug("Waiting for a response");
+            long timeout = getTimeout(context);
+            if (!balConnectorCallback.awaitResponse(timeout)) {
+                throw new RuntimeException("response was not received within sender timeout of " + timeout + " ms");
             }
             handleTransportException(balConnectorCallback.getValueRef());
             return balConnectorCallback.getValueRef();
@@ -164,10 +154,17 @@ public abstract class AbstractHTTPAction extends AbstractNativeAction {
             throw new BallerinaException("Http client connector is not available");
         }
         clientConnector.send(message, balConnectorCallback);
+        // The thread is released while waiting for the response, hence the call is timed out by the callback
+        balConnectorCallback.scheduleTimeout(getTimeout(context));
     }
 
     @Override
     public void validate(BalConnectorCallback callback) {
+        if (callback.isTimedOut()) {
+            String msg = "response was not received within sender timeout of " + callback.getTimeout() + " ms";
+            BException exception = new BException(msg, Constants.HTTP_CLIENT_EXCEPTION_CATEGORY);
+            throw new BallerinaException(msg, exception);
+        }
         handleTransportException(callback.getValueRef());
     }
 
@@ -176,6 +173,15 @@ public abstract class AbstractHTTPAction extends AbstractNativeAction {
         return true;
     }
 
+    private long getTimeout(Context context) {
+        // First argument of all the actions is the connector
+        BValue connector = getArgument(context, 0);
+        if (connector instanceof BConnector && ((BConnector) connector).value() instanceof ClientConnector) {
+            return ((ClientConnector) ((BConnector) connector).value()).getTimeout();
+        }
+        return Constants.DEFAULT_CLIENT_TIMEOUT;
+    }
+
     private void handleTransportException(BValue valueRef) {
         if (valueRef instanceof BMessage) {
             BMessage bMsg = (BMessage) valueRef;
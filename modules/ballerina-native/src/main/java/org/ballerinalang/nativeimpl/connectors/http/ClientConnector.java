@@ -24,6 +24,10 @@ import org.ballerinalang.natives.annotations.BallerinaAnnotation;
 import org.ballerinalang.natives.annotations.BallerinaConnector;
 import org.ballerinalang.natives.connectors.AbstractNativeConnector;
 import org.osgi.service.component.annotations.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
 
 /**
  * Native HTTP Connector.
@@ -42,6 +46,8 @@ import org.osgi.service.component.annotations.Component;
 value = "Native HTTP Client Connector") })
 public class ClientConnector extends AbstractNativeConnector {
 
+    private static final Logger logger = LoggerFactory.getLogger(ClientConnector.class);
+
     public ClientConnector(SymbolScope enclosingScope) {
         super(enclosingScope);
     }
@@ -51,10 +57,13 @@ public class ClientConnector extends AbstractNativeConnector {
 
     private String serviceUri;
 
+    private long timeout = Constants.DEFAULT_CLIENT_TIMEOUT;
+
     @Override
     public boolean init(BValue[] bValueRefs) {
         if (bValueRefs != null && bValueRefs.length == 1) {
             serviceUri = bValueRefs[0].stringValue();
+            timeout = resolveTimeout(serviceUri);
         }
         return true;
     }
@@ -65,10 +74,51 @@ public class ClientConnector extends AbstractNativeConnector {
         return new ClientConnector(symbolScope);
     }
 
+    @Override
+    public boolean isShareable() {
+        return true;
+    }
+
     public String getServiceUri() {
         return serviceUri;
     }
 
+    /**
+     * Get the time to wait for a response from the endpoint of this connector.
+     *
+     * @return timeout in milliseconds
+     */
+    public long getTimeout() {
+        return timeout;
+    }
+
+    private static long resolveTimeout(String serviceUri) {
+        // An endpoint specific timeout, e.g. ballerina.http.client.timeout.localhost:8080, overrides the default
+        String value = null;
+        try {
+            String authority = URI.create(serviceUri).getRawAuthority();
+            if (authority != null) {
+                value = System.getProperty(Constants.SYS_PROP_CLIENT_TIMEOUT + "." + authority);
+            }
+        } catch (IllegalArgumentException e) {
+            // Invalid uris are reported when the actions are invoked
+        }
+        if (value == null) {
+            value = System.getProperty(Constants.SYS_PROP_CLIENT_TIMEOUT);
+        }
+        if (value == null) {
+            return Constants.DEFAULT_CLIENT_TIMEOUT;
+        }
+
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            logger.warn("invalid http client timeout '" + value + "' for " + serviceUri + ", using " +
+                    Constants.DEFAULT_CLIENT_TIMEOUT + " milliseconds");
+            return Constants.DEFAULT_CLIENT_TIMEOUT;
+        }
+    }
+
     public boolean equals(Object obj) {
         return super.equals(obj);
     }
@@ -69,4 +69,8 @@ public class Constants {
     public static final String ANNOTATION_SOURCE_KEY_INTERFACE = "interface";
 
     public static final String HTTP_CLIENT_EXCEPTION_CATEGORY = "http-client";
+
+    /* Client timeout, in milliseconds. Can be set for an endpoint by suffixing the host and port of the endpoint */
+    public static final String SYS_PROP_CLIENT_TIMEOUT = "ballerina.http.client.timeout";
+    public static final long DEFAULT_CLIENT_TIMEOUT = 180000;
 }
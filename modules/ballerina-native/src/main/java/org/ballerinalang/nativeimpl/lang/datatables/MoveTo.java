@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.nativeimpl.lang.datatables;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.model.types.TypeEnum;
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BDataTable;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.Attribute;
+import org.ballerinalang.natives.annotations.BallerinaAnnotation;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.ReturnType;
+
+/**
+ * Native function to move the cursor of a materialized datatable to a given row.
+ * ballerina.model.datatables:moveTo(datatable, int)
+ *
+ * @since 0.87
+ */
+@BallerinaFunction(
+        packageName = "ballerina.lang.datatables",
+        functionName = "moveTo",
+        args = {@Argument(name = "dt", type = TypeEnum.DATATABLE),
+                @Argument(name = "row", type = TypeEnum.INT)},
+        returnType = {@ReturnType(type = TypeEnum.BOOLEAN)},
+        isPublic = true
+)
+@BallerinaAnnotation(annotationName = "Description", attributes = {@Attribute(name = "value",
+        value = "Moves the cursor to the given row. Only a datatable which is read into memory supports "
+                + "moving to a row.") })
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "dt",
+        value = "The datatable object") })
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "row",
+        value = "The row number. The first row is 1, the second is 2, etc. ") })
+@BallerinaAnnotation(annotationName = "Return", attributes = {@Attribute(name = "boolean",
+        value = "True if the row exists; false otherwise") })
+public class MoveTo extends AbstractNativeFunction {
+
+    public BValue[] execute(Context ctx) {
+        BDataTable dataTable = (BDataTable) getArgument(ctx, 0);
+        long row = ((BInteger) getArgument(ctx, 1)).intValue();
+        return getBValues(new BBoolean(dataTable.moveTo(row)));
+    }
+}
@@ -19,14 +19,13 @@
 package org.ballerinalang.nativeimpl.lang.jsons;
 
 import com.jayway.jsonpath.InvalidPathException;
-import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.JsonPathException;
 import com.jayway.jsonpath.PathNotFoundException;
-import com.jayway.jsonpath.WriteContext;
 import org.ballerinalang.bre.Context;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BBoolean;
 import org.ballerinalang.model.values.BJSON;
+import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.nativeimpl.lang.utils.ErrorHandler;
 import org.ballerinalang.natives.annotations.Argument;
@@ -61,16 +60,15 @@ public class AddBooleanToArray extends AbstractJSONFunction {
 
     @Override
     public BValue[] execute(Context ctx) {
-        String jsonPath = null;
-        try {
-            // Accessing Parameters.
-            BJSON json = (BJSON) getArgument(ctx, 0);
-            jsonPath = getArgument(ctx, 1).stringValue();
-            boolean value = ((BBoolean) getArgument(ctx, 2)).booleanValue();
+        invoke(ctx, (BJSON) getArgument(ctx, 0), (BString) getArgument(ctx, 1), (BBoolean) getArgument(ctx, 2));
+        return VOID_RETURN;
+    }
 
+    public void invoke(Context ctx, BJSON json, BString path, BBoolean value) {
+        String jsonPath = path.stringValue();
+        try {
             // Adding the value to JSON Array
-            WriteContext jsonCtx = JsonPath.parse(json.value());
-            jsonCtx.add(jsonPath, value);
+            JSONPathEvaluator.add(json.value(), jsonPath, value.booleanValue());
         } catch (PathNotFoundException e) {
             ErrorHandler.handleNonExistingJsonpPath(OPERATION, jsonPath, e);
         } catch (InvalidPathException e) {
@@ -80,7 +78,5 @@ public class AddBooleanToArray extends AbstractJSONFunction {
         } catch (Throwable e) {
             ErrorHandler.handleJsonPathException(OPERATION, e);
         }
-
-        return VOID_RETURN;
     }
 }
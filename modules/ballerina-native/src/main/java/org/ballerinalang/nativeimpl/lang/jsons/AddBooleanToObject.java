@@ -19,14 +19,13 @@
 package org.ballerinalang.nativeimpl.lang.jsons;
 
 import com.jayway.jsonpath.InvalidPathException;
-import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.JsonPathException;
 import com.jayway.jsonpath.PathNotFoundException;
-import com.jayway.jsonpath.WriteContext;
 import org.ballerinalang.bre.Context;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BBoolean;
 import org.ballerinalang.model.values.BJSON;
+import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.nativeimpl.lang.utils.ErrorHandler;
 import org.ballerinalang.natives.annotations.Argument;
@@ -65,17 +64,16 @@ public class AddBooleanToObject extends AbstractJSONFunction {
 
     @Override
     public BValue[] execute(Context ctx) {
-        String jsonPath = null;
-        try {
-            // Accessing Parameters.
-            BJSON json = (BJSON) getArgument(ctx, 0);
-            jsonPath = getArgument(ctx, 1).stringValue();
-            String key = getArgument(ctx, 2).stringValue();
-            boolean value = ((BBoolean) getArgument(ctx, 3)).booleanValue();
+        invoke(ctx, (BJSON) getArgument(ctx, 0), (BString) getArgument(ctx, 1),
+                (BString) getArgument(ctx, 2), (BBoolean) getArgument(ctx, 3));
+        return VOID_RETURN;
+    }
 
+    public void invoke(Context ctx, BJSON json, BString path, BString key, BBoolean value) {
+        String jsonPath = path.stringValue();
+        try {
             // Adding the value to JSON Object
-            WriteContext jsonCtx = JsonPath.parse(json.value());
-            jsonCtx.put(jsonPath, key, value);
+            JSONPathEvaluator.put(json.value(), jsonPath, key.stringValue(), value.booleanValue());
         } catch (PathNotFoundException e) {
             ErrorHandler.handleNonExistingJsonpPath(OPERATION, jsonPath, e);
         } catch (InvalidPathException e) {
@@ -85,7 +83,5 @@ public class AddBooleanToObject extends AbstractJSONFunction {
         } catch (Throwable e) {
             ErrorHandler.handleJsonPathException(OPERATION, e);
         }
-
-        return getBValues();
     }
 }
@@ -19,14 +19,13 @@
 package org.ballerinalang.nativeimpl.lang.jsons;
 
 import com.jayway.jsonpath.InvalidPathException;
-import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.JsonPathException;
 import com.jayway.jsonpath.PathNotFoundException;
-import com.jayway.jsonpath.WriteContext;
 import org.ballerinalang.bre.Context;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BJSON;
+import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.nativeimpl.lang.utils.ErrorHandler;
 import org.ballerinalang.natives.annotations.Argument;
@@ -62,16 +61,15 @@ public class AddIntToArray extends AbstractJSONFunction {
 
     @Override
     public BValue[] execute(Context ctx) {
-        String jsonPath = null;
-        try {
-            // Accessing Parameters.
-            BJSON json = (BJSON) getArgument(ctx, 0);
-            jsonPath = getArgument(ctx, 1).stringValue();
-            long value = ((BInteger) getArgument(ctx, 2)).intValue();
+        invoke(ctx, (BJSON) getArgument(ctx, 0), (BString) getArgument(ctx, 1), (BInteger) getArgument(ctx, 2));
+        return VOID_RETURN;
+    }
 
+    public void invoke(Context ctx, BJSON json, BString path, BInteger value) {
+        String jsonPath = path.stringValue();
+        try {
             // Adding the value to JSON Array
-            WriteContext jsonCtx = JsonPath.parse(json.value());
-            jsonCtx.add(jsonPath, value);
+            JSONPathEvaluator.add(json.value(), jsonPath, value.intValue());
         } catch (PathNotFoundException e) {
             ErrorHandler.handleNonExistingJsonpPath(OPERATION, jsonPath, e);
         } catch (InvalidPathException e) {
@@ -81,7 +79,5 @@ public class AddIntToArray extends AbstractJSONFunction {
         } catch (Throwable e) {
             ErrorHandler.handleJsonPathException(OPERATION, e);
         }
-
-        return VOID_RETURN;
     }
 }
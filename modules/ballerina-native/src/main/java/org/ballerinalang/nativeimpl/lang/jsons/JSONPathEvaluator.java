@@ -0,0 +1,241 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.nativeimpl.lang.jsons;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.Option;
+import com.jayway.jsonpath.spi.json.JacksonJsonNodeJsonProvider;
+import com.jayway.jsonpath.spi.mapper.JacksonMappingProvider;
+import org.ballerinalang.model.values.BJSON;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code JSONPathEvaluator} evaluates JSONPaths of the ballerina.lang.jsons functions on Jackson trees.
+ * <p>
+ * Compiled paths are kept in a bounded LRU cache keyed by the path string. The cache size is read from the
+ * {@value #SYS_PROP_CACHE_SIZE} system property. When the cache is full the least recently used path is evicted.
+ * Simple read paths made of property names and array indexes, such as {@code $.a.b[2]}, are resolved directly on the
+ * Jackson tree, or on the raw content of a lazily parsed {@link BJSON}. If such a path does not resolve to a non-null
+ * element it is evaluated with Jayway, so that the same result or error is reported.
+ *
+ * @since 0.87
+ */
+public class JSONPathEvaluator {
+
+    public static final String SYS_PROP_CACHE_SIZE = "ballerina.jsonpath.cache.size";
+    private static final int DEFAULT_CACHE_SIZE = 1024;
+
+    // Jackson backed configuration shared by all the evaluations
+    private static final Configuration CONFIGURATION = Configuration.builder()
+            .jsonProvider(new JacksonJsonNodeJsonProvider())
+            .mappingProvider(new JacksonMappingProvider())
+            .build();
+    private static final Configuration UPDATE_CONFIGURATION = CONFIGURATION.addOptions(Option.AS_PATH_LIST);
+
+    private static final int MAX_CACHE_SIZE = Integer.getInteger(SYS_PROP_CACHE_SIZE, DEFAULT_CACHE_SIZE);
+
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static final LongAdder EVICTIONS = new LongAdder();
+
+    private static final Map<String, CompiledPath> CACHE = Collections.synchronizedMap(
+            new LinkedHashMap<String, CompiledPath>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CompiledPath> eldest) {
+                    if (size() <= MAX_CACHE_SIZE) {
+                        return false;
+                    }
+                    EVICTIONS.increment();
+                    return true;
+                }
+            });
+
+    private JSONPathEvaluator() {
+    }
+
+    public static <T> T read(JsonNode json, String path) {
+        return read(json, getCompiledPath(path));
+    }
+
+    /**
+     * Read a primitive value of a JSON. If the JSON is lazily parsed and the path is a simple path, the value is read
+     * from the raw content of the JSON, without building its tree.
+     *
+     * @param json JSON to read
+     * @param path JSONPath of the value
+     * @param <T>  type of the result
+     * @return result of the path
+     */
+    public static <T> T readValue(BJSON json, String path) {
+        CompiledPath compiledPath = getCompiledPath(path);
+        if (compiledPath.steps != null && json.isLazy()) {
+            // Objects and arrays are read from the tree, so that changes made to them are reflected in the JSON
+            JsonNode element = json.readElement(compiledPath.steps);
+            if (element != null && element.isValueNode() && !element.isNull()) {
+                @SuppressWarnings("unchecked")
+                T result = (T) element;
+                return result;
+            }
+        }
+        return read(json.value(), compiledPath);
+    }
+
+    private static <T> T read(JsonNode json, CompiledPath compiledPath) {
+        if (compiledPath.steps != null) {
+            JsonNode element = compiledPath.resolve(json);
+            if (element != null && !element.isNull()) {
+                @SuppressWarnings("unchecked")
+                T result = (T) element;
+                return result;
+            }
+        }
+        return compiledPath.jsonPath.read(json, CONFIGURATION);
+    }
+
+    public static void set(JsonNode json, String path, Object value) {
+        getCompiledPath(path).jsonPath.set(json, value, UPDATE_CONFIGURATION);
+    }
+
+    public static void add(JsonNode json, String path, Object value) {
+        getCompiledPath(path).jsonPath.add(json, value, UPDATE_CONFIGURATION);
+    }
+
+    public static void put(JsonNode json, String path, String key, Object value) {
+        getCompiledPath(path).jsonPath.put(json, key, value, UPDATE_CONFIGURATION);
+    }
+
+    public static void delete(JsonNode json, String path) {
+        getCompiledPath(path).jsonPath.delete(json, UPDATE_CONFIGURATION);
+    }
+
+    public static void renameKey(JsonNode json, String path, String oldKey, String newKey) {
+        getCompiledPath(path).jsonPath.renameKey(json, oldKey, newKey, UPDATE_CONFIGURATION);
+    }
+
+    public static long getHitCount() {
+        return HITS.sum();
+    }
+
+    public static long getMissCount() {
+        return MISSES.sum();
+    }
+
+    public static long getEvictionCount() {
+        return EVICTIONS.sum();
+    }
+
+    private static CompiledPath getCompiledPath(String path) {
+        CompiledPath compiledPath = CACHE.get(path);
+        if (compiledPath != null) {
+            HITS.increment();
+            return compiledPath;
+        }
+
+        MISSES.increment();
+        // An invalid path is reported by Jayway here, and is not cached
+        compiledPath = new CompiledPath(JsonPath.compile(path), parseSimplePath(path));
+        if (MAX_CACHE_SIZE > 0) {
+            CACHE.put(path, compiledPath);
+        }
+        return compiledPath;
+    }
+
+    /**
+     * Parse a path of the form $.name.name[index], as a list of property names and array indexes.
+     *
+     * @param path JSONPath
+     * @return steps of the path, or null if the path is not a simple path
+     */
+    private static Object[] parseSimplePath(String path) {
+        if (path.length() < 2 || path.charAt(0) != '$') {
+            return null;
+        }
+
+        List<Object> steps = new ArrayList<>();
+        int index = 1;
+        int length = path.length();
+        while (index < length) {
+            char ch = path.charAt(index);
+            int start = index + 1;
+            int end = start;
+            if (ch == '.') {
+                while (end < length && isNameChar(path.charAt(end))) {
+                    end++;
+                }
+                if (end == start) {
+                    return null;
+                }
+                steps.add(path.substring(start, end));
+                index = end;
+            } else if (ch == '[') {
+                while (end < length && path.charAt(end) >= '0' && path.charAt(end) <= '9') {
+                    end++;
+                }
+                // Keep the index small enough to be an int
+                if (end == start || end - start > 9 || end >= length || path.charAt(end) != ']') {
+                    return null;
+                }
+                steps.add(Integer.parseInt(path.substring(start, end)));
+                index = end + 1;
+            } else {
+                return null;
+            }
+        }
+        return steps.toArray();
+    }
+
+    private static boolean isNameChar(char ch) {
+        return (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z') || (ch >= '0' && ch <= '9') || ch == '_';
+    }
+
+    /**
+     * A compiled JSONPath, with the steps of the path if it is a simple path.
+     */
+    private static class CompiledPath {
+        private final JsonPath jsonPath;
+        private final Object[] steps;
+
+        CompiledPath(JsonPath jsonPath, Object[] steps) {
+            this.jsonPath = jsonPath;
+            this.steps = steps;
+        }
+
+        JsonNode resolve(JsonNode json) {
+            JsonNode node = json;
+            for (Object step : steps) {
+                if (step instanceof String) {
+                    node = node.isObject() ? node.get((String) step) : null;
+                } else {
+                    node = node.isArray() ? node.get((Integer) step) : null;
+                }
+                if (node == null) {
+                    return null;
+                }
+            }
+            return node;
+        }
+    }
+}
@@ -19,13 +19,12 @@
 package org.ballerinalang.nativeimpl.lang.jsons;
 
 import com.jayway.jsonpath.InvalidPathException;
-import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.JsonPathException;
 import com.jayway.jsonpath.PathNotFoundException;
-import com.jayway.jsonpath.WriteContext;
 import org.ballerinalang.bre.Context;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BJSON;
+import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.nativeimpl.lang.utils.ErrorHandler;
 import org.ballerinalang.natives.annotations.Argument;
@@ -61,17 +60,16 @@ public class Rename extends AbstractJSONFunction {
 
     @Override
     public BValue[] execute(Context ctx) {
-        String jsonPath = null;
+        invoke(ctx, (BJSON) getArgument(ctx, 0), (BString) getArgument(ctx, 1),
+                (BString) getArgument(ctx, 2), (BString) getArgument(ctx, 3));
+        return VOID_RETURN;
+    }
+
+    public void invoke(Context ctx, BJSON json, BString path, BString oldKey, BString newKey) {
+        String jsonPath = path.stringValue();
         try {
-            // Accessing Parameters.
-            BJSON json = (BJSON) getArgument(ctx, 0);
-            jsonPath = getArgument(ctx, 1).stringValue();
-            String oldKey = getArgument(ctx, 2).stringValue();
-            String newKey = getArgument(ctx, 3).stringValue();
-            
             // Rename the element key
-            WriteContext jsonCtx = JsonPath.parse(json.value());
-            jsonCtx.renameKey(jsonPath, oldKey, newKey);
+            JSONPathEvaluator.renameKey(json.value(), jsonPath, oldKey.stringValue(), newKey.stringValue());
         } catch (PathNotFoundException e) {
             ErrorHandler.handleNonExistingJsonpPath(OPERATION, jsonPath, e);
         } catch (InvalidPathException e) {
@@ -81,7 +79,5 @@ public class Rename extends AbstractJSONFunction {
         } catch (Throwable e) {
             ErrorHandler.handleJsonPathException(OPERATION, e);
         }
-
-        return VOID_RETURN;
     }
 }
@@ -54,11 +54,12 @@ public class ToString extends AbstractJSONFunction {
 
     @Override
     public BValue[] execute(Context ctx) {
+        return getBValues(invoke(ctx, (BJSON) getArgument(ctx, 0)));
+    }
+
+    public BString invoke(Context ctx, BJSON json) {
         String jsonStr = null;
         try {
-            // Accessing Parameters.
-            BJSON json = (BJSON) getArgument(ctx, 0);
-
             jsonStr = json.stringValue();
             if (log.isDebugEnabled()) {
                 log.debug("Output JSON: " + jsonStr);
@@ -67,6 +68,6 @@ public class ToString extends AbstractJSONFunction {
             ErrorHandler.handleJsonException("convert json to string", e);
         }
 
-        return getBValues(new BString(jsonStr));
+        return new BString(jsonStr);
     }
 }
@@ -21,6 +21,7 @@ package org.ballerinalang.nativeimpl.lang.messages;
 import org.ballerinalang.bre.Context;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BMessage;
+import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.natives.AbstractNativeFunction;
 import org.ballerinalang.natives.annotations.Argument;
@@ -56,14 +57,18 @@ public class AddHeader extends AbstractNativeFunction {
 
     @Override
     public BValue[] execute(Context context) {
-        BMessage msg = (BMessage) getArgument(context, 0);
-        String headerName = getArgument(context, 1).stringValue();
-        String headerValue = getArgument(context, 2).stringValue();
+        invoke(context, (BMessage) getArgument(context, 0),
+                (BString) getArgument(context, 1), (BString) getArgument(context, 2));
+        return VOID_RETURN;
+    }
+
+    public void invoke(Context context, BMessage m, BString key, BString value) {
+        String headerName = key.stringValue();
+        String headerValue = value.stringValue();
         // Add new header.
-        msg.addHeader(headerName, headerValue);
+        m.addHeader(headerName, headerValue);
         if (log.isDebugEnabled()) {
             log.debug("Add " + headerName + " to header with value: " + headerValue);
         }
-        return VOID_RETURN;
     }
 }
@@ -54,10 +54,13 @@ public class Clone  extends AbstractNativeFunction {
 
     @Override
     public BValue[] execute(Context context) {
+        return getBValues(invoke(context, (BMessage) getArgument(context, 0)));
+    }
+
+    public BMessage invoke(Context context, BMessage m) {
         if (LOG.isDebugEnabled()) {
             LOG.debug("Invoke message clone.");
         }
-        BMessage msg = (BMessage) getArgument(context, 0);
-        return getBValues(msg.clone());
+        return m.clone();
     }
 }
@@ -35,15 +35,18 @@ import org.ballerinalang.natives.annotations.ReturnType;
         value = "The header value") })
 public class GetHeader extends AbstractNativeFunction {
 
+    @Override
     public BValue[] execute(Context ctx) {
-        BMessage msg = (BMessage) getArgument(ctx, 0);
-        String headerName = getArgument(ctx, 1).stringValue();
-        String headerValue = msg.getHeader(headerName);
+        return getBValues(invoke(ctx, (BMessage) getArgument(ctx, 0), (BString) getArgument(ctx, 1)));
+    }
+
+    public BString invoke(Context ctx, BMessage m, BString headerName) {
+        String headerValue = m.getHeader(headerName.stringValue());
 
         if (headerValue == null) {
             //TODO: should NOT handle error for null headers, need to return `ballerina null`
-            ErrorHandler.handleUndefineHeader(headerName);
+            ErrorHandler.handleUndefineHeader(headerName.stringValue());
         }
-        return getBValues(new BString(headerValue));
+        return new BString(headerValue);
     }
 }
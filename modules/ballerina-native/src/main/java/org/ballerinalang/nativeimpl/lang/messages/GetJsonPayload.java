@@ -20,6 +20,7 @@ package org.ballerinalang.nativeimpl.lang.messages;
 
 import org.ballerinalang.bre.Context;
 import org.ballerinalang.model.types.TypeEnum;
+import org.ballerinalang.model.util.MessageUtils;
 import org.ballerinalang.model.values.BJSON;
 import org.ballerinalang.model.values.BMessage;
 import org.ballerinalang.model.values.BValue;
@@ -32,6 +33,8 @@ import org.ballerinalang.natives.annotations.BallerinaFunction;
 import org.ballerinalang.natives.annotations.ReturnType;
 import org.wso2.carbon.messaging.MessageDataSource;
 
+import java.nio.charset.StandardCharsets;
+
 /**
  *  Get the payload of the Message as a JSON.
  */
@@ -54,29 +57,34 @@ public class GetJsonPayload extends AbstractNativeFunction {
 
     @Override
     public BValue[] execute(Context ctx) {
+        return getBValues(invoke(ctx, (BMessage) getArgument(ctx, 0)));
+    }
+
+    public BJSON invoke(Context ctx, BMessage m) {
         BJSON result = null;
         try {
-            // Accessing First Parameter Value.
-            BMessage msg = (BMessage) getArgument(ctx, 0);
-
-            if (msg.isAlreadyRead()) {
-                MessageDataSource payload = msg.getMessageDataSource();
+            if (m.isAlreadyRead()) {
+                MessageDataSource payload = m.getMessageDataSource();
                 if (payload instanceof BJSON) {
                     result = (BJSON) payload;
                 } else {
                     // else, build the JSON from the string representation of the payload.
-                    result = new BJSON(msg.getMessageDataSource().getMessageAsString());
+                    result = new BJSON(m.getMessageDataSource().getMessageAsString());
                 }
             } else {
-                result = new BJSON(msg.value().getInputStream());
-                msg.setMessageDataSource(result);
-                msg.setAlreadyRead(true);
+                // Jackson detects the unicode encodings from the content, other charsets need to be decoded first.
+                // The tree of the payload is built only if it is needed, until then the raw payload is kept.
+                if (StandardCharsets.UTF_8.equals(MessageUtils.getCharset(m.value()))) {
+                    result = new BJSON(MessageUtils.getPayloadBytes(m.value()));
+                } else {
+                    result = new BJSON(MessageUtils.getStringPayload(m.value()));
+                }
+                m.setMessageDataSource(result);
+                m.setAlreadyRead(true);
             }
         } catch (Throwable e) {
             ErrorHandler.handleJsonException(OPERATION, e);
         }
-
-        // Setting output value.
-        return getBValues(result);
+        return result;
     }
 }
@@ -55,17 +55,21 @@ public class GetProperty extends AbstractNativeFunction {
 
     @Override
     public BValue[] execute(Context context) {
-        BMessage msg = (BMessage) getArgument(context, 0);
-        BString propertyName = (BString) getArgument(context, 1);
+        BString propertyValue = invoke(context, (BMessage) getArgument(context, 0),
+                (BString) getArgument(context, 1));
+        // A missing property does not set the return value
+        return (propertyValue != null) ? getBValues(propertyValue) : VOID_RETURN;
+    }
 
+    public BString invoke(Context context, BMessage msg, BString propertyName) {
         Object propertyValue = msg.getProperty(propertyName.stringValue());
 
         if (propertyValue == null) {
-            return VOID_RETURN;
+            return null;
         }
 
         if (propertyValue instanceof String) {
-            return getBValues(new BString((String) propertyValue));
+            return new BString((String) propertyValue);
         } else {
             throw new BallerinaException("Property value is of unknown type : " + propertyValue.getClass().getName());
         }
@@ -57,16 +57,19 @@ public class GetStringPayload extends AbstractNativeFunction {
 
     @Override
     public BValue[] execute(Context context) {
+        return getBValues(invoke(context, (BMessage) getArgument(context, 0)));
+    }
+
+    public BString invoke(Context context, BMessage m) {
         BString result;
         try {
-            BMessage msg = (BMessage) getArgument(context, 0);
-            if (msg.isAlreadyRead()) {
-                result = new BString(msg.getMessageDataSource().getMessageAsString());
+            if (m.isAlreadyRead()) {
+                result = new BString(m.getMessageDataSource().getMessageAsString());
             } else {
-                String payload = MessageUtils.getStringFromInputStream(msg.value().getInputStream());
+                String payload = MessageUtils.getStringPayload(m.value());
                 result = new BString(payload);
-                msg.setMessageDataSource(payload);
-                msg.setAlreadyRead(true);
+                m.setMessageDataSource(payload);
+                m.setAlreadyRead(true);
             }
             if (log.isDebugEnabled()) {
                 log.debug("Payload in String:" + result.stringValue());
@@ -74,6 +77,6 @@ public class GetStringPayload extends AbstractNativeFunction {
         } catch (Throwable e) {
             throw new BallerinaException("Error while retrieving string payload from message: " + e.getMessage());
         }
-        return getBValues(result);
+        return result;
     }
 }
@@ -56,9 +56,12 @@ import org.wso2.carbon.messaging.MapCarbonMessage;
 public class GetStringValue extends AbstractNativeFunction {
     @Override
     public BValue[] execute(Context context) {
-        BMessage msg = (BMessage) getArgument(context, 0);
-        CarbonMessage carbonMessage = msg.value();
-        String mapKey = getArgument(context, 1).stringValue();
+        return getBValues(invoke(context, (BMessage) getArgument(context, 0), (BString) getArgument(context, 1)));
+    }
+
+    public BString invoke(Context context, BMessage m, BString propertyName) {
+        CarbonMessage carbonMessage = m.value();
+        String mapKey = propertyName.stringValue();
         String mapValue = null;
         if (carbonMessage instanceof MapCarbonMessage) {
             mapValue = ((MapCarbonMessage) carbonMessage).getValue(mapKey);
@@ -66,6 +69,6 @@ public class GetStringValue extends AbstractNativeFunction {
         if (mapValue == null) {
             throw new BallerinaException("Given property " + mapKey + " is not found in the Map message");
         }
-        return getBValues(new BString(mapValue));
+        return new BString(mapValue);
     }
 }
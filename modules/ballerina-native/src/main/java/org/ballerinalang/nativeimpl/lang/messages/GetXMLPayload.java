@@ -18,6 +18,7 @@ package org.ballerinalang.nativeimpl.lang.messages;
 
 import org.ballerinalang.bre.Context;
 import org.ballerinalang.model.types.TypeEnum;
+import org.ballerinalang.model.util.MessageUtils;
 import org.ballerinalang.model.values.BMessage;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.model.values.BXML;
@@ -52,29 +53,29 @@ public class GetXMLPayload extends AbstractNativeFunction {
     
     @Override
     public BValue[] execute(Context context) {
+        return getBValues(invoke(context, (BMessage) getArgument(context, 0)));
+    }
+
+    public BXML invoke(Context context, BMessage m) {
         BXML result = null;
         try {
-            // Accessing First Parameter Value.
-            BMessage msg = (BMessage) getArgument(context, 0);
-            
-            if (msg.isAlreadyRead()) {
-                MessageDataSource payload = msg.getMessageDataSource();
+            if (m.isAlreadyRead()) {
+                MessageDataSource payload = m.getMessageDataSource();
                 if (payload instanceof BXML) {
                     // if the payload is already xml, return it as it is.
                     result = (BXML) payload;
                 } else {
                     // else, build the xml from the string representation of the payload.
-                    result = new BXML(msg.getMessageDataSource().getMessageAsString());
+                    result = new BXML(m.getMessageDataSource().getMessageAsString());
                 }
             } else {
-                result = new BXML(msg.value().getInputStream());
-                msg.setMessageDataSource(result);
-                msg.setAlreadyRead(true);
+                result = new BXML(MessageUtils.getPayloadStream(m.value()));
+                m.setMessageDataSource(result);
+                m.setAlreadyRead(true);
             }
         } catch (Throwable e) {
             ErrorHandler.handleJsonException(OPERATION, e);
         }
-        // Setting output value.
-        return getBValues(result);
+        return result;
     }
 }
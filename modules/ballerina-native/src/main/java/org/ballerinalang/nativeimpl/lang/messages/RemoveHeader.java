@@ -21,6 +21,7 @@ package org.ballerinalang.nativeimpl.lang.messages;
 import org.ballerinalang.bre.Context;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BMessage;
+import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.natives.AbstractNativeFunction;
 import org.ballerinalang.natives.annotations.Argument;
@@ -53,13 +54,15 @@ public class RemoveHeader extends AbstractNativeFunction {
 
     @Override
     public BValue[] execute(Context context) {
-        BMessage msg = (BMessage) getArgument(context, 0);
-        String headerName = getArgument(context, 1).stringValue();
-        // Add new header.
-        msg.removeHeader(headerName);
+        invoke(context, (BMessage) getArgument(context, 0), (BString) getArgument(context, 1));
+        return VOID_RETURN;
+    }
+
+    public void invoke(Context context, BMessage m, BString key) {
+        String headerName = key.stringValue();
+        m.removeHeader(headerName);
         if (log.isDebugEnabled()) {
             log.debug("Remove header:" + headerName);
         }
-        return VOID_RETURN;
     }
 }
@@ -21,6 +21,7 @@ package org.ballerinalang.nativeimpl.lang.messages;
 import org.ballerinalang.bre.Context;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BMessage;
+import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.natives.AbstractNativeFunction;
 import org.ballerinalang.natives.annotations.Argument;
@@ -57,14 +58,18 @@ public class SetHeader extends AbstractNativeFunction {
 
     @Override
     public BValue[] execute(Context context) {
-        BMessage msg = (BMessage) getArgument(context, 0);
-        String headerName = getArgument(context, 1).stringValue();
-        String headerValue = getArgument(context, 2).stringValue();
+        invoke(context, (BMessage) getArgument(context, 0),
+                (BString) getArgument(context, 1), (BString) getArgument(context, 2));
+        return VOID_RETURN;
+    }
+
+    public void invoke(Context context, BMessage m, BString key, BString value) {
+        String headerName = key.stringValue();
+        String headerValue = value.stringValue();
         // Set new header.
-        msg.setHeader(headerName, headerValue);
+        m.setHeader(headerName, headerValue);
         if (LOG.isDebugEnabled()) {
             LOG.debug("Set " + headerName + " header with value: " + headerValue);
         }
-        return VOID_RETURN;
     }
 }
@@ -52,14 +52,15 @@ public class SetJsonPayload extends AbstractNativeFunction {
 
     @Override
     public BValue[] execute(Context ctx) {
-        // Accessing First Parameter Value.
-        BMessage msg = (BMessage) getArgument(ctx, 0);
-        BJSON payload = (BJSON) getArgument(ctx, 1);
-        // Clone the message without content
-        CarbonMessage cmsg = MessageUtil.cloneCarbonMessageWithOutData(msg.value());
-        msg.setValue(cmsg);
-        msg.setMessageDataSource(payload);
-        msg.setHeader(Constants.CONTENT_TYPE, Constants.APPLICATION_JSON);
+        invoke(ctx, (BMessage) getArgument(ctx, 0), (BJSON) getArgument(ctx, 1));
         return VOID_RETURN;
     }
+
+    public void invoke(Context ctx, BMessage m, BJSON payload) {
+        // Clone the message without content
+        CarbonMessage cmsg = MessageUtil.cloneCarbonMessageWithOutData(m.value());
+        m.setValue(cmsg);
+        m.setMessageDataSource(payload);
+        m.setHeader(Constants.CONTENT_TYPE, Constants.APPLICATION_JSON);
+    }
 }
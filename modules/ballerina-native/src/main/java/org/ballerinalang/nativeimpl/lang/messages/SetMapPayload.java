@@ -55,14 +55,15 @@ public class SetMapPayload extends AbstractNativeFunction {
 
     @Override
     public BValue[] execute(Context context) {
-        BMessage msg = (BMessage) getArgument(context, 0);
-        BMap payload = (BMap) getArgument(context, 1);
-        // Clone the message without content
+        invoke(context, (BMessage) getArgument(context, 0), (BMap) getArgument(context, 1));
+        return VOID_RETURN;
+    }
+
+    public void invoke(Context context, BMessage msg, BMap payload) {
         msg.setMessageDataSource(payload);
         msg.setHeader(Constants.CONTENT_TYPE, Constants.APPLICATION_FORM);
         if (log.isDebugEnabled()) {
             log.debug("Setting new map payload : " + payload.stringValue());
         }
-        return VOID_RETURN;
     }
 }
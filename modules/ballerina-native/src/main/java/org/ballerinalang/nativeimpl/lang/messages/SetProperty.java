@@ -53,14 +53,14 @@ public class SetProperty extends AbstractNativeFunction {
 
     @Override
     public BValue[] execute(Context context) {
-        BMessage msg = (BMessage) getArgument(context, 0);
-        BString propertyName = (BString) getArgument(context, 1);
-        BString propertyValue = (BString) getArgument(context, 2);
+        invoke(context, (BMessage) getArgument(context, 0),
+                (BString) getArgument(context, 1), (BString) getArgument(context, 2));
+        return VOID_RETURN;
+    }
 
+    public void invoke(Context context, BMessage msg, BString propertyName, BString propertyValue) {
         if (propertyName != null && propertyValue != null) {
             msg.setProperty(propertyName.stringValue(), propertyValue.stringValue());
         }
-
-        return VOID_RETURN;
     }
 }
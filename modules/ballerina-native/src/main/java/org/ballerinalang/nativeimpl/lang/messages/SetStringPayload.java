@@ -57,16 +57,18 @@ public class SetStringPayload extends AbstractNativeFunction {
 
     @Override
     public BValue[] execute(Context context) {
-        BMessage msg = (BMessage) getArgument(context, 0);
-        BString payload = (BString) getArgument(context, 1);
+        invoke(context, (BMessage) getArgument(context, 0), (BString) getArgument(context, 1));
+        return VOID_RETURN;
+    }
+
+    public void invoke(Context context, BMessage m, BString payload) {
         // Clone the message without content
-        CarbonMessage cmsg = MessageUtil.cloneCarbonMessageWithOutData(msg.value());
-        msg.setValue(cmsg);
-        msg.setMessageDataSource(payload.stringValue());
-        msg.setHeader(Constants.CONTENT_TYPE, Constants.TEXT_PLAIN);
+        CarbonMessage cmsg = MessageUtil.cloneCarbonMessageWithOutData(m.value());
+        m.setValue(cmsg);
+        m.setMessageDataSource(payload.stringValue());
+        m.setHeader(Constants.CONTENT_TYPE, Constants.TEXT_PLAIN);
         if (log.isDebugEnabled()) {
             log.debug("Setting new payload: " + payload.stringValue());
         }
-        return VOID_RETURN;
     }
 }
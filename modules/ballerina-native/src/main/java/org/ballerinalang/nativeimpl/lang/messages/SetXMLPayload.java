@@ -54,15 +54,15 @@ public class SetXMLPayload extends AbstractNativeFunction {
 
     @Override
     public BValue[] execute(Context context) {
-        // Accessing First Parameter Value.
-        BMessage msg = (BMessage) getArgument(context, 0);
-        BXML payload = (BXML) getArgument(context, 1);
+        invoke(context, (BMessage) getArgument(context, 0), (BXML) getArgument(context, 1));
+        return VOID_RETURN;
+    }
 
+    public void invoke(Context context, BMessage m, BXML payload) {
         // Clone the message without content
-        CarbonMessage cmsg = MessageUtil.cloneCarbonMessageWithOutData(msg.value());
-        msg.setValue(cmsg);
-        msg.setMessageDataSource(payload);
-        msg.setHeader(Constants.CONTENT_TYPE, Constants.APPLICATION_XML);
-        return VOID_RETURN;
+        CarbonMessage cmsg = MessageUtil.cloneCarbonMessageWithOutData(m.value());
+        m.setValue(cmsg);
+        m.setMessageDataSource(payload);
+        m.setHeader(Constants.CONTENT_TYPE, Constants.APPLICATION_XML);
     }
 }
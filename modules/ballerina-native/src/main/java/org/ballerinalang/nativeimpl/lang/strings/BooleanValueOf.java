@@ -52,7 +52,10 @@ public class BooleanValueOf extends AbstractNativeFunction {
 
     @Override
     public BValue[] execute(Context context) {
-        BBoolean str = (BBoolean) getArgument(context, 0);
-        return getBValues(new BString(str.stringValue()));
+        return getBValues(invoke(context, (BBoolean) getArgument(context, 0)));
+    }
+
+    public BString invoke(Context context, BBoolean b) {
+        return new BString(b.stringValue());
     }
 }
@@ -21,6 +21,7 @@ package org.ballerinalang.nativeimpl.lang.strings;
 import org.ballerinalang.bre.Context;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.natives.AbstractNativeFunction;
 import org.ballerinalang.natives.annotations.Argument;
@@ -54,11 +55,10 @@ public class Contains extends AbstractNativeFunction {
 
     @Override
     public BValue[] execute(Context context) {
-        String param1 = getArgument(context, 0).stringValue();
-        String subString = getArgument(context, 1).stringValue();
-
-        BBoolean isContains = new BBoolean(param1.contains(subString));
-        return getBValues(isContains);
+        return getBValues(invoke(context, (BString) getArgument(context, 0), (BString) getArgument(context, 1)));
+    }
 
+    public BBoolean invoke(Context context, BString mainString, BString subString) {
+        return new BBoolean(mainString.stringValue().contains(subString.stringValue()));
     }
 }
@@ -21,6 +21,7 @@ package org.ballerinalang.nativeimpl.lang.strings;
 import org.ballerinalang.bre.Context;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.natives.AbstractNativeFunction;
 import org.ballerinalang.natives.annotations.Argument;
@@ -54,11 +55,10 @@ public class EqualsIgnoreCase extends AbstractNativeFunction {
 
     @Override
     public BValue[] execute(Context context) {
-        String string1 = getArgument(context, 0).stringValue();
-        String anotherString = getArgument(context, 1).stringValue();
-
-        BBoolean booleanValue = new BBoolean(string1.equalsIgnoreCase(anotherString));
-        return getBValues(booleanValue);
+        return getBValues(invoke(context, (BString) getArgument(context, 0), (BString) getArgument(context, 1)));
+    }
 
+    public BBoolean invoke(Context context, BString mainString, BString anotherString) {
+        return new BBoolean(mainString.stringValue().equalsIgnoreCase(anotherString.stringValue()));
     }
 }
@@ -52,7 +52,10 @@ public class FloatValueOf extends AbstractNativeFunction {
 
     @Override
     public BValue[] execute(Context context) {
-        BFloat str = (BFloat) getArgument(context, 0);
-        return getBValues(new BString(str.stringValue()));
+        return getBValues(invoke(context, (BFloat) getArgument(context, 0)));
+    }
+
+    public BString invoke(Context context, BFloat f) {
+        return new BString(f.stringValue());
     }
 }
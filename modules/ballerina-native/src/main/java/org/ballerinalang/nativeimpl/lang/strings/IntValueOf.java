@@ -52,7 +52,10 @@ public class IntValueOf extends AbstractNativeFunction {
 
     @Override
     public BValue[] execute(Context context) {
-        BInteger str = (BInteger) getArgument(context, 0);
-        return getBValues(new BString(str.stringValue()));
+        return getBValues(invoke(context, (BInteger) getArgument(context, 0)));
+    }
+
+    public BString invoke(Context context, BInteger i) {
+        return new BString(i.stringValue());
     }
 }
@@ -53,13 +53,16 @@ public class JsonValueOf extends AbstractNativeFunction {
 
     @Override
     public BValue[] execute(Context context) {
-        BJSON json = (BJSON) getArgument(context, 0);
+        return getBValues(invoke(context, (BJSON) getArgument(context, 0)));
+    }
+
+    public BString invoke(Context context, BJSON value) {
         BString jsonStr = null;
         try {
-            jsonStr = new BString(json.stringValue());
+            jsonStr = new BString(value.stringValue());
         } catch (Throwable e) {
             ErrorHandler.handleJsonException("get json as string", e);
         }
-        return getBValues(jsonStr);
+        return jsonStr;
     }
 }
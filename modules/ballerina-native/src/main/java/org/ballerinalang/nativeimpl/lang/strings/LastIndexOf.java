@@ -21,6 +21,7 @@ package org.ballerinalang.nativeimpl.lang.strings;
 import org.ballerinalang.bre.Context;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.natives.AbstractNativeFunction;
 import org.ballerinalang.natives.annotations.Argument;
@@ -54,10 +55,10 @@ public class LastIndexOf extends AbstractNativeFunction {
 
     @Override
     public BValue[] execute(Context context) {
-        String param1 = getArgument(context, 0).stringValue();
-        String subString = getArgument(context, 1).stringValue();
+        return getBValues(invoke(context, (BString) getArgument(context, 0), (BString) getArgument(context, 1)));
+    }
 
-        BInteger bInteger = new BInteger(param1.lastIndexOf(subString));
-        return getBValues(bInteger);
+    public BInteger invoke(Context context, BString mainString, BString subString) {
+        return new BInteger(mainString.stringValue().lastIndexOf(subString.stringValue()));
     }
 }
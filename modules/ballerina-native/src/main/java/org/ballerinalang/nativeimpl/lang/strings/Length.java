@@ -21,6 +21,7 @@ package org.ballerinalang.nativeimpl.lang.strings;
 import org.ballerinalang.bre.Context;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.natives.AbstractNativeFunction;
 import org.ballerinalang.natives.annotations.Argument;
@@ -51,8 +52,10 @@ public class Length extends AbstractNativeFunction {
 
     @Override
     public BValue[] execute(Context context) {
-        String param1 = getArgument(context, 0).stringValue();
-        BInteger intValue = new BInteger(param1.length());
-        return getBValues(intValue);
+        return getBValues(invoke(context, (BString) getArgument(context, 0)));
+    }
+
+    public BInteger invoke(Context context, BString s) {
+        return new BInteger(s.stringValue().length());
     }
 }
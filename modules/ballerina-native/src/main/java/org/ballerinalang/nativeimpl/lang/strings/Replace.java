@@ -57,11 +57,13 @@ public class Replace extends AbstractNativeFunction {
 
     @Override
     public BValue[] execute(Context context) {
-        String mainString = getArgument(context, 0).stringValue();
-        String replacePattern = getArgument(context, 1).stringValue();
-        String replaceWith = getArgument(context, 2).stringValue();
+        return getBValues(invoke(context, (BString) getArgument(context, 0),
+                (BString) getArgument(context, 1), (BString) getArgument(context, 2)));
+    }
 
-        String replacedString = mainString.replace(replacePattern, replaceWith);
-        return getBValues(new BString(replacedString));
+    public BString invoke(Context context, BString mainString, BString replacePattern, BString replaceWith) {
+        String replacedString = mainString.stringValue().replace(replacePattern.stringValue(),
+                replaceWith.stringValue());
+        return new BString(replacedString);
     }
 }
@@ -53,16 +53,16 @@ public class Split extends AbstractNativeFunction {
 
     @Override
     public BValue[] execute(Context context) {
-        String initialString = getArgument(context, 0).stringValue();
-        String regex = getArgument(context, 1).stringValue();
+        return getBValues(invoke(context, (BString) getArgument(context, 0), (BString) getArgument(context, 1)));
+    }
 
-        String[] splitArray = initialString.split(regex);
+    public BArray<BString> invoke(Context context, BString mainString, BString regex) {
+        String[] splitArray = mainString.stringValue().split(regex.stringValue());
 
         BArray<BString> bSplitArray = new BArray<>(BString.class);
         for (int i = 0; i < splitArray.length; i++) {
             bSplitArray.add(i, new BString(splitArray[i]));
         }
-
-        return getBValues(bSplitArray);
+        return bSplitArray;
     }
 }
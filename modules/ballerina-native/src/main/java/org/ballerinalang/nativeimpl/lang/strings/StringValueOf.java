@@ -51,7 +51,10 @@ public class StringValueOf extends AbstractNativeFunction {
 
     @Override
     public BValue[] execute(Context context) {
-        BString str = (BString) getArgument(context, 0);
-        return getBValues(str);
+        return getBValues(invoke(context, (BString) getArgument(context, 0)));
+    }
+
+    public BString invoke(Context context, BString s) {
+        return s;
     }
 }
@@ -41,12 +41,14 @@ public class SubString extends AbstractNativeFunction {
 
     @Override
     public BValue[] execute(Context context) {
-        String initialString = getArgument(context, 0).stringValue();
-        BInteger argFrom = (BInteger) getArgument(context, 1);
-        BInteger argTo = (BInteger) getArgument(context, 2);
+        return getBValues(invoke(context, (BString) getArgument(context, 0),
+                (BInteger) getArgument(context, 1), (BInteger) getArgument(context, 2)));
+    }
 
-        long fromLong = argFrom.intValue();
-        long toLong = argTo.intValue();
+    public BString invoke(Context context, BString mainString, BInteger from, BInteger to) {
+        String initialString = mainString.stringValue();
+        long fromLong = from.intValue();
+        long toLong = to.intValue();
 
         if (toLong != (int) toLong) {
             throw BLangExceptionHelper
@@ -57,14 +59,13 @@ public class SubString extends AbstractNativeFunction {
                     .getRuntimeException(RuntimeErrors.INDEX_NUMBER_TOO_LARGE, fromLong);
         }
 
-        int from = (int) fromLong;
-        int to = (int) toLong;
+        int fromIndex = (int) fromLong;
+        int toIndex = (int) toLong;
 
-        if (from < 0 || to > initialString.length()) {
+        if (fromIndex < 0 || toIndex > initialString.length()) {
             throw new BallerinaException("String index out of range. Actual:" + initialString.length() +
-                    " requested: " + from + " to " + to);
+                    " requested: " + fromIndex + " to " + toIndex);
         }
-        BString subString = new BString(initialString.substring(from, to));
-        return getBValues(subString);
+        return new BString(initialString.substring(fromIndex, toIndex));
     }
 }
@@ -53,8 +53,10 @@ public class ToLowerCase extends AbstractNativeFunction {
 
     @Override
     public BValue[] execute(Context context) {
-        String param1 = getArgument(context, 0).stringValue();
-        BString lowerCaseString = new BString(param1.toLowerCase(Locale.getDefault()));
-        return getBValues(lowerCaseString);
+        return getBValues(invoke(context, (BString) getArgument(context, 0)));
+    }
+
+    public BString invoke(Context context, BString s) {
+        return new BString(s.stringValue().toLowerCase(Locale.getDefault()));
     }
 }
@@ -53,8 +53,10 @@ public class ToUpperCase extends AbstractNativeFunction {
 
     @Override
     public BValue[] execute(Context context) {
-        String param1 = getArgument(context, 0).stringValue();
-        BString upperCaseString = new BString(param1.toUpperCase(Locale.getDefault()));
-        return getBValues(upperCaseString);
+        return getBValues(invoke(context, (BString) getArgument(context, 0)));
+    }
+
+    public BString invoke(Context context, BString s) {
+        return new BString(s.stringValue().toUpperCase(Locale.getDefault()));
     }
 }
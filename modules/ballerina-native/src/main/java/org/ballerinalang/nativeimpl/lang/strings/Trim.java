@@ -51,8 +51,10 @@ public class Trim extends AbstractNativeFunction {
 
     @Override
     public BValue[] execute(Context context) {
-        String param1 = getArgument(context, 0).stringValue();
-        BString trimmedString = new BString(param1.trim());
-        return getBValues(trimmedString);
+        return getBValues(invoke(context, (BString) getArgument(context, 0)));
+    }
+
+    public BString invoke(Context context, BString s) {
+        return new BString(s.stringValue().trim());
     }
 }
@@ -51,9 +51,12 @@ public class Unescape extends AbstractNativeFunction {
 
     @Override
     public BValue[] execute(Context context) {
-        String stringValue = getArgument(context, 0).stringValue();
+        return getBValues(invoke(context, (BString) getArgument(context, 0)));
+    }
+
+    public BString invoke(Context context, BString s) {
         //todo extend this in a proper way
-        String unescapedString = stringValue.replace("\\", "");
-        return getBValues(new BString(unescapedString));
+        String unescapedString = s.stringValue().replace("\\", "");
+        return new BString(unescapedString);
     }
 }
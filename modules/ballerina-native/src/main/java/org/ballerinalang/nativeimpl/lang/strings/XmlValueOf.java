@@ -53,13 +53,16 @@ public class XmlValueOf extends AbstractNativeFunction {
 
     @Override
     public BValue[] execute(Context context) {
-        BXML xml = (BXML) getArgument(context, 0);
+        return getBValues(invoke(context, (BXML) getArgument(context, 0)));
+    }
+
+    public BString invoke(Context context, BXML e) {
         BString xmlStr = null;
         try {
-            xmlStr =  new BString(xml.stringValue());
-        } catch (Throwable e) {
-            ErrorHandler.handleJsonException("get xml as string", e);
+            xmlStr =  new BString(e.stringValue());
+        } catch (Throwable t) {
+            ErrorHandler.handleJsonException("get xml as string", t);
         }
-        return getBValues(xmlStr);
+        return xmlStr;
     }
 }
@@ -0,0 +1,329 @@
+/*
+ *  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.nativeimpl.lang.typemappers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.axiom.om.OMAbstractFactory;
+import org.apache.axiom.om.OMElement;
+import org.apache.axiom.om.OMFactory;
+import org.apache.axiom.om.OMNamespace;
+import org.ballerinalang.util.exceptions.BallerinaException;
+
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.regex.Pattern;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * {@code XMLJSONConverter} converts between XML and JSON in memory, without serializing either of them.
+ * <p>
+ * The mapping is the same as that of StAXON, which was used by the type mappers before,
+ * <ul>
+ *     <li>an element is a field named by the qualified name of the element</li>
+ *     <li>an attribute is a field named by its qualified name prefixed with '@', and a namespace declaration is an
+ *     {@code @xmlns} or {@code @xmlns:prefix} field</li>
+ *     <li>the text of an element with attributes or child elements is a '$' field</li>
+ *     <li>an element without attributes and child elements is its text, or null if it is empty</li>
+ *     <li>sibling elements with the same name are an array</li>
+ *     <li>text which is a JSON number, boolean or null is converted to that value</li>
+ * </ul>
+ * Comments and processing instructions are ignored.
+ *
+ * @since 0.87
+ */
+class XMLJSONConverter {
+
+    private static final JsonNodeFactory NODE_FACTORY = JsonNodeFactory.instance;
+    private static final OMFactory OM_FACTORY = OMAbstractFactory.getOMFactory();
+    private static final Pattern NUMBER = Pattern.compile("-?(0|[1-9][0-9]*)(\\.[0-9]+)?([eE][+-]?[0-9]+)?");
+
+    private static final String ATTRIBUTE_PREFIX = "@";
+    private static final String TEXT_FIELD = "$";
+    private static final String XMLNS = "xmlns";
+    private static final String ARRAY_ITEM = "item";
+
+    private XMLJSONConverter() {
+    }
+
+    /**
+     * Convert an XML element to JSON.
+     *
+     * @param element XML element
+     * @return JSON object with a single field, which is the element
+     */
+    static JsonNode toJSON(OMElement element) {
+        XMLStreamReader reader = element.getXMLStreamReader();
+        Deque<ElementFrame> frames = new ArrayDeque<>();
+        ObjectNode result = NODE_FACTORY.objectNode();
+        try {
+            int event = reader.getEventType();
+            while (true) {
+                switch (event) {
+                case XMLStreamConstants.START_ELEMENT:
+                    frames.push(startElement(reader));
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                    if (!frames.isEmpty()) {
+                        frames.peek().appendText(reader.getText());
+                    }
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    ElementFrame frame = frames.pop();
+                    if (frames.isEmpty()) {
+                        result.set(frame.name, frame.getValue());
+                        return result;
+                    }
+                    frames.peek().addChild(frame.name, frame.getValue());
+                    break;
+                default:
+                    // Comments, processing instructions and document events are ignored
+                    break;
+                }
+                if (!reader.hasNext()) {
+                    return result;
+                }
+                event = reader.next();
+            }
+        } catch (XMLStreamException e) {
+            throw new BallerinaException("Error in reading the XML: " + e.getMessage(), e);
+        } finally {
+            try {
+                reader.close();
+            } catch (XMLStreamException ignore) {
+            }
+        }
+    }
+
+    /**
+     * Convert JSON to XML. The fields of a JSON object are the content of the root element, and the items of a JSON
+     * array are {@value #ARRAY_ITEM} elements in the root element.
+     *
+     * @param json     JSON value
+     * @param rootName name of the root element
+     * @return root element
+     */
+    static OMElement toXML(JsonNode json, String rootName) {
+        OMElement root = OM_FACTORY.createOMElement(rootName, null);
+        if (json.isObject()) {
+            addContent(root, json);
+        } else if (json.isArray()) {
+            for (JsonNode item : json) {
+                addElement(root, ARRAY_ITEM, item);
+            }
+        } else if (!json.isNull()) {
+            OM_FACTORY.createOMText(root, json.asText());
+        }
+        return root;
+    }
+
+    private static ElementFrame startElement(XMLStreamReader reader) {
+        ElementFrame frame = new ElementFrame(qualifiedName(reader.getPrefix(), reader.getLocalName()));
+        for (int i = 0; i < reader.getNamespaceCount(); i++) {
+            String prefix = reader.getNamespacePrefix(i);
+            String name = (prefix == null || prefix.isEmpty()) ? XMLNS : XMLNS + ":" + prefix;
+            frame.getObject().put(ATTRIBUTE_PREFIX + name, reader.getNamespaceURI(i));
+        }
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String name = qualifiedName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i));
+            frame.getObject().set(ATTRIBUTE_PREFIX + name, toValue(reader.getAttributeValue(i)));
+        }
+        return frame;
+    }
+
+    private static String qualifiedName(String prefix, String localName) {
+        return (prefix == null || prefix.isEmpty()) ? localName : prefix + ":" + localName;
+    }
+
+    private static JsonNode toValue(String text) {
+        switch (text) {
+        case "true":
+            return NODE_FACTORY.booleanNode(true);
+        case "false":
+            return NODE_FACTORY.booleanNode(false);
+        case "null":
+            return NODE_FACTORY.nullNode();
+        default:
+            break;
+        }
+        if (!NUMBER.matcher(text).matches()) {
+            return NODE_FACTORY.textNode(text);
+        }
+        // Numbers are read as Jackson reads them from text
+        if (text.indexOf('.') >= 0 || text.indexOf('e') >= 0 || text.indexOf('E') >= 0) {
+            return NODE_FACTORY.numberNode(Double.parseDouble(text));
+        }
+        BigInteger value = new BigInteger(text);
+        if (value.bitLength() < Integer.SIZE) {
+            return NODE_FACTORY.numberNode(value.intValue());
+        } else if (value.bitLength() < Long.SIZE) {
+            return NODE_FACTORY.numberNode(value.longValue());
+        }
+        return NODE_FACTORY.numberNode(value);
+    }
+
+    private static void addContent(OMElement element, JsonNode object) {
+        // Namespaces are declared before the element and its attributes are named
+        Iterator<Map.Entry<String, JsonNode>> fields = object.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            String name = field.getKey();
+            if (name.equals(ATTRIBUTE_PREFIX + XMLNS)) {
+                element.declareDefaultNamespace(field.getValue().asText());
+            } else if (name.startsWith(ATTRIBUTE_PREFIX + XMLNS + ":")) {
+                element.declareNamespace(field.getValue().asText(),
+                        name.substring(ATTRIBUTE_PREFIX.length() + XMLNS.length() + 1));
+            }
+        }
+
+        fields = object.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            String name = field.getKey();
+            JsonNode value = field.getValue();
+            if (name.equals(TEXT_FIELD)) {
+                if (!value.isNull()) {
+                    OM_FACTORY.createOMText(element, value.asText());
+                }
+            } else if (name.startsWith(ATTRIBUTE_PREFIX)) {
+                String attributeName = name.substring(ATTRIBUTE_PREFIX.length());
+                if (attributeName.equals(XMLNS) || attributeName.startsWith(XMLNS + ":")) {
+                    continue;
+                }
+                int separator = attributeName.indexOf(':');
+                OMNamespace namespace = null;
+                if (separator > 0) {
+                    namespace = element.findNamespace(null, attributeName.substring(0, separator));
+                }
+                String localName = (namespace != null) ? attributeName.substring(separator + 1) : attributeName;
+                element.addAttribute(localName, value.isNull() ? "" : value.asText(), namespace);
+            } else if (value.isArray()) {
+                for (JsonNode item : value) {
+                    addElement(element, name, item);
+                }
+            } else {
+                addElement(element, name, value);
+            }
+        }
+    }
+
+    private static void addElement(OMElement parent, String name, JsonNode value) {
+        if (value.isArray()) {
+            // Nested arrays are flattened
+            for (JsonNode item : value) {
+                addElement(parent, name, item);
+            }
+            return;
+        }
+
+        int separator = name.indexOf(':');
+        String prefix = (separator > 0) ? name.substring(0, separator) : "";
+        String declaredURI = null;
+        if (value.isObject()) {
+            JsonNode declaration = value.get(ATTRIBUTE_PREFIX + (prefix.isEmpty() ? XMLNS : XMLNS + ":" + prefix));
+            if (declaration != null) {
+                declaredURI = declaration.asText();
+            }
+        }
+
+        OMElement element;
+        if (declaredURI != null) {
+            element = OM_FACTORY.createOMElement(name.substring(separator + 1),
+                    OM_FACTORY.createOMNamespace(declaredURI, prefix), parent);
+        } else {
+            OMNamespace namespace = parent.findNamespaceURI(prefix);
+            if (namespace != null && !namespace.getNamespaceURI().isEmpty()) {
+                element = OM_FACTORY.createOMElement(name.substring(separator + 1), namespace, parent);
+            } else {
+                element = OM_FACTORY.createOMElement(name, null, parent);
+            }
+        }
+
+        if (value.isObject()) {
+            addContent(element, value);
+        } else if (!value.isNull()) {
+            OM_FACTORY.createOMText(element, value.asText());
+        }
+    }
+
+    /**
+     * An element which is being read.
+     */
+    private static class ElementFrame {
+        private final String name;
+        private ObjectNode object;
+        private StringBuilder text;
+        private boolean hasChildren;
+
+        ElementFrame(String name) {
+            this.name = name;
+        }
+
+        ObjectNode getObject() {
+            if (object == null) {
+                object = NODE_FACTORY.objectNode();
+            }
+            return object;
+        }
+
+        void appendText(String value) {
+            if (text == null) {
+                text = new StringBuilder(value);
+            } else {
+                text.append(value);
+            }
+        }
+
+        void addChild(String childName, JsonNode value) {
+            hasChildren = true;
+            ObjectNode parent = getObject();
+            JsonNode existing = parent.get(childName);
+            if (existing == null) {
+                parent.set(childName, value);
+            } else if (existing.isArray()) {
+                // Elements are never arrays, hence an array holds the siblings with the same name
+                ((ArrayNode) existing).add(value);
+            } else {
+                ArrayNode siblings = NODE_FACTORY.arrayNode();
+                siblings.add(existing);
+                siblings.add(value);
+                parent.set(childName, siblings);
+            }
+        }
+
+        JsonNode getValue() {
+            if (object == null) {
+                return (text == null) ? NODE_FACTORY.nullNode() : toValue(text.toString());
+            }
+            // Whitespace between child elements is not content
+            if (text != null && (!hasChildren || !text.toString().trim().isEmpty())) {
+                object.set(TEXT_FIELD, toValue(hasChildren ? text.toString().trim() : text.toString()));
+            }
+            return object;
+        }
+    }
+}
@@ -112,8 +112,7 @@ public class AddAttributeWithNamespaces extends AbstractNativeFunction {
                         } else if (element instanceof OMAttribute) {
                             ErrorHandler.logWarn(OPERATION, "xPath '"  + xPath + "' refers to an attribute.");
                         } else {
-                            OMElement omElement = (OMElement) element;
-                            omElement.addAttribute(name, value, null);
+                            xml.addAttribute((OMElement) element, name, value);
                         }
                     }
                 }
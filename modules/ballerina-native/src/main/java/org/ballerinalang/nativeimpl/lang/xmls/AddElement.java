@@ -98,8 +98,7 @@ public class AddElement extends AbstractNativeFunction {
                         } else if (element instanceof OMAttribute) {
                             ErrorHandler.logWarn(OPERATION, "xPath '" + xPath + "' refers to an attribute.");
                         } else {
-                            OMContainer omContainer = (OMContainer) element;
-                            omContainer.addChild(value.cloneOMElement());
+                            xml.addChild((OMContainer) element, value.cloneOMElement());
                         }
                     }
                 }
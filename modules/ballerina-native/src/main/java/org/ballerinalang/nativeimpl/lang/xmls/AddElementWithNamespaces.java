@@ -110,8 +110,7 @@ public class AddElementWithNamespaces extends AbstractNativeFunction {
                         } else if (element instanceof OMAttribute) {
                             ErrorHandler.logWarn(OPERATION, "xPath '" + xPath + "' refers to an attribute.");
                         } else {
-                            OMContainer omContainer = (OMContainer) element;
-                            omContainer.addChild(value.cloneOMElement());
+                            xml.addChild((OMContainer) element, value.cloneOMElement());
                         }
                     }
                 }
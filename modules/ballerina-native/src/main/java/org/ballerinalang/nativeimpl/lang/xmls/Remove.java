@@ -71,8 +71,7 @@ public class Remove extends AbstractNativeFunction {
 
                 for (Object obj : list) {
                     if (obj instanceof OMNode) {
-                        OMNode omNode = (OMNode) obj;
-                        omNode.detach();
+                        xml.detach((OMNode) obj);
 
                     }
                 }
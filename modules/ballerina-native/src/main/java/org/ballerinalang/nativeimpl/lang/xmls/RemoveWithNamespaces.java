@@ -81,8 +81,7 @@ public class RemoveWithNamespaces extends AbstractNativeFunction {
 
                 for (Object obj : list) {
                     if (obj instanceof OMNode) {
-                        OMNode omNode = (OMNode) obj;
-                        omNode.detach();
+                        xml.detach((OMNode) obj);
 
                     }
                 }
@@ -18,9 +18,7 @@
 
 package org.ballerinalang.nativeimpl.lang.xmls;
 
-import org.apache.axiom.om.OMAbstractFactory;
 import org.apache.axiom.om.OMAttribute;
-import org.apache.axiom.om.OMContainer;
 import org.apache.axiom.om.OMElement;
 import org.apache.axiom.om.OMNode;
 import org.apache.axiom.om.xpath.AXIOMXPath;
@@ -95,16 +93,12 @@ public class SetString extends AbstractNativeFunction {
                     if (obj instanceof OMNode) {
                         OMNode omNode = (OMNode) obj;
                         if (omNode instanceof OMElement) {
-                            OMElement ome = (OMElement) omNode;
-                            ome.setText(value);
+                            xml.setText((OMElement) omNode, value);
                         } else {
-                            OMContainer omContainer = omNode.getParent();
-                            omNode.detach();
-                            OMAbstractFactory.getOMFactory().createOMText(omContainer, value);
+                            xml.replaceWithText(omNode, value);
                         }
                     } else if (obj instanceof OMAttribute) {
-                        OMAttribute omAttribute = (OMAttribute) obj;
-                        omAttribute.setAttributeValue(value);
+                        xml.setAttributeValue((OMAttribute) obj, value);
                     } else {
                         ErrorHandler
                                 .logWarn(OPERATION, "xPath '" + xPath + "' does not refers to a attribute or text.");
@@ -17,9 +17,7 @@
  */
 package org.ballerinalang.nativeimpl.lang.xmls;
 
-import org.apache.axiom.om.OMAbstractFactory;
 import org.apache.axiom.om.OMAttribute;
-import org.apache.axiom.om.OMContainer;
 import org.apache.axiom.om.OMNode;
 import org.apache.axiom.om.xpath.AXIOMXPath;
 import org.ballerinalang.bre.Context;
@@ -94,13 +92,9 @@ public class SetStringWithNamespaces extends AbstractNativeFunction {
                 List list = (List) ob;
                 for (Object obj : list) {
                     if (obj instanceof OMNode) {
-                        OMNode omNode = (OMNode) obj;
-                        OMContainer omContainer = omNode.getParent();
-                        omNode.detach();
-                        OMAbstractFactory.getOMFactory().createOMText(omContainer, value);
+                        xml.replaceWithText((OMNode) obj, value);
                     } else if (obj instanceof OMAttribute) {
-                        OMAttribute omAttribute = (OMAttribute) obj;
-                        omAttribute.setAttributeValue(value);
+                        xml.setAttributeValue((OMAttribute) obj, value);
                     } else {
                         ErrorHandler.logWarn(OPERATION, "xPath '" + xPath + "' doesnot refers to a attribute or text.");
                     }
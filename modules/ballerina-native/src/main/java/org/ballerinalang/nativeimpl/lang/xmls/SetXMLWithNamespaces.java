@@ -17,7 +17,6 @@
  */
 package org.ballerinalang.nativeimpl.lang.xmls;
 
-import org.apache.axiom.om.OMContainer;
 import org.apache.axiom.om.OMElement;
 import org.apache.axiom.om.OMNode;
 import org.apache.axiom.om.xpath.AXIOMXPath;
@@ -99,12 +98,9 @@ public class SetXMLWithNamespaces extends AbstractNativeFunction {
                 List<?> list = (List<?>) ob;
                 for (Object obj : list) {
                     if (obj instanceof OMNode) {
-                        OMNode omNode = (OMNode) obj;
-                        OMContainer omContainer = omNode.getParent();
-                        omNode.detach();
                         // Have to clone and add a new OMElement every time, due to a bug in axiom.
                         // Otherwise element will be added to only the last matching element.
-                        omContainer.addChild(value.cloneOMElement());
+                        xml.replace((OMNode) obj, value.cloneOMElement());
                     }
                 }
             }
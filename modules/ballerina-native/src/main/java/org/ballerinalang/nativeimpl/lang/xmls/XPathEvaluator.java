@@ -0,0 +1,144 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.nativeimpl.lang.xmls;
+
+import net.sf.saxon.s9api.Processor;
+import net.sf.saxon.s9api.SaxonApiException;
+import net.sf.saxon.s9api.XPathCompiler;
+import net.sf.saxon.s9api.XPathExecutable;
+import net.sf.saxon.s9api.XPathSelector;
+import net.sf.saxon.s9api.XdmNode;
+import net.sf.saxon.s9api.XdmValue;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BXML;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code XPathEvaluator} evaluates XPaths of the ballerina.lang.xmls functions with Saxon.
+ * <p>
+ * A single {@link Processor} is shared by all the evaluations. Compiled XPaths are kept in a LRU cache keyed by the
+ * XPath and its namespaces, and the size of the cache is read from the {@value #SYS_PROP_CACHE_SIZE} system property.
+ * The Saxon tree of a XML value is built once and cached in the {@link BXML}, until the value is modified.
+ *
+ * @since 0.87
+ */
+public class XPathEvaluator {
+
+    public static final String SYS_PROP_CACHE_SIZE = "ballerina.xpath.cache.size";
+    private static final int DEFAULT_CACHE_SIZE = 1024;
+
+    private static final Processor PROCESSOR = new Processor(false);
+
+    private static final int MAX_CACHE_SIZE = Integer.getInteger(SYS_PROP_CACHE_SIZE, DEFAULT_CACHE_SIZE);
+    private static final Map<ExpressionKey, XPathExecutable> CACHE = Collections.synchronizedMap(
+            new LinkedHashMap<ExpressionKey, XPathExecutable>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ExpressionKey, XPathExecutable> eldest) {
+                    return size() > MAX_CACHE_SIZE;
+                }
+            });
+
+    private XPathEvaluator() {
+    }
+
+    /**
+     * Evaluate a XPath on a XML value.
+     *
+     * @param xml        XML value
+     * @param xPath      XPath to evaluate
+     * @param namespaces namespaces used in the XPath, mapped by prefix. Can be null
+     * @return result of the evaluation
+     * @throws SaxonApiException if the XPath is invalid, or cannot be evaluated
+     */
+    public static XdmValue evaluate(BXML xml, String xPath, BMap<BString, BString> namespaces)
+            throws SaxonApiException {
+        Map<String, String> namespaceMap = Collections.emptyMap();
+        if (namespaces != null && !namespaces.isEmpty()) {
+            namespaceMap = new HashMap<>();
+            for (BString prefix : namespaces.keySet()) {
+                namespaceMap.put(prefix.stringValue(), namespaces.get(prefix).stringValue());
+            }
+        }
+
+        XPathSelector selector = getExecutable(xPath, namespaceMap).load();
+        selector.setContextItem(getDocument(xml));
+        return selector.evaluate();
+    }
+
+    private static XPathExecutable getExecutable(String xPath, Map<String, String> namespaces)
+            throws SaxonApiException {
+        ExpressionKey key = new ExpressionKey(xPath, namespaces);
+        XPathExecutable executable = CACHE.get(key);
+        if (executable != null) {
+            return executable;
+        }
+
+        // Compilers are not thread safe, but the compiled executables are
+        XPathCompiler xPathCompiler = PROCESSOR.newXPathCompiler();
+        for (Map.Entry<String, String> namespace : namespaces.entrySet()) {
+            xPathCompiler.declareNamespace(namespace.getKey(), namespace.getValue());
+        }
+        executable = xPathCompiler.compile(xPath);
+        if (MAX_CACHE_SIZE > 0) {
+            CACHE.put(key, executable);
+        }
+        return executable;
+    }
+
+    private static XdmNode getDocument(BXML xml) throws SaxonApiException {
+        XdmNode doc = xml.getXdmNode();
+        if (doc == null) {
+            int modCount = xml.getModCount();
+            doc = PROCESSOR.newDocumentBuilder().build(xml.value().getSAXSource(true));
+            xml.setXdmNode(doc, modCount);
+        }
+        return doc;
+    }
+
+    /**
+     * Cache key of a compiled XPath.
+     */
+    private static class ExpressionKey {
+        private final String xPath;
+        private final Map<String, String> namespaces;
+
+        ExpressionKey(String xPath, Map<String, String> namespaces) {
+            this.xPath = xPath;
+            this.namespaces = namespaces;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof ExpressionKey)) {
+                return false;
+            }
+            ExpressionKey other = (ExpressionKey) obj;
+            return xPath.equals(other.xPath) && namespaces.equals(other.namespaces);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * xPath.hashCode() + namespaces.hashCode();
+        }
+    }
+}
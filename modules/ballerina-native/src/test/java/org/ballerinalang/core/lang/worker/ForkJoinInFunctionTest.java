@@ -20,8 +20,11 @@ package org.ballerinalang.core.lang.worker;
 import org.ballerinalang.model.BLangProgram;
 import org.ballerinalang.model.values.BArray;
 import org.ballerinalang.model.values.BMessage;
+import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.nativeimpl.util.BTestUtils;
+import org.ballerinalang.runtime.threadpool.Scheduler;
+import org.ballerinalang.runtime.threadpool.ThreadPoolFactory;
 import org.ballerinalang.util.program.BLangFunctions;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
@@ -81,4 +84,22 @@ public class ForkJoinInFunctionTest {
         Assert.assertEquals(((BArray) returns[0]).size(), 1);
         Assert.assertTrue(((BArray) returns[0]).get(0) instanceof BMessage);
     }
+
+    @Test(description = "Test Fork Join All with a worker which does not reply before the timeout")
+    public void testForkJoinAllTimeout() throws InterruptedException {
+        BValue[] args = {new BMessage()};
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "testForkJoinAllTimeout", args);
+        Assert.assertEquals(returns.length, 1);
+        Assert.assertTrue(returns[0] instanceof BString);
+        Assert.assertEquals(returns[0].stringValue(), "timed out");
+
+        // The looping worker is cancelled when the fork-join times out. Cancellation is checked at the end of each
+        // iteration of the while loop, hence the worker ends and releases its thread
+        Scheduler workerScheduler = ThreadPoolFactory.getInstance().getWorkerScheduler();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (workerScheduler.getActiveThreadCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        Assert.assertEquals(workerScheduler.getActiveThreadCount(), 0);
+    }
 }
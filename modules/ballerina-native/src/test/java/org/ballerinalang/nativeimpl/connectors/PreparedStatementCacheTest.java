@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.nativeimpl.connectors;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.ballerinalang.nativeimpl.connectors.data.sql.PreparedStatementCache;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Test class for the prepared statement cache of the SQL connector. Connections are borrowed from a Hikari pool, as
+ * they are by the connector, so that statements are cached on the physical connections unwrapped from the proxies.
+ *
+ * @since 0.87
+ */
+public class PreparedStatementCacheTest {
+    private static final String JDBC_URL = "jdbc:hsqldb:mem:STATEMENT_CACHE";
+    private static final String SELECT_QUERY = "SELECT name FROM Items WHERE id = ?";
+    private static final String INSERT_QUERY = "INSERT INTO Items (id, name) VALUES (?, ?)";
+
+    private HikariDataSource dataSource;
+
+    @BeforeClass
+    public void setup() throws SQLException {
+        // A single physical connection is handed out for every borrow
+        dataSource = createDataSource(1);
+        try (Connection conn = dataSource.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("CREATE TABLE Items (id INTEGER, name VARCHAR(50))");
+            stmt.executeUpdate("INSERT INTO Items (id, name) VALUES (1, 'first')");
+        }
+    }
+
+    @Test(description = "Test reusing a cached statement across borrows of a pooled connection")
+    public void testCacheHit() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        PreparedStatement stmt;
+        try (Connection conn = dataSource.getConnection()) {
+            stmt = cache.getStatement(conn, SELECT_QUERY, ResultSet.TYPE_FORWARD_ONLY, null,
+                    Statement.NO_GENERATED_KEYS);
+            // The statement is prepared on the physical connection, not on the proxy of the pool
+            Assert.assertNotSame(stmt.getConnection(), conn);
+            Assert.assertSame(stmt.getConnection(), conn.unwrap(Connection.class));
+            stmt.setInt(1, 1);
+            try (ResultSet rs = stmt.executeQuery()) {
+                Assert.assertTrue(rs.next());
+                Assert.assertEquals(rs.getString(1), "first");
+            }
+            cache.release(stmt);
+        }
+        // Returning the connection to the pool closes only the statements created through the proxy
+        Assert.assertFalse(stmt.isClosed());
+
+        try (Connection conn = dataSource.getConnection()) {
+            PreparedStatement cachedStmt = cache.getStatement(conn, SELECT_QUERY, ResultSet.TYPE_FORWARD_ONLY,
+                    null, Statement.NO_GENERATED_KEYS);
+            Assert.assertSame(cachedStmt, stmt);
+            Assert.assertTrue(cache.isCached(cachedStmt));
+            Assert.assertEquals(cache.getHitCount(), 1);
+            Assert.assertEquals(cache.getMissCount(), 1);
+
+            // Statements with another generated keys mode are cached separately
+            PreparedStatement insertStmt = cache.getStatement(conn, INSERT_QUERY, ResultSet.TYPE_FORWARD_ONLY,
+                    null, Statement.RETURN_GENERATED_KEYS);
+            Assert.assertNotSame(insertStmt, cache.getStatement(conn, INSERT_QUERY, ResultSet.TYPE_FORWARD_ONLY,
+                    null, Statement.NO_GENERATED_KEYS));
+            Assert.assertEquals(cache.getMissCount(), 3);
+        }
+        cache.clear();
+    }
+
+    @Test(description = "Test evicting the least recently used statement")
+    public void testEviction() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(1);
+        try (Connection conn = dataSource.getConnection()) {
+            PreparedStatement selectStmt = cache.getStatement(conn, SELECT_QUERY, ResultSet.TYPE_FORWARD_ONLY,
+                    null, Statement.NO_GENERATED_KEYS);
+            PreparedStatement insertStmt = cache.getStatement(conn, INSERT_QUERY, ResultSet.TYPE_FORWARD_ONLY,
+                    null, Statement.NO_GENERATED_KEYS);
+            Assert.assertTrue(selectStmt.isClosed());
+            Assert.assertFalse(insertStmt.isClosed());
+            Assert.assertEquals(cache.getEvictionCount(), 1);
+
+            cache.invalidate(insertStmt);
+            Assert.assertTrue(insertStmt.isClosed());
+            Assert.assertEquals(cache.getStatementCount(), 0);
+        }
+        cache.clear();
+    }
+
+    @Test(description = "Test that statements are not cached when the cache is disabled or a transaction is open")
+    public void testUncachedStatements() throws SQLException {
+        try (Connection conn = dataSource.getConnection()) {
+            PreparedStatementCache disabledCache = new PreparedStatementCache(0);
+            PreparedStatement stmt = disabledCache.getStatement(conn, SELECT_QUERY, ResultSet.TYPE_FORWARD_ONLY,
+                    null, Statement.NO_GENERATED_KEYS);
+            disabledCache.release(stmt);
+            Assert.assertTrue(stmt.isClosed());
+
+            PreparedStatementCache cache = new PreparedStatementCache(2);
+            conn.setAutoCommit(false);
+            try {
+                // The statement is prepared through the proxy, so that the pool tracks it within the transaction
+                stmt = cache.getStatement(conn, SELECT_QUERY, ResultSet.TYPE_FORWARD_ONLY, null,
+                        Statement.NO_GENERATED_KEYS);
+                Assert.assertSame(stmt.getConnection(), conn);
+                cache.release(stmt);
+                Assert.assertTrue(stmt.isClosed());
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+    }
+
+    @Test(description = "Test dropping the statements of connections closed by the pool")
+    public void testClosedConnection() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        PreparedStatement stmt;
+        HikariDataSource otherDataSource = createDataSource(1);
+        try (Connection otherConnection = otherDataSource.getConnection()) {
+            stmt = cache.getStatement(otherConnection, SELECT_QUERY, ResultSet.TYPE_FORWARD_ONLY, null,
+                    Statement.NO_GENERATED_KEYS);
+            Assert.assertTrue(cache.isCached(stmt));
+        }
+        // Shutting the pool down closes its physical connections
+        otherDataSource.close();
+
+        // The first statement of a new connection drops the statements of the closed connection
+        try (Connection conn = dataSource.getConnection()) {
+            cache.getStatement(conn, SELECT_QUERY, ResultSet.TYPE_FORWARD_ONLY, null, Statement.NO_GENERATED_KEYS);
+        }
+        Assert.assertEquals(cache.getStatementCount(), 1);
+        Assert.assertTrue(stmt.isClosed());
+        cache.clear();
+    }
+
+    @Test(description = "Test dropping the statements of a connection evicted from the pool after a connection error")
+    public void testEvictedConnection() throws SQLException {
+        Assert.assertTrue(PreparedStatementCache.isConnectionError(new SQLException("link failure", "08S01")));
+        Assert.assertTrue(PreparedStatementCache.isConnectionError(
+                new RuntimeException(new SQLException("admin shutdown", "57P01"))));
+        Assert.assertFalse(PreparedStatementCache.isConnectionError(new SQLException("syntax error", "42000")));
+        Assert.assertFalse(PreparedStatementCache.isConnectionError(new SQLException("no state")));
+
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        PreparedStatement stmt;
+        HikariDataSource otherDataSource = createDataSource(1);
+        try {
+            Connection physicalConn;
+            try (Connection conn = otherDataSource.getConnection()) {
+                stmt = cache.getStatement(conn, SELECT_QUERY, ResultSet.TYPE_FORWARD_ONLY, null,
+                        Statement.NO_GENERATED_KEYS);
+                physicalConn = conn.unwrap(Connection.class);
+                otherDataSource.evictConnection(conn);
+            }
+            // The evicted connection is closed when it is returned, and the pool opens a new one
+            Assert.assertTrue(physicalConn.isClosed());
+            try (Connection conn = otherDataSource.getConnection()) {
+                Assert.assertNotSame(conn.unwrap(Connection.class), physicalConn);
+                cache.getStatement(conn, SELECT_QUERY, ResultSet.TYPE_FORWARD_ONLY, null,
+                        Statement.NO_GENERATED_KEYS);
+            }
+            Assert.assertTrue(stmt.isClosed());
+            Assert.assertEquals(cache.getStatementCount(), 1);
+        } finally {
+            cache.clear();
+            otherDataSource.close();
+        }
+    }
+
+    @AfterClass
+    public void cleanup() throws SQLException {
+        try (Connection conn = dataSource.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("DROP TABLE Items");
+        }
+        dataSource.close();
+    }
+
+    private static HikariDataSource createDataSource(int poolSize) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(JDBC_URL);
+        config.setUsername("SA");
+        config.setPassword("");
+        config.setMaximumPoolSize(poolSize);
+        return new HikariDataSource(config);
+    }
+}
@@ -290,6 +290,30 @@ public class DataTableTest {
         Assert.assertEquals(((BInteger) returns[2]).intValue(), timestamp);
     }
 
+    @Test(description = "Check toJson on a materialized datatable, which can be read more than once.")
+    public void testToJsonMaterialized() {
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "toJsonMaterialized");
+
+        Assert.assertEquals(returns.length, 2);
+        String expected = "[{\"INT_TYPE\":1,\"LONG_TYPE\":9223372036854774807,\"FLOAT_TYPE\":123.34,"
+                + "\"DOUBLE_TYPE\":2.139095039E9,\"BOOLEAN_TYPE\":true,\"STRING_TYPE\":\"Hello\"}]";
+        Assert.assertEquals(returns[0].stringValue(), expected);
+        Assert.assertEquals(returns[1].stringValue(), expected);
+    }
+
+    @Test(description = "Check rewind and moveTo on a materialized datatable.")
+    public void testRewindMaterialized() {
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "rewindMaterialized");
+
+        Assert.assertEquals(returns.length, 6);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 1);
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), 1);
+        Assert.assertEquals(((BBoolean) returns[2]).booleanValue(), true);
+        Assert.assertEquals(((BInteger) returns[3]).intValue(), 1);
+        Assert.assertEquals(((BBoolean) returns[4]).booleanValue(), false);
+        Assert.assertEquals(returns[5].stringValue(), "d3NvMiBiYWxsZXJpbmEgYmxvYiB0ZXN0Lg==");
+    }
+
     @AfterSuite
     public void cleanup() {
         SQLDBUtils.deleteDirectory(new File(SQLDBUtils.DB_DIRECTORY));
@@ -25,6 +25,7 @@ import org.ballerinalang.model.values.BJSON;
 import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.model.values.BValueType;
+import org.ballerinalang.nativeimpl.lang.jsons.JSONPathEvaluator;
 import org.ballerinalang.nativeimpl.util.BTestUtils;
 import org.ballerinalang.util.exceptions.BallerinaException;
 import org.ballerinalang.util.program.BLangFunctions;
@@ -32,6 +33,9 @@ import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
 /**
  * Test Native functions in ballerina.model.json.
  */
@@ -47,6 +51,8 @@ public class JSONTest {
     private static final String jsonBooleanArray = "{'availability':[true, false]}";
     private static final String jsonElementArray = "{'persons':[{'fname':'Jack','lname':'Taylor'}, {'fname':'Peter'," +
             "'lname':'Roy'}]}";
+    private static final String lazyJson = "{\"persons\": [{\"fname\": \"Jack\", \"lname\": \"Taylor\", " +
+            "\"age\": 20}, {\"fname\": \"Peter\", \"lname\": \"Roy\", \"age\": 25}],\n \"active\": true}";
 
     @BeforeClass
     public void setup() {
@@ -106,6 +112,19 @@ public class JSONTest {
         Assert.assertEquals(((BValueType) returns[0]).booleanValue(), true);
     }
 
+    @Test(description = "Get an array element in a valid jsonpath, using the cached jsonpath")
+    public void testGetArrayElement() {
+        BValue[] args = {new BJSON(jsonElementArray), new BString("$.persons[1].fname")};
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "getString", args);
+        Assert.assertEquals(returns[0].stringValue(), "Peter");
+
+        long hitCount = JSONPathEvaluator.getHitCount();
+        args = new BValue[]{new BJSON(jsonElementArray), new BString("$.persons[1].fname")};
+        returns = BLangFunctions.invoke(bLangProgram, "getString", args);
+        Assert.assertEquals(returns[0].stringValue(), "Peter");
+        Assert.assertTrue(JSONPathEvaluator.getHitCount() > hitCount);
+    }
+
     @Test(description = "Get json arrays length")
     public void testGetArrayLength() {
         BValue[] args = {new BJSON(jsonStringArray), new BString("$.users.length()")};
@@ -441,6 +460,86 @@ public class JSONTest {
     }
 
 
+    /*
+     * Test lazily parsed JSON.
+     */
+
+    @Test(description = "Get values from a lazily parsed json")
+    public void testGetFromLazyJSON() {
+        BJSON json = new BJSON(lazyJson.getBytes(StandardCharsets.UTF_8));
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "getString",
+                new BValue[]{json, new BString("$.persons[1].lname")});
+        Assert.assertEquals(returns[0].stringValue(), "Roy");
+
+        returns = BLangFunctions.invoke(bLangProgram, "getInt", new BValue[]{json, new BString("$.persons[0].age")});
+        Assert.assertEquals(((BValueType) returns[0]).intValue(), 20);
+
+        returns = BLangFunctions.invoke(bLangProgram, "getBoolean", new BValue[]{json, new BString("$.active")});
+        Assert.assertEquals(((BBoolean) returns[0]).booleanValue(), true);
+        Assert.assertTrue(json.isLazy());
+
+        // The content is written out as it was read
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        json.setOutputStream(out);
+        json.serializeData();
+        Assert.assertEquals(new String(out.toByteArray(), StandardCharsets.UTF_8), lazyJson);
+    }
+
+    @Test(description = "Get a json element from a lazily parsed json")
+    public void testGetJSONFromLazyJSON() {
+        BJSON json = new BJSON(lazyJson.getBytes(StandardCharsets.UTF_8));
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "getJson",
+                new BValue[]{json, new BString("$.persons[0]")});
+        Assert.assertEquals(returns[0].stringValue(), "{\"fname\":\"Jack\",\"lname\":\"Taylor\",\"age\":20}");
+        Assert.assertFalse(json.isLazy());
+    }
+
+    @Test(description = "Set a value in a lazily parsed json")
+    public void testSetInLazyJSON() {
+        BJSON json = new BJSON(lazyJson.getBytes(StandardCharsets.UTF_8));
+        BLangFunctions.invoke(bLangProgram, "setString",
+                new BValue[]{json, new BString("$.persons[1].lname"), new BString("Smith")});
+        Assert.assertFalse(json.isLazy());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        json.setOutputStream(out);
+        json.serializeData();
+        final String expected = "{\"persons\":[{\"fname\":\"Jack\",\"lname\":\"Taylor\",\"age\":20}," +
+                "{\"fname\":\"Peter\",\"lname\":\"Smith\",\"age\":25}],\"active\":true}";
+        Assert.assertEquals(new String(out.toByteArray(), StandardCharsets.UTF_8), expected);
+    }
+
+    @Test(description = "Get a value in a non-existing jsonpath of a lazily parsed json",
+            expectedExceptions = BallerinaException.class)
+    public void testGetNonExistingFromLazyJSON() {
+        BValue[] args = {new BJSON(lazyJson.getBytes(StandardCharsets.UTF_8)), new BString("$.persons[2].fname")};
+        BLangFunctions.invoke(bLangProgram, "getString", args);
+    }
+
+    @Test(description = "Get duplicate fields from a lazily parsed json")
+    public void testGetDuplicateFieldFromLazyJSON() {
+        String content = "{\"name\": {\"age\": 20}, \"id\": \"a\", \"name\": {\"age\": 25}, \"id\": \"b\"}";
+        BJSON json = new BJSON(content.getBytes(StandardCharsets.UTF_8));
+        // The last of duplicate fields is read, as it is when the tree is built
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "getString",
+                new BValue[]{json, new BString("$.id")});
+        Assert.assertEquals(returns[0].stringValue(), "b");
+        returns = BLangFunctions.invoke(bLangProgram, "getInt", new BValue[]{json, new BString("$.name.age")});
+        Assert.assertEquals(((BValueType) returns[0]).intValue(), 25);
+        Assert.assertTrue(json.isLazy());
+
+        returns = BLangFunctions.invoke(bLangProgram, "getInt",
+                new BValue[]{new BJSON(content), new BString("$.name.age")});
+        Assert.assertEquals(((BValueType) returns[0]).intValue(), 25);
+    }
+
+    @Test(description = "Create a lazily parsed json from malformed content",
+            expectedExceptions = BallerinaException.class)
+    public void testMalformedLazyJSON() {
+        new BJSON("{\"persons\": [{\"fname\": \"Jack\"}}".getBytes(StandardCharsets.UTF_8));
+    }
+
+
     /*
      * Test toString-Function.
      */
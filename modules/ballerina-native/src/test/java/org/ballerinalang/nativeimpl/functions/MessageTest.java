@@ -25,6 +25,7 @@ import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.model.values.BXML;
 import org.ballerinalang.nativeimpl.util.BTestUtils;
 import org.ballerinalang.runtime.message.StringDataSource;
+import org.ballerinalang.util.exceptions.BallerinaException;
 import org.ballerinalang.util.program.BLangFunctions;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
@@ -34,6 +35,8 @@ import org.wso2.carbon.messaging.Header;
 import org.wso2.carbon.messaging.MapCarbonMessage;
 import org.wso2.carbon.messaging.MessageDataSource;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
@@ -159,6 +162,46 @@ public class MessageTest {
         Assert.assertEquals(value, payload);
     }
 
+    @Test(description = "Test decoding the string payload with the charset of the Content-Type")
+    public void testGetStringPayloadWithCharset() {
+        DefaultCarbonMessage carbonMsg = new DefaultCarbonMessage();
+        final String payload = "Caf\u00e9 cr\u00e8me";
+        byte[] bytes = payload.getBytes(StandardCharsets.ISO_8859_1);
+        carbonMsg.setHeader("Content-Type", "text/plain; charset=ISO-8859-1");
+        carbonMsg.setHeader("Content-Length", String.valueOf(bytes.length));
+        carbonMsg.addMessageBody(ByteBuffer.wrap(bytes));
+        carbonMsg.setEndOfMsgAdded(true);
+        BValue[] args = { new BMessage(carbonMsg) };
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "testGetStringPayload", args);
+        MessageDataSource newPayload = ((BMessage) returns[0]).getMessageDataSource();
+        Assert.assertEquals(newPayload.getMessageAsString(), payload);
+    }
+
+    @Test(description = "Test reading a payload which is shorter than its Content-Length")
+    public void testGetStringPayloadWithLargeContentLength() {
+        DefaultCarbonMessage carbonMsg = new DefaultCarbonMessage();
+        final String payload = "Hello";
+        // The buffer is not sized from a Content-Length which is larger than the payload
+        carbonMsg.setHeader("Content-Length", String.valueOf(Integer.MAX_VALUE));
+        carbonMsg.addMessageBody(ByteBuffer.wrap(payload.getBytes(StandardCharsets.UTF_8)));
+        carbonMsg.setEndOfMsgAdded(true);
+        BValue[] args = { new BMessage(carbonMsg) };
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "testGetStringPayload", args);
+        MessageDataSource newPayload = ((BMessage) returns[0]).getMessageDataSource();
+        Assert.assertEquals(newPayload.getMessageAsString(), payload);
+    }
+
+    @Test(description = "Test rejecting a payload which exceeds the maximum payload size",
+            expectedExceptions = BallerinaException.class,
+            expectedExceptionsMessageRegExp = ".*exceeds the maximum payload size.*")
+    public void testGetStringPayloadExceedingMaxSize() {
+        DefaultCarbonMessage carbonMsg = new DefaultCarbonMessage();
+        carbonMsg.setHeader("Content-Length", String.valueOf(Long.MAX_VALUE));
+        carbonMsg.setEndOfMsgAdded(true);
+        BValue[] args = { new BMessage(carbonMsg) };
+        BLangFunctions.invoke(bLangProgram, "testGetStringPayload", args);
+    }
+
     @Test
     public void testSetStringPayload() {
         DefaultCarbonMessage carbonMsg = new DefaultCarbonMessage();
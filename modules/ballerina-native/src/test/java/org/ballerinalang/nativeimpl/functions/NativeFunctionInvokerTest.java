@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ * <p>
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.nativeimpl.functions;
+
+import org.ballerinalang.model.BLangProgram;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMessage;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.nativeimpl.util.BTestUtils;
+import org.ballerinalang.util.program.BLangFunctions;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.messaging.DefaultCarbonMessage;
+
+/**
+ * Test native functions which are called through their generated invokers.
+ */
+public class NativeFunctionInvokerTest {
+
+    private BLangProgram bLangProgram;
+
+    @BeforeClass
+    public void setup() {
+        bLangProgram = BTestUtils.parseBalFile("samples/nativeInvokerTest.bal");
+    }
+
+    @Test(description = "Test invoking a native function which returns a value")
+    public void testSingleReturnInvoker() {
+        BValue[] args = {new BString("Ballerina")};
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "toUpperCase", args);
+        Assert.assertEquals(returns.length, 1);
+        Assert.assertEquals(returns[0].stringValue(), "BALLERINA");
+    }
+
+    @Test(description = "Test invoking a native function which does not return a value")
+    public void testVoidInvoker() {
+        BValue[] args = {new BMessage(new DefaultCarbonMessage()), new BString("Hello")};
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "setStringPayload", args);
+        Assert.assertEquals(returns[0].stringValue(), "Hello");
+    }
+
+    @Test(description = "Test invoking a native function which does not return a value in some cases")
+    public void testMissingPropertyInvoker() {
+        BValue[] args = {new BMessage(new DefaultCarbonMessage()), new BString("missing")};
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "getProperty", args);
+        Assert.assertEquals(returns.length, 1);
+        Assert.assertNull(returns[0]);
+
+        args = new BValue[]{new BMessage(new DefaultCarbonMessage()), new BString("name"), new BString("value")};
+        returns = BLangFunctions.invoke(bLangProgram, "setProperty", args);
+        Assert.assertEquals(returns[0].stringValue(), "value");
+    }
+
+    @Test(description = "Test the error thrown by an invoker has the native function in its stack trace")
+    public void testThrowingInvoker() {
+        BValue[] args = {new BString("Ballerina"), new BInteger(2), new BInteger(20)};
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "getSubString", args);
+        Assert.assertTrue(returns[0].stringValue().contains("String index out of range"));
+        String stackTrace = returns[1].stringValue();
+        Assert.assertTrue(stackTrace.contains("ballerina.lang.strings:subString"), stackTrace);
+        Assert.assertTrue(stackTrace.contains("getSubString"), stackTrace);
+    }
+
+    @Test(description = "Test a function keeps calling the invoker after an invocation has thrown")
+    public void testInvokerAfterError() {
+        BValue[] args = {new BString("Ballerina"), new BInteger(20), new BInteger(2)};
+        BLangFunctions.invoke(bLangProgram, "getSubString", args);
+
+        args = new BValue[]{new BString("Ballerina"), new BInteger(0), new BInteger(6)};
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "getSubString", args);
+        Assert.assertEquals(returns[0].stringValue(), "Baller");
+        Assert.assertEquals(returns[1].stringValue(), "");
+    }
+}
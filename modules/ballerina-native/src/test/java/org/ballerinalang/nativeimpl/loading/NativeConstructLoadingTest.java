@@ -25,6 +25,8 @@ import org.ballerinalang.model.SymbolName;
 import org.ballerinalang.model.symbols.BLangSymbol;
 import org.ballerinalang.model.types.BTypes;
 import org.ballerinalang.model.types.SimpleTypeName;
+import org.ballerinalang.model.types.TypeEnum;
+import org.ballerinalang.natives.AbstractNativeFunction;
 import org.ballerinalang.natives.BuiltInNativeConstructLoader;
 import org.ballerinalang.natives.NativePackageProxy;
 import org.ballerinalang.natives.NativeUnitProxy;
@@ -60,6 +62,35 @@ public class NativeConstructLoadingTest {
         Assert.assertTrue(nativeUnit instanceof Function);
     }
 
+    @Test
+    public void testLoadingFromNativeSymbolIndex() {
+        BLangSymbol pkgSymbol = globalScope.resolve(new SymbolName("ballerina.lang.strings"));
+        Assert.assertTrue(pkgSymbol instanceof NativePackageProxy);
+        Assert.assertSame(globalScope.resolve(new SymbolName("ballerina.lang.strings")), pkgSymbol);
+
+        BLangPackage bLangPkg = ((NativePackageProxy) pkgSymbol).load();
+        BLangSymbol nativeFunctionSymbol = bLangPkg.resolve(new SymbolName("toUpperCase.string"));
+        Assert.assertTrue(nativeFunctionSymbol instanceof NativeUnitProxy);
+
+        // Signatures are read from the index, without loading the native function
+        SimpleTypeName[] argTypeNames = ((NativeUnitProxy) nativeFunctionSymbol).getArgumentTypeNames();
+        Assert.assertEquals(argTypeNames.length, 1);
+        Assert.assertEquals(argTypeNames[0].getName(), TypeEnum.STRING.getName());
+
+        NativeUnit nativeUnit = ((NativeUnitProxy) nativeFunctionSymbol).load();
+        Assert.assertEquals(nativeUnit.getReturnParamTypeNames()[0].getName(), TypeEnum.STRING.getName());
+        Assert.assertNotNull(((AbstractNativeFunction) nativeUnit).getInvoker());
+    }
+
+    @Test
+    public void testLoadingTypeMapperFromNativeSymbolIndex() {
+        BLangSymbol typeMapperSymbol = globalScope.resolve(new SymbolName(".json->.string"));
+        Assert.assertTrue(typeMapperSymbol instanceof NativeUnitProxy);
+
+        NativeUnit nativeUnit = ((NativeUnitProxy) typeMapperSymbol).load();
+        Assert.assertEquals(nativeUnit.getArgumentTypeNames()[0].getName(), TypeEnum.JSON.getName());
+    }
+
     @Test
     public void testLoadingNonExistingConstruct() {
         BLangSymbol pkgSymbol = globalScope.resolve(new SymbolName("ballerina.lang.system"));
@@ -48,6 +48,17 @@ public class NativeTypeMappersTest {
         Assert.assertEquals(returns[0].stringValue(), expected);
     }
 
+    @Test
+    public void testXMLWithAttributesAndRepeatedElementsToJSON() {
+        BValue[] args = {new BXML("<person id=\"1\"><name>chanaka</name><phone>123</phone><phone>456</phone>"
+                + "<address/></person>")};
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "xmltojson", args);
+        Assert.assertTrue(returns[0] instanceof BJSON);
+        final String expected = "{\"person\":{\"@id\":1,\"name\":\"chanaka\",\"phone\":[123,456],"
+                + "\"address\":null}}";
+        Assert.assertEquals(returns[0].stringValue(), expected);
+    }
+
     @Test
     public void testJSONToXML() {
         BValue[] args = {new BJSON("{\"name\":\"chanaka\"}")};
@@ -57,6 +68,27 @@ public class NativeTypeMappersTest {
         Assert.assertEquals(returns[0].stringValue().replaceAll("\\r|\\n|\\t| ", ""), expected);
     }
 
+    @Test
+    public void testJSONWithAttributesAndArraysToXML() {
+        BValue[] args = {new BJSON("{\"person\":{\"@id\":\"1\",\"name\":\"chanaka\",\"phone\":[123,456]}}")};
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "jsontoxml", args);
+        Assert.assertTrue(returns[0] instanceof BXML);
+        final String expected = "<root><person id=\"1\"><name>chanaka</name><phone>123</phone><phone>456</phone>"
+                + "</person></root>";
+        Assert.assertEquals(returns[0].stringValue(), expected);
+    }
+
+    @Test
+    public void testJSONArrayToXML() {
+        BValue[] args = {new BJSON("[{\"name\":\"chanaka\"},\"wso2\",[1,2]]")};
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "jsontoxml", args);
+        Assert.assertTrue(returns[0] instanceof BXML);
+        // The items of a top-level array are item elements, and nested arrays are flattened
+        final String expected = "<root><item><name>chanaka</name></item><item>wso2</item><item>1</item>"
+                + "<item>2</item></root>";
+        Assert.assertEquals(returns[0].stringValue(), expected);
+    }
+
     @Test
     public void testStringToJSON() {
         BValue[] args = {new BString("{\"name\":\"chanaka\"}")};
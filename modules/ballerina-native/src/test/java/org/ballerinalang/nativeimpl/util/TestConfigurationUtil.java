@@ -19,6 +19,7 @@ package org.ballerinalang.nativeimpl.util;
 
 import org.ballerinalang.bre.nonblocking.ModeResolver;
 import org.testng.annotations.BeforeTest;
+import org.testng.annotations.Optional;
 import org.testng.annotations.Parameters;
 
 /**
@@ -26,9 +27,10 @@ import org.testng.annotations.Parameters;
  */
 public class TestConfigurationUtil {
 
-    @Parameters("enableNonBlocking")
+    @Parameters({"enableNonBlocking", "enableCompiledMode"})
     @BeforeTest
-    public void configureTestExecutor(String enableNonBlocking) {
+    public void configureTestExecutor(String enableNonBlocking, @Optional("false") String enableCompiledMode) {
         ModeResolver.getInstance().setNonblockingEnabled(Boolean.valueOf(enableNonBlocking));
+        ModeResolver.getInstance().setCompiledModeEnabled(Boolean.valueOf(enableCompiledMode));
     }
 }
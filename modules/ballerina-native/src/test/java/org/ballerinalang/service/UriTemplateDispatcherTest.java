@@ -191,6 +191,21 @@ public class UriTemplateDispatcherTest {
                 , "RegID variable not set properly.");
     }
 
+    @Test(description = "Test selecting the resource by the HTTP method. /products/{productId}/{regId}")
+    public void testUrlTemplateDispatchingByMethod() {
+        CarbonMessage cMsg = MessageUtils.generateHTTPMessage("/ecommerceservice/products/PID123/RID123", "POST");
+        CarbonMessage response = Services.invoke(cMsg);
+        Assert.assertNotNull(response, "Response message not found");
+        //Expected Json message : {"Template":"T7","ProductID":"PID123","RegID":"RID123"}
+        BJSON bJson = ((BJSON) response.getMessageDataSource());
+        Assert.assertEquals(bJson.value().get("Template").asText(), "T7"
+                , "Resource dispatched to wrong template");
+        Assert.assertEquals(bJson.value().get("ProductID").asText(), "PID123"
+                , "ProductID variable not set properly.");
+        Assert.assertEquals(bJson.value().get("RegID").asText(), "RID123"
+                , "RegID variable not set properly.");
+    }
+
 
     @DataProvider(name = "validUrl")
     public static Object[][] validUrl() {
@@ -86,4 +86,14 @@ service Ecommerce {
         messages:setJsonPayload(response, responseJson);
         reply response;
     }
-}
\ No newline at end of file
+
+    @http:POST{}
+    @http:Path {value:"/products/{productId}/{regId}"}
+    resource productsInfo7 (message m, @http:PathParam {value:"productId"} string prdID, @http:PathParam {value:"regId"} string rID) {
+        json responseJson;
+        message response = {};
+        responseJson = `{"Template":"T7", "ProductID":${prdID}, "RegID":${rID}}`;
+        messages:setJsonPayload(response, responseJson);
+        reply response;
+    }
+}
@@ -274,4 +274,55 @@ function testDateTime(string time, string date, string timestamp) (int time1, in
     datatables:close(dt);
     sql:ClientConnector.close(testDB);
     return;
-}
\ No newline at end of file
+}
+function toJsonMaterialized()(json, json) {
+    map propertiesMap = {"jdbcUrl" : "jdbc:hsqldb:file:./target/tempdb/TEST_DATA_TABLE_DB",
+                            "username":"SA", "password":"", "maximumPoolSize":1, "materializeResults":true};
+    sql:ClientConnector testDB = create sql:ClientConnector(propertiesMap);
+    sql:Parameter[] parameters=[];
+    datatable df;
+    json first;
+    json second;
+
+    df = sql:ClientConnector.select(testDB, "SELECT int_type, long_type, float_type, double_type, boolean_type,
+                string_type from DataTable LIMIT 1",parameters);
+    first = datatables:toJson(df);
+    second = datatables:toJson(df);
+    sql:ClientConnector.close(testDB);
+    return first, second;
+}
+
+function rewindMaterialized()(int, int, boolean, int, boolean, string) {
+    map propertiesMap = {"jdbcUrl" : "jdbc:hsqldb:file:./target/tempdb/TEST_DATA_TABLE_DB",
+                            "username":"SA", "password":"", "maximumPoolSize":1, "materializeResults":true};
+    sql:ClientConnector testDB = create sql:ClientConnector(propertiesMap);
+    sql:Parameter[] parameters=[];
+    datatable df;
+    int firstCount;
+    int secondCount;
+    boolean first;
+    int i;
+    boolean second;
+    string blob;
+
+    df = sql:ClientConnector.select(testDB, "SELECT int_type, string_type from DataTable", parameters);
+    while (datatables:next(df)) {
+        firstCount = firstCount + 1;
+    }
+    datatables:rewind(df);
+    while (datatables:next(df)) {
+        secondCount = secondCount + 1;
+    }
+    first = datatables:moveTo(df, 1);
+    i = datatables:getInt(df, "int_type");
+    second = datatables:moveTo(df, 2);
+    datatables:close(df);
+
+    df = sql:ClientConnector.select(testDB, "SELECT blob_type from ComplexTypes LIMIT 1", parameters);
+    while (datatables:next(df)) {
+        blob = datatables:getString(df, "blob_type", "blob");
+    }
+    datatables:close(df);
+    sql:ClientConnector.close(testDB);
+    return firstCount, secondCount, first, i, second, blob;
+}
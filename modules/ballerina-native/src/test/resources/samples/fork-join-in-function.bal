@@ -143,4 +143,28 @@ function testForkJoinAnyOfSpecific(message m)(message[]) {
             results[0] = m;
             return results;
         }
-}
\ No newline at end of file
+}
+
+function testForkJoinAllTimeout(message m)(string) {
+
+        fork (m) {
+            worker ABC_Airline (message m) {
+                int count = 0;
+                while (true) {
+                    count = count + 1;
+                }
+                reply m;
+            }
+
+            worker XYZ_Airline (message m) {
+                json payload;
+                payload = `{"name":"xyz"}`;
+                messages:setJsonPayload(m, payload);
+                reply m;
+            }
+        } join (all) (message[] airlineResponses) {
+            return "joined";
+        } timeout (1) (message[] airlineResponses) {
+            return "timed out";
+        }
+}
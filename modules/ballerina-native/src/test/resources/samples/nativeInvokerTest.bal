@@ -0,0 +1,33 @@
+import ballerina.lang.exceptions;
+import ballerina.lang.messages;
+import ballerina.lang.strings;
+
+function toUpperCase(string s) (string) {
+    return strings:toUpperCase(s);
+}
+
+function setStringPayload(message msg, string payload) (string) {
+    messages:setStringPayload(msg, payload);
+    return messages:getStringPayload(msg);
+}
+
+function getProperty(message msg, string name) (string) {
+    return messages:getProperty(msg, name);
+}
+
+function setProperty(message msg, string name, string value) (string) {
+    messages:setProperty(msg, name, value);
+    return messages:getProperty(msg, name);
+}
+
+function getSubString(string s, int startIndex, int endIndex) (string, string) {
+    string result = "";
+    string stackTrace = "";
+    try {
+        result = strings:subString(s, startIndex, endIndex);
+    } catch (exception e) {
+        result = exceptions:getMessage(e);
+        stackTrace = exceptions:getStackTrace(e);
+    }
+    return result, stackTrace;
+}
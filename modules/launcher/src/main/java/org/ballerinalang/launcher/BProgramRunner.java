@@ -51,15 +51,19 @@ class BProgramRunner {
         Runtime.getRuntime().exit(0);
     }
 
-    static void runServices(Path[] serviceFilePaths) {
+    static void runServices(Path[] serviceFilePaths, boolean watch) {
         BallerinaConnectorManager.getInstance().initialize(new MessageProcessor());
 
+        ServiceWatcher serviceWatcher = watch ? new ServiceWatcher(programDirPath) : null;
         for (Path servicePath : serviceFilePaths) {
             // TODO Handle errors
             BLangProgram bLangProgram = new BLangProgramLoader().loadService(programDirPath, servicePath);
 
             outStream.println("ballerina: deploying service(s) in '" + servicePath + "'");
             new BLangProgramRunner().startServices(bLangProgram);
+            if (serviceWatcher != null) {
+                serviceWatcher.addProgram(servicePath, bLangProgram);
+            }
         }
 
         try {
@@ -71,5 +75,9 @@ class BProgramRunner {
             throw new RuntimeException("error starting server connectors: " + e.getMessage(), e);
         }
 
+        if (serviceWatcher != null) {
+            serviceWatcher.start();
+        }
+
     }
 }
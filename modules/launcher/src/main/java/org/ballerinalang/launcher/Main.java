@@ -332,6 +332,9 @@ public class Main {
         @Parameter(names = "--ballerina.debug", hidden = true, description = "remote debugging port")
         private String ballerinaDebugPort;
 
+        @Parameter(names = {"--watch", "-w"}, description = "redeploy the services when their sources are changed")
+        private boolean watchFlag;
+
         public void execute() {
             if (helpFlag) {
                 String commandUsageInfo = BLauncherCmd.getCommandUsageInfo(parentCmdParser, "service");
@@ -354,7 +357,7 @@ public class Main {
                                     .filter(path -> path.getFileName().toString()
                                             .endsWith(BLangProgram.Category.SERVICE_PROGRAM.getExtension()))
                                     .map(currentDir::relativize).toArray(Path[]::new);
-                    BProgramRunner.runServices(paths);
+                    BProgramRunner.runServices(paths, watchFlag);
                     return;
                 } catch (NoSuchFileException e) {
                     throw new IllegalArgumentException("no such file or directory: " + serviceRootPath);
@@ -378,7 +381,7 @@ public class Main {
             if (null != ballerinaDebugPort) {
                 System.setProperty(SYSTEM_PROP_BAL_DEBUG, ballerinaDebugPort);
             }
-            BProgramRunner.runServices(paths);
+            BProgramRunner.runServices(paths, watchFlag);
         }
 
         @Override
@@ -388,7 +391,7 @@ public class Main {
 
         @Override
         public void printUsage(StringBuilder out) {
-            out.append("  ballerina run service  <filename | packagename | archive>...\n");
+            out.append("  ballerina run service [--watch] <filename | packagename | archive>...\n");
         }
 
         @Override
@@ -0,0 +1,216 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.launcher;
+
+import org.ballerinalang.BLangProgramLoader;
+import org.ballerinalang.BLangProgramRunner;
+import org.ballerinalang.model.BLangPackage;
+import org.ballerinalang.model.BLangProgram;
+import org.ballerinalang.natives.connectors.BallerinaConnectorManager;
+import org.ballerinalang.util.program.BLangPackages;
+import org.ballerinalang.util.program.BLangPrograms;
+import org.wso2.carbon.messaging.ServerConnector;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches the sources of the deployed service programs, and redeploys a program when any of its source files or its
+ * archive is changed.
+ * <p>
+ * Only the programs which use a changed source file are loaded again, and the other programs keep running with their
+ * runtime environments. The built-in packages are shared by all the programs, hence they are not loaded again.
+ *
+ * @since 0.87
+ */
+class ServiceWatcher {
+    private static final long POLL_INTERVAL = 1000;
+    private static final long DRAIN_TIMEOUT = 30000;
+
+    private static PrintStream outStream = System.out;
+    private static PrintStream errStream = System.err;
+
+    private final Path programDirPath;
+    private final Map<Path, BLangProgram> programs = new LinkedHashMap<>();
+    private Map<Path, FileTime> lastModifiedTimes;
+
+    ServiceWatcher(Path programDirPath) {
+        this.programDirPath = programDirPath.toAbsolutePath().normalize();
+    }
+
+    /**
+     * Add a program which is deployed, to be redeployed when its sources are changed.
+     *
+     * @param servicePath  path of the service program, which is a file, a package or an archive
+     * @param bLangProgram deployed program
+     */
+    void addProgram(Path servicePath, BLangProgram bLangProgram) {
+        programs.put(servicePath, bLangProgram);
+    }
+
+    void start() {
+        lastModifiedTimes = getLastModifiedTimes();
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "BLangServiceWatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::redeployChangedPrograms, POLL_INTERVAL, POLL_INTERVAL,
+                TimeUnit.MILLISECONDS);
+        outStream.println("ballerina: watching '" + programDirPath + "' for changes");
+    }
+
+    private void redeployChangedPrograms() {
+        Map<Path, FileTime> modifiedTimes = getLastModifiedTimes();
+        Set<Path> changedFiles = new HashSet<>();
+        modifiedTimes.forEach((file, time) -> {
+            if (!time.equals(lastModifiedTimes.get(file))) {
+                changedFiles.add(file);
+            }
+        });
+        lastModifiedTimes.keySet().stream().filter(file -> !modifiedTimes.containsKey(file))
+                .forEach(changedFiles::add);
+        lastModifiedTimes = modifiedTimes;
+        if (changedFiles.isEmpty()) {
+            return;
+        }
+
+        for (Map.Entry<Path, BLangProgram> program : programs.entrySet()) {
+            if (isAffected(program.getKey(), program.getValue(), changedFiles)) {
+                redeploy(program);
+            }
+        }
+
+        try {
+            List<ServerConnector> startedConnectors = BallerinaConnectorManager.getInstance()
+                    .startPendingConnectors();
+            startedConnectors.forEach(serverConnector -> outStream.println("ballerina: started server connector " +
+                    serverConnector));
+        } catch (Throwable e) {
+            errStream.println("ballerina: error starting server connectors: " + e.getMessage());
+        }
+    }
+
+    private void redeploy(Map.Entry<Path, BLangProgram> program) {
+        Path servicePath = program.getKey();
+        outStream.println("ballerina: redeploying service(s) in '" + servicePath + "'");
+        try {
+            BLangProgram bLangProgram = new BLangProgramLoader().loadService(programDirPath, servicePath);
+            boolean drained = new BLangProgramRunner().redeployServices(program.getValue(), bLangProgram,
+                    DRAIN_TIMEOUT);
+            program.setValue(bLangProgram);
+            if (!drained) {
+                errStream.println("ballerina: requests to the previous service(s) in '" + servicePath +
+                        "' did not complete in " + DRAIN_TIMEOUT + "ms");
+            }
+        } catch (Throwable e) {
+            errStream.println("ballerina: error redeploying service(s) in '" + servicePath + "', " +
+                    "the previous service(s) are kept: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Check whether a program uses any of the changed files, which is the program itself, or a source file of a
+     * package in the program.
+     *
+     * @param servicePath  path of the service program
+     * @param bLangProgram deployed program
+     * @param changedFiles files which are changed, created or deleted
+     * @return true if the program should be redeployed
+     */
+    private boolean isAffected(Path servicePath, BLangProgram bLangProgram, Set<Path> changedFiles) {
+        Path programPath = programDirPath.resolve(servicePath).normalize();
+        Set<String> packagePaths = new HashSet<>();
+        for (BLangPackage bLangPackage : bLangProgram.getPackages()) {
+            packagePaths.add(bLangPackage.getPackagePath());
+        }
+
+        for (Path changedFile : changedFiles) {
+            if (changedFile.startsWith(programPath)) {
+                return true;
+            }
+            Path packagePath = programDirPath.relativize(changedFile.getParent());
+            if (!packagePath.toString().isEmpty() &&
+                    packagePaths.contains(BLangPackages.getPackagePathFromPath(packagePath))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Map<Path, FileTime> getLastModifiedTimes() {
+        Map<Path, FileTime> modifiedTimes = new HashMap<>();
+        for (Path servicePath : programs.keySet()) {
+            // Programs may be outside the program directory
+            Path programPath = programDirPath.resolve(servicePath).normalize();
+            if (!programPath.startsWith(programDirPath)) {
+                addLastModifiedTimes(programPath, modifiedTimes);
+            }
+        }
+        addLastModifiedTimes(programDirPath, modifiedTimes);
+        return modifiedTimes;
+    }
+
+    private void addLastModifiedTimes(Path path, Map<Path, FileTime> modifiedTimes) {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try {
+            Files.walkFileTree(path, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                    // Hidden directories such as the ones of version control systems are not watched
+                    return (!dir.equals(path) && dir.getFileName().toString().startsWith(".")) ?
+                            FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    String fileName = file.getFileName().toString();
+                    if (fileName.endsWith(BLangPrograms.BSOURCE_FILE_EXT) ||
+                            fileName.endsWith(BLangProgram.Category.SERVICE_PROGRAM.getExtension())) {
+                        modifiedTimes.put(file, attrs.lastModifiedTime());
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            errStream.println("ballerina: error watching '" + path + "': " + e.getMessage());
+        }
+    }
+}